@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.util.function.Supplier;
+
+import org.pgcodekeeper.core.database.api.IDatabaseProvider;
+import org.pgcodekeeper.core.database.ch.ChDatabaseProvider;
+import org.pgcodekeeper.core.database.ms.MsDatabaseProvider;
+import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
+
+/**
+ * SQL dialects covered by benchmarks.
+ */
+public enum BenchmarkDialect {
+    PG(PgDatabaseProvider::new),
+    MS(MsDatabaseProvider::new),
+    CH(ChDatabaseProvider::new);
+
+    private final Supplier<IDatabaseProvider> provider;
+
+    BenchmarkDialect(Supplier<IDatabaseProvider> provider) {
+        this.provider = provider;
+    }
+
+    public IDatabaseProvider createProvider() {
+        return provider.get();
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.api.schema.ITable;
+import org.pgcodekeeper.core.model.difftree.CompareTree;
+import org.pgcodekeeper.core.model.difftree.DiffTree;
+import org.pgcodekeeper.core.model.difftree.TreeElement;
+import org.pgcodekeeper.core.model.difftree.TreeElement.DiffSide;
+import org.pgcodekeeper.core.model.difftree.TreeFlattener;
+import org.pgcodekeeper.core.model.graph.ActionContainer;
+import org.pgcodekeeper.core.model.graph.ActionsToScriptConverter;
+import org.pgcodekeeper.core.model.graph.DbObject;
+import org.pgcodekeeper.core.model.graph.DepcyGraph;
+import org.pgcodekeeper.core.model.graph.DepcyResolver;
+import org.pgcodekeeper.core.script.SQLScript;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+/**
+ * Measures the comparison stages of the original and the modified generated schema:
+ * diff tree building, dependency graph construction, dependency resolution and
+ * script generation. Each stage gets the results of the previous ones precomputed.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DiffBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DiffState {
+
+        CoreSettings settings;
+        IDatabase oldDb;
+        IDatabase newDb;
+        TreeElement root;
+        List<TreeElement> selected;
+        List<DbObject> objects;
+        Set<ActionContainer> actions;
+        Set<IStatement> toRefresh;
+
+        @Setup(Level.Trial)
+        public void prepare(SchemaState schema) throws IOException, InterruptedException {
+            settings = new CoreSettings();
+            oldDb = schema.load(schema.getOldDump(), settings);
+            newDb = schema.load(schema.getNewDump(), settings);
+
+            root = DiffTree.create(settings, oldDb, newDb, null);
+            root.setAllChecked();
+            selected = new TreeFlattener().onlySelected().flatten(root);
+            addColumns();
+            selected.sort(new CompareTree());
+
+            objects = new ArrayList<>();
+            for (TreeElement el : selected) {
+                IStatement oldSt = el.getSide() == DiffSide.RIGHT ? null : el.getStatement(oldDb);
+                IStatement newSt = el.getSide() == DiffSide.LEFT ? null : el.getStatement(newDb);
+                objects.add(new DbObject(oldSt, newSt));
+            }
+
+            toRefresh = new LinkedHashSet<>();
+            actions = resolve(toRefresh);
+        }
+
+        Set<ActionContainer> resolve(Set<IStatement> refresh) {
+            return DepcyResolver.resolve(oldDb, newDb, Collections.emptyList(), Collections.emptyList(),
+                    refresh, objects, settings);
+        }
+
+        private void addColumns() {
+            List<TreeElement> columns = new ArrayList<>();
+            for (TreeElement el : selected) {
+                if (el.getType() == DbObjType.TABLE && el.getSide() == DiffSide.BOTH) {
+                    ITable oldTbl = (ITable) el.getStatement(oldDb);
+                    ITable newTbl = (ITable) el.getStatement(newDb);
+                    DiffTree.addColumns(oldTbl.getColumns(), newTbl.getColumns(), el, columns);
+                }
+            }
+            selected.addAll(columns);
+        }
+    }
+
+    @Benchmark
+    public TreeElement diffTree(DiffState state) throws InterruptedException {
+        return DiffTree.create(state.settings, state.oldDb, state.newDb, null);
+    }
+
+    @Benchmark
+    public DepcyGraph depcyGraph(DiffState state) {
+        return new DepcyGraph(state.newDb, false, false);
+    }
+
+    @Benchmark
+    public Set<ActionContainer> resolve(DiffState state) {
+        return state.resolve(new LinkedHashSet<>());
+    }
+
+    @Benchmark
+    public String fillScript(DiffState state) {
+        SQLScript script = new SQLScript(state.settings, state.newDb.getSeparator());
+        ActionsToScriptConverter.fillScript(script, new LinkedHashSet<>(state.actions),
+                new LinkedHashSet<>(state.toRefresh), state.oldDb, state.newDb, new ArrayList<>(state.selected));
+        return script.getFullScript();
+    }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+/**
+ * Measures the heap retained by the analyzed original and modified schema loaded together,
+ * as an IDE keeps them for comparison. The retained size is reported in the
+ * {@code retainedBytes} secondary result, with and without interning of names and references.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class HeapBenchmark {
+
+    /**
+     * Heap retained by the databases loaded by the last invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public List<IDatabase> interned(SchemaState schema, RetainedHeap heap)
+            throws IOException, InterruptedException {
+        return loadBoth(schema, heap);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dpgcodekeeper.interning=false")
+    public List<IDatabase> notInterned(SchemaState schema, RetainedHeap heap)
+            throws IOException, InterruptedException {
+        return loadBoth(schema, heap);
+    }
+
+    private static List<IDatabase> loadBoth(SchemaState schema, RetainedHeap heap)
+            throws IOException, InterruptedException {
+        long before = usedHeap();
+        List<IDatabase> dbs = List.of(schema.load(schema.getOldDump(), new CoreSettings()),
+                schema.load(schema.getNewDump(), new CoreSettings()));
+        heap.retainedBytes = usedHeap() - before;
+        return dbs;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; ++i) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
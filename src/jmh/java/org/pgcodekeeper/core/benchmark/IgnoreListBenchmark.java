@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.ignorelist.IgnoreList;
+import org.pgcodekeeper.core.ignorelist.IgnoredObject;
+import org.pgcodekeeper.core.model.difftree.TreeElement;
+import org.pgcodekeeper.core.model.difftree.TreeElement.DiffSide;
+import org.pgcodekeeper.core.model.difftree.TreeFlattener;
+
+/**
+ * Measures filtering of a diff tree by a generated ignore list: the compiled matcher used by
+ * {@link TreeFlattener} against testing every rule for every element.
+ * The list mixes plain names, qualified names, anchored and unanchored regular expressions.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IgnoreListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IgnoreState {
+
+        @Param({"10000"})
+        int rules;
+
+        @Param({"100000"})
+        int objects;
+
+        TreeElement root;
+        IgnoreList ignoreList;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            root = new TreeElement("Database", DbObjType.DATABASE, DiffSide.BOTH);
+            int schemas = Math.max(1, objects / 1000);
+            for (int s = 0; s < schemas; s++) {
+                TreeElement schema = new TreeElement("s" + s, DbObjType.SCHEMA, DiffSide.BOTH);
+                root.addChild(schema);
+                for (int i = s; i < objects; i += schemas) {
+                    DbObjType type = i % 3 == 0 ? DbObjType.VIEW : DbObjType.TABLE;
+                    schema.addChild(new TreeElement("obj_" + i, type, DiffSide.BOTH));
+                }
+            }
+
+            ignoreList = new IgnoreList();
+            for (int i = 0; i < rules; i++) {
+                int s = i % schemas;
+                IgnoredObject rule = switch (i % 4) {
+                    case 0 -> new IgnoredObject("obj_" + (i * 7), null, false, false, false, false, Set.of());
+                    case 1 -> new IgnoredObject("s" + s + ".obj_" + i, null, false, false, false, true,
+                            Set.of(DbObjType.TABLE));
+                    case 2 -> new IgnoredObject("^s" + s + "\\.obj_" + i + "\\d", null, false, true, false, true,
+                            Set.of());
+                    default -> new IgnoredObject("_" + i + "$", null, false, true, false, false,
+                            Set.of(DbObjType.VIEW));
+                };
+                ignoreList.add(rule);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<TreeElement> compiled(IgnoreState state) {
+        return new TreeFlattener().useIgnoreList(state.ignoreList).flatten(state.root);
+    }
+
+    @Benchmark
+    public int linear(IgnoreState state) {
+        List<IgnoredObject> rules = state.ignoreList.getList();
+        int matched = 0;
+        for (TreeElement schema : state.root.getChildren()) {
+            for (TreeElement el : schema.getChildren()) {
+                for (IgnoredObject rule : rules) {
+                    if (rule.match(rule.isQualified() ? el.getQualifiedName() : el.getName())
+                            && (rule.getObjTypes().isEmpty() || rule.getObjTypes().contains(el.getType()))) {
+                        matched++;
+                    }
+                }
+            }
+        }
+        return matched;
+    }
+}
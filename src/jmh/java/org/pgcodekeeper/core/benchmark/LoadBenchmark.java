@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.base.parser.FullAnalyze;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+/**
+ * Measures dump parsing and full analysis of a generated schema.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoadBenchmark {
+
+    /**
+     * Fresh parsed database for every invocation, analysis mutates it.
+     */
+    @State(Scope.Thread)
+    public static class ParsedState {
+
+        IDatabase db;
+
+        @Setup(Level.Invocation)
+        public void parse(SchemaState schema) throws IOException, InterruptedException {
+            db = schema.parse(schema.getOldDump(), new CoreSettings());
+        }
+    }
+
+    @Benchmark
+    public IDatabase parse(SchemaState schema) throws IOException, InterruptedException {
+        return schema.parse(schema.getOldDump(), new CoreSettings());
+    }
+
+    @Benchmark
+    public IDatabase fullAnalyze(ParsedState parsed) throws IOException, InterruptedException {
+        FullAnalyze.fullAnalyze(parsed.db, new ArrayList<>(), null);
+        return parsed.db;
+    }
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic schema dumps for benchmarks.
+ * <p>
+ * The schema is built from units of five statements: a table with a primary key,
+ * an index on it, a view selecting from it and from the previous table, a routine
+ * and one more dialect-specific object. The same seed and size always produce the
+ * same dump. The modified variant of a dump changes a fixed share of objects so
+ * that comparing it with the original yields a realistic amount of changes.
+ */
+public final class SchemaGenerator {
+
+    private static final int STATEMENTS_PER_UNIT = 5;
+    private static final int UNITS_PER_SCHEMA = 100;
+
+    private static final String[] PG_TYPES = {"integer", "bigint", "text", "numeric(12,2)", "timestamp", "boolean"};
+    private static final String[] MS_TYPES = {"[int]", "[bigint]", "[nvarchar](100)", "[decimal](12, 2)",
+            "[datetime2]", "[bit]"};
+    private static final String[] CH_TYPES = {"Int32", "Int64", "String", "Decimal(12, 2)", "DateTime", "UInt8"};
+
+    private final BenchmarkDialect dialect;
+    private final int size;
+    private final long seed;
+
+    /**
+     * @param dialect target SQL dialect
+     * @param size    approximate number of top-level statements
+     * @param seed    random seed, dumps with equal parameters are identical
+     */
+    public SchemaGenerator(BenchmarkDialect dialect, int size, long seed) {
+        this.dialect = dialect;
+        this.size = size;
+        this.seed = seed;
+    }
+
+    /**
+     * Writes the dump to the file.
+     *
+     * @param file     target file
+     * @param modified true to write the modified variant of the schema
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file, boolean modified) throws IOException {
+        Files.writeString(file, generate(modified), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates the dump text.
+     *
+     * @param modified true to generate the modified variant of the schema
+     * @return dump text
+     */
+    public String generate(boolean modified) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        int units = Math.max(1, size / STATEMENTS_PER_UNIT);
+        int schemas = (units + UNITS_PER_SCHEMA - 1) / UNITS_PER_SCHEMA;
+
+        for (int s = 0; s < schemas; ++s) {
+            appendSchema(sb, schemaName(s));
+        }
+
+        for (int i = 0; i < units; ++i) {
+            String schema = schemaName(i / UNITS_PER_SCHEMA);
+            int columns = 3 + random.nextInt(6);
+            int[] types = new int[columns];
+            for (int c = 0; c < columns; ++c) {
+                types[c] = random.nextInt(PG_TYPES.length);
+            }
+            // every 10th table gets an extra column, every 20th view another filter,
+            // every 50th routine is dropped in the modified variant
+            boolean changeTable = modified && i % 10 == 0;
+            boolean changeView = modified && i % 20 == 5;
+            boolean dropRoutine = modified && i % 50 == 7;
+
+            appendTable(sb, schema, i, types, changeTable);
+            appendIndex(sb, schema, i);
+            // views reference the table of the same unit and of the previous one in the same schema
+            int prev = i % UNITS_PER_SCHEMA == 0 ? i : i - 1;
+            appendView(sb, schema, i, prev, changeView);
+            if (!dropRoutine) {
+                appendRoutine(sb, schema, i);
+            }
+            appendExtra(sb, schema, i, modified);
+        }
+
+        if (modified) {
+            // new tables in the modified variant
+            for (int i = units; i < units + Math.max(1, units / 20); ++i) {
+                appendTable(sb, schemaName(0), i, new int[] {0, 2, 4}, false);
+            }
+        }
+        return sb.toString();
+    }
+
+    private String schemaName(int index) {
+        return "s" + index;
+    }
+
+    private void appendSchema(StringBuilder sb, String schema) {
+        switch (dialect) {
+        case PG -> sb.append("CREATE SCHEMA ").append(schema).append(";\n\n");
+        case MS -> sb.append("CREATE SCHEMA [").append(schema).append("]\nGO\n\n");
+        case CH -> sb.append("CREATE DATABASE ").append(schema).append(" ENGINE = Atomic;\n\n");
+        }
+    }
+
+    private void appendTable(StringBuilder sb, String schema, int i, int[] types, boolean extraColumn) {
+        switch (dialect) {
+        case PG -> {
+            sb.append("CREATE TABLE ").append(schema).append(".t").append(i).append(" (\n");
+            sb.append("    id bigint NOT NULL");
+            for (int c = 0; c < types.length; ++c) {
+                sb.append(",\n    c").append(c).append(' ').append(PG_TYPES[types[c]]);
+            }
+            if (extraColumn) {
+                sb.append(",\n    added text DEFAULT 'x'::text");
+            }
+            sb.append("\n);\n\n");
+            sb.append("ALTER TABLE ").append(schema).append(".t").append(i)
+            .append("\n    ADD CONSTRAINT t").append(i).append("_pkey PRIMARY KEY (id);\n\n");
+        }
+        case MS -> {
+            sb.append("CREATE TABLE [").append(schema).append("].[t").append(i).append("](\n");
+            sb.append("    [id] [bigint] NOT NULL");
+            for (int c = 0; c < types.length; ++c) {
+                sb.append(",\n    [c").append(c).append("] ").append(MS_TYPES[types[c]]).append(" NULL");
+            }
+            if (extraColumn) {
+                sb.append(",\n    [added] [nvarchar](10) NULL");
+            }
+            sb.append("\n) ON [PRIMARY]\nGO\n\n");
+            sb.append("ALTER TABLE [").append(schema).append("].[t").append(i)
+            .append("]\n    ADD CONSTRAINT [PK_t").append(i)
+            .append("] PRIMARY KEY CLUSTERED ([id]) ON [PRIMARY]\nGO\n\n");
+        }
+        case CH -> {
+            sb.append("CREATE TABLE ").append(schema).append(".t").append(i).append("\n(\n");
+            sb.append("    `id` Int64");
+            for (int c = 0; c < types.length; ++c) {
+                sb.append(",\n    `c").append(c).append("` ").append(CH_TYPES[types[c]]);
+            }
+            if (extraColumn) {
+                sb.append(",\n    `added` String DEFAULT 'x'");
+            }
+            sb.append("\n)\nENGINE = MergeTree\nORDER BY id;\n\n");
+        }
+        }
+    }
+
+    private void appendIndex(StringBuilder sb, String schema, int i) {
+        switch (dialect) {
+        case PG -> sb.append("CREATE INDEX t").append(i).append("_c0_idx ON ").append(schema).append(".t")
+            .append(i).append(" USING btree (c0);\n\n");
+        case MS -> sb.append("CREATE NONCLUSTERED INDEX [t").append(i).append("_c0_idx] ON [").append(schema)
+            .append("].[t").append(i).append("] ([c0])\nGO\n\n");
+        case CH -> sb.append("ALTER TABLE ").append(schema).append(".t").append(i).append(" ADD INDEX t")
+            .append(i).append("_c0_idx c0 TYPE minmax GRANULARITY 1;\n\n");
+        }
+    }
+
+    private void appendView(StringBuilder sb, String schema, int i, int prev, boolean changed) {
+        String filter = changed ? " AND a.id > 10" : "";
+        switch (dialect) {
+        case PG -> sb.append("CREATE VIEW ").append(schema).append(".v").append(i).append(" AS\n")
+            .append("    SELECT a.id, a.c0, b.c1\n    FROM ").append(schema).append(".t").append(i)
+            .append(" a\n    JOIN ").append(schema).append(".t").append(prev).append(" b ON a.id = b.id")
+            .append("\n    WHERE a.id > 0").append(filter).append(";\n\n");
+        case MS -> sb.append("CREATE VIEW [").append(schema).append("].[v").append(i).append("] AS\n")
+            .append("    SELECT a.[id], a.[c0], b.[c1]\n    FROM [").append(schema).append("].[t").append(i)
+            .append("] a\n    JOIN [").append(schema).append("].[t").append(prev)
+            .append("] b ON a.[id] = b.[id]\n    WHERE a.[id] > 0").append(filter).append("\nGO\n\n");
+        case CH -> sb.append("CREATE VIEW ").append(schema).append(".v").append(i).append("\n(\n")
+            .append("    `id` Int64,\n    `c0` ").append("String").append("\n) AS\n")
+            .append("SELECT a.id, toString(a.c0) AS c0\nFROM ").append(schema).append(".t").append(i)
+            .append(" AS a\nWHERE a.id IN (SELECT id FROM ").append(schema).append(".t").append(prev)
+            .append(")").append(filter).append(";\n\n");
+        }
+    }
+
+    private void appendRoutine(StringBuilder sb, String schema, int i) {
+        switch (dialect) {
+        case PG -> sb.append("CREATE FUNCTION ").append(schema).append(".f").append(i)
+            .append("(p bigint) RETURNS bigint\n    LANGUAGE plpgsql\n    AS $$\nDECLARE\n    r bigint;\n")
+            .append("BEGIN\n    SELECT count(*) INTO r FROM ").append(schema).append(".t").append(i)
+            .append(" WHERE id > p;\n    RETURN r;\nEND;\n$$;\n\n");
+        case MS -> sb.append("CREATE PROCEDURE [").append(schema).append("].[p").append(i)
+            .append("] @p [bigint]\nAS\nBEGIN\n    SELECT COUNT(*) FROM [").append(schema).append("].[t")
+            .append(i).append("] WHERE [id] > @p\nEND\nGO\n\n");
+        case CH -> sb.append("CREATE FUNCTION ").append(schema).append("_f").append(i)
+            .append(" AS (x) -> (x + ").append(i).append(");\n\n");
+        }
+    }
+
+    private void appendExtra(StringBuilder sb, String schema, int i, boolean modified) {
+        switch (dialect) {
+        case PG -> sb.append("CREATE SEQUENCE ").append(schema).append(".seq").append(i)
+            .append("\n    START WITH 1\n    INCREMENT BY ").append(modified && i % 25 == 3 ? 2 : 1)
+            .append("\n    CACHE 1;\n\n");
+        case MS -> sb.append("CREATE SEQUENCE [").append(schema).append("].[seq").append(i)
+            .append("]\n    AS [bigint]\n    START WITH 1\n    INCREMENT BY ").append(modified && i % 25 == 3 ? 2 : 1)
+            .append("\nGO\n\n");
+        case CH -> sb.append("CREATE TABLE ").append(schema).append(".log").append(i)
+            .append("\n(\n    `ts` DateTime,\n    `message` String\n)\nENGINE = ")
+            .append(modified && i % 25 == 3 ? "TinyLog" : "StripeLog").append(";\n\n");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+import org.pgcodekeeper.core.database.api.IDatabaseProvider;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+/**
+ * Benchmark state holding generated dumps of the original and the modified schema.
+ */
+@State(Scope.Benchmark)
+public class SchemaState {
+
+    @Param({"PG", "MS", "CH"})
+    public BenchmarkDialect dialect;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param("42")
+    public long seed;
+
+    protected IDatabaseProvider provider;
+    protected Path oldDump;
+    protected Path newDump;
+
+    private Path dir;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        provider = dialect.createProvider();
+        dir = Files.createTempDirectory("pgcodekeeper-bench");
+        oldDump = dir.resolve("old.sql");
+        newDump = dir.resolve("new.sql");
+
+        SchemaGenerator generator = new SchemaGenerator(dialect, size, seed);
+        generator.write(oldDump, false);
+        generator.write(newDump, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path f : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(f);
+            }
+        }
+    }
+
+    /**
+     * Parses the dump without analysis.
+     */
+    public IDatabase parse(Path dump, CoreSettings settings) throws IOException, InterruptedException {
+        return provider.getDumpLoader(dump, settings).load();
+    }
+
+    /**
+     * Parses and analyzes the dump.
+     */
+    public IDatabase load(Path dump, CoreSettings settings) throws IOException, InterruptedException {
+        return provider.getDumpLoader(dump, settings).loadAndAnalyze();
+    }
+
+    public Path getOldDump() {
+        return oldDump;
+    }
+
+    public Path getNewDump() {
+        return newDump;
+    }
+}
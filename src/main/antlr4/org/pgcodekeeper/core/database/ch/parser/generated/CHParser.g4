@@ -10,6 +10,12 @@ options {
 
 @members {
     private int selectLevel = 0;
+
+    @Override
+    public void reset() {
+        super.reset();
+        selectLevel = 0;
+    }
 }
 
 ch_file
@@ -29,6 +29,7 @@ public final class Consts {
     public static final String UTC = "UTC";
 
     public static final String POOL_SIZE = "ru.taximaxim.codekeeper.parser.poolsize";
+    public static final String POOL_RESULTS_LIMIT = "ru.taximaxim.codekeeper.parser.resultslimit";
 
     public static final String FILENAME_WORKING_DIR_MARKER = ".pgcodekeeper";
     public static final String VERSION_PROP_NAME = "version";
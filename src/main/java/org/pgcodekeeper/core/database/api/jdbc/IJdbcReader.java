@@ -29,4 +29,11 @@ public interface IJdbcReader {
      * @throws XmlReaderException   if XML processing fails
      */
     void read() throws SQLException, InterruptedException, XmlReaderException;
+
+    /**
+     * Starts the query of this reader on the loader's worker connections, if the loader has them,
+     * so that {@link #read()} only waits for the result and processes it.
+     * Must be called only when everything the query depends on has already been read.
+     */
+    void prefetch();
 }
\ No newline at end of file
@@ -54,7 +54,7 @@ public class ObjectLocation extends ContextLocation {
                            int charPositionInLine, ObjectReference objectReference, String action,
                            String sql, String alias, int length, LocationType locationType) {
         super(filePath, offset, lineNumber, charPositionInLine);
-        this.objectReference = objectReference;
+        this.objectReference = objectReference == null ? null : objectReference.intern();
         this.sql = sql;
         this.action = action;
         this.length = length;
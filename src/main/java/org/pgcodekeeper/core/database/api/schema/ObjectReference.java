@@ -17,6 +17,8 @@ package org.pgcodekeeper.core.database.api.schema;
 
 import java.io.Serializable;
 
+import org.pgcodekeeper.core.utils.Interner;
+
 /**
  * Represents an object reference with schema, table, column, and type information.
  * Used for identifying and referencing database objects across different contexts.
@@ -28,6 +30,8 @@ import java.io.Serializable;
  */
 public record ObjectReference(String schema, String table, String column, DbObjType type) implements Serializable {
 
+    private static final Interner<ObjectReference> REFERENCES = new Interner<>();
+
     /**
      * Creates an object reference for a database object within a schema.
      *
@@ -68,6 +72,17 @@ public record ObjectReference(String schema, String table, String column, DbObjT
         return "";
     }
 
+    /**
+     * Gets the canonical instance of this reference. References stored by the model
+     * are interned, so equal references and their names are shared between objects.
+     *
+     * @return canonical reference equal to this one
+     */
+    public ObjectReference intern() {
+        return REFERENCES.intern(this, ref -> new ObjectReference(Interner.internString(ref.schema),
+                Interner.internString(ref.table), Interner.internString(ref.column), ref.type));
+    }
+
     public String getFullName() {
         StringBuilder sb = new StringBuilder();
         if (schema != null) {
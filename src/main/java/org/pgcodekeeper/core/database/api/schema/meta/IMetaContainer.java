@@ -54,6 +54,24 @@ public interface IMetaContainer {
      */
     Collection<IOperator> availableOperators(String schemaName);
 
+    /**
+     * Returns overloads of a function in the specified schema.
+     *
+     * @param schemaName   the schema name
+     * @param functionName the function bare name
+     * @return unmodifiable collection of functions with this name
+     */
+    Collection<IFunction> availableFunctions(String schemaName, String functionName);
+
+    /**
+     * Returns overloads of an operator in the specified schema.
+     *
+     * @param schemaName   the schema name
+     * @param operatorName the operator bare name
+     * @return unmodifiable collection of operators with this name
+     */
+    Collection<IOperator> availableOperators(String schemaName, String operatorName);
+
     /**
      * Finds composite type by schema and name.
      *
@@ -16,6 +16,7 @@
 package org.pgcodekeeper.core.database.base.jdbc;
 
 import java.sql.*;
+import java.util.concurrent.Future;
 
 import org.pgcodekeeper.core.database.api.jdbc.IJdbcReader;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
@@ -33,26 +34,56 @@ public abstract class AbstractJdbcReader<T extends AbstractJdbcLoader<? extends
 
     protected final T loader;
 
+    private Future<ResultSet> prefetched;
+
     protected AbstractJdbcReader(T loader) {
         this.loader = loader;
     }
 
+    @Override
     public void read() throws SQLException, InterruptedException, XmlReaderException {
         loader.setCurrentOperation(Messages.AbstractStatementReader_start + getClass().getSimpleName());
+        if (prefetched != null) {
+            ParallelQueryRunner queryRunner = loader.getQueryRunner();
+            ResultSet result = queryRunner.get(prefetched);
+            prefetched = null;
+            try {
+                processResults(result);
+            } finally {
+                queryRunner.release(result);
+            }
+            return;
+        }
+
         QueryBuilder builder = makeQuery();
         if (builder == null) {
             return;
         }
         String query = builder.build();
 
-        try (PreparedStatement statement = loader.getConnection().prepareStatement(query)) {
+        try (PreparedStatement statement = loader.prepareQuery(query)) {
             setQueryParams(statement);
-            ResultSet result = loader.getRunner().runScript(statement);
-            IMonitor monitor = loader.getMonitor();
-            while (result.next()) {
-                IMonitor.checkCancelled(monitor);
-                processResult(result);
-            }
+            processResults(loader.getRunner().runScript(statement));
+        }
+    }
+
+    @Override
+    public void prefetch() {
+        ParallelQueryRunner queryRunner = loader.getQueryRunner();
+        if (queryRunner == null) {
+            return;
+        }
+        QueryBuilder builder = makeQuery();
+        if (builder != null) {
+            prefetched = queryRunner.submit(builder.build(), this::setQueryParams);
+        }
+    }
+
+    private void processResults(ResultSet result) throws SQLException, InterruptedException, XmlReaderException {
+        IMonitor monitor = loader.getMonitor();
+        while (result.next()) {
+            IMonitor.checkCancelled(monitor);
+            processResult(result);
         }
     }
 
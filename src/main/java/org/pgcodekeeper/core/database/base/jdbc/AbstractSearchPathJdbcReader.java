@@ -18,6 +18,7 @@ package org.pgcodekeeper.core.database.base.jdbc;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Future;
 
 import org.pgcodekeeper.core.database.api.jdbc.IJdbcReader;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
@@ -36,6 +37,8 @@ public abstract class AbstractSearchPathJdbcReader<T extends AbstractJdbcLoader<
 
     protected final T loader;
 
+    private Future<ResultSet> prefetched;
+
     protected AbstractSearchPathJdbcReader(T loader) {
         this.loader = loader;
     }
@@ -43,21 +46,48 @@ public abstract class AbstractSearchPathJdbcReader<T extends AbstractJdbcLoader<
     @Override
     public void read() throws SQLException, InterruptedException, XmlReaderException {
         loader.setCurrentOperation(Messages.AbstractStatementReader_start + getClass().getSimpleName());
+        if (prefetched != null) {
+            ParallelQueryRunner queryRunner = loader.getQueryRunner();
+            ResultSet result = queryRunner.get(prefetched);
+            prefetched = null;
+            try {
+                processResults(result);
+            } finally {
+                queryRunner.release(result);
+            }
+            return;
+        }
+
         QueryBuilder builder = makeQuery();
         if (builder == null) {
             return;
         }
 
         String query = builder.build();
-        try (PreparedStatement statement = loader.getConnection().prepareStatement(query)) {
+        try (PreparedStatement statement = loader.prepareQuery(query)) {
             setQueryParams(statement);
-            ResultSet result = loader.getRunner().runScript(statement);
-            IMonitor monitor = loader.getMonitor();
-            while (result.next()) {
-                IMonitor.checkCancelled(monitor);
-                monitor.worked(1);
-                processResult(result);
-            }
+            processResults(loader.getRunner().runScript(statement));
+        }
+    }
+
+    @Override
+    public void prefetch() {
+        ParallelQueryRunner queryRunner = loader.getQueryRunner();
+        if (queryRunner == null) {
+            return;
+        }
+        QueryBuilder builder = makeQuery();
+        if (builder != null) {
+            prefetched = queryRunner.submit(builder.build(), this::setQueryParams);
+        }
+    }
+
+    private void processResults(ResultSet result) throws SQLException, InterruptedException, XmlReaderException {
+        IMonitor monitor = loader.getMonitor();
+        while (result.next()) {
+            IMonitor.checkCancelled(monitor);
+            monitor.worked(1);
+            processResult(result);
         }
     }
 
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import org.pgcodekeeper.core.utils.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes queries of JDBC readers on a set of worker connections, so that the server
+ * processes several catalog queries at the same time.
+ * <br>
+ * Only query execution is parallel: result sets are returned to the loader thread,
+ * which processes them in reader order and builds the model sequentially.
+ * With a fetch size set, the loader thread fetches the rest of a result from its server cursor
+ * as it reads the rows, so the connection of a query stays checked out until its result
+ * is passed to {@link #release(ResultSet)} and no other query runs on it meanwhile.
+ * <br>
+ * At most as many queries as there are connections run or hold a result not yet taken
+ * by the loader thread, so results are not buffered for all readers at once.
+ * Results must be taken in the order the queries were submitted.
+ */
+public final class ParallelQueryRunner implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelQueryRunner.class);
+
+    /**
+     * Sets parameters of a prepared reader query.
+     */
+    @FunctionalInterface
+    public interface QueryParamsSetter {
+
+        /**
+         * @param statement prepared query of the reader
+         * @throws SQLException if parameter is set incorrectly
+         */
+        void setParams(PreparedStatement statement) throws SQLException;
+    }
+
+    private final List<Connection> connections;
+    private final BlockingQueue<Connection> freeConnections;
+    /**
+     * Connections of results returned by queries and not yet released.
+     */
+    private final Map<ResultSet, Connection> checkedOut = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final JdbcRunner runner;
+    private final ExecutorService pool;
+    private final int fetchSize;
+    private final int resultsLimit;
+
+    private long submitted;
+    private long taken;
+
+    /**
+     * Creates a runner over already initialized worker connections.
+     * The runner owns the connections and closes them in {@link #close()}.
+     *
+     * @param connections worker connections, each in the same transaction state as the main connection
+     * @param runner      runner used to execute queries with cancellation support
+     * @param fetchSize   number of rows fetched at once, 0 to use the driver default
+     */
+    public ParallelQueryRunner(List<Connection> connections, JdbcRunner runner, int fetchSize) {
+        this.connections = List.copyOf(connections);
+        this.freeConnections = new LinkedBlockingQueue<>(connections);
+        this.runner = runner;
+        this.pool = Executors.newFixedThreadPool(connections.size(), new DaemonThreadFactory());
+        this.fetchSize = fetchSize;
+        this.resultsLimit = connections.size();
+    }
+
+    /**
+     * Prepares a reader query. A positive fetch size makes drivers such as PostgreSQL's
+     * read the result from a server cursor, which requires a non-autocommit connection.
+     *
+     * @param connection connection of the query
+     * @param query      query text
+     * @param fetchSize  number of rows fetched at once, 0 to use the driver default
+     * @return prepared query
+     * @throws SQLException if the query cannot be prepared
+     */
+    public static PreparedStatement prepare(Connection connection, String query, int fetchSize)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query);
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
+
+    /**
+     * Starts the query on a free worker connection once the number of results
+     * not yet taken by {@link #get(Future)} drops below the limit.
+     *
+     * @param query  query text
+     * @param params setter of query parameters
+     * @return future result of the query
+     */
+    public Future<ResultSet> submit(String query, QueryParamsSetter params) {
+        long ticket;
+        synchronized (this) {
+            ticket = submitted++;
+        }
+        return pool.submit(() -> {
+            awaitTurn(ticket);
+            Connection connection = freeConnections.take();
+            boolean returned = false;
+            try {
+                PreparedStatement statement = prepare(connection, query, fetchSize);
+                try {
+                    params.setParams(statement);
+                    ResultSet result = runner.runScript(statement);
+                    checkedOut.put(result, connection);
+                    returned = true;
+                    return result;
+                } catch (Exception e) {
+                    closeStatement(statement, e);
+                    throw e;
+                }
+            } finally {
+                if (!returned) {
+                    freeConnections.add(connection);
+                }
+            }
+        });
+    }
+
+    private synchronized void awaitTurn(long ticket) throws InterruptedException {
+        while (ticket >= taken + resultsLimit) {
+            wait();
+        }
+    }
+
+    private synchronized void resultTaken() {
+        ++taken;
+        notifyAll();
+    }
+
+    private static void closeStatement(PreparedStatement statement, Exception cause) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Waits for the result of a query started by {@link #submit(String, QueryParamsSetter)}.
+     * The caller must pass the returned result set to {@link #release(ResultSet)} once it is read.
+     * Results must be taken in the order the queries were submitted.
+     *
+     * @param result future result of the query
+     * @return query result
+     * @throws SQLException         if the query failed
+     * @throws InterruptedException if the query was cancelled
+     */
+    public ResultSet get(Future<ResultSet> result) throws SQLException, InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable t = e.getCause();
+            if (t instanceof InterruptedException in) {
+                throw in;
+            }
+            if (t instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new SQLException(t.getLocalizedMessage(), e);
+        } finally {
+            if (result.isDone()) {
+                resultTaken();
+            }
+        }
+    }
+
+    /**
+     * Closes the statement of a result returned by {@link #get(Future)} and frees its connection
+     * for the following queries.
+     *
+     * @param result query result
+     * @throws SQLException if the statement cannot be closed
+     */
+    public void release(ResultSet result) throws SQLException {
+        Connection connection = checkedOut.remove(result);
+        try {
+            result.getStatement().close();
+        } finally {
+            if (connection != null) {
+                freeConnections.add(connection);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+        for (Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+}
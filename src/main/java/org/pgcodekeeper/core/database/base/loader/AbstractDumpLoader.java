@@ -27,7 +27,6 @@ import org.pgcodekeeper.core.settings.ISettings;
 import org.pgcodekeeper.core.utils.InputStreamProvider;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Queue;
@@ -55,7 +54,7 @@ public abstract class AbstractDumpLoader<T extends IDatabase> extends AbstractLo
     }
 
     protected AbstractDumpLoader(Path inputFile, ISettings settings) {
-        this(() -> Files.newInputStream(inputFile), inputFile.toString(), settings, 1);
+        this(InputStreamProvider.of(inputFile), inputFile.toString(), settings, 1);
     }
 
     @Override
@@ -63,7 +62,7 @@ public abstract class AbstractDumpLoader<T extends IDatabase> extends AbstractLo
         var db = createDatabaseWithSchema();
         IMonitor.checkCancelled(getMonitor());
         loadWithoutAnalyze(db, antlrTasks);
-        finishLoaders();
+        finishLoaders(db);
         return db;
     }
 
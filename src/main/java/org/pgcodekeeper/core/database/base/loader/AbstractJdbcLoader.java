@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.ISchema;
 import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.jdbc.JdbcRunner;
+import org.pgcodekeeper.core.database.base.jdbc.ParallelQueryRunner;
 import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
@@ -30,7 +31,9 @@ import org.pgcodekeeper.core.monitor.IMonitor;
 import org.pgcodekeeper.core.settings.ISettings;
 import org.pgcodekeeper.core.utils.Utils;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -57,6 +60,7 @@ public abstract class AbstractJdbcLoader<T extends IDatabase> extends AbstractLo
     protected Map<Long, String> cachedRolesNamesByOid;
     protected Connection connection;
     protected Statement statement;
+    protected ParallelQueryRunner queryRunner;
 
     protected AbstractJdbcLoader(IJdbcConnector connector, ISettings settings) {
         super(settings, connector.getDbName());
@@ -83,6 +87,65 @@ public abstract class AbstractJdbcLoader<T extends IDatabase> extends AbstractLo
         });
     }
 
+    /**
+     * Opens worker connections for concurrent reader queries if {@link ISettings#getJdbcReadThreads()} allows it.
+     * Each connection is prepared by {@link #initWorkerConnection(Connection, Statement)}.
+     *
+     * @throws IOException          if a connection cannot be opened
+     * @throws SQLException         if a connection cannot be prepared
+     * @throws InterruptedException if preparing was interrupted
+     */
+    protected void openQueryRunner() throws IOException, SQLException, InterruptedException {
+        int threads = getSettings().getJdbcReadThreads();
+        if (threads < 1) {
+            return;
+        }
+        debug(Messages.JdbcLoaderBase_log_open_worker_connections, threads);
+        List<Connection> connections = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; ++i) {
+                Connection workerConnection = connector.getConnection();
+                connections.add(workerConnection);
+                try (Statement workerStatement = workerConnection.createStatement()) {
+                    initWorkerConnection(workerConnection, workerStatement);
+                }
+            }
+        } catch (Exception e) {
+            for (Connection workerConnection : connections) {
+                try {
+                    workerConnection.close();
+                } catch (SQLException ex) {
+                    e.addSuppressed(ex);
+                }
+            }
+            throw e;
+        }
+        queryRunner = new ParallelQueryRunner(connections, runner, getSettings().getJdbcFetchSize());
+    }
+
+    /**
+     * Prepares a worker connection so that its queries see the same data as the main connection.
+     *
+     * @param workerConnection worker connection
+     * @param workerStatement  statement of the worker connection for setup commands
+     * @throws SQLException         if setup fails
+     * @throws InterruptedException if setup was interrupted
+     */
+    protected void initWorkerConnection(Connection workerConnection, Statement workerStatement)
+            throws SQLException, InterruptedException {
+        // no setup by default
+    }
+
+    /**
+     * Closes worker connections opened by {@link #openQueryRunner()}.
+     */
+    protected void closeQueryRunner() {
+        if (queryRunner != null) {
+            queryRunner.close();
+            queryRunner = null;
+        }
+    }
+
     public void setOwner(AbstractStatement st, String owner) {
         if (!getSettings().isIgnorePrivileges()) {
             st.setOwner(owner);
@@ -133,6 +196,19 @@ public abstract class AbstractJdbcLoader<T extends IDatabase> extends AbstractLo
         return connection;
     }
 
+    /**
+     * Prepares a reader query on the main connection.
+     * If {@link ISettings#getJdbcFetchSize()} is set, the result is read from a server cursor
+     * in portions of that size, so rows are processed while the rest stays on the server.
+     *
+     * @param query query text
+     * @return prepared query
+     * @throws SQLException if the query cannot be prepared
+     */
+    public PreparedStatement prepareQuery(String query) throws SQLException {
+        return ParallelQueryRunner.prepare(connection, query, getSettings().getJdbcFetchSize());
+    }
+
     public String getCurrentLocation() {
         StringBuilder sb = new StringBuilder("jdbc:");
         if (currentObject == null) {
@@ -154,6 +230,13 @@ public abstract class AbstractJdbcLoader<T extends IDatabase> extends AbstractLo
         return statement;
     }
 
+    /**
+     * @return runner of concurrent reader queries, or null if queries run on the main connection
+     */
+    public ParallelQueryRunner getQueryRunner() {
+        return queryRunner;
+    }
+
     /**
      * Returns a string representation of loaded schemas.
      *
@@ -189,7 +189,7 @@ public abstract class AbstractLibraryLoader<T extends IDatabase> extends Abstrac
         // simple directory
         T db = createDatabase();
         readStatementsFromDirectory(path, db, libSettings);
-        finishLoaders();
+        finishLoaders(db);
         return db;
     }
 
@@ -15,11 +15,14 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.loader;
 
+import org.pgcodekeeper.core.database.api.launcher.IAnalysisLauncher;
 import org.pgcodekeeper.core.database.api.loader.ILoader;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.base.parser.AntlrTask;
 import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
 import org.pgcodekeeper.core.database.base.parser.FullAnalyze;
+import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.monitor.IMonitor;
 import org.pgcodekeeper.core.settings.ISettings;
 import org.slf4j.Logger;
@@ -59,6 +62,8 @@ public abstract class AbstractLoader<T extends IDatabase> implements ILoader {
         }
         preLoad();
         loadedDb = loadInternal();
+        info(Messages.AbstractLoader_log_retained_source,
+                AbstractAnalysisLauncher.getRetainedSourceLength(loadedDb.getAnalysisLaunchers()));
         return loadedDb;
     }
 
@@ -97,7 +102,26 @@ public abstract class AbstractLoader<T extends IDatabase> implements ILoader {
     }
 
     protected void finishLoaders() throws InterruptedException, IOException {
-        AntlrTaskManager.finish(antlrTasks);
+        finishLoaders(null);
+    }
+
+    /**
+     * Finishes all loader tasks. In low memory analysis mode, contexts of the analysis launchers
+     * added to the database are released after each task.
+     *
+     * @param db database filled by the tasks, may be null
+     * @throws InterruptedException if task processing was interrupted
+     * @throws IOException          if an I/O error occurred during parsing
+     */
+    protected void finishLoaders(IDatabase db) throws InterruptedException, IOException {
+        if (db == null || !settings.isLowMemoryAnalysis()) {
+            AntlrTaskManager.finish(antlrTasks);
+            return;
+        }
+
+        List<IAnalysisLauncher> launchers = db.getAnalysisLaunchers();
+        AntlrTaskManager.finish(antlrTasks, () -> AbstractAnalysisLauncher.releaseContexts(launchers));
+        AbstractAnalysisLauncher.releaseContexts(launchers);
     }
 
     protected void debug(String message, Object... args) {
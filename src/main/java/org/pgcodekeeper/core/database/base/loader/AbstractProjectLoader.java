@@ -21,15 +21,19 @@ import org.pgcodekeeper.core.database.api.project.IWorkDirs;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.IPrivilege;
 import org.pgcodekeeper.core.database.api.schema.ITable;
+import org.pgcodekeeper.core.database.base.parser.AntlrTask;
+import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.database.base.schema.StatementOverride;
 import org.pgcodekeeper.core.dependencieslist.DependenciesReader;
+import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
 import org.pgcodekeeper.core.library.LibraryXmlStore;
 import org.pgcodekeeper.core.monitor.IMonitor;
 import org.pgcodekeeper.core.settings.ISettings;
 import org.pgcodekeeper.core.utils.Utils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -62,6 +66,8 @@ public abstract class AbstractProjectLoader<T extends IDatabase> extends Abstrac
     private final Collection<String> libs;
     private final Collection<String> libsWithoutPriv;
 
+    private ParseCache parseCache;
+
     protected AbstractProjectLoader(Path dirPath, ISettings settings, IWorkDirs workDirs) {
         this(dirPath, settings, workDirs, Collections.emptyList(), Collections.emptyList(),
                 Collections.emptyList(), null);
@@ -82,10 +88,19 @@ public abstract class AbstractProjectLoader<T extends IDatabase> extends Abstrac
     @Override
     public T loadInternal() throws InterruptedException, IOException {
         T db = createDatabase();
+        Path parseCacheDir = settings.getParseCacheDir();
+        if (parseCacheDir != null) {
+            parseCache = new ParseCache(parseCacheDir, dirPath, getGrammarVersion(), settings,
+                    workDirs.isSplitBySchema());
+        }
         loadStructure(dirPath, db);
         IMonitor.checkCancelled(getMonitor());
-        finishLoaders();
+        finishLoaders(db);
         IMonitor.checkCancelled(getMonitor());
+        if (parseCache != null) {
+            parseCache.store(db, settings.getErrors());
+            parseCache.report(getMonitor());
+        }
         if (!isLib) {
             loadLibraries(db);
             IMonitor.checkCancelled(getMonitor());
@@ -103,6 +118,21 @@ public abstract class AbstractProjectLoader<T extends IDatabase> extends Abstrac
 
     protected abstract AbstractLibraryLoader<T> createLibraryLoader(T db);
 
+    /**
+     * Returns the text identifying the grammar used to parse project files.
+     * Parse cache entries created with a different grammar are not used.
+     *
+     * @return grammar identity text
+     */
+    protected abstract String getGrammarVersion();
+
+    /**
+     * @return parse cache used by the last load, or null if the cache is disabled
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
     /**
      * Loads the project structure from the given directory, dispatching to the
      * split-by-schema or flat layout based on {@link IWorkDirs#isSplitBySchema()}.
@@ -226,21 +256,50 @@ public abstract class AbstractProjectLoader<T extends IDatabase> extends Abstrac
                 .sorted()) {
             for (Path f : Utils.streamIterator(files)) {
                 IMonitor.checkCancelled(getMonitor());
-                var loader = createDumpLoader(f);
-                if (isOverrideMode) {
-                    loader.setOverridesMap(overrides);
-                } else {
-                    loader.setWorkDirs(workDirs);
+                if (parseCache == null || isOverrideMode
+                        || !parseCache.restore(f, db, antlrTasks, () -> loadFileInPlace(f, db))) {
+                    loadFile(f, db, antlrTasks);
                 }
-                loader.loadWithoutAnalyze(db, antlrTasks);
-                dumpLoaders.add(loader);
             }
         }
     }
 
+    private void loadFile(Path f, T db, Queue<AntlrTask<?>> tasks) {
+        var loader = createDumpLoader(f);
+        if (isOverrideMode) {
+            loader.setOverridesMap(overrides);
+        } else {
+            loader.setWorkDirs(workDirs);
+        }
+        loader.loadWithoutAnalyze(db, tasks);
+        dumpLoaders.add(loader);
+    }
+
+    /**
+     * Parses the file from a finalizer of the loader tasks and finalizes it right away,
+     * so the file keeps its place in the load order. Tasks submitted by the file's finalizer
+     * are queued after all files, the same as in a load without the parse cache.
+     */
+    private void loadFileInPlace(Path f, T db) {
+        Queue<AntlrTask<?>> fileTasks = new ArrayDeque<>();
+        loadFile(f, db, fileTasks);
+        Queue<AntlrTask<?>> fileTask = new ArrayDeque<>();
+        fileTask.add(fileTasks.remove());
+        try {
+            AntlrTaskManager.finish(fileTask);
+        } catch (IOException e) {
+            AntlrTaskManager.discard(fileTasks);
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            AntlrTaskManager.discard(fileTasks);
+            throw new MonitorCancelledRuntimeException();
+        }
+        antlrTasks.addAll(fileTasks);
+    }
+
     @Override
-    protected void finishLoaders() throws InterruptedException, IOException {
-        super.finishLoaders();
+    protected void finishLoaders(IDatabase db) throws InterruptedException, IOException {
+        super.finishLoaders(db);
         dumpLoaders.clear();
     }
 
@@ -292,7 +351,7 @@ public abstract class AbstractProjectLoader<T extends IDatabase> extends Abstrac
         isOverrideMode = true;
         try {
             loadStructure(overridesDir, db);
-            finishLoaders();
+            finishLoaders(db);
             IMonitor.checkCancelled(getMonitor());
             replaceOverrides();
         } finally {
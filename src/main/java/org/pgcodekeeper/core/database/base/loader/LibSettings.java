@@ -244,6 +244,41 @@ class LibSettings implements ISettings {
         return parent.isDisableAutoLoad();
     }
 
+    @Override
+    public Path getParseCacheDir() {
+        return parent.getParseCacheDir();
+    }
+
+    @Override
+    public boolean isTwoStageParsing() {
+        return parent.isTwoStageParsing();
+    }
+
+    @Override
+    public boolean isChunkedDumpParsing() {
+        return parent.isChunkedDumpParsing();
+    }
+
+    @Override
+    public boolean isConcurrentModelBuilding() {
+        return parent.isConcurrentModelBuilding();
+    }
+
+    @Override
+    public boolean isLowMemoryAnalysis() {
+        return parent.isLowMemoryAnalysis();
+    }
+
+    @Override
+    public int getJdbcReadThreads() {
+        return parent.getJdbcReadThreads();
+    }
+
+    @Override
+    public int getJdbcFetchSize() {
+        return parent.getJdbcFetchSize();
+    }
+
     @Override
     public String getInCharsetName() {
         return parent.getInCharsetName();
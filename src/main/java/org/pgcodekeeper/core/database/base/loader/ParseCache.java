@@ -0,0 +1,487 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.loader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import org.pgcodekeeper.core.ContextLocation;
+import org.pgcodekeeper.core.database.api.launcher.IAnalysisLauncher;
+import org.pgcodekeeper.core.database.api.schema.*;
+import org.pgcodekeeper.core.database.base.parser.AntlrTask;
+import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
+import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
+import org.pgcodekeeper.core.localizations.Messages;
+import org.pgcodekeeper.core.monitor.IMonitor;
+import org.pgcodekeeper.core.settings.ISettings;
+import org.pgcodekeeper.core.utils.Interner;
+import org.pgcodekeeper.core.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent content-addressed cache of project file parse results.
+ * <p>
+ * Entries are keyed by the file content, its path relative to the project and
+ * a version stamp built from the grammar and the settings that affect parsing.
+ * An entry holds the statements the file created (detached from the objects
+ * created by other files) and the file's object references, so an unchanged
+ * file is rehydrated into the database without running ANTLR.
+ * <p>
+ * Only self-contained files are stored: files without errors, without deferred
+ * analysis launchers, that do not alter objects of other files and whose own
+ * objects are not altered by other files.
+ * <p>
+ * Model classes declare fixed serialVersionUIDs, so an entry cannot rely on them to detect
+ * model changes. Instead every model class descriptor read from an entry is compared with
+ * the serializable fields of the loaded class, and an entry written for other fields is a miss.
+ */
+public final class ParseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParseCache.class);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String ENTRY_POSTFIX = ".bin";
+    private static final String DIGEST = "SHA-256";
+
+    private static final String MODEL_PACKAGE = "org.pgcodekeeper.core.";
+
+    private static final ObjectInputFilter DESERIALIZATION_FILTER = ObjectInputFilter.Config.createFilter(
+            "org.pgcodekeeper.core.**;java.util.**;java.lang.**;!*");
+
+    private final Path cacheDir;
+    private final Path projectDir;
+    private final String version;
+    private final Map<String, String> missed = new LinkedHashMap<>();
+
+    private int hits;
+    private int misses;
+
+    /**
+     * Creates a cache for the given project.
+     *
+     * @param cacheDir       directory where cache entries are stored
+     * @param projectDir     project root, file keys are relative to it
+     * @param grammarVersion text identifying the grammar used to parse project files
+     * @param settings       settings of the current load
+     * @param splitBySchema  project layout flag, affects object location checks
+     */
+    public ParseCache(Path cacheDir, Path projectDir, String grammarVersion, ISettings settings,
+                      boolean splitBySchema) {
+        this.cacheDir = cacheDir;
+        this.projectDir = projectDir;
+        this.version = Utils.sha(String.join("\n",
+                String.valueOf(FORMAT_VERSION),
+                Utils.sha(grammarVersion),
+                String.valueOf(ParseCache.class.getPackage().getImplementationVersion()),
+                settings.getInCharsetName(),
+                String.valueOf(settings.isKeepNewlines()),
+                String.valueOf(settings.isIgnorePrivileges()),
+                String.valueOf(settings.isEnableFunctionBodiesDependencies()),
+                String.valueOf(settings.getVersion()),
+                String.valueOf(splitBySchema)));
+    }
+
+    /**
+     * Queues rehydration of the file from the cache. If the entry cannot be
+     * restored at finalization time, the fallback is run to parse the file instead.
+     * The fallback runs in the finalizer and must finalize the file before returning,
+     * so the file keeps its place in the load order.
+     *
+     * @param file       project file
+     * @param db         target database
+     * @param antlrTasks queue of loader tasks
+     * @param fallback   parses and finalizes the file when the cached entry turns out to be unusable
+     * @return true if the restore task was queued, false if the file must be parsed
+     */
+    public boolean restore(Path file, IDatabase db, Queue<AntlrTask<?>> antlrTasks, Runnable fallback) {
+        String filePath = file.toString();
+        String key;
+        try {
+            key = getKey(file);
+        } catch (IOException e) {
+            // let the parser report the read error
+            LOG.debug(e.getLocalizedMessage(), e);
+            return false;
+        }
+
+        Path entry = cacheDir.resolve(key + ENTRY_POSTFIX);
+        if (!Files.isRegularFile(entry)) {
+            addMiss(filePath, key);
+            return false;
+        }
+
+        AntlrTaskManager.submit(antlrTasks, () -> read(entry, filePath), fragment -> {
+            if (fragment != null && fragment.restore(db)) {
+                ++hits;
+            } else {
+                addMiss(filePath, key);
+                fallback.run();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Stores the results of all files parsed during this load that are self-contained.
+     * Must be called after all loader tasks are finished and before any further changes
+     * are applied to the database (overrides, libraries, analysis).
+     *
+     * @param db     loaded database
+     * @param errors errors collected during the load
+     */
+    public void store(IDatabase db, List<Object> errors) {
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<AbstractStatement>> roots = new HashMap<>();
+        if (!collectRoots(db, null, roots)) {
+            LOG.debug(Messages.ParseCache_log_unattributed_objects);
+            return;
+        }
+
+        Set<String> tainted = new HashSet<>();
+        for (Object error : errors) {
+            if (!(error instanceof ContextLocation loc)) {
+                return;
+            }
+            tainted.add(loc.getFilePath());
+        }
+
+        for (IAnalysisLauncher launcher : db.getAnalysisLaunchers()) {
+            tainted.add(getOwnerFile(launcher.getStmt()));
+        }
+
+        for (var refs : db.getObjReferences().entrySet()) {
+            String file = refs.getKey();
+            for (ObjectLocation loc : refs.getValue()) {
+                if (loc.getAction() != null && loc.getObjectReference() != null) {
+                    String owner = getOwnerFile(getStatement(db, loc.getObjectReference()));
+                    if (!file.equals(owner)) {
+                        tainted.add(file);
+                        tainted.add(owner);
+                    }
+                }
+            }
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+        } catch (IOException e) {
+            LOG.warn(e.getLocalizedMessage(), e);
+            return;
+        }
+
+        for (var miss : missed.entrySet()) {
+            String file = miss.getKey();
+            if (tainted.contains(file)) {
+                continue;
+            }
+
+            var fileRoots = roots.getOrDefault(file, Collections.emptyList());
+            List<Root> copies = new ArrayList<>(fileRoots.size());
+            for (AbstractStatement st : fileRoots) {
+                if (!(st.getParent() instanceof IStatementContainer)) {
+                    copies = null;
+                    break;
+                }
+                copies.add(new Root(getPath(st.getParent()), copyOwned(st, file)));
+            }
+
+            if (copies != null) {
+                Set<ObjectLocation> refs = db.getObjReferences().getOrDefault(file, Collections.emptySet());
+                write(cacheDir.resolve(miss.getValue() + ENTRY_POSTFIX),
+                        new Fragment(file, copies, new ArrayList<>(refs)));
+            }
+        }
+        missed.clear();
+    }
+
+    /**
+     * Reports cache usage statistics of this load to the monitor.
+     *
+     * @param monitor progress monitor
+     */
+    public void report(IMonitor monitor) {
+        String msg = Messages.ParseCache_stats.formatted(hits, misses);
+        LOG.info(msg);
+        if (monitor != null) {
+            monitor.setTaskName(msg);
+        }
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    private void addMiss(String filePath, String key) {
+        ++misses;
+        missed.put(filePath, key);
+    }
+
+    private String getKey(Path file) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(DIGEST);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        String relative = projectDir.relativize(file).toString().replace('\\', '/');
+        md.update(version.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(relative.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(Files.readAllBytes(file));
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /**
+     * Finds statements that are the topmost objects created by each file.
+     *
+     * @return false if the database contains objects that cannot be attributed to a file
+     */
+    private boolean collectRoots(IStatement parent, String parentOwner, Map<String, List<AbstractStatement>> roots) {
+        for (IStatement child : parent.getChildren().toList()) {
+            String owner = parentOwner;
+            ObjectLocation loc = child.getLocation();
+            if (loc != null) {
+                owner = loc.getFilePath();
+            } else if (parentOwner == null) {
+                return false;
+            }
+
+            if (owner != null && !owner.equals(parentOwner)) {
+                roots.computeIfAbsent(owner, k -> new ArrayList<>()).add((AbstractStatement) child);
+            }
+
+            if (!collectRoots(child, owner, roots)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the statement together with the children created by the same file.
+     */
+    private static AbstractStatement copyOwned(AbstractStatement st, String file) {
+        AbstractStatement copy = st.shallowCopy();
+        if (copy instanceof IStatementContainer cont) {
+            st.getChildren().forEach(child -> {
+                ObjectLocation loc = child.getLocation();
+                if (loc == null || file.equals(loc.getFilePath())) {
+                    cont.addChild(copyOwned(child, file));
+                }
+            });
+        }
+        return copy;
+    }
+
+    private static String getOwnerFile(IStatement st) {
+        IStatement cur = st;
+        while (cur != null && !(cur instanceof IDatabase)) {
+            ObjectLocation loc = cur.getLocation();
+            if (loc != null) {
+                return loc.getFilePath();
+            }
+            cur = cur.getParent();
+        }
+        return null;
+    }
+
+    private static IStatement getStatement(IDatabase db, ObjectReference ref) {
+        try {
+            return db.getStatement(ref);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static List<Step> getPath(IStatement parent) {
+        List<Step> path = new ArrayList<>();
+        IStatement cur = parent;
+        while (!(cur instanceof IDatabase)) {
+            path.add(new Step(cur.getName(), cur.getStatementType()));
+            cur = cur.getParent();
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static void write(Path entry, Fragment fragment) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(fragment.filePath());
+                out.writeObject(fragment);
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn(Messages.ParseCache_log_write_error.formatted(entry), e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ex) {
+                    LOG.debug(ex.getLocalizedMessage(), ex);
+                }
+            }
+        }
+    }
+
+    private static Fragment read(Path entry, String filePath) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(entry));
+             FragmentInputStream oin = new FragmentInputStream(in, filePath)) {
+            return (Fragment) oin.readFragment();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            // stale or broken entry, it will be rewritten after parsing
+            LOG.debug(Messages.ParseCache_log_read_error.formatted(entry), e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks that an object serialized with the stream class descriptor is read into the same fields
+     * of the local class.
+     *
+     * @param stream class descriptor read from a cache entry
+     * @param local  descriptor of the loaded class, may be null if the class is not serializable
+     * @return true if both descriptors have the same fields with the same types
+     */
+    static boolean isSameFields(ObjectStreamClass stream, ObjectStreamClass local) {
+        if (local == null) {
+            return false;
+        }
+        ObjectStreamField[] streamFields = stream.getFields();
+        ObjectStreamField[] localFields = local.getFields();
+        if (streamFields.length != localFields.length) {
+            return false;
+        }
+        for (int i = 0; i < streamFields.length; ++i) {
+            ObjectStreamField streamField = streamFields[i];
+            ObjectStreamField localField = localFields[i];
+            if (!streamField.getName().equals(localField.getName())
+                    || streamField.getTypeCode() != localField.getTypeCode()
+                    || !Objects.equals(streamField.getTypeString(), localField.getTypeString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Object stream that relocates cached object locations to the actual file path
+     * and interns names and references the same way the parser does.
+     */
+    private static final class FragmentInputStream extends ObjectInputStream {
+
+        private final String filePath;
+        private String cachedPath;
+
+        FragmentInputStream(InputStream in, String filePath) throws IOException {
+            super(in);
+            this.filePath = filePath;
+            setObjectInputFilter(DESERIALIZATION_FILTER);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass desc = super.readClassDescriptor();
+            if (desc.getName().startsWith(MODEL_PACKAGE)
+                    && !isSameFields(desc, ObjectStreamClass.lookup(resolveClass(desc)))) {
+                throw new InvalidClassException(desc.getName(), "model fields changed");
+            }
+            return desc;
+        }
+
+        Object readFragment() throws IOException, ClassNotFoundException {
+            if (readInt() != FORMAT_VERSION) {
+                throw new InvalidClassException(Fragment.class.getName(), "unsupported format");
+            }
+            cachedPath = readUTF();
+            Fragment fragment = (Fragment) readObject();
+            return new Fragment(filePath, fragment.roots(), fragment.references());
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            if (obj instanceof String str) {
+                return Interner.internString(str);
+            }
+            if (obj instanceof ObjectReference ref) {
+                return ref.intern();
+            }
+            if (obj instanceof ObjectLocation loc && cachedPath != null && !cachedPath.equals(filePath)
+                    && cachedPath.equals(loc.getFilePath())) {
+                return loc.copyWithOffset(0, 0, 0, filePath);
+            }
+            return obj;
+        }
+    }
+
+    private record Step(String name, DbObjType type) implements Serializable {
+    }
+
+    private record Root(List<Step> parentPath, AbstractStatement statement) implements Serializable {
+    }
+
+    private record Fragment(String filePath, List<Root> roots, List<ObjectLocation> references)
+            implements Serializable {
+
+        /**
+         * Adds cached statements and references to the database.
+         *
+         * @return false if nothing was added because the database state does not allow it
+         */
+        boolean restore(IDatabase db) {
+            List<IStatementContainer> parents = new ArrayList<>(roots.size());
+            for (Root root : roots) {
+                IStatement parent = db;
+                for (Step step : root.parentPath()) {
+                    parent = parent instanceof IStatementContainer cont ? cont.getChild(step.name(), step.type())
+                            : null;
+                }
+                AbstractStatement st = root.statement();
+                if (!(parent instanceof IStatementContainer cont)
+                        || cont.getChild(st.getName(), st.getStatementType()) != null) {
+                    return false;
+                }
+                parents.add(cont);
+            }
+
+            for (int i = 0; i < roots.size(); ++i) {
+                parents.get(i).addChild(roots.get(i).statement());
+            }
+            for (ObjectLocation loc : references) {
+                db.addReference(filePath, loc);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.parser;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Splits an SQL input into chunks of whole statements without reading the whole input into memory.
+ * <p>
+ * The input is read through an unbuffered stream and tokenized by the dialect lexer,
+ * so string literals, quoted identifiers and comments never produce a false boundary.
+ * Only characters of the current chunk are kept. Each chunk knows its position in the input,
+ * so tokens of a chunk parsed separately report the same positions as tokens of the whole input.
+ */
+public abstract class AbstractChunkReader implements Closeable {
+
+    /**
+     * Number of characters after which the input is split at the next statement boundary.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final UnbufferedCharStream input;
+    private final Lexer lexer;
+    private final int chunkSize;
+
+    private int offset;
+    private int line = 1;
+    private int charPositionInLine;
+    private int codeUnitPositionInLine;
+    private boolean finished;
+
+    /**
+     * @param in           input stream, closed by this reader
+     * @param charset      input charset
+     * @param chunkSize    number of characters after which the input is split at the next boundary
+     * @param lexerFactory creates the dialect lexer
+     */
+    protected AbstractChunkReader(InputStream in, Charset charset, int chunkSize,
+                                  Function<CharStream, Lexer> lexerFactory) {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), BUFFER_SIZE);
+        this.input = new UnbufferedCharStream(reader, BUFFER_SIZE);
+        this.lexer = lexerFactory.apply(input);
+        // syntax errors are reported when chunks are parsed
+        lexer.removeErrorListeners();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Checks a default channel token. Called for all such tokens in input order.
+     *
+     * @param token next token of the input
+     * @return true if the token ends a top-level statement and the input may be split after it
+     */
+    protected abstract boolean isBoundary(Token token);
+
+    /**
+     * @return true if the last boundary is followed by data which is not SQL,
+     * the input is then split at the boundary and {@link #skipData()} is called
+     */
+    protected boolean isDataFollowing() {
+        return false;
+    }
+
+    /**
+     * Skips data following the last boundary, using {@link #readLine()}.
+     *
+     * @throws IOException if the input cannot be read
+     */
+    protected void skipData() throws IOException {
+        // no data by default
+    }
+
+    /**
+     * @return true if the whole input has been read
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Reads the next chunk of statements.
+     *
+     * @return next chunk, or null if the input is exhausted
+     * @throws IOException if the input cannot be read
+     */
+    public Chunk next() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        Chunk chunk;
+        boolean skip = false;
+        int marker = input.mark();
+        try {
+            int start = input.index();
+            while (true) {
+                Token token = lexer.nextToken();
+                if (token.getType() == Token.EOF) {
+                    finished = true;
+                    break;
+                }
+                if (token.getChannel() == Token.DEFAULT_CHANNEL && isBoundary(token)) {
+                    skip = isDataFollowing();
+                    if (skip || input.index() - start >= chunkSize) {
+                        break;
+                    }
+                }
+            }
+
+            String text = input.getText(Interval.of(start, input.index() - 1));
+            chunk = new Chunk(text, offset, line, charPositionInLine, codeUnitPositionInLine);
+            advance(text);
+        } catch (RuntimeException e) {
+            throw unwrap(e);
+        } finally {
+            input.release(marker);
+        }
+
+        if (skip) {
+            skipData();
+        }
+
+        if (finished && chunk.text().isBlank() && chunk.offset() != 0) {
+            return null;
+        }
+        return chunk;
+    }
+
+    /**
+     * Reads raw characters up to the end of the current line, bypassing the lexer.
+     *
+     * @return line without line terminator, or null if the input is exhausted
+     * @throws IOException if the input cannot be read
+     */
+    protected String readLine() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        boolean terminated = false;
+        try {
+            if (input.LA(1) == IntStream.EOF) {
+                finished = true;
+                return null;
+            }
+
+            int c;
+            while ((c = input.LA(1)) != IntStream.EOF) {
+                input.consume();
+                if (c == '\n') {
+                    terminated = true;
+                    break;
+                }
+                sb.appendCodePoint(c);
+            }
+        } catch (RuntimeException e) {
+            throw unwrap(e);
+        }
+
+        advance(sb);
+        if (terminated) {
+            advance("\n");
+        }
+
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == '\r') {
+            sb.setLength(length - 1);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Unbuffered stream wraps read errors into runtime exceptions
+     */
+    private static IOException unwrap(RuntimeException e) {
+        if (e.getCause() instanceof IOException io) {
+            return io;
+        }
+        throw e;
+    }
+
+    private void advance(CharSequence text) {
+        offset += text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                line++;
+                charPositionInLine = 0;
+                codeUnitPositionInLine = 0;
+            } else {
+                codeUnitPositionInLine++;
+                if (!Character.isLowSurrogate(c)) {
+                    charPositionInLine++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        reader.close();
+    }
+
+    /**
+     * Chunk of whole statements and its position in the input.
+     *
+     * @param text                   chunk text
+     * @param offset                 chunk start offset in code units
+     * @param line                   line of the chunk start
+     * @param charPositionInLine     position of the chunk start in its line
+     * @param codeUnitPositionInLine position of the chunk start in its line in code units
+     */
+    public record Chunk(String text, int offset, int line, int charPositionInLine, int codeUnitPositionInLine) {
+
+        /**
+         * Makes the lexer report token positions in the whole input.
+         *
+         * @param lexer lexer of the chunk text
+         */
+        public void applyTo(CodeUnitLexer lexer) {
+            lexer.setStartPosition(offset, line, charPositionInLine, codeUnitPositionInLine);
+        }
+    }
+}
@@ -42,18 +42,38 @@ public class AntlrTask<T> {
 
     /**
      * Waits for the task to complete and processes the result with the finalizer.
+     * If no pool thread has started the task yet, it runs on the calling thread.
      * Propagates any exceptions that occurred during execution.
      *
      * @throws ExecutionException if the computation threw an exception
      */
     public void finish() throws ExecutionException {
+        AntlrTaskManager.runIfNotStarted(future);
         T t;
         try {
             t = future.get();
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             throw new ExecutionException(ex);
+        } finally {
+            AntlrTaskManager.releaseResult(future);
         }
         finalizer.accept(t);
     }
+
+    void runIfNotStarted() {
+        AntlrTaskManager.runIfNotStarted(future);
+    }
+
+    void whenDone(Runnable action) {
+        AntlrTaskManager.whenDone(future, action);
+    }
+
+    /**
+     * Cancels the task if it has not started and drops its result without finalizing.
+     */
+    void discard() {
+        future.cancel(false);
+        AntlrTaskManager.releaseResult(future);
+    }
 }
@@ -16,25 +16,81 @@
 package org.pgcodekeeper.core.database.base.parser;
 
 import java.io.IOException;
-import java.util.Queue;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import org.pgcodekeeper.core.Consts;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
 import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
 import org.pgcodekeeper.core.utils.DaemonThreadFactory;
+import org.pgcodekeeper.core.utils.Pair;
 
 /**
  * Manages execution and completion of asynchronous ANTLR parsing tasks.
  * Uses a fixed thread pool for parallel parsing operations.
+ * <p>
+ * Queued tasks run in the order of their estimated cost, largest first, so that big inputs
+ * do not start last and delay the end of loading. Tasks of equal cost run in submission order.
+ * <p>
+ * The {@link Consts#POOL_RESULTS_LIMIT} property limits results held in memory: a task with a finalizer
+ * starts only if it was submitted within the limit count of such tasks from the oldest one not yet finalized.
+ * Tasks outside of this window are put aside until the window moves. The oldest task, the one
+ * an ordered finish waits for, is always in the window, so the pool keeps working on the tasks
+ * that are finalized next. By default there is no limit. A thread finishing tasks runs the task
+ * it needs by itself if no pool thread has started it yet, so finishing never waits for the limit.
  */
 public final class AntlrTaskManager {
 
     private static final int POOL_SIZE = Integer.max(1,
             Integer.getInteger(Consts.POOL_SIZE, Runtime.getRuntime().availableProcessors() - 1));
 
-    private static final ExecutorService ANTLR_POOL =
-            Executors.newFixedThreadPool(POOL_SIZE, new DaemonThreadFactory());
+    /**
+     * Cost of tasks a finalizer is waiting for, they run before any other queued task.
+     */
+    private static final long URGENT = Long.MAX_VALUE;
+
+    private static final int HISTOGRAM_BUCKETS = 20;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final TimeHistogram WAIT_TIMES = new TimeHistogram();
+    private static final TimeHistogram RUN_TIMES = new TimeHistogram();
+    private static final ResultSlots SLOTS = new ResultSlots(Integer.getInteger(Consts.POOL_RESULTS_LIMIT, 0));
+
+    /**
+     * Releases slots of tasks dropped without finishing, for example when a loader fails.
+     */
+    private static final Cleaner CLEANER = Cleaner.create(new DaemonThreadFactory());
+
+    private static final ThreadPoolExecutor ANTLR_POOL = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE,
+            0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), new DaemonThreadFactory());
+
+    /**
+     * Snapshot of the pool state.
+     * <p>
+     * Histograms count tasks by time in milliseconds: bucket 0 counts times under 1 ms, bucket {@code i}
+     * counts times from 2<sup>i-1</sup> to 2<sup>i</sup> ms, the last bucket also counts all longer times.
+     *
+     * @param queued         number of tasks waiting for a pool thread
+     * @param deferred       number of tasks put aside by the results limit until its window moves
+     * @param pendingResults number of tasks with a finalizer that are running or hold a result not yet finalized
+     * @param waitTimes      histogram of time from submission to start
+     * @param runTimes       histogram of task execution time
+     */
+    public record Statistics(int queued, int deferred, int pendingResults, long[] waitTimes, long[] runTimes) {
+
+        @Override
+        public String toString() {
+            return "queued: " + queued + ", deferred: " + deferred + ", pending results: " + pendingResults
+                    + ", wait times: " + Arrays.toString(waitTimes) + ", run times: " + Arrays.toString(runTimes);
+        }
+    }
 
     /**
      * Gets the size of the thread pool used for ANTLR parsing tasks.
@@ -45,6 +101,16 @@ public final class AntlrTaskManager {
         return POOL_SIZE;
     }
 
+    /**
+     * Gets queue depth and task time histograms of the pool since its start.
+     *
+     * @return pool statistics
+     */
+    public static Statistics getStatistics() {
+        return new Statistics(ANTLR_POOL.getQueue().size(), SLOTS.getDeferred(), SLOTS.getUsed(),
+                WAIT_TIMES.snapshot(), RUN_TIMES.snapshot());
+    }
+
     /**
      * Submits a parsing task for asynchronous execution.
      *
@@ -53,7 +119,21 @@ public final class AntlrTaskManager {
      * @return Future representing the pending result
      */
     public static <T> Future<T> submit(Callable<T> task) {
-        return ANTLR_POOL.submit(task);
+        return submit(task, 0);
+    }
+
+    /**
+     * Submits a parsing task for asynchronous execution.
+     *
+     * @param <T>  type of the parsing result
+     * @param task the parsing task to execute
+     * @param cost estimated cost of the task, such as the input length; larger tasks start first
+     * @return Future representing the pending result
+     */
+    public static <T> Future<T> submit(Callable<T> task, long cost) {
+        var future = new PrioritizedTask<>(task, cost, false);
+        ANTLR_POOL.execute(future);
+        return future;
     }
 
     /**
@@ -65,8 +145,101 @@ public final class AntlrTaskManager {
      * @param finalizer  consumer to process the result when complete
      */
     public static <T> void submit(Queue<AntlrTask<?>> antlrTasks, Callable<T> task, Consumer<T> finalizer) {
-        Future<T> future = submit(task);
-        antlrTasks.add(new AntlrTask<>(future, finalizer));
+        submit(antlrTasks, task, 0, finalizer);
+    }
+
+    /**
+     * Submits a parsing task with completion handler.
+     *
+     * @param <T>        type of the parsing result
+     * @param antlrTasks queue to store the created task
+     * @param task       the parsing task to execute
+     * @param cost       estimated cost of the task, such as the input length; larger tasks start first
+     * @param finalizer  consumer to process the result when complete
+     */
+    public static <T> void submit(Queue<AntlrTask<?>> antlrTasks, Callable<T> task, long cost,
+                                  Consumer<T> finalizer) {
+        var future = new PrioritizedTask<>(task, cost, true);
+        var antlrTask = new AntlrTask<>(future, finalizer);
+        CLEANER.register(antlrTask, future::releaseSlot);
+        ANTLR_POOL.execute(future);
+        antlrTasks.add(antlrTask);
+    }
+
+    /**
+     * Submits parsing of an input split into chunks of whole statements.
+     * <p>
+     * The first chunk is parsed asynchronously like a whole file. The following chunks are read
+     * when the finalizer is reached: each one is parsed in the pool while the previous one
+     * is being processed, so at most two parsed chunks are held in memory at once.
+     * Syntax errors of a chunk are added to the error list right before the chunk is processed.
+     *
+     * @param <T>        type of the chunk parsing result
+     * @param antlrTasks queue to store the created task
+     * @param reader     opens the chunk reader
+     * @param cost       estimated cost of the first task, such as the input length
+     * @param parser     parses a chunk, collecting syntax errors into the given list
+     * @param errors     list of errors to add syntax errors to
+     * @param finalizer  consumer to process the result of each chunk in input order
+     */
+    public static <T> void submitChunks(Queue<AntlrTask<?>> antlrTasks, Callable<AbstractChunkReader> reader,
+                                        long cost, BiFunction<Chunk, List<Object>, T> parser, List<Object> errors,
+                                        Consumer<T> finalizer) {
+        submit(antlrTasks, () -> {
+            AbstractChunkReader chunks = reader.call();
+            try {
+                Chunk first = chunks.next();
+                var parsed = first == null ? null : parseChunk(first, parser);
+                if (chunks.isFinished()) {
+                    chunks.close();
+                }
+                return new Pair<>(chunks, parsed);
+            } catch (MonitorCancelledRuntimeException ex) {
+                chunks.close();
+                throw new InterruptedException();
+            } catch (Exception | Error ex) {
+                chunks.close();
+                throw ex;
+            }
+        }, cost, pair -> {
+            try (AbstractChunkReader chunks = pair.getFirst()) {
+                var current = pair.getSecond();
+                while (current != null) {
+                    Chunk chunk = chunks.next();
+                    Future<Pair<T, List<Object>>> next = chunk == null ? null
+                            : submit(() -> parseChunk(chunk, parser), URGENT);
+                    errors.addAll(current.getSecond());
+                    finalizer.accept(current.getFirst());
+                    current = next == null ? null : getChunk(next);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static <T> Pair<T, List<Object>> parseChunk(Chunk chunk, BiFunction<Chunk, List<Object>, T> parser) {
+        List<Object> chunkErrors = new ArrayList<>();
+        return new Pair<>(parser.apply(chunk, chunkErrors), chunkErrors);
+    }
+
+    private static <T> T getChunk(Future<T> future) {
+        runIfNotStarted(future);
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MonitorCancelledRuntimeException(ex);
+        } catch (ExecutionException ex) {
+            Throwable t = ex.getCause();
+            if (t instanceof RuntimeException re) {
+                throw re;
+            }
+            if (t instanceof Error er) {
+                throw er;
+            }
+            throw new IllegalStateException(ex);
+        }
     }
 
     /**
@@ -77,16 +250,165 @@ public final class AntlrTaskManager {
      * @throws IOException          if an I/O error occurred during parsing
      */
     public static void finish(Queue<AntlrTask<?>> antlrTasks) throws InterruptedException, IOException {
+        finish(antlrTasks, null);
+    }
+
+    /**
+     * Processes all tasks in the queue until completion or failure.
+     *
+     * @param antlrTasks queue of tasks to process
+     * @param afterTask  action called on the calling thread after each finalized task, may be null
+     * @throws InterruptedException if task processing was interrupted
+     * @throws IOException          if an I/O error occurred during parsing
+     */
+    public static void finish(Queue<AntlrTask<?>> antlrTasks, Runnable afterTask)
+            throws InterruptedException, IOException {
         AntlrTask<?> task;
+        boolean finished = false;
         try {
             while ((task = antlrTasks.poll()) != null) {
                 task.finish();
+                if (afterTask != null) {
+                    afterTask.run();
+                }
             }
+            finished = true;
         } catch (ExecutionException ex) {
             handleAntlrTaskException(ex);
         } catch (MonitorCancelledRuntimeException ex) {
             // finalizing parser listeners' cancellations will reach here
             throw new InterruptedException();
+        } catch (UncheckedIOException ex) {
+            // chunked parsing reads the input in finalizers
+            throw ex.getCause();
+        } finally {
+            if (!finished) {
+                discard(antlrTasks);
+            }
+        }
+    }
+
+    /**
+     * Processes all tasks in the queue until completion or failure, running finalizers in the order
+     * the tasks complete. Use it only for tasks whose finalizers do not depend on each other's order.
+     * Tasks added to the queue by finalizers are processed too.
+     *
+     * @param antlrTasks queue of tasks to process
+     * @throws InterruptedException if task processing was interrupted
+     * @throws IOException          if an I/O error occurred during parsing
+     */
+    public static void finishUnordered(Queue<AntlrTask<?>> antlrTasks) throws InterruptedException, IOException {
+        // completion handlers refer to tasks by their slot, so a dropped task stays unreachable from its future
+        List<AntlrTask<?>> slots = new ArrayList<>();
+        BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+        Queue<Integer> waiting = new ArrayDeque<>();
+        int pending = 0;
+        boolean finished = false;
+        try {
+            while (true) {
+                AntlrTask<?> task;
+                while ((task = antlrTasks.poll()) != null) {
+                    int slot = slots.size();
+                    slots.add(task);
+                    ++pending;
+                    waiting.add(slot);
+                    task.whenDone(() -> completed.add(slot));
+                }
+                if (pending == 0) {
+                    break;
+                }
+
+                Integer next = completed.poll();
+                while (next == null) {
+                    Integer notStarted = waiting.poll();
+                    if (notStarted == null) {
+                        next = completed.take();
+                    } else {
+                        AntlrTask<?> notStartedTask = slots.get(notStarted);
+                        if (notStartedTask != null) {
+                            notStartedTask.runIfNotStarted();
+                        }
+                        next = completed.poll();
+                    }
+                }
+                --pending;
+                slots.set(next, null).finish();
+            }
+            finished = true;
+        } catch (ExecutionException ex) {
+            handleAntlrTaskException(ex);
+        } catch (MonitorCancelledRuntimeException ex) {
+            throw new InterruptedException();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            if (!finished) {
+                for (AntlrTask<?> task : slots) {
+                    if (task != null) {
+                        task.discard();
+                    }
+                }
+                discard(antlrTasks);
+            }
+        }
+    }
+
+    /**
+     * Drops all tasks of the queue without finalizing them: tasks that have not started are cancelled,
+     * results of the others are released.
+     *
+     * @param antlrTasks queue of tasks to drop
+     */
+    public static void discard(Queue<AntlrTask<?>> antlrTasks) {
+        AntlrTask<?> task;
+        while ((task = antlrTasks.poll()) != null) {
+            task.discard();
+        }
+    }
+
+    /**
+     * Changes the size of the window of tasks with a finalizer that may start, counted from the oldest
+     * task not yet finalized.
+     *
+     * @param limit new limit, 0 or less removes the limit
+     */
+    static void setResultsLimit(int limit) {
+        SLOTS.setLimit(limit);
+    }
+
+    /**
+     * @return the size of the window of tasks with a finalizer that may start, 0 if there is no limit
+     */
+    static int getResultsLimit() {
+        return SLOTS.getLimit();
+    }
+
+    /**
+     * Runs the task on the calling thread if no pool thread has started it yet.
+     */
+    static void runIfNotStarted(Future<?> future) {
+        if (future instanceof PrioritizedTask<?> task) {
+            task.runHere();
+        }
+    }
+
+    /**
+     * Calls the action once the task is complete, right away if it is already complete.
+     */
+    static void whenDone(Future<?> future, Runnable action) {
+        if (future instanceof PrioritizedTask<?> task) {
+            task.whenDone(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Frees the place of the task result once it is passed to the finalizer or dropped.
+     */
+    static void releaseResult(Future<?> future) {
+        if (future instanceof PrioritizedTask<?> task) {
+            task.releaseSlot();
         }
     }
 
@@ -113,7 +435,212 @@ public final class AntlrTaskManager {
         throw new IllegalStateException(ex);
     }
 
+    /**
+     * Pool task ordered by cost. It runs once, either on a pool thread or on a thread waiting for it.
+     */
+    private static final class PrioritizedTask<T> extends FutureTask<T> implements Comparable<PrioritizedTask<?>> {
+
+        private final long cost;
+        private final long sequence = SEQUENCE.getAndIncrement();
+        private final long submitted = System.nanoTime();
+        /**
+         * Submission number among tasks with a finalizer, -1 for other tasks.
+         */
+        private final long ticket;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean notified = new AtomicBoolean();
+        private volatile Runnable doneAction;
+
+        // guarded by SLOTS
+        private boolean holdsSlot;
+        private boolean released;
+
+        PrioritizedTask(Callable<T> callable, long cost, boolean limited) {
+            super(callable);
+            this.cost = cost;
+            this.ticket = limited ? SLOTS.register() : -1;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            if (ticket >= 0 && !SLOTS.mayStart(this)) {
+                // put aside, resubmitted when the window reaches it
+                return;
+            }
+            runHere();
+        }
+
+        boolean runHere() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            if (ticket >= 0) {
+                SLOTS.started(this);
+            }
+            long start = System.nanoTime();
+            WAIT_TIMES.add(start - submitted);
+            try {
+                super.run();
+            } finally {
+                RUN_TIMES.add(System.nanoTime() - start);
+            }
+            return true;
+        }
+
+        boolean isStarted() {
+            return started.get();
+        }
+
+        void whenDone(Runnable action) {
+            doneAction = action;
+            if (isDone()) {
+                notifyDone();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                releaseSlot();
+            }
+            notifyDone();
+        }
+
+        private void notifyDone() {
+            Runnable action = doneAction;
+            if (action != null && notified.compareAndSet(false, true)) {
+                action.run();
+            }
+        }
+
+        void releaseSlot() {
+            if (ticket >= 0) {
+                SLOTS.release(this);
+            }
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> o) {
+            int c = Long.compare(o.cost, cost);
+            return c != 0 ? c : Long.compare(sequence, o.sequence);
+        }
+    }
+
+    /**
+     * Tracks tasks with a finalizer not yet finalized and the window of them that may start.
+     */
+    private static final class ResultSlots {
+
+        /**
+         * Tickets of tasks not yet finalized or dropped, the first one starts the window.
+         */
+        private final NavigableSet<Long> pending = new TreeSet<>();
+        private final Queue<PrioritizedTask<?>> deferred =
+                new PriorityQueue<>(Comparator.comparingLong(task -> task.ticket));
+        private long nextTicket;
+        private int limit;
+        private int used;
+
+        ResultSlots(int limit) {
+            setLimit(limit);
+        }
+
+        synchronized void setLimit(int limit) {
+            this.limit = limit > 0 ? limit : Integer.MAX_VALUE;
+            runDeferred();
+        }
+
+        synchronized int getLimit() {
+            return limit == Integer.MAX_VALUE ? 0 : limit;
+        }
+
+        synchronized long register() {
+            long ticket = nextTicket++;
+            pending.add(ticket);
+            return ticket;
+        }
+
+        synchronized boolean mayStart(PrioritizedTask<?> task) {
+            if (task.released || isInWindow(task)) {
+                return true;
+            }
+            deferred.add(task);
+            return false;
+        }
+
+        synchronized void started(PrioritizedTask<?> task) {
+            if (!task.released && !task.holdsSlot) {
+                task.holdsSlot = true;
+                ++used;
+            }
+        }
+
+        synchronized void release(PrioritizedTask<?> task) {
+            if (task.released) {
+                return;
+            }
+            task.released = true;
+            pending.remove(task.ticket);
+            if (task.holdsSlot) {
+                task.holdsSlot = false;
+                --used;
+            }
+            runDeferred();
+        }
+
+        private boolean isInWindow(PrioritizedTask<?> task) {
+            long start = pending.isEmpty() ? nextTicket : pending.first();
+            return task.ticket - start < limit;
+        }
+
+        private void runDeferred() {
+            PrioritizedTask<?> next;
+            while ((next = deferred.peek()) != null && (next.released || isInWindow(next))) {
+                deferred.poll();
+                if (!next.isStarted() && !next.isDone()) {
+                    ANTLR_POOL.execute(next);
+                }
+            }
+        }
+
+        synchronized int getUsed() {
+            return used;
+        }
+
+        synchronized int getDeferred() {
+            return deferred.size();
+        }
+    }
+
+    private static final class TimeHistogram {
+
+        private final LongAdder[] buckets = new LongAdder[HISTOGRAM_BUCKETS];
+
+        TimeHistogram() {
+            for (int i = 0; i < buckets.length; ++i) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void add(long nanos) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = millis <= 0 ? 0 : Math.min(buckets.length - 1, 64 - Long.numberOfLeadingZeros(millis));
+            buckets[bucket].increment();
+        }
+
+        long[] snapshot() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; ++i) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+    }
+
     private AntlrTaskManager() {
         // only static
     }
-}
\ No newline at end of file
+}
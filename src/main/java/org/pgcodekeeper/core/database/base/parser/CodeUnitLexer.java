@@ -89,10 +89,27 @@ public abstract class CodeUnitLexer extends Lexer {
     }
 
     protected void resetLineOffset() {
-        if (is32bitStream) {
-            prevLineOffset = 0;
-            currentLineOffset = 0;
-        }
+        // not only for 32-bit streams: a chunk lexer gets the offsets of its first line
+        // in setStartPosition even if the chunk itself has no supplementary characters
+        prevLineOffset = 0;
+        currentLineOffset = 0;
+    }
+
+    /**
+     * Sets the position of the lexer input in an enclosing text, so that tokens
+     * of a text fragment report their positions in the whole text.
+     *
+     * @param codeUnitOffset         offset of the fragment start in code units
+     * @param line                   line of the fragment start
+     * @param charPositionInLine     position of the fragment start in its line
+     * @param codeUnitPositionInLine position of the fragment start in its line in code units
+     */
+    public void setStartPosition(int codeUnitOffset, int line, int charPositionInLine, int codeUnitPositionInLine) {
+        offset = codeUnitOffset;
+        setLine(line);
+        setCharPositionInLine(charPositionInLine);
+        prevLineOffset = codeUnitPositionInLine - charPositionInLine;
+        currentLineOffset = prevLineOffset;
     }
 
     private CodeUnitToken emitToken(CodeUnitToken token) {
@@ -97,16 +97,25 @@ public class CustomParserListener<T extends IDatabase> {
             }
             r.run();
         } catch (UnresolvedReferenceException ex) {
-            settings.addError(handleUnresolvedReference(ex, filename));
+            addError(handleUnresolvedReference(ex, filename));
         } catch (Exception e) {
             if (ctx != null) {
-                settings.addError(handleParserContextException(e, filename, ctx));
+                addError(handleParserContextException(e, filename, ctx));
             } else {
                 LOG.error(Messages.CustomParserListener_statement_context_is_missing, e);
             }
         }
     }
 
+    /**
+     * Adds an error of a statement of this listener's file.
+     *
+     * @param error the error to add
+     */
+    protected void addError(Object error) {
+        settings.addError(error);
+    }
+
     /**
      * Handles unresolved reference exceptions during parsing.
      *
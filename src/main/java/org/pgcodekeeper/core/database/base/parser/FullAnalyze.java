@@ -19,18 +19,18 @@ import org.pgcodekeeper.core.database.api.jdbc.ISupportedVersion;
 import org.pgcodekeeper.core.database.api.launcher.IAnalysisLauncher;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.IRelation;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.schema.meta.MetaContainer;
 import org.pgcodekeeper.core.database.base.schema.meta.MetaUtils;
 import org.pgcodekeeper.core.database.pg.parser.launcher.PgAggregateAnalysisLauncher;
 import org.pgcodekeeper.core.database.pg.parser.launcher.PgOperatorAnalysisLauncher;
 import org.pgcodekeeper.core.database.pg.parser.launcher.PgViewAnalysisLauncher;
+import org.pgcodekeeper.core.utils.Pair;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Queue;
+import java.util.*;
 
 /**
  * Performs full analysis of database objects including operators, aggregates, views, and other database elements.
@@ -40,6 +40,11 @@ public final class FullAnalyze {
 
     private final List<Object> errors;
     private final List<ObjectLocation> refs = new ArrayList<>();
+    /**
+     * Errors of the analyzed views by launcher index, added to {@link #errors} in this order
+     * once all views are analyzed, so that the order does not depend on the concurrent analysis.
+     */
+    private final SortedMap<Integer, List<Object>> viewErrors = new TreeMap<>();
     private final Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
     private final IDatabase db;
     private final MetaContainer meta;
@@ -81,7 +86,10 @@ public final class FullAnalyze {
     private void fullAnalyze() throws InterruptedException, IOException {
         analyzeOperators();
         analyzeAggregate();
+        analyzeViews();
         analyzeView(null);
+        viewErrors.values().forEach(errors::addAll);
+        viewErrors.clear();
 
         for (IAnalysisLauncher l : db.getAnalysisLaunchers()) {
             if (l != null) {
@@ -102,12 +110,92 @@ public final class FullAnalyze {
         }
     }
 
+    /**
+     * Analyzes views concurrently in the order of their references to each other:
+     * a view is submitted only after all views it may select from are analyzed.
+     * Views that take part in reference cycles, and views depending on them,
+     * are left for the sequential {@link #analyzeView(IRelation)} pass.
+     */
+    private void analyzeViews() throws InterruptedException, IOException {
+        List<IAnalysisLauncher> launchers = db.getAnalysisLaunchers();
+        Map<String, List<Integer>> viewsByName = new HashMap<>();
+        for (int i = 0; i < launchers.size(); ++i) {
+            if (launchers.get(i) instanceof PgViewAnalysisLauncher v) {
+                viewsByName.computeIfAbsent(v.getStmt().getName(), k -> new ArrayList<>()).add(i);
+            }
+        }
+        if (viewsByName.isEmpty()) {
+            return;
+        }
+
+        int[] pending = new int[launchers.size()];
+        Map<Integer, List<Integer>> dependents = new HashMap<>();
+        List<Integer> level = new ArrayList<>();
+        for (List<Integer> views : viewsByName.values()) {
+            for (int i : views) {
+                var v = (PgViewAnalysisLauncher) launchers.get(i);
+                for (String name : v.getRelationNames()) {
+                    for (int dep : viewsByName.getOrDefault(name, Collections.emptyList())) {
+                        if (dep != i) {
+                            ++pending[i];
+                            dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(i);
+                        }
+                    }
+                }
+                if (pending[i] == 0) {
+                    level.add(i);
+                }
+            }
+        }
+
+        while (!level.isEmpty()) {
+            Collections.sort(level);
+            for (int i : level) {
+                var l = claimLauncher(i);
+                if (l instanceof PgViewAnalysisLauncher v) {
+                    v.setFullAnalyze(this);
+                    AntlrTaskManager.submit(antlrTasks, () -> {
+                        List<Object> viewErrors = new ArrayList<>();
+                        return new Pair<>(l.launchAnalyze(viewErrors, meta), viewErrors);
+                    }, result -> addResults(i, l, result.getFirst(), result.getSecond()));
+                }
+            }
+            AntlrTaskManager.finish(antlrTasks);
+
+            List<Integer> next = new ArrayList<>();
+            for (int i : level) {
+                for (int dependent : dependents.getOrDefault(i, Collections.emptyList())) {
+                    if (--pending[dependent] == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            level = next;
+        }
+    }
+
+    private synchronized IAnalysisLauncher claimLauncher(int i) {
+        List<IAnalysisLauncher> launchers = db.getAnalysisLaunchers();
+        var l = launchers.get(i);
+        launchers.set(i, null);
+        return l;
+    }
+
+    private synchronized void addResults(int i, IAnalysisLauncher l, Set<ObjectReference> dependencies,
+                                         List<Object> launcherErrors) {
+        IStatement st = l.getStmt();
+        dependencies.forEach(st::addDependency);
+        refs.addAll(l.getReferences());
+        viewErrors.put(i, launcherErrors);
+    }
+
     /**
      * Analyzes views in the database, optionally focusing on a specific relation.
+     * May be called from view analysis running on the ANTLR pool, so it is synchronized.
      *
      * @param rel the specific relation to analyze, or null to analyze all views
      */
-    public void analyzeView(IRelation rel) {
+    public synchronized void analyzeView(IRelation rel) {
         List<IAnalysisLauncher> launchers = db.getAnalysisLaunchers();
         for (int i = 0; i < launchers.size(); ++i) {
             var l = launchers.get(i);
@@ -120,7 +208,7 @@ public final class FullAnalyze {
                 launchers.set(i, null);
                 v.setFullAnalyze(this);
                 var st = l.getStmt();
-                var dependencies = l.launchAnalyze(errors, meta);
+                var dependencies = l.launchAnalyze(viewErrors.computeIfAbsent(i, k -> new ArrayList<>()), meta);
                 dependencies.forEach(st::addDependency);
                 refs.addAll(l.getReferences());
             }
@@ -18,10 +18,18 @@ package org.pgcodekeeper.core.database.base.parser;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.pgcodekeeper.core.database.base.parser.generated.*;
 import org.pgcodekeeper.core.sql.KeywordCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Utility class for creating and managing ANTLR parser
@@ -31,6 +39,11 @@ public class ParserUtils {
     public static final String SQL = ";";
     public static final String PARSED_OBJ_NAME = "fake string to clean parser cache";
 
+    private static final Logger LOG = LoggerFactory.getLogger(ParserUtils.class);
+
+    private static final LongAdder SLL_PARSES = new LongAdder();
+    private static final LongAdder LL_FALLBACKS = new LongAdder();
+
     /**
      * Creates a parser for ignore list files.
      *
@@ -94,6 +107,69 @@ public class ParserUtils {
         }
     }
 
+    /**
+     * Parses the input with the two-stage prediction strategy. The first stage uses SLL
+     * prediction and bails out on the first syntax error without reporting it. If it fails,
+     * the input is parsed again with full LL prediction, the parser's own error strategy
+     * and error listeners, so errors are reported exactly as in a single-stage parse.
+     * <p>
+     * Parse listeners are detached for the first stage. If it succeeds, they are replayed
+     * over the resulting tree, otherwise they listen to the second stage, so each rule
+     * is reported to them once.
+     * <p>
+     * Parser state that is not cleared by {@link Parser#reset()} must be reset by the
+     * grammar's own {@code reset} override.
+     *
+     * @param parser           configured parser
+     * @param rule             start rule to invoke
+     * @param parsedObjectName name of the object being parsed (for logging)
+     * @return parse tree of the start rule
+     */
+    public static <P extends Parser, T extends ParserRuleContext> T parseTwoStage(P parser, Function<P, T> rule,
+                                                                                 String parsedObjectName) {
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        List<? extends ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        List<ParseTreeListener> parseListeners = new ArrayList<>(parser.getParseListeners());
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.removeErrorListeners();
+        parser.removeParseListeners();
+        try {
+            T result = rule.apply(parser);
+            SLL_PARSES.increment();
+            parseListeners.forEach(parser::addParseListener);
+            for (ParseTreeListener listener : parseListeners) {
+                ParseTreeWalker.DEFAULT.walk(listener, result);
+            }
+            return result;
+        } catch (ParseCancellationException e) {
+            LL_FALLBACKS.increment();
+            LOG.debug("SLL parse failed, falling back to LL: {}", parsedObjectName);
+        }
+
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(errorHandler);
+        listeners.forEach(parser::addErrorListener);
+        parseListeners.forEach(parser::addParseListener);
+        return rule.apply(parser);
+    }
+
+    /**
+     * @return number of two-stage parses completed in the SLL stage since startup
+     */
+    public static long getSllParseCount() {
+        return SLL_PARSES.sum();
+    }
+
+    /**
+     * @return number of two-stage parses that fell back to the LL stage since startup
+     */
+    public static long getLlFallbackCount() {
+        return LL_FALLBACKS.sum();
+    }
+
     private ParserUtils() {
     }
 }
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.parser;
 
+import java.util.List;
+
 /**
  * Wrapper class that provides simplified access
  * to parsed qualified name components without exposing the underlying parser implementation.
@@ -23,28 +25,48 @@ package org.pgcodekeeper.core.database.base.parser;
 public class QNameParserWrapper {
 
     private final QNameParser<?> parser;
+    private final List<String> names;
 
     public QNameParserWrapper(QNameParser<?> parser) {
         this.parser = parser;
+        this.names = null;
+    }
+
+    /**
+     * Creates a wrapper for name parts read without the parser and without errors.
+     *
+     * @param names name parts from the leftmost one
+     */
+    public QNameParserWrapper(List<String> names) {
+        this.parser = null;
+        this.names = names;
     }
 
     public String getFirstName() {
-        return parser.getFirstName();
+        return parser != null ? parser.getFirstName() : getLastName(1);
     }
 
     public String getSecondName() {
-        return parser.getSecondName();
+        return parser != null ? parser.getSecondName() : getLastName(2);
     }
 
     public String getSchemaName() {
-        return parser.getSchemaName();
+        if (parser != null) {
+            return parser.getSchemaName();
+        }
+        return names.size() < 2 ? null : names.get(0);
     }
 
     public String getThirdName() {
-        return parser.getThirdName();
+        return parser != null ? parser.getThirdName() : getLastName(3);
     }
 
     public boolean hasErrors() {
-        return parser.hasErrors();
+        return parser != null && parser.hasErrors();
+    }
+
+    private String getLastName(int i) {
+        int n = names.size() - i;
+        return n < 0 ? null : names.get(n);
     }
 }
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Splits qualified names into parts without the SQL parser.
+ * <p>
+ * Names of up to three parts separated by dots are split here when every part is a quoted identifier
+ * or an unquoted word which the lexer reads as a plain identifier. Other names (keywords, spaces,
+ * comments, non-latin letters, syntax errors) are passed to the parser.
+ * Results are cached since the same names are parsed repeatedly while reading a database.
+ */
+public final class QNameSplitter {
+
+    private static final int MAX_PARTS = 3;
+    private static final int CACHE_SIZE = 4096;
+    private static final String NOT_IDENTIFIER = "";
+
+    private final Function<CharStream, Lexer> lexerFactory;
+    private final int identifierType;
+    private final String quotes;
+    private final Function<String, QNameParserWrapper> parser;
+
+    private final Map<String, QNameParserWrapper> names = new ConcurrentHashMap<>();
+    private final Map<String, String> words = new ConcurrentHashMap<>();
+
+    /**
+     * @param lexerFactory   creates the lexer of the dialect
+     * @param identifierType token type of unquoted identifiers
+     * @param quotes         characters quoting identifiers, doubled inside them
+     * @param parser         parses names which are not split here
+     */
+    public QNameSplitter(Function<CharStream, Lexer> lexerFactory, int identifierType, String quotes,
+                         Function<String, QNameParserWrapper> parser) {
+        this.lexerFactory = lexerFactory;
+        this.identifierType = identifierType;
+        this.quotes = quotes;
+        this.parser = parser;
+    }
+
+    /**
+     * Returns parts of the qualified name, splitting it here or by the parser.
+     *
+     * @param qname qualified name
+     * @return name parts
+     */
+    public QNameParserWrapper parse(String qname) {
+        QNameParserWrapper result = names.get(qname);
+        if (result == null) {
+            List<String> parts = split(qname);
+            result = parts != null ? new QNameParserWrapper(parts) : parser.apply(qname);
+            put(names, qname, result);
+        }
+        return result;
+    }
+
+    /**
+     * Splits the qualified name.
+     *
+     * @param qname qualified name
+     * @return unquoted name parts, or null if the name must be read by the parser
+     */
+    public List<String> split(String qname) {
+        List<String> parts = new ArrayList<>(MAX_PARTS);
+        int pos = 0;
+        while (parts.size() < MAX_PARTS) {
+            int end = pos < qname.length() && quotes.indexOf(qname.charAt(pos)) != -1
+                    ? readQuoted(qname, pos, parts) : readUnquoted(qname, pos, parts);
+            if (end == -1) {
+                return null;
+            }
+            if (end == qname.length()) {
+                return parts;
+            }
+            if (qname.charAt(end) != '.') {
+                return null;
+            }
+            pos = end + 1;
+        }
+        return null;
+    }
+
+    /**
+     * @return index after the identifier, or -1 if it has to be read by the parser
+     */
+    private int readUnquoted(String qname, int start, List<String> parts) {
+        int pos = start;
+        while (pos < qname.length() && isWordChar(qname.charAt(pos))) {
+            pos++;
+        }
+        if (pos == start) {
+            return -1;
+        }
+
+        String id = getIdentifier(qname.substring(start, pos));
+        if (id == null) {
+            return -1;
+        }
+        parts.add(id);
+        return pos;
+    }
+
+    /**
+     * @return index after the closing quote, or -1 if the identifier has to be read by the parser
+     */
+    private int readQuoted(String qname, int start, List<String> parts) {
+        char quote = qname.charAt(start);
+        StringBuilder sb = null;
+        int from = start + 1;
+        int pos = from;
+        while (pos < qname.length()) {
+            char c = qname.charAt(pos);
+            if (c == '\u0000') {
+                return -1;
+            }
+            if (c == quote) {
+                if (pos + 1 < qname.length() && qname.charAt(pos + 1) == quote) {
+                    if (sb == null) {
+                        sb = new StringBuilder();
+                    }
+                    sb.append(qname, from, pos + 1);
+                    pos += 2;
+                    from = pos;
+                    continue;
+                }
+
+                String id = sb == null ? qname.substring(from, pos) : sb.append(qname, from, pos).toString();
+                if (id.isEmpty()) {
+                    return -1;
+                }
+                parts.add(id);
+                return pos + 1;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the word with the lexer of the dialect, which knows its keywords and case rules.
+     *
+     * @return identifier text made by the lexer, or null if the word is not a single plain identifier
+     */
+    private String getIdentifier(String word) {
+        String id = words.get(word);
+        if (id == null) {
+            Lexer lexer = lexerFactory.apply(CharStreams.fromString(word));
+            lexer.removeErrorListeners();
+            Token token = lexer.nextToken();
+            boolean isIdentifier = token.getType() == identifierType && token.getStartIndex() == 0
+                    && token.getStopIndex() == word.length() - 1 && lexer.nextToken().getType() == Token.EOF;
+            id = isIdentifier ? token.getText() : NOT_IDENTIFIER;
+            put(words, word, id);
+        }
+        return id.isEmpty() ? null : id;
+    }
+
+    private static <V> void put(Map<String, V> cache, String key, V value) {
+        if (cache.size() >= CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    private static boolean isWordChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '$';
+    }
+}
@@ -17,12 +17,17 @@ package org.pgcodekeeper.core.database.base.parser.launcher;
 
 import java.util.*;
 
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.pgcodekeeper.core.database.api.launcher.IAnalysisLauncher;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.*;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
 import org.pgcodekeeper.core.database.base.schema.*;
 import org.pgcodekeeper.core.exception.*;
 import org.pgcodekeeper.core.localizations.Messages;
@@ -32,17 +37,41 @@ import org.slf4j.LoggerFactory;
 /**
  * This class and all child classes contains statement, its contexts and
  * implementation of logic for launch the analysis of statement's contexts.
+ * <p>
+ * A launcher may release its context, keeping only the source text of the context,
+ * see {@link #releaseContext()}. The text is parsed again when the analysis is launched.
  */
 public abstract class AbstractAnalysisLauncher implements IAnalysisLauncher {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractAnalysisLauncher.class);
 
+    /**
+     * Parses the source text of a released context.
+     */
+    @FunctionalInterface
+    protected interface FragmentParser {
+
+        /**
+         * @param fragment         source text of the context and its position in the source
+         * @param type             type of the released context
+         * @param parsedObjectName name of the object being parsed (for error reporting)
+         * @param errors           list to collect parsing errors
+         * @return context of the given type
+         */
+        ParserRuleContext parse(Chunk fragment, Class<? extends ParserRuleContext> type,
+                                String parsedObjectName, List<Object> errors);
+    }
+
     private final List<ObjectLocation> references = new ArrayList<>();
 
     protected IStatement stmt;
-    private final ParserRuleContext ctx;
+    private ParserRuleContext ctx;
     private final String location;
 
+    private boolean releaseChecked;
+    private Chunk fragment;
+    private Class<? extends ParserRuleContext> fragmentType;
+
     private int offset;
     private int lineOffset;
     private int inLineOffset;
@@ -107,6 +136,120 @@ public abstract class AbstractAnalysisLauncher implements IAnalysisLauncher {
         }
     }
 
+    /**
+     * Replaces the context with its source text. Contexts with syntax errors are kept,
+     * since their trees cannot be reproduced from the text. Launchers of dialects that
+     * cannot parse the text again keep their contexts too.
+     *
+     * @return false if the method was already called for this launcher
+     */
+    public boolean releaseContext() {
+        if (releaseChecked) {
+            return false;
+        }
+        releaseChecked = true;
+
+        FragmentParser parser = getFragmentParser();
+        if (ctx == null || parser == null) {
+            return true;
+        }
+
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (!(start instanceof CodeUnitToken cuStart) || stop == null
+                || stop.getStopIndex() < start.getStartIndex() || hasErrors(ctx)) {
+            return true;
+        }
+
+        String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+        fragment = new Chunk(text, cuStart.getCodeUnitStart(), cuStart.getLine(),
+                cuStart.getCharPositionInLine(), cuStart.getCodeUnitPositionInLine());
+        fragmentType = ctx.getClass();
+        ctx = null;
+        return true;
+    }
+
+    /**
+     * Releases contexts of the launchers added to the list since the previous call.
+     *
+     * @param launchers analysis launchers of a database
+     */
+    public static void releaseContexts(List<IAnalysisLauncher> launchers) {
+        for (int i = launchers.size() - 1; i >= 0; --i) {
+            if (!(launchers.get(i) instanceof AbstractAnalysisLauncher l) || !l.releaseContext()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Counts the source text retained by the launchers: whole inputs of the held contexts
+     * and the texts of the released ones. This is the length of the text in characters,
+     * not its heap size: char streams may store a character in one to four bytes,
+     * and the parse trees of the held contexts are not counted.
+     *
+     * @param launchers analysis launchers of a database
+     * @return number of retained characters
+     */
+    public static long getRetainedSourceLength(List<IAnalysisLauncher> launchers) {
+        long size = 0;
+        Set<CharStream> inputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IAnalysisLauncher launcher : launchers) {
+            if (!(launcher instanceof AbstractAnalysisLauncher l)) {
+                continue;
+            }
+            if (l.fragment != null) {
+                size += l.fragment.text().length();
+            } else if (l.ctx != null && l.ctx.getStart() != null) {
+                CharStream input = l.ctx.getStart().getInputStream();
+                if (input != null && inputs.add(input)) {
+                    size += input.size();
+                }
+            }
+        }
+        return size;
+    }
+
+    private static boolean hasErrors(ParseTree tree) {
+        if (tree instanceof ErrorNode) {
+            return true;
+        }
+        if (tree instanceof ParserRuleContext rule && rule.exception != null) {
+            return true;
+        }
+        for (int i = 0; i < tree.getChildCount(); ++i) {
+            if (hasErrors(tree.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the parser of released contexts. Launchers that return null keep their contexts.
+     *
+     * @return dialect parser of the launcher contexts or null
+     */
+    protected FragmentParser getFragmentParser() {
+        return null;
+    }
+
+    private ParserRuleContext getContext() {
+        if (fragment == null) {
+            return ctx;
+        }
+
+        List<Object> parseErrors = new ArrayList<>();
+        String text = fragment.text();
+        ParserRuleContext parsed = getFragmentParser().parse(fragment, fragmentType, location, parseErrors);
+        Token stop = parsed.getStop();
+        if (!parseErrors.isEmpty() || stop == null
+                || stop.getStopIndex() != text.codePointCount(0, text.length()) - 1) {
+            throw new IllegalStateException(Messages.AbstractAnalysisLauncher_fragment_parse_error.formatted(location));
+        }
+        return parsed;
+    }
+
     /**
      * Launches the analysis of the statement.
      *
@@ -122,7 +265,7 @@ public abstract class AbstractAnalysisLauncher implements IAnalysisLauncher {
         }
 
         try {
-            Set<ObjectLocation> locs = analyze(ctx, meta);
+            Set<ObjectLocation> locs = analyze(getContext(), meta);
             Set<ObjectReference> depcies = new LinkedHashSet<>();
             EnumSet<DbObjType> disabledDepcies = getDisabledDepcies();
             for (ObjectLocation loc : locs) {
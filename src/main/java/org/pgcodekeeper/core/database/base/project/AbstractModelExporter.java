@@ -36,19 +36,26 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class for database model exporters that provides common export functionality
  * for different database types (PostgreSQL, MS SQL, ClickHouse).
  * <p>
  * Subclasses must implement database-specific methods for directory structure and file paths.
+ * <p>
+ * Statements are grouped by their files, and the files are generated in parallel.
+ * New files are streamed to disk statement by statement. Existing files are rewritten
+ * only if their content changes, which keeps their modification time and VCS status.
  */
 public abstract class AbstractModelExporter implements IModelExporter {
 
@@ -93,6 +100,11 @@ public abstract class AbstractModelExporter implements IModelExporter {
      */
     private final boolean saveLayout;
 
+    /**
+     * Journal of changed files, null if changes are not journaled
+     */
+    private FileJournal journal;
+
     /**
      * Creates a new AbstractModelExporter for full database export.
      *
@@ -160,6 +172,15 @@ public abstract class AbstractModelExporter implements IModelExporter {
         return workDirs.getRelativeFilePath(st);
     }
 
+    /**
+     * Sets the journal saving project files before their first change.
+     *
+     * @param journal journal of changed files
+     */
+    void setJournal(FileJournal journal) {
+        this.journal = journal;
+    }
+
     /**
      * Returns the directory layout used by this exporter.
      *
@@ -173,13 +194,8 @@ public abstract class AbstractModelExporter implements IModelExporter {
     public void exportFull() throws IOException {
         createOutDir();
 
-        Map<Path, StringBuilder> dumps = new HashMap<>();
-        newDb.getDescendants()
-                .filter(st -> !st.isLib())
-                .sorted(ExportTableOrder.INSTANCE)
-                .forEach(st -> dumpStatement(st, dumps));
-
-        writeDumps(dumps);
+        writeFiles(newDb.getDescendants().filter(st -> !st.isLib()), ExportTableOrder.INSTANCE, Map.of());
+        writeProjectFiles();
     }
 
     private void createOutDir() throws IOException {
@@ -215,8 +231,11 @@ public abstract class AbstractModelExporter implements IModelExporter {
                     outDir.toAbsolutePath()));
         }
 
-        List<IStatement> list = oldDb.getDescendants().collect(Collectors.toList());
+        Set<IStatement> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<IStatement, IStatement> replaced = new IdentityHashMap<>();
+        List<IStatement> added = new ArrayList<>();
         Set<Path> paths = new HashSet<>();
+        Map<Path, IStatement> stale = new HashMap<>();
 
         for (TreeElement el : changeList) {
             if (el.getType() == DbObjType.DATABASE) {
@@ -225,86 +244,177 @@ public abstract class AbstractModelExporter implements IModelExporter {
             switch (el.getSide()) {
                 case LEFT:
                     var stInOld = el.getStatement(oldDb);
-                    list.remove(stInOld);
+                    removed.add(stInOld);
                     for (var child : Utils.streamIterator(stInOld.getChildren())) {
-                        list.remove(child);
-                        deleteStatementIfExists(child);
+                        removed.add(child);
+                        addStale(child, stale);
                     }
                     paths.add(getRelativeFilePath(stInOld));
-                    deleteStatementIfExists(stInOld);
+                    addStale(stInOld, stale);
                     break;
                 case RIGHT:
                     var stInNew = el.getStatement(newDb);
-                    list.add(stInNew);
+                    added.add(stInNew);
                     paths.add(getRelativeFilePath(stInNew));
-                    deleteStatementIfExists(stInNew);
+                    addStale(stInNew, stale);
                     break;
                 case BOTH:
                     stInNew = el.getStatement(newDb);
                     stInOld = el.getStatement(oldDb);
-                    list.set(list.indexOf(stInOld), stInNew);
+                    replaced.put(stInOld, stInNew);
                     paths.add(getRelativeFilePath(stInNew));
-                    deleteStatementIfExists(stInNew);
+                    addStale(stInNew, stale);
                     break;
             }
         }
 
-        Map<Path, StringBuilder> dumps = new HashMap<>();
-        list.stream().filter(st -> paths.contains(getRelativeFilePath(st)))
-                .sorted(ExportTableOrder.INSTANCE)
-                .forEach(st -> dumpStatement(st, dumps));
-
-        writeDumps(dumps);
+        Stream<IStatement> statements = Stream.concat(
+                oldDb.getDescendants()
+                        .filter(st -> !removed.contains(st))
+                        .map(st -> replaced.getOrDefault(st, st)),
+                added.stream());
+        writeFiles(statements.filter(st -> paths.contains(getRelativeFilePath(st))),
+                ExportTableOrder.INSTANCE, stale);
+        writeProjectFiles();
     }
 
     @Override
     public void exportProject() throws IOException {
         createOutDir();
 
-        List<IStatement> list = new ArrayList<>();
-        changeList.stream().filter(el -> el.getType() != DbObjType.DATABASE)
-                .forEach(el -> list.add(el.getStatement(newDb)));
-
-        Map<Path, StringBuilder> dumps = new HashMap<>();
-        list.stream()
-                .sorted(ExportTableOrder.INSTANCE)
-                .forEach(st -> dumpStatement(st, dumps));
-
-        writeDumps(dumps);
+        writeFiles(changeList.stream()
+                .filter(el -> el.getType() != DbObjType.DATABASE)
+                .map(el -> el.getStatement(newDb)), ExportTableOrder.INSTANCE, Map.of());
+        writeProjectFiles();
     }
 
-    private void writeDumps(Map<Path, StringBuilder> dumps) throws IOException {
-        for (var dump : dumps.entrySet()) {
-            dumpSQL(dump.getValue(), dump.getKey());
-        }
-
+    private void writeProjectFiles() throws IOException {
         writeProjVersion(outDir.resolve(Consts.FILENAME_WORKING_DIR_MARKER));
         if (saveLayout) {
             workDirs.saveAltDirs(outDir);
         }
     }
 
-    protected void dumpStatement(IStatement st, Map<Path, StringBuilder> dumps) {
-        Path path = outDir.resolve(getRelativeFilePath(st));
-        StringBuilder sb = dumps.computeIfAbsent(path, e -> new StringBuilder());
-        String dump = getDumpSql(st);
+    /**
+     * Remembers the file of a changed statement. The file is deleted
+     * by {@link #writeFiles(Stream, Comparator, Map)} if no statements are written to it.
+     *
+     * @param st    changed statement
+     * @param stale files of changed statements
+     */
+    protected void addStale(IStatement st, Map<Path, IStatement> stale) {
+        stale.putIfAbsent(outDir.resolve(getRelativeFilePath(st)), st);
+    }
+
+    /**
+     * Writes statements to their files, generating the files in parallel.
+     * A file whose statements all have empty SQL is not written, and it is deleted if it is stale.
+     * If a file fails, files that have not been started are skipped and the method returns
+     * only after the files being written are finished.
+     *
+     * @param statements statements to write
+     * @param order      order of statements in a file, null to keep the stream order
+     * @param stale      files of changed statements, deleted if no statements are written to them
+     * @throws IOException if writing fails
+     */
+    protected void writeFiles(Stream<? extends IStatement> statements, Comparator<IStatement> order,
+                              Map<Path, IStatement> stale) throws IOException {
+        Map<Path, List<IStatement>> files = new LinkedHashMap<>();
+        statements.forEach(st -> files.computeIfAbsent(outDir.resolve(getRelativeFilePath(st)),
+                path -> new ArrayList<>()).add(st));
+
+        for (var file : stale.entrySet()) {
+            if (!files.containsKey(file.getKey())) {
+                deleteStatementIfExists(file.getValue());
+            }
+        }
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(files.size());
+        for (var file : files.entrySet()) {
+            // runs in the fork-join pool of the caller, or in the common pool
+            tasks.add(ForkJoinTask.adapt(() -> {
+                if (error.get() != null) {
+                    return;
+                }
+                List<IStatement> list = file.getValue();
+                if (order != null) {
+                    list.sort(order);
+                }
+                try {
+                    writeFile(file.getKey(), list, stale.get(file.getKey()));
+                } catch (IOException | RuntimeException e) {
+                    if (!error.compareAndSet(null, e)) {
+                        error.get().addSuppressed(e);
+                    }
+                }
+            }).fork());
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        Exception e = error.get();
+        if (e instanceof IOException ex) {
+            throw ex;
+        }
+        if (e != null) {
+            throw (RuntimeException) e;
+        }
+    }
 
-        if (dump.isEmpty()) {
+    /**
+     * Writes the file of the statements.
+     *
+     * @param path       file to write
+     * @param statements statements of the file
+     * @param stale      changed statement of the file, null if the file is not stale
+     * @throws IOException if writing fails
+     */
+    private void writeFile(Path path, List<IStatement> statements, IStatement stale) throws IOException {
+        Iterator<String> dumps = statements.stream().map(this::getDumpSql).filter(dump -> !dump.isEmpty())
+                .iterator();
+        if (!dumps.hasNext()) {
+            if (stale != null) {
+                deleteStatementIfExists(stale);
+            }
             return;
         }
 
-        if (!sb.isEmpty()) {
-            sb.append(GROUP_DELIMITER);
+        if (!Files.exists(path)) {
+            beforeChange(path);
+            Files.createDirectories(path.getParent());
+            try (PrintWriter outFile = new UnixPrintWriter(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), sqlEncoding)) {
+                outFile.print(dumps.next());
+                while (dumps.hasNext()) {
+                    outFile.print(GROUP_DELIMITER);
+                    outFile.print(dumps.next());
+                }
+                outFile.println();
+            }
+            return;
         }
 
-        sb.append(dump);
+        StringBuilder sb = new StringBuilder(dumps.next());
+        while (dumps.hasNext()) {
+            sb.append(GROUP_DELIMITER).append(dumps.next());
+        }
+        sb.append('\n');
+
+        byte[] content = sb.toString().getBytes(Charset.forName(sqlEncoding));
+        if (Files.size(path) != content.length || !Arrays.equals(Files.readAllBytes(path), content)) {
+            beforeChange(path);
+            // recreate the file instead of writing in place, its backup may be a hard link to it
+            Files.delete(path);
+            Files.write(path, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            LOG.info(Messages.ModelExporter_log_rewrite_file.formatted(path));
+        }
     }
 
-    protected void dumpSQL(CharSequence sql, Path path) throws IOException {
-        Files.createDirectories(path.getParent());
-        try (PrintWriter outFile = new UnixPrintWriter(Files.newOutputStream(path,
-                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), sqlEncoding)) {
-            outFile.println(sql);
+    private void beforeChange(Path file) throws IOException {
+        if (journal != null) {
+            journal.backup(file);
         }
     }
 
@@ -320,6 +430,9 @@ public abstract class AbstractModelExporter implements IModelExporter {
      */
     protected void deleteStatementIfExists(IStatement st) throws IOException {
         Path toDelete = outDir.resolve(getRelativeFilePath(st));
+        if (Files.exists(toDelete)) {
+            beforeChange(toDelete);
+        }
 
         if (Files.deleteIfExists(toDelete)) {
             var msg = Messages.ModelExporter_log_delete_file.formatted(toDelete, st.getStatementType(), st.getName());
@@ -29,8 +29,6 @@ import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 /**
  * Abstract base class for database object override exporters.
@@ -82,8 +80,9 @@ public abstract class AbstractOverridesModelExporter extends AbstractModelExport
             throw new NotDirectoryException(outDir.toString());
         }
 
-        List<IStatement> list = oldDb.getDescendants().collect(Collectors.toList());
+        Map<IStatement, IStatement> replaced = new IdentityHashMap<>();
         Set<Path> paths = new HashSet<>();
+        Map<Path, IStatement> stale = new HashMap<>();
 
         for (TreeElement el : changeList) {
             if (el.getSide() == DiffSide.BOTH) {
@@ -94,21 +93,16 @@ public abstract class AbstractOverridesModelExporter extends AbstractModelExport
                     default:
                         var stInNew = el.getStatement(newDb);
                         var stInOld = el.getStatement(oldDb);
-                        list.set(list.indexOf(stInOld), stInNew);
+                        replaced.put(stInOld, stInNew);
                         paths.add(getRelativeFilePath(stInNew));
-                        deleteStatementIfExists(stInNew);
+                        addStale(stInNew, stale);
                 }
             }
         }
 
-        Map<Path, StringBuilder> dumps = new HashMap<>();
-        list.stream()
-                .filter(st -> paths.contains(getRelativeFilePath(st)))
-                .forEach(st -> dumpStatement(st, dumps));
-
-        for (Entry<Path, StringBuilder> dump : dumps.entrySet()) {
-            dumpSQL(dump.getValue(), dump.getKey());
-        }
+        writeFiles(oldDb.getDescendants()
+                .<IStatement>map(st -> replaced.getOrDefault(st, st))
+                .filter(st -> paths.contains(getRelativeFilePath(st))), null, stale);
     }
 
     @Override
@@ -47,12 +47,35 @@ import static org.pgcodekeeper.core.database.base.loader.AbstractProjectLoader.O
  * Handles partial and full updates of database projects with safe backup and restore functionality.
  * Supports overrides-only updates and manages temporary directories for safe atomic operations.
  * <p>
+ * Before a partial update the project is backed up according to {@link BackupMode}.
+ * Full update moves the project directories aside and needs no copies.
+ * <p>
  * Subclasses must implement database-specific methods for directory structure and model exporters.
  */
 public abstract class AbstractProjectUpdater implements IProjectUpdater {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractProjectUpdater.class);
 
+    /**
+     * Backup of the project made before a partial update.
+     */
+    public enum BackupMode {
+        /**
+         * Copy all project directories, restored by moving them back
+         */
+        COPY,
+        /**
+         * Hard link all project files, copy them if the file system does not support links;
+         * restored by moving the directories back
+         */
+        HARD_LINK,
+        /**
+         * Copy only the files changed by the exporter before their first change;
+         * restored by moving the originals back and the created files aside, all or nothing
+         */
+        JOURNAL
+    }
+
     private final IDatabase dbNew;
     private final IDatabase dbOld;
     private final Collection<TreeElement> changedObjects;
@@ -62,6 +85,8 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
 
     protected final ISettings settings;
 
+    private BackupMode backupMode = BackupMode.JOURNAL;
+
     /**
      * Creates a new project updater with specified configuration.
      *
@@ -84,6 +109,15 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
         this.settings = settings;
     }
 
+    /**
+     * Sets the backup made before a partial update, {@link BackupMode#JOURNAL} by default.
+     *
+     * @param backupMode backup mode
+     */
+    public void setBackupMode(BackupMode backupMode) {
+        this.backupMode = backupMode;
+    }
+
     /**
      * Creates a model exporter for full database export.
      *
@@ -132,12 +166,13 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
         boolean caughtProcessingEx = false;
         try (TempDir tmp = new TempDir(dirExport, "tmp-export")) { //$NON-NLS-1$
             Path dirTmp = tmp.get();
+            FileJournal journal = backupMode == BackupMode.JOURNAL ? new FileJournal(dirExport, dirTmp) : null;
 
             try {
-                updatePartialInternal(dirTmp);
+                updatePartialInternal(dirTmp, journal);
             } catch (Exception ex) {
                 caughtProcessingEx = true;
-                tryToRestore(dirTmp, ex);
+                tryToRestore(dirTmp, journal, ex);
                 throw new IOException(
                         Messages.ProjectUpdater_error_update.formatted(ex.getLocalizedMessage()), ex);
             }
@@ -150,10 +185,14 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
         }
     }
 
-    private void tryToRestore(Path dirTmp, Exception ex) throws IOException {
+    private void tryToRestore(Path dirTmp, FileJournal journal, Exception ex) throws IOException {
         LOG.error(Messages.ProjectUpdater_log_update_err_restore_proj, ex);
         try {
-            restoreProjectDir(dirTmp);
+            if (journal != null) {
+                journal.restore();
+            } else {
+                restoreProjectDir(dirTmp);
+            }
         } catch (Exception exRestore) {
             LOG.error(Messages.ProjectUpdater_log_restoring_err, exRestore);
             IOException exNew = new IOException(Messages.ProjectUpdater_error_backup_restore, exRestore);
@@ -162,20 +201,26 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
         }
     }
 
-    private void updatePartialInternal(Path dirTmp) throws IOException, PgCodeKeeperException {
+    private void updatePartialInternal(Path dirTmp, FileJournal journal) throws IOException, PgCodeKeeperException {
         LOG.info(Messages.ProjectUpdater_log_start_partial_update);
+        AbstractModelExporter exporter;
         if (overridesOnly) {
-            updateFolder(dirTmp, OVERRIDES_DIR);
-            createOverridesModelExporter(dirExport.resolve(OVERRIDES_DIR),
-                    dbNew, dbOld, changedObjects, encoding).exportPartial();
-            return;
-        }
-
-        for (String subdirName : listProjectDirs(dirExport, dirTmp)) {
-            updateFolder(dirTmp, subdirName);
+            if (journal == null) {
+                updateFolder(dirTmp, OVERRIDES_DIR);
+            }
+            exporter = createOverridesModelExporter(dirExport.resolve(OVERRIDES_DIR),
+                    dbNew, dbOld, changedObjects, encoding);
+        } else {
+            if (journal == null) {
+                for (String subdirName : listProjectDirs(dirExport, dirTmp)) {
+                    updateFolder(dirTmp, subdirName);
+                }
+            }
+            exporter = createModelExporter(dirExport, dbNew, dbOld, changedObjects, encoding);
         }
 
-        createModelExporter(dirExport, dbNew, dbOld, changedObjects, encoding).exportPartial();
+        exporter.setJournal(journal);
+        exporter.exportPartial();
     }
 
     private void updateFolder(Path dirTmp, String folder) throws IOException {
@@ -184,6 +229,9 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
             final Path targetPath = dirTmp.resolve(folder);
 
             Files.walkFileTree(sourcePath, new SimpleFileVisitor<>() {
+
+                private boolean link = backupMode == BackupMode.HARD_LINK;
+
                 @Override
                 public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
                         throws IOException {
@@ -194,7 +242,17 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
                 @Override
                 public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
                         throws IOException {
-                    Files.copy(file, targetPath.resolve(sourcePath.relativize(file)));
+                    Path target = targetPath.resolve(sourcePath.relativize(file));
+                    if (link) {
+                        try {
+                            Files.createLink(target, file);
+                            return FileVisitResult.CONTINUE;
+                        } catch (UnsupportedOperationException | FileSystemException e) {
+                            LOG.debug(Messages.ProjectUpdater_log_hard_links_unsupported, e);
+                            link = false;
+                        }
+                    }
+                    Files.copy(file, target);
                     return FileVisitResult.CONTINUE;
                 }
             });
@@ -218,7 +276,7 @@ public abstract class AbstractProjectUpdater implements IProjectUpdater {
             } catch (Exception ex) {
                 caughtProcessingEx = true;
 
-                tryToRestore(dirTmp, ex);
+                tryToRestore(dirTmp, null, ex);
                 throw new IOException(
                         Messages.ProjectUpdater_error_update.formatted(ex.getLocalizedMessage()), ex);
             }
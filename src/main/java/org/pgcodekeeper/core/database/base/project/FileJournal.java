@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.project;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Journal of project files changed by a model exporter, used to restore the project after a failed update.
+ * <p>
+ * Before the first change of a file its original is copied to the backup directory,
+ * files and directories that did not exist are remembered. On restore the originals are moved back
+ * and the created files and directories are moved aside into the backup directory. Changes may be journaled
+ * from parallel threads, but all of them must be finished before the restore; changes journaled after it
+ * are rejected.
+ * <p>
+ * A file system cannot replace a set of files at once, so the restore is made all or nothing instead:
+ * each step is an atomic move that can be undone, and if a step fails the steps already done are undone
+ * in reverse order, leaving the project as it was after the failed update.
+ */
+final class FileJournal {
+
+    private final Path root;
+    private final Path backupDir;
+
+    /**
+     * Changed files, true for files that existed before the change
+     */
+    private final Map<Path, Boolean> files = new ConcurrentHashMap<>();
+    private final Set<Path> createdDirs = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean restored;
+
+    /**
+     * @param root      project directory
+     * @param backupDir directory for the originals of the changed files
+     */
+    FileJournal(Path root, Path backupDir) {
+        this.root = root;
+        this.backupDir = backupDir;
+    }
+
+    /**
+     * Saves the file before its change, only the first call for a file has effect.
+     *
+     * @param file project file to be created, rewritten or deleted
+     * @throws IOException           if the file cannot be copied
+     * @throws IllegalStateException if the journal is already restored
+     */
+    void backup(Path file) throws IOException {
+        if (restored) {
+            throw new IllegalStateException("File journal is already restored: " + file);
+        }
+        try {
+            files.computeIfAbsent(file, this::save);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Boolean save(Path file) {
+        try {
+            if (Files.exists(file)) {
+                Path copy = backupDir.resolve(root.relativize(file));
+                Files.createDirectories(copy.getParent());
+                Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES);
+                return Boolean.TRUE;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Path dir = file.getParent();
+        Path created = null;
+        while (dir != null && dir.startsWith(root) && !dir.equals(root) && Files.notExists(dir)) {
+            created = dir;
+            dir = dir.getParent();
+        }
+        if (created != null) {
+            createdDirs.add(created);
+        }
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Returns the changed files to their state before the first change.
+     * If some file cannot be restored, the files restored so far are returned to their changed state.
+     *
+     * @throws IOException if the files cannot be restored
+     */
+    void restore() throws IOException {
+        restored = true;
+        // the current state of the changed files, for the undo
+        Path aside = Files.createTempDirectory(backupDir, ".restore");
+        Deque<Undo> done = new ArrayDeque<>();
+        try {
+            for (var entry : files.entrySet()) {
+                Path file = entry.getKey();
+                Path saved = aside.resolve("files").resolve(root.relativize(file));
+                if (entry.getValue()) {
+                    if (Files.exists(file)) {
+                        Files.createDirectories(saved.getParent());
+                        Files.copy(file, saved, StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                    Files.createDirectories(file.getParent());
+                    Files.move(backupDir.resolve(root.relativize(file)), file,
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    done.push(new Undo(file, saved));
+                } else if (Files.exists(file)) {
+                    moveAside(file, saved, done);
+                }
+            }
+            // parents first, the moved parent takes its created subdirectories with it
+            for (Path dir : createdDirs.stream().sorted(Comparator.comparingInt(Path::getNameCount)).toList()) {
+                if (Files.exists(dir)) {
+                    // files of the directory may be moved aside already
+                    moveAside(dir, aside.resolve("dirs").resolve(root.relativize(dir)), done);
+                }
+            }
+        } catch (IOException e) {
+            undo(done, e);
+            throw e;
+        }
+    }
+
+    private static void moveAside(Path path, Path saved, Deque<Undo> done) throws IOException {
+        Files.createDirectories(saved.getParent());
+        Files.move(path, saved, StandardCopyOption.ATOMIC_MOVE);
+        done.push(new Undo(path, saved));
+    }
+
+    private static void undo(Deque<Undo> done, IOException cause) {
+        for (Undo step : done) {
+            try {
+                if (Files.exists(step.saved())) {
+                    Files.move(step.saved(), step.path(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } else {
+                    Files.deleteIfExists(step.path());
+                }
+            } catch (IOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Restore step, undone by moving the saved state back to the path or by deleting the path
+     * if it did not exist before the step
+     *
+     * @param path  restored project path
+     * @param saved state of the path before the step, may not exist
+     */
+    private record Undo(Path path, Path saved) {
+    }
+}
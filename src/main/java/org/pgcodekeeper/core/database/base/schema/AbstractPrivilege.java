@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.schema;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IPrivilege;
@@ -25,7 +27,10 @@ import org.pgcodekeeper.core.hasher.*;
  * Handles privilege operations including creation, dropping, and SQL generation
  * for different database types.
  */
-public abstract class AbstractPrivilege implements IPrivilege {
+public abstract class AbstractPrivilege implements IPrivilege, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 20072895203140820L;
 
     private final String state;
     private final String permission;
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.schema;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +45,7 @@ import org.pgcodekeeper.core.hasher.JavaHasher;
 import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.script.SQLScript;
 import org.pgcodekeeper.core.settings.ISettings;
+import org.pgcodekeeper.core.utils.Interner;
 
 /**
  * Abstract base class for all database statements and objects.
@@ -52,7 +55,10 @@ import org.pgcodekeeper.core.settings.ISettings;
  *
  * @author Alexander Levsha
  */
-public abstract class AbstractStatement implements IStatement, IHashable {
+public abstract class AbstractStatement implements IStatement, IHashable, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -233209433688148977L;
 
     protected static final String IF_EXISTS = "IF EXISTS ";
     protected static final String ALTER_TABLE = "ALTER TABLE ";
@@ -70,10 +76,10 @@ public abstract class AbstractStatement implements IStatement, IHashable {
     protected AbstractStatement parent;
 
     // 0 means not calculated yet and/or hash has been reset
-    private int hash;
+    private transient int hash;
 
     protected AbstractStatement(String name) {
-        this.name = name;
+        this.name = Interner.internString(name);
     }
 
     /**
@@ -317,7 +323,7 @@ public abstract class AbstractStatement implements IStatement, IHashable {
 
     @Override
     public void addDependency(ObjectReference dep) {
-        deps.add(dep);
+        deps.add(dep.intern());
     }
 
     @Override
@@ -374,7 +380,7 @@ public abstract class AbstractStatement implements IStatement, IHashable {
 
     @Override
     public void setOwner(String owner) {
-        this.owner = owner;
+        this.owner = Interner.internString(owner);
         resetHash();
     }
 
@@ -21,6 +21,7 @@ import java.util.function.UnaryOperator;
 
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.*;
+import org.pgcodekeeper.core.utils.Interner;
 
 /**
  * Represents a function argument with its mode, name, data type, and default
@@ -44,8 +45,8 @@ public class Argument implements IArgument, Serializable, IHashable {
 
     public Argument(ArgMode mode, String name, String dataType) {
         this.mode = mode;
-        this.name = (name != null && name.isEmpty()) ? null : name;
-        this.dataType = dataType;
+        this.name = (name != null && name.isEmpty()) ? null : Interner.internString(name);
+        this.dataType = Interner.internString(dataType);
     }
 
     @Override
@@ -15,13 +15,20 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.schema;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
 
 /**
  * Metadata container for database statements.
  * Stores additional information about statements including location, author, and library information.
  */
-public class StatementMeta {
+public class StatementMeta implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3926362666423554173L;
+
     private ObjectLocation location;
     private String author;
     private String libName;
@@ -16,6 +16,9 @@
 package org.pgcodekeeper.core.database.base.schema.meta;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.ICast.CastContext;
@@ -25,10 +28,20 @@ import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
  * Container for database metadata objects organized by type and schema.
  * Provides efficient lookup and storage of functions, operators, relations, constraints,
  * casts, and composite types from database schemas.
+ * <p>
+ * System objects are not copied into the container: they are looked up in the shared
+ * {@link SystemMetaObjects} and override user objects with the same name,
+ * as if they were added after them. Schemas having both user and system objects
+ * are merged on the first lookup.
+ * <p>
+ * After all objects are added, lookups are safe to use from several threads.
  */
 public class MetaContainer implements IMetaContainer {
 
-    private final List<ICast> casts = new ArrayList<>();
+    /**
+     * Targets of implicit casts by source type
+     */
+    private final Map<String, Set<String>> implicitCasts = new HashMap<>();
 
     /**
      * Functions grouped by schema name
@@ -55,6 +68,21 @@ public class MetaContainer implements IMetaContainer {
      */
     private final Map<String, Map<String, ICompositeType>> types = new LinkedHashMap<>();
 
+    private SystemMetaObjects systemObjects = SystemMetaObjects.EMPTY;
+
+    /**
+     * User and system objects of schemas containing both, merged on the first lookup
+     */
+    private final ConcurrentMap<String, Map<String, IFunction>> mergedFunctions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, IOperator>> mergedOperators = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, IRelation>> mergedRelations = new ConcurrentHashMap<>();
+
+    /**
+     * Overloads grouped by schema name and bare name, built on the first lookup
+     */
+    private final ConcurrentMap<String, Map<String, List<IFunction>>> functionsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, List<IOperator>>> operatorsByName = new ConcurrentHashMap<>();
+
     /**
      * Adds a statement to the appropriate collection based on its type.
      *
@@ -63,18 +91,21 @@ public class MetaContainer implements IMetaContainer {
     public void addStatement(IStatement st) {
         if (st instanceof IFunction f) {
             functions.computeIfAbsent(f.getSchemaName(), e -> new LinkedHashMap<>()).put(f.getName(), f);
+            invalidate(f.getSchemaName(), mergedFunctions, functionsByName);
             return;
         }
         if (st instanceof ICast cast && cast.getContext() == CastContext.IMPLICIT) {
-            casts.add(cast);
+            implicitCasts.computeIfAbsent(cast.getSource(), e -> new HashSet<>()).add(cast.getTarget());
             return;
         }
         if (st instanceof IOperator oper) {
             operators.computeIfAbsent(oper.getSchemaName(), e -> new LinkedHashMap<>()).put(oper.getName(), oper);
+            invalidate(oper.getSchemaName(), mergedOperators, operatorsByName);
             return;
         }
         if (st instanceof IRelation rel) {
             relations.computeIfAbsent(rel.getSchemaName(), e -> new LinkedHashMap<>()).put(rel.getName(), rel);
+            invalidate(rel.getSchemaName(), mergedRelations, null);
             return;
         }
         if (st instanceof IConstraintPk con) {
@@ -89,41 +120,143 @@ public class MetaContainer implements IMetaContainer {
         }
     }
 
+    /**
+     * Sets system objects of this container. They are shared and are not copied.
+     *
+     * @param system system objects
+     */
+    void addSystemObjects(SystemMetaObjects system) {
+        this.systemObjects = system;
+        mergedFunctions.clear();
+        mergedOperators.clear();
+        mergedRelations.clear();
+        functionsByName.clear();
+        operatorsByName.clear();
+    }
+
+    private static void invalidate(String schemaName, Map<String, ?> merged, Map<String, ?> byName) {
+        if (schemaName == null) {
+            return;
+        }
+        merged.remove(schemaName);
+        if (byName != null) {
+            byName.remove(schemaName);
+        }
+    }
+
+    private Map<String, ? extends IFunction> getSchemaFunctions(String schemaName) {
+        return getSchemaMap(functions, mergedFunctions, schemaName, systemObjects::getFunctions);
+    }
+
+    private Map<String, ? extends IOperator> getSchemaOperators(String schemaName) {
+        return getSchemaMap(operators, mergedOperators, schemaName, systemObjects::getOperators);
+    }
+
+    private Map<String, ? extends IRelation> getSchemaRelations(String schemaName) {
+        return getSchemaMap(relations, mergedRelations, schemaName, systemObjects::getRelations);
+    }
+
+    private static <T extends IStatement> Map<String, ? extends T> getSchemaMap(Map<String, Map<String, T>> user,
+            ConcurrentMap<String, Map<String, T>> merged, String schemaName,
+            Function<String, Map<String, ? extends T>> system) {
+        Map<String, T> userMap = user.getOrDefault(schemaName, Collections.emptyMap());
+        if (schemaName == null) {
+            return userMap;
+        }
+        Map<String, ? extends T> systemMap = system.apply(schemaName);
+        if (userMap.isEmpty()) {
+            return systemMap;
+        }
+        if (systemMap.isEmpty()) {
+            return userMap;
+        }
+        return merged.computeIfAbsent(schemaName, k -> {
+            Map<String, T> map = new LinkedHashMap<>(userMap);
+            map.putAll(systemMap);
+            return Collections.unmodifiableMap(map);
+        });
+    }
+
+    private static <T extends IStatement> List<T> getOverloads(String schemaName, String name,
+            ConcurrentMap<String, Map<String, List<T>>> byName,
+            Function<String, Map<String, ? extends T>> schemaObjects,
+            Function<String, Map<String, ? extends List<? extends T>>> systemByName,
+            Map<String, ? extends Map<String, T>> user) {
+        Map<String, ? extends List<? extends T>> index;
+        if (schemaName == null) {
+            index = groupByBareName(schemaObjects.apply(null).values());
+        } else if (!user.containsKey(schemaName)) {
+            index = systemByName.apply(schemaName);
+        } else {
+            index = byName.computeIfAbsent(schemaName, k -> groupByBareName(schemaObjects.apply(k).values()));
+        }
+        List<? extends T> overloads = index.get(name);
+        return overloads == null ? Collections.emptyList() : Collections.unmodifiableList(overloads);
+    }
+
+    /**
+     * Groups statements by their bare names keeping their order.
+     *
+     * @param statements statements to group
+     * @return unmodifiable map of unmodifiable lists of statements by bare name
+     */
+    static <T extends IStatement> Map<String, List<T>> groupByBareName(Collection<? extends T> statements) {
+        Map<String, List<T>> map = new HashMap<>();
+        for (T st : statements) {
+            map.computeIfAbsent(st.getBareName(), k -> new ArrayList<>(1)).add(st);
+        }
+        map.replaceAll((k, v) -> List.copyOf(v));
+        return Collections.unmodifiableMap(map);
+    }
+
     @Override
     public boolean containsCastImplicit(String source, String target) {
-        for (ICast cast : casts) {
-            if (source.equals(cast.getSource())
-                    && target.equals(cast.getTarget())) {
-                return true;
-            }
-        }
-        return false;
+        Set<String> targets = implicitCasts.get(source);
+        return (targets != null && targets.contains(target))
+                || systemObjects.containsCastImplicit(source, target);
     }
 
     @Override
     public IRelation findRelation(String schemaName, String relationName) {
-        return relations.getOrDefault(schemaName, Collections.emptyMap()).get(relationName);
+        return getSchemaRelations(schemaName).get(relationName);
     }
 
     @Override
     public Map<String, Map<String, IRelation>> getRelations() {
-        return Collections.unmodifiableMap(relations);
+        Map<String, Map<String, IRelation>> all = new LinkedHashMap<>();
+        for (String schemaName : relations.keySet()) {
+            all.put(schemaName, Collections.unmodifiableMap(getSchemaRelations(schemaName)));
+        }
+        for (String schemaName : systemObjects.getSchemaNames()) {
+            if (!all.containsKey(schemaName)) {
+                Map<String, ? extends IRelation> schemaRelations = getSchemaRelations(schemaName);
+                if (!schemaRelations.isEmpty()) {
+                    all.put(schemaName, Collections.unmodifiableMap(schemaRelations));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(all);
     }
 
     @Override
     public IFunction findFunction(String schemaName, String functionName) {
-        return functions.getOrDefault(schemaName, Collections.emptyMap()).get(functionName);
+        return getSchemaFunctions(schemaName).get(functionName);
     }
 
     @Override
     public Collection<IFunction> availableFunctions(String schemaName) {
-        return Collections.unmodifiableCollection(functions
-                .getOrDefault(schemaName, Collections.emptyMap()).values());
+        return Collections.unmodifiableCollection(getSchemaFunctions(schemaName).values());
+    }
+
+    @Override
+    public Collection<IFunction> availableFunctions(String schemaName, String functionName) {
+        return getOverloads(schemaName, functionName, functionsByName, this::getSchemaFunctions,
+                systemObjects::getFunctionsByName, functions);
     }
 
     @Override
     public IOperator findOperator(String schemaName, String operatorName) {
-        return operators.getOrDefault(schemaName, Collections.emptyMap()).get(operatorName);
+        return getSchemaOperators(schemaName).get(operatorName);
     }
 
     @Override
@@ -133,8 +266,13 @@ public class MetaContainer implements IMetaContainer {
 
     @Override
     public Collection<IOperator> availableOperators(String schemaName) {
-        return Collections.unmodifiableCollection(operators
-                .getOrDefault(schemaName, Collections.emptyMap()).values());
+        return Collections.unmodifiableCollection(getSchemaOperators(schemaName).values());
+    }
+
+    @Override
+    public Collection<IOperator> availableOperators(String schemaName, String operatorName) {
+        return getOverloads(schemaName, operatorName, operatorsByName, this::getSchemaOperators,
+                systemObjects::getOperatorsByName, operators);
     }
 
     @Override
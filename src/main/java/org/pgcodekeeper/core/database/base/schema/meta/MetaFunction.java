@@ -145,6 +145,15 @@ public final class MetaFunction extends MetaStatement implements IFunction {
         orderBy.add(type);
     }
 
+    /**
+     * Returns the ORDER BY arguments of aggregate functions.
+     *
+     * @return unmodifiable list of order by arguments
+     */
+    public List<Argument> getOrderBy() {
+        return orderBy == null ? Collections.emptyList() : Collections.unmodifiableList(orderBy);
+    }
+
     @Override
     public String getReturns() {
         return returns;
@@ -16,6 +16,8 @@
 package org.pgcodekeeper.core.database.base.schema.meta;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -26,51 +28,27 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Storage and management system for database metadata objects.
- * Handles serialization, deserialization, and caching of system objects
- * for different PostgreSQL versions.
+ * Collects system objects read from a database into resource files
+ * and loads and caches them for different PostgreSQL versions.
+ * <p>
+ * Resource files use the compact binary format of {@link SystemMetaObjects}:
+ * only the header is read on load, statements are decoded by schema when they are looked up.
  */
-public final class MetaStorage implements Serializable {
+public final class MetaStorage {
 
     private static final Logger LOG = LoggerFactory.getLogger(MetaStorage.class);
 
-    @Serial
-    private static final long serialVersionUID = -277642492286966398L;
-
-    private static final String FILTER_PATTERN = """
-            maxdepth=7;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaStorage;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaCast;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaContainer;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaFunction;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaOperator;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaRelation;\
-            org.pgcodekeeper.core.database.base.schema.meta.MetaStatement;\
-            org.pgcodekeeper.core.database.api.schema.ObjectLocation;\
-            org.pgcodekeeper.core.database.api.schema.ObjectLocation$LocationType;\
-            org.pgcodekeeper.core.database.api.schema.ObjectReference;\
-            org.pgcodekeeper.core.database.api.schema.DbObjType;\
-            org.pgcodekeeper.core.database.api.schema.ArgMode;\
-            org.pgcodekeeper.core.database.api.schema.ICast$CastContext;\
-            org.pgcodekeeper.core.database.base.schema.Argument;\
-            org.pgcodekeeper.core.DangerStatement;\
-            org.pgcodekeeper.core.ContextLocation;\
-            org.pgcodekeeper.core.utils.Pair;\
-            java.util.ArrayList;\
-            java.util.Map$Entry;\
-            java.util.HashMap;\
-            java.util.LinkedHashMap;\
-            java.lang.Object;\
-            java.lang.Enum;\
-            !*""";
-
-    private static final ObjectInputFilter DESERIALIZATION_FILTER = ObjectInputFilter.Config.createFilter(FILTER_PATTERN);
-
     /**
-     * Base file name for serialized system objects.
+     * Base file name for system objects resources.
      */
     public static final String FILE_NAME = "SYSTEM_OBJECTS_";
 
-    private static final ConcurrentMap<ISupportedVersion, MetaStorage> STORAGE_CACHE = new ConcurrentHashMap<>();
+    /**
+     * Extension of system objects resources.
+     */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final ConcurrentMap<ISupportedVersion, SystemMetaObjects> STORAGE_CACHE = new ConcurrentHashMap<>();
 
     private final List<MetaStatement> definitions = new ArrayList<>();
 
@@ -84,49 +62,39 @@ public final class MetaStorage implements Serializable {
     }
 
     /**
-     * Returns system objects for the specified PostgreSQL version.
+     * Writes the added statements to a system objects resource file.
      *
-     * @param version the PostgreSQL version
-     * @return list of system metadata objects
+     * @param path the output file path
+     * @throws IOException if the file cannot be written
      */
-    static List<MetaStatement> getSystemObjects(ISupportedVersion version) {
-        MetaStorage storage = getObjectsFromResources(version);
-        return storage != null ? storage.definitions : Collections.emptyList();
-    }
-
-    private static MetaStorage getObjectsFromResources(ISupportedVersion ver) {
-        MetaStorage db = STORAGE_CACHE.get(ver);
-        if (db != null) {
-            return db;
+    public void write(Path path) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
         }
-
-        InputStream inputStream = MetaStorage.class.getResourceAsStream(FILE_NAME + ver + ".ser");
-
-        MetaStorage object = deserialize(inputStream);
-        if (object != null) {
-            STORAGE_CACHE.putIfAbsent(ver, object);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            SystemMetaObjects.write(definitions, out);
         }
-
-        return object;
     }
 
     /**
-     * Deserializes object
+     * Returns system objects for the specified PostgreSQL version.
      *
-     * @param inputStream - stream of serialized file
-     * @return deserialized object or null if not found
+     * @param version the PostgreSQL version
+     * @return system metadata objects, empty if there are none for this version
      */
-    private static MetaStorage deserialize(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
+    static SystemMetaObjects getSystemObjects(ISupportedVersion version) {
+        return STORAGE_CACHE.computeIfAbsent(version, MetaStorage::getObjectsFromResources);
+    }
 
-        try (ObjectInputStream oin = new ObjectInputStream(inputStream)) {
-            oin.setObjectInputFilter(DESERIALIZATION_FILTER);
-            return (MetaStorage) oin.readObject();
-        } catch (ClassNotFoundException | IOException e) {
+    private static SystemMetaObjects getObjectsFromResources(ISupportedVersion ver) {
+        try (InputStream inputStream = MetaStorage.class.getResourceAsStream(FILE_NAME + ver + FILE_EXTENSION)) {
+            if (inputStream != null) {
+                return SystemMetaObjects.read(inputStream);
+            }
+        } catch (IOException e) {
             LOG.debug(Messages.Utils_log_err_deserialize, e);
         }
-        return null;
+        return SystemMetaObjects.EMPTY;
     }
 }
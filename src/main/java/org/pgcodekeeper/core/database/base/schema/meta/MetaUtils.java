@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.api.jdbc.ISupportedVersion;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation.LocationType;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
+import org.pgcodekeeper.core.utils.Interner;
 import org.pgcodekeeper.core.utils.Pair;
 
 /**
@@ -45,7 +46,7 @@ public final class MetaUtils {
                 .forEach(tree::addStatement);
 
         var v = version == null ? db.getVersion() : version;
-        MetaStorage.getSystemObjects(v).forEach(tree::addStatement);
+        tree.addSystemObjects(MetaStorage.getSystemObjects(v));
 
         return tree;
     }
@@ -156,7 +157,10 @@ public final class MetaUtils {
                                       String name, List<? extends Pair<String, String>> columns) {
         IRelation rel = meta.findRelation(schemaName, name);
         if (rel instanceof MetaRelation metaRel) {
-            metaRel.addColumns(columns);
+            metaRel.addColumns(columns.stream()
+                    .map(col -> new Pair<>(Interner.internString(col.getFirst()),
+                            Interner.internString(col.getSecond())))
+                    .toList());
         }
     }
 
@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.schema.meta;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.pgcodekeeper.core.database.api.schema.*;
+import org.pgcodekeeper.core.database.api.schema.ICast.CastContext;
+import org.pgcodekeeper.core.database.base.schema.Argument;
+import org.pgcodekeeper.core.utils.Pair;
+
+/**
+ * System objects stored in the compact binary format of {@link MetaStorage} resources.
+ * <p>
+ * The file consists of a header, a table of distinct strings, casts and a directory
+ * of schemas followed by the data sections. Every schema has separate sections
+ * for relations, functions and operators, which are decoded only on the first request
+ * and then cached, so objects of schemas and kinds that are never looked up
+ * are not materialized. All strings are shared through the string table,
+ * where each string is stored as its length in bytes followed by UTF-8 bytes.
+ * <p>
+ * Decoded statements and their indexes are immutable and shared by all containers
+ * of the same version. Instances are thread-safe.
+ */
+final class SystemMetaObjects {
+
+    /**
+     * "PCKM"
+     */
+    private static final int MAGIC = 0x50434B4D;
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int RELATIONS = 0;
+    private static final int FUNCTIONS = 1;
+    private static final int OPERATORS = 2;
+    private static final int SECTION_COUNT = 3;
+
+    static final SystemMetaObjects EMPTY = new SystemMetaObjects(
+            new String[0], Collections.emptyList(), Collections.emptyMap(), new byte[0]);
+
+    private final String[] strings;
+    private final List<MetaCast> casts;
+    /**
+     * Targets of implicit casts by source type
+     */
+    private final Map<String, Set<String>> implicitCasts = new HashMap<>();
+    /**
+     * Offset and length of each section by schema name
+     */
+    private final Map<String, int[]> directory;
+    private final byte[] data;
+
+    private final ConcurrentMap<String, Map<String, MetaRelation>> relations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, MetaFunction>> functions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, MetaOperator>> operators = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Map<String, List<MetaFunction>>> functionsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, List<MetaOperator>>> operatorsByName = new ConcurrentHashMap<>();
+
+    private SystemMetaObjects(String[] strings, List<MetaCast> casts, Map<String, int[]> directory, byte[] data) {
+        this.strings = strings;
+        this.casts = casts;
+        this.directory = directory;
+        this.data = data;
+        for (MetaCast cast : casts) {
+            if (cast.getContext() == CastContext.IMPLICIT) {
+                implicitCasts.computeIfAbsent(cast.getSource(), k -> new HashSet<>()).add(cast.getTarget());
+            }
+        }
+    }
+
+    /**
+     * @return names of schemas containing system objects
+     */
+    Set<String> getSchemaNames() {
+        return directory.keySet();
+    }
+
+    List<MetaCast> getCasts() {
+        return casts;
+    }
+
+    boolean containsCastImplicit(String source, String target) {
+        Set<String> targets = implicitCasts.get(source);
+        return targets != null && targets.contains(target);
+    }
+
+    /**
+     * @param schemaName schema name
+     * @return unmodifiable map of relations of the schema by name
+     */
+    Map<String, MetaRelation> getRelations(String schemaName) {
+        return getSection(relations, schemaName, RELATIONS, this::readRelation);
+    }
+
+    /**
+     * @param schemaName schema name
+     * @return unmodifiable map of functions of the schema by signature
+     */
+    Map<String, MetaFunction> getFunctions(String schemaName) {
+        return getSection(functions, schemaName, FUNCTIONS, this::readFunction);
+    }
+
+    /**
+     * @param schemaName schema name
+     * @return unmodifiable map of operators of the schema by signature
+     */
+    Map<String, MetaOperator> getOperators(String schemaName) {
+        return getSection(operators, schemaName, OPERATORS, this::readOperator);
+    }
+
+    /**
+     * @param schemaName schema name
+     * @return unmodifiable map of function overloads of the schema by bare name
+     */
+    Map<String, List<MetaFunction>> getFunctionsByName(String schemaName) {
+        if (!directory.containsKey(schemaName)) {
+            return Collections.emptyMap();
+        }
+        return functionsByName.computeIfAbsent(schemaName,
+                name -> MetaContainer.groupByBareName(getFunctions(name).values()));
+    }
+
+    /**
+     * @param schemaName schema name
+     * @return unmodifiable map of operator overloads of the schema by bare name
+     */
+    Map<String, List<MetaOperator>> getOperatorsByName(String schemaName) {
+        if (!directory.containsKey(schemaName)) {
+            return Collections.emptyMap();
+        }
+        return operatorsByName.computeIfAbsent(schemaName,
+                name -> MetaContainer.groupByBareName(getOperators(name).values()));
+    }
+
+    private <T extends MetaStatement> Map<String, T> getSection(ConcurrentMap<String, Map<String, T>> cache,
+            String schemaName, int section, StatementReader<T> reader) {
+        if (!directory.containsKey(schemaName)) {
+            return Collections.emptyMap();
+        }
+        return cache.computeIfAbsent(schemaName, name -> readSection(name, section, reader));
+    }
+
+    private <T extends MetaStatement> Map<String, T> readSection(String schemaName, int section,
+            StatementReader<T> reader) {
+        int[] sections = directory.get(schemaName);
+        if (sections[section * 2 + 1] == 0) {
+            return Collections.emptyMap();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(data, sections[section * 2], sections[section * 2 + 1]))) {
+            int count = in.readInt();
+            Map<String, T> statements = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                T st = reader.read(in, schemaName);
+                statements.put(st.getName(), st);
+            }
+            return Collections.unmodifiableMap(statements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MetaRelation readRelation(DataInputStream in, String schemaName) throws IOException {
+        String name = readString(in);
+        DbObjType type = DbObjType.valueOf(readString(in));
+        MetaRelation relation = new MetaRelation(schemaName, name, type);
+        int columnCount = in.readInt();
+        if (columnCount >= 0) {
+            List<Pair<String, String>> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                columns.add(new Pair<>(readString(in), readString(in)));
+            }
+            relation.addColumns(columns);
+        }
+        return relation;
+    }
+
+    private MetaFunction readFunction(DataInputStream in, String schemaName) throws IOException {
+        MetaFunction function = new MetaFunction(schemaName, readString(in), readString(in));
+        function.setReturns(readString(in));
+        function.setSetof(in.readBoolean());
+
+        int argCount = in.readInt();
+        for (int i = 0; i < argCount; i++) {
+            function.addArgument(readArgument(in));
+        }
+        int orderByCount = in.readInt();
+        for (int i = 0; i < orderByCount; i++) {
+            function.addOrderBy(readArgument(in));
+        }
+        int columnCount = in.readInt();
+        for (int i = 0; i < columnCount; i++) {
+            function.addReturnsColumn(readString(in), readString(in));
+        }
+        return function;
+    }
+
+    private Argument readArgument(DataInputStream in) throws IOException {
+        ArgMode mode = ArgMode.values()[in.readByte()];
+        Argument arg = new Argument(mode, readString(in), readString(in));
+        arg.setDefaultExpression(readString(in));
+        arg.setReadOnly(in.readBoolean());
+        return arg;
+    }
+
+    private MetaOperator readOperator(DataInputStream in, String schemaName) throws IOException {
+        MetaOperator operator = new MetaOperator(schemaName, readString(in));
+        operator.setLeftArg(readString(in));
+        operator.setRightArg(readString(in));
+        operator.setReturns(readString(in));
+        return operator;
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int index = in.readInt();
+        return index < 0 ? null : strings[index];
+    }
+
+    /**
+     * Reads the header, strings, casts and schema directory of system objects.
+     * Statements are decoded on request.
+     *
+     * @param input stream of the file, fully read by this method
+     * @return read system objects
+     * @throws IOException if the stream cannot be read or has an unsupported format
+     */
+    static SystemMetaObjects read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported system objects format");
+        }
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int castCount = in.readInt();
+        List<MetaCast> casts = new ArrayList<>(castCount);
+        CastContext[] contexts = CastContext.values();
+        for (int i = 0; i < castCount; i++) {
+            casts.add(new MetaCast(strings[in.readInt()], strings[in.readInt()], contexts[in.readByte()]));
+        }
+
+        int schemaCount = in.readInt();
+        Map<String, int[]> directory = new LinkedHashMap<>();
+        for (int i = 0; i < schemaCount; i++) {
+            String schemaName = strings[in.readInt()];
+            int[] sections = new int[SECTION_COUNT * 2];
+            for (int j = 0; j < sections.length; j++) {
+                sections[j] = in.readInt();
+            }
+            directory.put(schemaName, sections);
+        }
+
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new SystemMetaObjects(strings, Collections.unmodifiableList(casts),
+                Collections.unmodifiableMap(directory), data);
+    }
+
+    /**
+     * Writes statements in the format read by {@link #read(InputStream)}.
+     * Supported statements are casts, relations, functions and operators.
+     *
+     * @param definitions statements to write
+     * @param output      target stream
+     * @throws IOException if the stream cannot be written
+     */
+    static void write(Collection<MetaStatement> definitions, OutputStream output) throws IOException {
+        new Writer().write(definitions, output);
+    }
+
+    @FunctionalInterface
+    private interface StatementReader<T extends MetaStatement> {
+        T read(DataInputStream in, String schemaName) throws IOException;
+    }
+
+    private static final class Writer {
+
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        void write(Collection<MetaStatement> definitions, OutputStream output) throws IOException {
+            List<MetaCast> casts = new ArrayList<>();
+            Map<String, List<List<MetaStatement>>> schemas = new LinkedHashMap<>();
+            for (MetaStatement st : definitions) {
+                int section;
+                if (st instanceof MetaCast cast) {
+                    casts.add(cast);
+                    continue;
+                } else if (st instanceof MetaRelation) {
+                    section = RELATIONS;
+                } else if (st instanceof MetaFunction) {
+                    section = FUNCTIONS;
+                } else if (st instanceof MetaOperator) {
+                    section = OPERATORS;
+                } else {
+                    throw new IllegalArgumentException("Unsupported system object: " + st.getQualifiedName());
+                }
+                String schemaName = st.getObjectReference().schema();
+                List<List<MetaStatement>> sections = schemas.computeIfAbsent(schemaName, k -> {
+                    List<List<MetaStatement>> list = new ArrayList<>(SECTION_COUNT);
+                    for (int i = 0; i < SECTION_COUNT; i++) {
+                        list.add(new ArrayList<>());
+                    }
+                    return list;
+                });
+                sections.get(section).add(st);
+            }
+
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            DataOutputStream dataOut = new DataOutputStream(data);
+            Map<String, int[]> directory = new LinkedHashMap<>();
+            for (var schema : schemas.entrySet()) {
+                int[] offsets = new int[SECTION_COUNT * 2];
+                List<List<MetaStatement>> sections = schema.getValue();
+                for (int i = 0; i < SECTION_COUNT; i++) {
+                    List<MetaStatement> statements = sections.get(i);
+                    if (statements.isEmpty()) {
+                        continue;
+                    }
+                    offsets[i * 2] = dataOut.size();
+                    dataOut.writeInt(statements.size());
+                    for (MetaStatement st : statements) {
+                        writeStatement(dataOut, st);
+                    }
+                    offsets[i * 2 + 1] = dataOut.size() - offsets[i * 2];
+                }
+                directory.put(schema.getKey(), offsets);
+            }
+            dataOut.flush();
+
+            // string indexes must be complete before the header is written
+            for (MetaCast cast : casts) {
+                index(cast.getSource());
+                index(cast.getTarget());
+            }
+            directory.keySet().forEach(this::index);
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(strings.size());
+            for (String s : strings) {
+                // writeUTF is limited to 65535 bytes
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(casts.size());
+            for (MetaCast cast : casts) {
+                out.writeInt(index(cast.getSource()));
+                out.writeInt(index(cast.getTarget()));
+                out.writeByte(cast.getContext().ordinal());
+            }
+            out.writeInt(directory.size());
+            for (var schema : directory.entrySet()) {
+                out.writeInt(index(schema.getKey()));
+                for (int value : schema.getValue()) {
+                    out.writeInt(value);
+                }
+            }
+            out.writeInt(data.size());
+            data.writeTo(out);
+            out.flush();
+        }
+
+        private void writeStatement(DataOutputStream out, MetaStatement st) throws IOException {
+            if (st instanceof MetaRelation relation) {
+                writeString(out, relation.getBareName());
+                writeString(out, relation.getStatementType().name());
+                List<Pair<String, String>> columns = relation.getRelationColumns() == null ? null
+                        : relation.getRelationColumns().toList();
+                if (columns == null) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(columns.size());
+                    for (Pair<String, String> column : columns) {
+                        writeString(out, column.getFirst());
+                        writeString(out, column.getSecond());
+                    }
+                }
+            } else if (st instanceof MetaFunction function) {
+                writeString(out, function.getObjectReference().table());
+                writeString(out, function.getBareName());
+                writeString(out, function.getReturns());
+                out.writeBoolean(function.isSetof());
+                writeArguments(out, function.getArguments());
+                writeArguments(out, function.getOrderBy());
+                Map<String, String> columns = function.getReturnsColumns();
+                out.writeInt(columns.size());
+                for (var column : columns.entrySet()) {
+                    writeString(out, column.getKey());
+                    writeString(out, column.getValue());
+                }
+            } else if (st instanceof MetaOperator operator) {
+                writeString(out, operator.getBareName());
+                writeString(out, operator.getLeftArg());
+                writeString(out, operator.getRightArg());
+                writeString(out, operator.getReturns());
+            }
+        }
+
+        private void writeArguments(DataOutputStream out, List<? extends IArgument> arguments) throws IOException {
+            out.writeInt(arguments.size());
+            for (IArgument arg : arguments) {
+                out.writeByte(arg.getMode().ordinal());
+                writeString(out, arg.getName());
+                writeString(out, arg.getDataType());
+                writeString(out, arg.getDefaultExpression());
+                out.writeBoolean(arg.isReadOnly());
+            }
+        }
+
+        private void writeString(DataOutputStream out, String s) throws IOException {
+            out.writeInt(s == null ? -1 : index(s));
+        }
+
+        private int index(String s) {
+            return stringIndexes.computeIfAbsent(s, k -> {
+                strings.add(k);
+                return strings.size() - 1;
+            });
+        }
+    }
+}
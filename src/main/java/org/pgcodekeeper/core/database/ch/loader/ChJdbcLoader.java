@@ -16,6 +16,7 @@
 package org.pgcodekeeper.core.database.ch.loader;
 
 import org.pgcodekeeper.core.database.api.jdbc.IJdbcConnector;
+import org.pgcodekeeper.core.database.api.jdbc.IJdbcReader;
 import org.pgcodekeeper.core.database.base.loader.AbstractJdbcLoader;
 import org.pgcodekeeper.core.database.ch.jdbc.*;
 import org.pgcodekeeper.core.database.ch.parser.ChParserUtils;
@@ -31,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -78,17 +80,30 @@ public final class ChJdbcLoader extends AbstractJdbcLoader<ChDatabase> {
 
             LOG.info(Messages.JdbcLoader_log_read_db_objects);
             new ChSchemasReader(this, d).read();
-            new ChFunctionsReader(this, d).read();
-            new ChRelationsReader(this).read();
-            new ChPoliciesReader(this, d).read();
-            new ChUsersReader(this, d).read();
-            new ChRolesReader(this, d).read();
+
+            List<IJdbcReader> readers = new ArrayList<>();
+            readers.add(new ChFunctionsReader(this, d));
+            readers.add(new ChRelationsReader(this));
+            readers.add(new ChPoliciesReader(this, d));
+            readers.add(new ChUsersReader(this, d));
+            readers.add(new ChRolesReader(this, d));
             if (!getSettings().isIgnorePrivileges()) {
-                new ChPrivilegesReader(this, d).read();
+                readers.add(new ChPrivilegesReader(this, d));
+            }
+
+            // ClickHouse has no transactions, so worker connections are as consistent as the main one
+            try {
+                openQueryRunner();
+                readers.forEach(IJdbcReader::prefetch);
+                for (IJdbcReader reader : readers) {
+                    reader.read();
+                }
+            } finally {
+                closeQueryRunner();
             }
 
             IMonitor.checkCancelled(getMonitor());
-            finishLoaders();
+            finishLoaders(d);
 
             LOG.info(Messages.JdbcLoader_log_succes_queried);
         } catch (InterruptedException ex) {
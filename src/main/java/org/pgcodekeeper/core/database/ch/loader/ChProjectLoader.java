@@ -19,6 +19,8 @@ import org.pgcodekeeper.core.database.base.loader.AbstractDumpLoader;
 import org.pgcodekeeper.core.database.base.loader.AbstractLibraryLoader;
 import org.pgcodekeeper.core.database.base.loader.AbstractProjectLoader;
 import org.pgcodekeeper.core.database.base.project.AbstractWorkDirs;
+import org.pgcodekeeper.core.database.ch.parser.generated.CHLexer;
+import org.pgcodekeeper.core.database.ch.parser.generated.CHParser;
 import org.pgcodekeeper.core.database.ch.project.ChWorkDirs;
 import org.pgcodekeeper.core.database.ch.schema.ChDatabase;
 import org.pgcodekeeper.core.settings.ISettings;
@@ -56,4 +58,9 @@ public class ChProjectLoader extends AbstractProjectLoader<ChDatabase> {
     protected AbstractLibraryLoader<ChDatabase> createLibraryLoader(ChDatabase db) {
         return new ChLibraryLoader(db, metaPath, new HashSet<>(), settings);
     }
+
+    @Override
+    protected String getGrammarVersion() {
+        return CHLexer._serializedATN + CHParser._serializedATN;
+    }
 }
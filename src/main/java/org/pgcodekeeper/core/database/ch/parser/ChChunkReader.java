@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.ch.parser;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.antlr.v4.runtime.Token;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader;
+import org.pgcodekeeper.core.database.ch.parser.generated.CHLexer;
+
+/**
+ * Splits ClickHouse SQL into chunks at semicolons outside of parentheses.
+ */
+public final class ChChunkReader extends AbstractChunkReader {
+
+    private int parens;
+
+    /**
+     * @param in      input stream, closed by this reader
+     * @param charset input charset
+     */
+    public ChChunkReader(InputStream in, Charset charset) {
+        this(in, charset, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param in        input stream, closed by this reader
+     * @param charset   input charset
+     * @param chunkSize number of characters after which the input is split at the next statement end
+     */
+    public ChChunkReader(InputStream in, Charset charset, int chunkSize) {
+        super(in, charset, chunkSize, CHLexer::new);
+    }
+
+    @Override
+    protected boolean isBoundary(Token token) {
+        switch (token.getType()) {
+        case CHLexer.SEMICOLON:
+            return parens == 0;
+        case CHLexer.LPAREN:
+            parens++;
+            break;
+        case CHLexer.RPAREN:
+            if (parens > 0) {
+                parens--;
+            }
+            break;
+        default:
+            break;
+        }
+        return false;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.*;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.misc.Interval;
 import org.pgcodekeeper.core.database.base.parser.*;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
 import org.pgcodekeeper.core.database.ch.parser.generated.CHLexer;
 import org.pgcodekeeper.core.database.ch.parser.generated.CHParser;
 import org.pgcodekeeper.core.database.ch.parser.statement.ChParserAbstract;
@@ -45,6 +46,9 @@ public final class ChParserUtils {
 
     private static volatile long chParserLastStart;
 
+    private static final QNameSplitter QNAME_SPLITTER = new QNameSplitter(CHLexer::new, CHLexer.IDENTIFIER, "\"`",
+            name -> new QNameParserWrapper(parseQName(name)));
+
     /**
      * Creates a ClickHouse SQL parser from string input.
      *
@@ -75,7 +79,38 @@ public final class ChParserUtils {
     }
 
     private static CHParser createParser(CharStream stream, String parsedObjectName, List<Object> errors) {
-        Lexer lexer = new CHLexer(stream);
+        return createParser(new CHLexer(stream), parsedObjectName, errors);
+    }
+
+    private static CHParser createParser(Chunk chunk, String parsedObjectName, List<Object> errors) {
+        CHLexer lexer = new CHLexer(CharStreams.fromString(chunk.text()));
+        chunk.applyTo(lexer);
+        return createParser(lexer, parsedObjectName, errors);
+    }
+
+    /**
+     * Parses the source text of a context released by an analysis launcher.
+     *
+     * @param fragment         source text of the context and its position in the source
+     * @param type             type of the released context
+     * @param parsedObjectName name of the object being parsed (for error reporting)
+     * @param errors           list to collect parsing errors
+     * @return context of the given type
+     * @throws IllegalArgumentException if contexts of the given type are not analyzed
+     */
+    public static ParserRuleContext parseFragment(Chunk fragment, Class<? extends ParserRuleContext> type,
+                                                  String parsedObjectName, List<Object> errors) {
+        CHParser parser = createParser(fragment, parsedObjectName, errors);
+        if (type == CHParser.ExprContext.class) {
+            return parser.expr();
+        }
+        if (type == CHParser.Subquery_clauseContext.class) {
+            return parser.subquery_clause();
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+    private static CHParser createParser(Lexer lexer, String parsedObjectName, List<Object> errors) {
         CHParser parser = new CHParser(new CommonTokenStream(lexer));
         ParserUtils.addErrorListener(lexer, parser, parsedObjectName, errors, 0, 0, 0);
         parser.setErrorHandler(new ChCustomAntlrErrorStrategy());
@@ -99,6 +134,10 @@ public final class ChParserUtils {
         List<Object> errors = settings.getErrors();
         IMonitor mon = settings.getMonitor();
         String charsetName = settings.getInCharsetName();
+        if (settings.isChunkedDumpParsing()) {
+            parseSqlStreamChunks(inputStream, parsedObjectName, settings, monitoringLevel, listener, antlrTasks);
+            return;
+        }
         AntlrTaskManager.submit(antlrTasks, () -> {
             IMonitor.checkCancelled(mon);
             try (InputStream stream = inputStream.getStream()) {
@@ -106,11 +145,38 @@ public final class ChParserUtils {
                         parsedObjectName, errors);
                 parser.addParseListener(new CustomParseTreeListener(
                         monitoringLevel, mon == null ? new NullMonitor() : mon));
-                return new Pair<>((CommonTokenStream) parser.getInputStream(), parser.ch_file());
+                var ctx = settings.isTwoStageParsing()
+                        ? ParserUtils.parseTwoStage(parser, CHParser::ch_file, parsedObjectName) : parser.ch_file();
+                return new Pair<>((CommonTokenStream) parser.getInputStream(), ctx);
             } catch (MonitorCancelledRuntimeException mcre) {
                 throw new InterruptedException();
             }
-        }, pair -> {
+        }, inputStream.getSize(), pair -> {
+            try {
+                listener.process(pair.getSecond(), pair.getFirst());
+            } catch (UnresolvedReferenceException ex) {
+                errors.add(CustomParserListener.handleUnresolvedReference(ex, parsedObjectName));
+            }
+        });
+    }
+
+    private static void parseSqlStreamChunks(InputStreamProvider inputStream, String parsedObjectName,
+                                             ISettings settings, int monitoringLevel, IChContextProcessor listener,
+                                             Queue<AntlrTask<?>> antlrTasks) {
+        List<Object> errors = settings.getErrors();
+        IMonitor mon = settings.getMonitor();
+        String charsetName = settings.getInCharsetName();
+        AntlrTaskManager.submitChunks(antlrTasks, () -> {
+            IMonitor.checkCancelled(mon);
+            return new ChChunkReader(inputStream.getStream(), Charset.forName(charsetName));
+        }, inputStream.getSize(), (chunk, chunkErrors) -> {
+            var parser = createParser(chunk, parsedObjectName, chunkErrors);
+            parser.addParseListener(new CustomParseTreeListener(
+                    monitoringLevel, mon == null ? new NullMonitor() : mon));
+            var ctx = settings.isTwoStageParsing()
+                    ? ParserUtils.parseTwoStage(parser, CHParser::ch_file, parsedObjectName) : parser.ch_file();
+            return new Pair<>((CommonTokenStream) parser.getInputStream(), ctx);
+        }, errors, pair -> {
             try {
                 listener.process(pair.getSecond(), pair.getFirst());
             } catch (UnresolvedReferenceException ex) {
@@ -220,7 +286,7 @@ public final class ChParserUtils {
      * @return wrapper containing parsed name components
      */
     public static QNameParserWrapper wrapParsedQName(String fullName) {
-        return new QNameParserWrapper(parseQName(fullName));
+        return QNAME_SPLITTER.parse(fullName);
     }
 
     private ChParserUtils() {
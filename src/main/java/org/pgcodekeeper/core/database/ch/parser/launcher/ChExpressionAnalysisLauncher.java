@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
+import org.pgcodekeeper.core.database.ch.parser.ChParserUtils;
 import org.pgcodekeeper.core.database.ch.parser.expr.*;
 import org.pgcodekeeper.core.database.ch.parser.generated.CHParser.ExprContext;
 
@@ -62,4 +63,9 @@ public class ChExpressionAnalysisLauncher extends AbstractAnalysisLauncher {
     private boolean isNeedNmspc() {
         return stmt instanceof ISubElement;
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return ChParserUtils::parseFragment;
+    }
 }
@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.ch.parser.ChParserUtils;
 import org.pgcodekeeper.core.database.ch.parser.expr.ChValueExpr;
 import org.pgcodekeeper.core.database.ch.parser.generated.CHParser.ExprContext;
 import org.pgcodekeeper.core.database.ch.schema.ChFunction;
@@ -62,4 +63,9 @@ public final class ChFuncAnalysisLauncher extends AbstractAnalysisLauncher {
 
         return super.getDisabledDepcies();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return ChParserUtils::parseFragment;
+    }
 }
@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.ch.parser.ChParserUtils;
 import org.pgcodekeeper.core.database.ch.parser.expr.ChSelect;
 import org.pgcodekeeper.core.database.ch.parser.generated.CHParser.*;
 import org.pgcodekeeper.core.database.ch.schema.ChView;
@@ -54,4 +55,9 @@ public class ChViewAnalysisLauncher extends AbstractAnalysisLauncher {
 
         return Collections.emptySet();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return ChParserUtils::parseFragment;
+    }
 }
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.function.UnaryOperator;
 
 import org.pgcodekeeper.core.database.api.formatter.IFormatConfiguration;
@@ -25,6 +26,9 @@ import org.pgcodekeeper.core.script.SQLScript;
 
 public abstract class ChAbstractStatement extends AbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = -8097083059220666885L;
+
     private static final String RENAME_OBJECT_COMMAND = "RENAME %s %s TO %s;";
 
     protected ChAbstractStatement(String name) {
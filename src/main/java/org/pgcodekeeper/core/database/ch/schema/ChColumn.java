@@ -23,7 +23,9 @@ import org.pgcodekeeper.core.database.ch.utils.ChDiffUtils;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 import org.pgcodekeeper.core.settings.ISettings;
+import org.pgcodekeeper.core.utils.Interner;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -35,6 +37,9 @@ import java.util.Objects;
  */
 public class ChColumn extends ChAbstractStatement implements IColumn {
 
+    @Serial
+    private static final long serialVersionUID = 8414834924746382248L;
+
     private final List<String> codecs = new ArrayList<>();
 
     private String type;
@@ -269,7 +274,7 @@ public class ChColumn extends ChAbstractStatement implements IColumn {
     }
 
     public void setType(final String type) {
-        this.type = type;
+        this.type = Interner.internString(type);
         resetHash();
     }
 
@@ -278,7 +283,7 @@ public class ChColumn extends ChAbstractStatement implements IColumn {
     }
 
     public void setCollation(final String collation) {
-        this.collation = collation;
+        this.collation = Interner.internString(collation);
         resetHash();
     }
 
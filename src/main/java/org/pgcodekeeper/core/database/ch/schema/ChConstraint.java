@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.api.schema.ObjectState;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -31,6 +32,9 @@ import java.util.Objects;
  */
 public class ChConstraint extends ChAbstractStatement implements IConstraint {
 
+    @Serial
+    private static final long serialVersionUID = 2003901112432105249L;
+
     private final boolean isAssume;
 
     private boolean isNotValid;
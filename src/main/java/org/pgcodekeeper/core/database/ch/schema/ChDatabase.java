@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -46,6 +47,9 @@ import org.pgcodekeeper.core.localizations.Messages;
  */
 public class ChDatabase extends ChAbstractStatement implements IDatabase {
 
+    @Serial
+    private static final long serialVersionUID = 1889916892189292691L;
+
     private final List<ObjectOverride> overrides = new ArrayList<>();
     // Contains object references
     private final Map<String, Set<ObjectLocation>> objReferences = new HashMap<>();
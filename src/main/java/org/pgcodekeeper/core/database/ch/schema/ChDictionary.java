@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -31,6 +32,9 @@ import org.pgcodekeeper.core.utils.Pair;
  */
 public class ChDictionary extends ChAbstractStatement implements IRelation {
 
+    @Serial
+    private static final long serialVersionUID = -8667211760876457929L;
+
     private final List<ChColumn> columns = new ArrayList<>();
     private final Map<String, String> sources = new LinkedHashMap<>();
     private final Map<String, String> options = new LinkedHashMap<>();
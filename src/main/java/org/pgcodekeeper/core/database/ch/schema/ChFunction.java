@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class ChFunction extends ChAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 5312809353549161612L;
+
     private final List<Argument> arguments = new ArrayList<>();
 
     private String body;
@@ -20,6 +20,7 @@ import org.pgcodekeeper.core.database.base.schema.SimpleColumn;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.*;
 
 /**
@@ -28,6 +29,9 @@ import java.util.*;
  */
 public class ChIndex extends ChAbstractStatement implements IIndex {
 
+    @Serial
+    private static final long serialVersionUID = 4016613799899117983L;
+
     private final List<SimpleColumn> columns = new ArrayList<>();
     private final List<String> includes = new ArrayList<>();
     private final Map<String, String> options = new LinkedHashMap<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.*;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.Hasher;
@@ -26,6 +27,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class ChPolicy extends ChAbstractStatement implements IPolicy {
 
+    @Serial
+    private static final long serialVersionUID = 2604946573528230080L;
+
     private final Set<String> roles = new LinkedHashSet<>();
     private final Set<String> excepts = new LinkedHashSet<>();
 
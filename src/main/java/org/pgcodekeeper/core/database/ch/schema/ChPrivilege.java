@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.base.schema.AbstractPrivilege;
 
 /**
@@ -23,6 +25,9 @@ import org.pgcodekeeper.core.database.base.schema.AbstractPrivilege;
  */
 public class ChPrivilege extends AbstractPrivilege {
 
+    @Serial
+    private static final long serialVersionUID = -8793431910173270753L;
+
     /**
      * Creates a new privilege instance.
      *
@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.Objects;
 
 /**
@@ -30,6 +31,9 @@ import java.util.Objects;
  */
 public class ChRole extends ChAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = -7165689380503731509L;
+
     private static final String DEF_STORAGE = "local_directory";
 
     private String storageType = DEF_STORAGE;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -40,6 +41,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class ChSchema extends ChAbstractStatement implements ISchema, IStatementContainer {
 
+    @Serial
+    private static final long serialVersionUID = 5801996253719580393L;
+
     private final Map<String, ChTable> tables = new LinkedHashMap<>();
     private final Map<String, ChView> views = new LinkedHashMap<>();
     private final Map<String, ChDictionary> dictionaries = new LinkedHashMap<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,6 +51,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class ChTable extends ChAbstractStatement implements ITable, IOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = 3703942380021677859L;
+
     protected final List<ChColumn> columns = new ArrayList<>();
 
     private final Map<String, String> projections = new LinkedHashMap<>();
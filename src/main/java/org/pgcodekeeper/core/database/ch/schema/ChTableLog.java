@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class ChTableLog extends ChTable {
 
+    @Serial
+    private static final long serialVersionUID = -2520703408429497222L;
+
     private final List<ChConstraint> constrs = new ArrayList<>();
 
     /**
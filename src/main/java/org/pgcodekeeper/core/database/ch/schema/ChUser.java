@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class ChUser extends ChAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 8510498949315797731L;
+
     private static final String DEF_STORAGE = "local_directory";
     private static final String EXCEPT = " EXCEPT ";
     private static final String DEFAULT = "DEFAULT ROLE ";
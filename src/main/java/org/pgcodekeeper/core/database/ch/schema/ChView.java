@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ch.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -36,6 +37,9 @@ import org.pgcodekeeper.core.utils.Pair;
  */
 public class ChView extends ChAbstractStatement implements IView {
 
+    @Serial
+    private static final long serialVersionUID = 7755551510831175462L;
+
     /**
      * Enumeration of ClickHouse view types.
      */
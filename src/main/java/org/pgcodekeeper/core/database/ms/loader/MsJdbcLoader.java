@@ -119,7 +119,7 @@ public final class MsJdbcLoader extends AbstractJdbcLoader<MsDatabase> {
             new MsStatisticsReader(this).read();
 
             IMonitor.checkCancelled(getMonitor());
-            finishLoaders();
+            finishLoaders(d);
 
             connection.commit();
 
@@ -23,6 +23,8 @@ import org.pgcodekeeper.core.database.base.loader.AbstractLibraryLoader;
 import org.pgcodekeeper.core.database.base.loader.AbstractProjectLoader;
 import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
 import org.pgcodekeeper.core.database.base.project.AbstractWorkDirs;
+import org.pgcodekeeper.core.database.ms.parser.generated.TSQLLexer;
+import org.pgcodekeeper.core.database.ms.parser.generated.TSQLParser;
 import org.pgcodekeeper.core.database.ms.project.MsWorkDirs;
 import org.pgcodekeeper.core.database.ms.schema.MsDatabase;
 import org.pgcodekeeper.core.database.ms.schema.MsSchema;
@@ -88,4 +90,9 @@ public class MsProjectLoader extends AbstractProjectLoader<MsDatabase> {
     private void collectDumpLoaderErrors() {
         dumpLoaders.clear();
     }
+
+    @Override
+    protected String getGrammarVersion() {
+        return TSQLLexer._serializedATN + TSQLParser._serializedATN;
+    }
 }
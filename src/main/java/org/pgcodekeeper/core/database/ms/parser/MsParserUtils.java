@@ -23,6 +23,7 @@ import java.util.Queue;
 
 import org.antlr.v4.runtime.*;
 import org.pgcodekeeper.core.database.base.parser.*;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
 import org.pgcodekeeper.core.database.ms.parser.generated.TSQLLexer;
 import org.pgcodekeeper.core.database.ms.parser.generated.TSQLParser;
 import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
@@ -74,7 +75,41 @@ public final class MsParserUtils {
     }
 
     private static TSQLParser createSqlParser(CharStream stream, String parsedObjectName, List<Object> errors) {
-        TSQLLexer lexer = new TSQLLexer(stream);
+        return createSqlParser(new TSQLLexer(stream), parsedObjectName, errors);
+    }
+
+    private static TSQLParser createSqlParser(Chunk chunk, String parsedObjectName, List<Object> errors) {
+        TSQLLexer lexer = new TSQLLexer(CharStreams.fromString(chunk.text()));
+        chunk.applyTo(lexer);
+        return createSqlParser(lexer, parsedObjectName, errors);
+    }
+
+    /**
+     * Parses the source text of a context released by an analysis launcher.
+     *
+     * @param fragment         source text of the context and its position in the source
+     * @param type             type of the released context
+     * @param parsedObjectName name of the object being parsed (for error reporting)
+     * @param errors           list to collect parsing errors
+     * @return context of the given type
+     * @throws IllegalArgumentException if contexts of the given type are not analyzed
+     */
+    public static ParserRuleContext parseFragment(Chunk fragment, Class<? extends ParserRuleContext> type,
+                                                  String parsedObjectName, List<Object> errors) {
+        TSQLParser parser = createSqlParser(fragment, parsedObjectName, errors);
+        if (type == TSQLParser.Sql_clausesContext.class) {
+            return parser.sql_clauses();
+        }
+        if (type == TSQLParser.Select_statementContext.class) {
+            return parser.select_statement();
+        }
+        if (type == TSQLParser.ExpressionContext.class) {
+            return parser.expression();
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+    private static TSQLParser createSqlParser(TSQLLexer lexer, String parsedObjectName, List<Object> errors) {
         TSQLParser parser = new TSQLParser(new CommonTokenStream(lexer));
         ParserUtils.addErrorListener(lexer, parser, parsedObjectName, errors, 0, 0, 0);
         parser.setErrorHandler(new MsCustomAntlrErrorStrategy());
@@ -98,17 +133,48 @@ public final class MsParserUtils {
         List<Object> errors = settings.getErrors();
         IMonitor mon = settings.getMonitor();
         String charsetName = settings.getInCharsetName();
+        if (settings.isChunkedDumpParsing()) {
+            parseSqlStreamChunks(inputStream, parsedObjectName, settings, monitoringLevel, listener, antlrTasks);
+            return;
+        }
         AntlrTaskManager.submit(antlrTasks, () -> {
             IMonitor.checkCancelled(mon);
             try (InputStream stream = inputStream.getStream()) {
                 var parser = createSqlParser(stream, charsetName, parsedObjectName, errors);
                 parser.addParseListener(new CustomParseTreeListener(
                         monitoringLevel, mon == null ? new NullMonitor() : mon));
-                return new Pair<>((CommonTokenStream) parser.getInputStream(), parser.tsql_file());
+                var ctx = settings.isTwoStageParsing()
+                        ? ParserUtils.parseTwoStage(parser, TSQLParser::tsql_file, parsedObjectName) : parser.tsql_file();
+                return new Pair<>((CommonTokenStream) parser.getInputStream(), ctx);
             } catch (MonitorCancelledRuntimeException mcre) {
                 throw new InterruptedException();
             }
-        }, pair -> {
+        }, inputStream.getSize(), pair -> {
+            try {
+                listener.process(pair.getSecond(), pair.getFirst());
+            } catch (UnresolvedReferenceException ex) {
+                errors.add(CustomParserListener.handleUnresolvedReference(ex, parsedObjectName));
+            }
+        });
+    }
+
+    private static void parseSqlStreamChunks(InputStreamProvider inputStream, String parsedObjectName,
+                                             ISettings settings, int monitoringLevel,
+                                             IMsContextProcessor listener, Queue<AntlrTask<?>> antlrTasks) {
+        List<Object> errors = settings.getErrors();
+        IMonitor mon = settings.getMonitor();
+        String charsetName = settings.getInCharsetName();
+        AntlrTaskManager.submitChunks(antlrTasks, () -> {
+            IMonitor.checkCancelled(mon);
+            return new MsChunkReader(inputStream.getStream(), Charset.forName(charsetName));
+        }, inputStream.getSize(), (chunk, chunkErrors) -> {
+            var parser = createSqlParser(chunk, parsedObjectName, chunkErrors);
+            parser.addParseListener(new CustomParseTreeListener(
+                    monitoringLevel, mon == null ? new NullMonitor() : mon));
+            var ctx = settings.isTwoStageParsing()
+                    ? ParserUtils.parseTwoStage(parser, TSQLParser::tsql_file, parsedObjectName) : parser.tsql_file();
+            return new Pair<>((CommonTokenStream) parser.getInputStream(), ctx);
+        }, errors, pair -> {
             try {
                 listener.process(pair.getSecond(), pair.getFirst());
             } catch (UnresolvedReferenceException ex) {
@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.ms.parser.MsParserUtils;
 import org.pgcodekeeper.core.database.ms.parser.expr.*;
 import org.pgcodekeeper.core.database.ms.parser.generated.TSQLParser.ExpressionContext;
 import org.pgcodekeeper.core.database.ms.schema.MsAbstractStatement;
@@ -58,4 +59,9 @@ public class MsExpressionAnalysisLauncher extends AbstractAnalysisLauncher {
         expr.analyze((ExpressionContext) ctx);
         return expr.getDependencies();
     }
-}
\ No newline at end of file
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return MsParserUtils::parseFragment;
+    }
+}
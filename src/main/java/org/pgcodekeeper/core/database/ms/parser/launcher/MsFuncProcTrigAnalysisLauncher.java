@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.ms.parser.MsParserUtils;
 import org.pgcodekeeper.core.database.ms.parser.expr.*;
 import org.pgcodekeeper.core.database.ms.parser.generated.TSQLParser.*;
 import org.pgcodekeeper.core.database.ms.schema.*;
@@ -118,4 +119,9 @@ public final class MsFuncProcTrigAnalysisLauncher extends AbstractAnalysisLaunch
 
         return super.getDisabledDepcies();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return MsParserUtils::parseFragment;
+    }
 }
@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.ms.parser.MsParserUtils;
 import org.pgcodekeeper.core.database.ms.parser.expr.MsSelect;
 import org.pgcodekeeper.core.database.ms.parser.generated.TSQLParser.Select_statementContext;
 import org.pgcodekeeper.core.database.ms.schema.MsView;
@@ -49,4 +50,9 @@ public class MsViewAnalysisLauncher extends AbstractAnalysisLauncher {
         select.analyze((Select_statementContext) ctx);
         return select.getDependencies();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return MsParserUtils::parseFragment;
+    }
 }
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.base.schema.*;
@@ -26,6 +27,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public abstract class MsAbstractClrFunction extends MsAbstractCommonFunction {
 
+    @Serial
+    private static final long serialVersionUID = 8752804142977937455L;
+
     protected final List<String> options = new ArrayList<>();
     protected final String assembly;
     protected final String assemblyClass;
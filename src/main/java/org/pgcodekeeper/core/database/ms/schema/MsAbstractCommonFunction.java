@@ -23,6 +23,7 @@ import org.pgcodekeeper.core.database.base.schema.Argument;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +35,9 @@ import java.util.Map;
  */
 public abstract class MsAbstractCommonFunction extends MsAbstractStatement implements IFunction {
 
+    @Serial
+    private static final long serialVersionUID = -3383630480293879497L;
+
     protected final List<Argument> arguments = new ArrayList<>();
 
     protected MsAbstractCommonFunction(String name) {
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.hasher.Hasher;
@@ -26,6 +27,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
 public abstract class MsAbstractFunction extends MsAbstractCommonFunction
         implements MsSourceStatement {
 
+    @Serial
+    private static final long serialVersionUID = -508360684418713629L;
+
     private boolean ansiNulls;
     private boolean quotedIdentified;
     private String firstPart;
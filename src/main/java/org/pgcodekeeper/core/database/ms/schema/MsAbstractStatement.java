@@ -23,11 +23,15 @@ import org.pgcodekeeper.core.database.ms.utils.MsDiffUtils;
 import org.pgcodekeeper.core.script.SQLScript;
 import org.pgcodekeeper.core.utils.Utils;
 
+import java.io.Serial;
 import java.util.Locale;
 import java.util.function.UnaryOperator;
 
 public abstract class MsAbstractStatement extends AbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = -1776847635950728331L;
+
     private static final String RENAME_OBJECT_COMMAND = "EXEC sp_rename %s, %s";
     private static final String GO = "\nGO";
 
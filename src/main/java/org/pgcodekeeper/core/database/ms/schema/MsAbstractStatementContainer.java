@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,6 +40,9 @@ import org.pgcodekeeper.core.localizations.Messages;
 public abstract class MsAbstractStatementContainer extends MsAbstractStatement
         implements IRelation, IStatementContainer, ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -6924765106178412930L;
+
     private final Map<String, MsTrigger> triggers = new LinkedHashMap<>();
     private final Map<String, MsIndex> indexes = new LinkedHashMap<>();
     private final Map<String, MsStatistics> statistics = new HashMap<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class MsAssembly extends MsAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = -7466007059716709994L;
+
     private static final int PREVIEW_LENGTH = 256 * 4;
 
     private final List<String> binaries = new ArrayList<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class MsClrFunction extends MsAbstractClrFunction {
 
+    @Serial
+    private static final long serialVersionUID = 9054995463785415640L;
+
     private String returns;
     private MsFunctionTypes funcType = MsFunctionTypes.SCALAR;
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.stream.Collectors;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -26,6 +27,9 @@ import org.pgcodekeeper.core.database.base.schema.*;
  */
 public class MsClrProcedure extends MsAbstractClrFunction {
 
+    @Serial
+    private static final long serialVersionUID = -91121984311991821L;
+
     /**
      * Creates a new Microsoft SQL CLR procedure.
      *
@@ -15,12 +15,14 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.*;
+import org.pgcodekeeper.core.utils.Interner;
 
 /**
  * Represents a Microsoft SQL table column with its properties and constraints.
@@ -29,6 +31,9 @@ import org.pgcodekeeper.core.script.*;
  */
 public class MsColumn extends MsAbstractStatement implements IColumn {
 
+    @Serial
+    private static final long serialVersionUID = -1592986539372027248L;
+
     private static final String SPARSE = "SPARSE";
     private static final String ROWGUIDCOL = "ROWGUIDCOL";
     private static final String PERSISTED = "PERSISTED";
@@ -439,12 +444,12 @@ public class MsColumn extends MsAbstractStatement implements IColumn {
     }
 
     public void setCollation(String collation) {
-        this.collation = collation;
+        this.collation = Interner.internString(collation);
         resetHash();
     }
 
     public void setType(String type) {
-        this.type = type;
+        this.type = Interner.internString(type);
         resetHash();
     }
 
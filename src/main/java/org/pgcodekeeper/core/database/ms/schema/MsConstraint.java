@@ -19,6 +19,7 @@ import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -28,6 +29,9 @@ import java.util.Collections;
  */
 public abstract class MsConstraint extends MsAbstractStatement implements IConstraint {
 
+    @Serial
+    private static final long serialVersionUID = 594311851813814495L;
+
     private boolean isNotValid;
     private boolean isDisabled;
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -25,6 +26,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class MsConstraintCheck extends MsConstraint {
 
+    @Serial
+    private static final long serialVersionUID = 1606065355127296263L;
+
     private boolean isNotForRepl;
     private String expression;
 
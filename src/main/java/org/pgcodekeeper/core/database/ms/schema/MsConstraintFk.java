@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -27,6 +28,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class MsConstraintFk extends MsConstraint implements IConstraintFk {
 
+    @Serial
+    private static final long serialVersionUID = 1840108536098456172L;
+
     private final List<String> columns = new ArrayList<>();
     private final List<String> refs = new ArrayList<>();
 
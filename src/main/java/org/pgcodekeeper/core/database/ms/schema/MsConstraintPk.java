@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +38,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsConstraintPk extends MsConstraint implements IConstraintPk, IOptionContainer, ISimpleColumnContainer {
 
+    @Serial
+    private static final long serialVersionUID = 4747113517552529388L;
+
     private final boolean isPrimaryKey;
     private final List<String> columnNames = new ArrayList<>();
     private final List<SimpleColumn> columns = new ArrayList<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,6 +46,9 @@ import org.pgcodekeeper.core.localizations.Messages;
  */
 public class MsDatabase extends MsAbstractStatement implements IDatabase {
 
+    @Serial
+    private static final long serialVersionUID = -8598458959423888773L;
+
     private final Map<String, MsSchema> schemas = new LinkedHashMap<>();
     private final List<ObjectOverride> overrides = new ArrayList<>();
     // Contains object references
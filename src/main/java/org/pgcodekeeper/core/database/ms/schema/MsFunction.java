@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class MsFunction extends MsAbstractFunction {
 
+    @Serial
+    private static final long serialVersionUID = 7429141973978105107L;
+
     private MsFunctionTypes funcType = MsFunctionTypes.SCALAR;
 
     /**
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsIndex extends MsAbstractStatement implements IIndex {
 
+    @Serial
+    private static final long serialVersionUID = -8669584879285757108L;
+
     private final List<String> orderCols = new ArrayList<>();
     private final List<SimpleColumn> columns = new ArrayList<>();
     private final Map<String, String> options = new LinkedHashMap<>();
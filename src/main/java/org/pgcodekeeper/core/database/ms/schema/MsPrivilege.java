@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.base.schema.AbstractPrivilege;
 
 /**
@@ -23,6 +25,9 @@ import org.pgcodekeeper.core.database.base.schema.AbstractPrivilege;
  */
 public class MsPrivilege extends AbstractPrivilege {
 
+    @Serial
+    private static final long serialVersionUID = 201433462634834722L;
+
     /**
      * Creates a new privilege instance.
      *
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.api.schema.IFunction;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -25,6 +27,9 @@ import org.pgcodekeeper.core.database.api.schema.IStatement;
  */
 public class MsProcedure extends MsAbstractFunction {
 
+    @Serial
+    private static final long serialVersionUID = 8666363041282311697L;
+
     /**
      * Creates a new Microsoft SQL stored procedure.
      *
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -27,6 +28,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsRole extends MsAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 6401719116475320875L;
+
     private final Set<String> members = new LinkedHashSet<>();
 
     /**
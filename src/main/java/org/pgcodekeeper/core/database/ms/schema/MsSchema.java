@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -40,6 +41,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsSchema extends MsAbstractStatement implements ISchema {
 
+    @Serial
+    private static final long serialVersionUID = 4753703628862888157L;
+
     private final Map<String, MsAbstractCommonFunction> functions = new LinkedHashMap<>();
     private final Map<String, MsSequence> sequences = new LinkedHashMap<>();
     private final Map<String, MsTable> tables = new LinkedHashMap<>();
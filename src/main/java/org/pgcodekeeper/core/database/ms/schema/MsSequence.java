@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -36,6 +37,9 @@ import org.slf4j.LoggerFactory;
  */
 public class MsSequence extends MsAbstractStatement implements ISequence {
 
+    @Serial
+    private static final long serialVersionUID = 5791081152687045652L;
+
     private static final Logger LOG = LoggerFactory.getLogger(MsSequence.class);
 
     private static final String BIGINT = "bigint";
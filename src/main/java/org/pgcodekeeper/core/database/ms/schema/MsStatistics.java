@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsStatistics extends MsAbstractStatement implements IStatistics, ISubElement {
 
+    @Serial
+    private static final long serialVersionUID = -9161189033612260805L;
+
     private final List<String> cols = new ArrayList<>();
     private final Map<String, String> options = new HashMap<>();
 
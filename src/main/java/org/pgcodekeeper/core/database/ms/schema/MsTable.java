@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -34,6 +35,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class MsTable extends MsAbstractStatementContainer implements ITable, ISimpleOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = 2078585605829338182L;
+
     private static final String MEMORY_OPTIMIZED = "MEMORY_OPTIMIZED";
 
     private final List<MsColumn> columns = new ArrayList<>();
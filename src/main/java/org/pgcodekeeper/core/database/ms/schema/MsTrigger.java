@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -27,6 +28,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsTrigger extends MsAbstractStatement implements MsSourceStatement, ITrigger {
 
+    @Serial
+    private static final long serialVersionUID = 3790285846242680937L;
+
     private boolean ansiNulls;
     private boolean quotedIdentified;
     private boolean isDisable;
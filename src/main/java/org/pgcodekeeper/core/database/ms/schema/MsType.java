@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -39,6 +40,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class MsType extends MsAbstractStatement implements IType, IStatementContainer {
 
+    @Serial
+    private static final long serialVersionUID = 3347498548334895841L;
+
     // base type
     private String baseType;
     private boolean isNotNull;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class MsUser extends MsAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 8800110218433576247L;
+
     // TODO PASSWORD, DEFAULT_LANGUAGE, ALLOW_ENCRYPTED_VALUE_MODIFICATIONS
     private String schema;
     private String login;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.ms.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.utils.Pair;
  */
 public class MsView extends MsAbstractStatementContainer implements MsSourceStatement, IView {
 
+    @Serial
+    private static final long serialVersionUID = 2675060773270946719L;
+
     private boolean ansiNulls;
     private boolean quotedIdentified;
     /**
@@ -17,11 +17,10 @@ package org.pgcodekeeper.core.database.pg.jdbc;
 
 import java.util.function.BiConsumer;
 
-import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.jdbc.QueryBuilder;
-import org.pgcodekeeper.core.database.base.parser.QNameParser;
+import org.pgcodekeeper.core.database.base.parser.QNameParserWrapper;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
@@ -55,7 +54,7 @@ public interface IPgJdbcReader {
     default <T extends AbstractStatement> void setFunctionWithDep(
             BiConsumer<T, String> setter, T statement, String function, String signature) {
         if (function.indexOf('.') != -1) {
-            QNameParser<ParserRuleContext> parser = PgParserUtils.parseQName(function);
+            QNameParserWrapper parser = PgParserUtils.wrapParsedQName(function);
             String schemaName = parser.getSchemaName();
             if (schemaName != null && !PgDiffUtils.isSystemSchema(schemaName)) {
                 statement.addDependency(new ObjectReference(schemaName, DbObjType.SCHEMA));
@@ -26,6 +26,7 @@ import org.pgcodekeeper.core.database.api.schema.ICast.CastContext;
 import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.jdbc.QueryBuilder;
 import org.pgcodekeeper.core.database.base.parser.QNameParser;
+import org.pgcodekeeper.core.database.base.parser.QNameParserWrapper;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.database.pg.loader.PgJdbcLoader;
 import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
@@ -120,7 +121,7 @@ public final class PgCastsReader extends PgAbstractJdbcReader {
 
     private void addDep(AbstractStatement statement, String objectName) {
         if (objectName.indexOf('.') != -1) {
-            QNameParser<ParserRuleContext> parser = PgParserUtils.parseQName(objectName);
+            QNameParserWrapper parser = PgParserUtils.wrapParsedQName(objectName);
             String schemaName = parser.getSchemaName();
             if (schemaName != null && !PgDiffUtils.isSystemSchema(schemaName)) {
                 statement.addDependency(new ObjectReference(schemaName, parser.getFirstName(), DbObjType.TYPE));
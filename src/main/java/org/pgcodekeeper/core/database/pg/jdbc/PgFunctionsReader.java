@@ -16,10 +16,14 @@
 package org.pgcodekeeper.core.database.pg.jdbc;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.pgcodekeeper.core.database.api.schema.ArgMode;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -42,6 +46,7 @@ import org.pgcodekeeper.core.database.pg.schema.PgAggregate.AggKinds;
 import org.pgcodekeeper.core.database.pg.schema.PgAggregate.ModifyType;
 import org.pgcodekeeper.core.database.pg.schema.PgFunction;
 import org.pgcodekeeper.core.database.pg.schema.PgProcedure;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
 import org.pgcodekeeper.core.database.pg.utils.PgConsts;
 import org.pgcodekeeper.core.database.pg.utils.PgConsts.FUNC_SIGN;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
@@ -56,28 +61,96 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public final class PgFunctionsReader extends PgAbstractSearchPathJdbcReader {
 
+    /**
+     * OIDs of the functions to read again, or null to read all functions
+     */
+    private final Collection<Long> oids;
+
     /**
      * Creates a new functions reader.
      *
      * @param loader the JDBC loader base for database operations
      */
     public PgFunctionsReader(PgJdbcLoader loader) {
+        this(loader, null);
+    }
+
+    /**
+     * Creates a reader of the given functions only, which replace the functions already loaded
+     * with the same OIDs. Functions are not reused from the previous snapshot.
+     *
+     * @param loader the JDBC loader base for database operations
+     * @param oids   OIDs of the functions to read again
+     */
+    public PgFunctionsReader(PgJdbcLoader loader, Collection<Long> oids) {
         super(loader);
+        this.oids = oids;
     }
 
+    /**
+     * Columns read from the catalog for reused functions too, not a part of the row signature
+     */
+    private static final Set<String> UNSIGNED_COLUMNS = Set.of("proowner", "aclarray", "description", "ses_user",
+            "last_modified");
+    private static final Set<String> TYPE_COLUMNS = Set.of("prorettype", "stype", "mstype");
+    private static final Set<String> TYPE_ARRAY_COLUMNS = Set.of("proallargtypes", "argtypes", "protrftypes");
+
     @Override
     protected void processResult(ResultSet res, ISchema schema) throws SQLException {
         String schemaName = schema.getName();
         String funcName = res.getString("proname");
-        PgAbstractFunction f = res.getBoolean("proisagg") ? getAgg(res, schemaName, funcName)
-                : getFunc(res, schema, funcName);
+        String signature = loader.isSnapshotEnabled() ? getRowSignature(res) : null;
+        PgAbstractFunction f = oids == null ? loader.getUnchangedFunction(res, schemaName, signature) : null;
+        if (f == null) {
+            f = res.getBoolean("proisagg") ? getAgg(res, schemaName, funcName) : getFunc(res, schema, funcName);
+        }
 
         loader.setOwner(f, res.getLong("proowner"));
         loader.setComment(f, res);
         loader.setPrivileges(f, res.getString("aclarray"), schemaName);
         loader.setAuthor(f, res);
 
-        schema.addChild(f);
+        if (oids == null) {
+            schema.addChild(f);
+        } else {
+            ((PgSchema) schema).replaceFunction(f);
+        }
+        loader.addSnapshotFunction(res, schemaName, signature, f);
+    }
+
+    /**
+     * Returns the hash of the function row with its type OIDs resolved to names.
+     * A renamed type keeps its OID, so the row alone does not show a change of the function signature.
+     */
+    private String getRowSignature(ResultSet res) throws SQLException {
+        StringBuilder sb = new StringBuilder();
+        ResultSetMetaData meta = res.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String column = meta.getColumnLabel(i);
+            if (UNSIGNED_COLUMNS.contains(column)) {
+                continue;
+            }
+            sb.append(column).append('=').append(res.getString(i));
+            if (TYPE_COLUMNS.contains(column)) {
+                appendTypeName(sb, res.getLong(i));
+            } else if (TYPE_ARRAY_COLUMNS.contains(column)) {
+                Long[] oids = PgJdbcUtils.getColArray(res, column, true);
+                if (oids != null) {
+                    for (Long oid : oids) {
+                        appendTypeName(sb, oid);
+                    }
+                }
+            }
+            sb.append('\0');
+        }
+        return Utils.sha(sb.toString());
+    }
+
+    private void appendTypeName(StringBuilder sb, long oid) {
+        PgJdbcType type = loader.getCachedTypeByOid(oid);
+        if (type != null) {
+            sb.append(':').append(type.getFullName());
+        }
     }
 
     private PgAbstractFunction getFunc(ResultSet res, ISchema schema, String funcName) throws SQLException {
@@ -508,6 +581,21 @@ public final class PgFunctionsReader extends PgAbstractSearchPathJdbcReader {
         return argsQualifiedTypes;
     }
 
+    @Override
+    public QueryBuilder makeQuery() {
+        var builder = super.makeQuery();
+        if (builder != null && loader.getExtensionSchema() != null) {
+            // for reuse of unchanged functions, see PgJdbcSnapshot
+            builder.column("res.oid::bigint");
+            builder.column("time.last_modified::text");
+        }
+        if (builder != null && oids != null) {
+            String list = oids.stream().map(String::valueOf).collect(Collectors.joining(", "));
+            builder.where("res.oid IN (" + list + ')');
+        }
+        return builder;
+    }
+
     @Override
     public String getClassId() {
         return "pg_proc";
@@ -17,7 +17,9 @@ package org.pgcodekeeper.core.database.pg.jdbc;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -27,6 +29,9 @@ import org.pgcodekeeper.core.localizations.Messages;
 
 /**
  * Parser for aclItem arrays
+ * <p>
+ * Arrays are read by a hand-written reader, the ANTLR privileges parser is used only
+ * for text the reader does not recognize, to accept or report it the same way as before.
  *
  * @author ryabinin_av
  */
@@ -137,22 +142,15 @@ public final class PgJdbcPrivilege {
             return privileges;
         }
 
-        var ctx = PgParserUtils.createPrivilegesParser(aclArrayAsString).privileges();
-        for (var acl : ctx.acls) {
-            String grantor;
-            String grantee = "";
-            if (acl.qgrantor != null) {
-                if (acl.qname != null) {
-                    grantee = PgDiffUtils.getQuotedName(acl.qname.getText());
-                }
-                grantor = PgDiffUtils.getQuotedName(acl.qgrantor.getText());
-            } else {
-                if (acl.name != null) {
-                    grantee = PgDiffUtils.getQuotedName(acl.name.getText());
-                }
-                grantor = PgDiffUtils.getQuotedName(acl.grantor.getText());
-            }
-            String grantsString = acl.priv.getText();
+        List<AclItem> items = AclReader.read(aclArrayAsString);
+        if (items == null) {
+            items = parseWithAntlr(aclArrayAsString);
+        }
+
+        for (AclItem acl : items) {
+            String grantor = PgDiffUtils.getQuotedName(acl.grantor());
+            String grantee = acl.grantee() == null ? "" : PgDiffUtils.getQuotedName(acl.grantee());
+            String grantsString = acl.privileges();
 
             Consumer<PgJdbcPrivilege> adder = grantee.equals(owner) ? p -> privileges.add(0, p) : privileges::add;
 
@@ -193,6 +191,28 @@ public final class PgJdbcPrivilege {
         return privileges;
     }
 
+    static List<AclItem> parseWithAntlr(String aclArrayAsString) {
+        List<AclItem> items = new ArrayList<>();
+        var ctx = PgParserUtils.createPrivilegesParser(aclArrayAsString).privileges();
+        for (var acl : ctx.acls) {
+            String grantee = null;
+            String grantor;
+            if (acl.qgrantor != null) {
+                if (acl.qname != null) {
+                    grantee = acl.qname.getText();
+                }
+                grantor = acl.qgrantor.getText();
+            } else {
+                if (acl.name != null) {
+                    grantee = acl.name.getText();
+                }
+                grantor = acl.grantor.getText();
+            }
+            items.add(new AclItem(grantee, acl.priv.getText(), grantor));
+        }
+        return items;
+    }
+
     private static void addAllGrants(boolean isGO, List<Character> grantTypeChars,
                                      String grantee, Consumer<PgJdbcPrivilege> adder) {
         List<String> grantTypesParsed = new ArrayList<>();
@@ -203,4 +223,217 @@ public final class PgJdbcPrivilege {
             adder.accept(new PgJdbcPrivilege(grantee, grantTypesParsed, isGO, false));
         }
     }
+
+    /**
+     * Item of aclItem array with unquoted names.
+     *
+     * @param grantee    grantee name, null for PUBLIC
+     * @param privileges privilege letters, each may be followed by '*' (WITH GRANT OPTION)
+     * @param grantor    grantor name
+     */
+    record AclItem(String grantee, String privileges, String grantor) {
+    }
+
+    /**
+     * Reads aclItem array text as printed by the server: {@code {name=privileges/grantor,...}}.
+     * Items with names that need quoting are enclosed in double quotes, and the quotes of the names
+     * are escaped by backslashes.
+     */
+    static final class AclReader {
+
+        private static final String PRIVILEGE_LETTERS = "acdmrtxwCDTUX";
+
+        private final String text;
+        private int pos;
+
+        private AclReader(String text) {
+            this.text = text;
+        }
+
+        /**
+         * @param text aclItem array text
+         * @return array items, or null if the text is not recognized
+         */
+        static List<AclItem> read(String text) {
+            return new AclReader(text).readArray();
+        }
+
+        private List<AclItem> readArray() {
+            if (!skip('{')) {
+                return null;
+            }
+
+            List<AclItem> items = new ArrayList<>();
+            do {
+                AclItem item = skip('"') ? readQuotedItem() : readItem();
+                if (item == null) {
+                    return null;
+                }
+                items.add(item);
+            } while (skip(','));
+
+            return skip('}') && pos == text.length() ? items : null;
+        }
+
+        private AclItem readItem() {
+            String grantee = readIdentifier();
+            if (grantee.isEmpty()) {
+                grantee = null;
+            }
+            String privileges = readPrivileges();
+            if (privileges == null) {
+                return null;
+            }
+            String grantor = readIdentifier();
+            return grantor.isEmpty() ? null : new AclItem(grantee, privileges, grantor);
+        }
+
+        private AclItem readQuotedItem() {
+            String grantee = readQuotedIdentifier();
+            if (grantee == null) {
+                grantee = readIdentifier();
+                if (grantee.isEmpty()) {
+                    grantee = null;
+                }
+            }
+            String privileges = readPrivileges();
+            if (privileges == null) {
+                return null;
+            }
+            String grantor = readQuotedIdentifier();
+            if (grantor == null) {
+                grantor = readIdentifier();
+                if (grantor.isEmpty()) {
+                    return null;
+                }
+            }
+            return skip('"') ? new AclItem(grantee, privileges, grantor) : null;
+        }
+
+        /**
+         * @return privilege letters between '=' and '/', or null if they are not found
+         */
+        private String readPrivileges() {
+            if (!skip('=')) {
+                return null;
+            }
+            int start = pos;
+            while (pos < text.length() && PRIVILEGE_LETTERS.indexOf(text.charAt(pos)) != -1) {
+                pos++;
+                skip('*');
+            }
+            int end = pos;
+            return end > start && skip('/') ? text.substring(start, end) : null;
+        }
+
+        /**
+         * @return identifier of latin letters, digits and underscores, possibly empty
+         */
+        private String readIdentifier() {
+            int start = pos;
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '_' || c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z') {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            return text.substring(start, pos);
+        }
+
+        /**
+         * Reads identifier quoted with escaped quotes: {@code \"name\"},
+         * where {@code \"\"} stands for a quote and {@code \\} for a backslash.
+         *
+         * @return unquoted identifier, or null if there is no quoted identifier at the position
+         */
+        private String readQuotedIdentifier() {
+            if (!text.startsWith("\\\"", pos)) {
+                return null;
+            }
+
+            StringBuilder sb = new StringBuilder();
+            int i = pos + 2;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    return null;
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    i++;
+                } else if (text.startsWith("\\\\", i)) {
+                    sb.append('\\');
+                    i += 2;
+                } else if (text.startsWith("\\\"\\\"", i)) {
+                    sb.append('"');
+                    i += 4;
+                } else if (text.startsWith("\\\"", i)) {
+                    pos = i + 2;
+                    return sb.toString();
+                } else {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        private boolean skip(char c) {
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Bounded cache of parsed aclItem arrays. Databases repeat the same few arrays for most objects,
+     * so each distinct array is parsed once. Not thread-safe.
+     */
+    public static final class Cache {
+
+        private static final int DEFAULT_SIZE = 1024;
+
+        private final Map<CacheKey, List<PgJdbcPrivilege>> parsed;
+
+        public Cache() {
+            this(DEFAULT_SIZE);
+        }
+
+        /**
+         * @param maxSize maximum number of cached arrays, least recently used ones are evicted
+         */
+        public Cache(int maxSize) {
+            this.parsed = new LinkedHashMap<>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, List<PgJdbcPrivilege>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        /**
+         * Parses aclItem array or returns the result of the previous parsing with the same arguments,
+         * see {@link PgJdbcPrivilege#parse(String, String, String)}.
+         *
+         * @return unmodifiable list of parsed privileges
+         */
+        public List<PgJdbcPrivilege> parse(String aclArrayAsString, String order, String owner) {
+            var key = new CacheKey(aclArrayAsString, order, owner);
+            List<PgJdbcPrivilege> privileges = parsed.get(key);
+            if (privileges == null) {
+                privileges = Collections.unmodifiableList(PgJdbcPrivilege.parse(aclArrayAsString, order, owner));
+                parsed.put(key, privileges);
+            }
+            return privileges;
+        }
+
+        private record CacheKey(String acl, String order, String owner) {
+        }
+    }
 }
@@ -16,7 +16,9 @@
 package org.pgcodekeeper.core.database.pg.loader;
 
 import org.pgcodekeeper.core.database.api.jdbc.IJdbcConnector;
+import org.pgcodekeeper.core.database.api.jdbc.IJdbcReader;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.jdbc.QueryBuilder;
 import org.pgcodekeeper.core.database.base.loader.AbstractJdbcLoader;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
@@ -26,6 +28,7 @@ import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser;
 import org.pgcodekeeper.core.database.pg.schema.*;
 import org.pgcodekeeper.core.database.pg.utils.PgConsts;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
+import org.pgcodekeeper.core.exception.XmlReaderException;
 import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.monitor.IMonitor;
 import org.pgcodekeeper.core.settings.ISettings;
@@ -36,7 +39,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -67,6 +72,10 @@ public class PgJdbcLoader extends AbstractJdbcLoader<PgDatabase> {
             .column("pg_catalog.has_table_privilege('pg_catalog.pg_user_mapping', 'SELECT') AS result")
             .build();
 
+    private static final String QUERY_EXPORT_SNAPSHOT = new QueryBuilder()
+            .column("pg_catalog.pg_export_snapshot()")
+            .build();
+
     private static final String QUERY_CHECK_LAST_SYS_OID = new QueryBuilder()
             .column("datlastsysoid::bigint")
             .from("pg_catalog.pg_database")
@@ -108,6 +117,12 @@ public class PgJdbcLoader extends AbstractJdbcLoader<PgDatabase> {
     private boolean isGreenplumDb;
     private long lastSysOid;
     private Map<Long, PgJdbcType> cachedTypesByOid;
+    private final PgJdbcPrivilege.Cache cachedPrivileges = new PgJdbcPrivilege.Cache();
+    private String snapshotId;
+    private PgJdbcSnapshot previousSnapshot;
+    private PgJdbcSnapshot snapshot;
+    private int reusedObjects;
+    private final Map<Long, PgAbstractFunction> reusedFunctions = new HashMap<>();
 
     /**
      * Creates a new PostgreSQL JDBC loader with the specified parameters.
@@ -159,57 +174,76 @@ public class PgJdbcLoader extends AbstractJdbcLoader<PgDatabase> {
             queryTypesForCache();
             queryRoles();
             queryCheckExtension();
+            initSnapshot();
 
             info(Messages.JdbcLoader_log_read_db_objects);
             new PgSchemasReader(this, d).read();
 
+            boolean readUserMappings;
+            try (ResultSet res = getRunner().runScript(statement, QUERY_CHECK_USER_PRIVILEGES)) {
+                readUserMappings = res.next() && res.getBoolean("result");
+            }
+
+            List<IJdbcReader> readers = new ArrayList<>();
             // NOTE: order of readers has been changed to move the heaviest ANTLR tasks to the beginning
             // to give them a chance to finish while JDBC processes other non-ANTLR stuff
-            new PgFunctionsReader(this).read();
-            new PgViewsReader(this).read();
-            new PgTablesReader(this).read();
-            new PgRulesReader(this).read();
+            readers.add(new PgFunctionsReader(this));
+            readers.add(new PgViewsReader(this));
+            readers.add(new PgTablesReader(this));
+            readers.add(new PgRulesReader(this));
             if (PgSupportedVersion.GP_VERSION_7.isLE(getVersion())) {
-                new PgPoliciesReader(this).read();
+                readers.add(new PgPoliciesReader(this));
             }
-            new PgTriggersReader(this).read();
-            new PgIndicesReader(this).read();
-            new PgConstraintsReader(this).read();
-            new PgTypesReader(this).read();
+            readers.add(new PgTriggersReader(this));
+            readers.add(new PgIndicesReader(this));
+            readers.add(new PgConstraintsReader(this));
+            readers.add(new PgTypesReader(this));
             if (PgSupportedVersion.GP_VERSION_7.isLE(getVersion())) {
-                new PgStatisticsReader(this).read();
+                readers.add(new PgStatisticsReader(this));
             }
 
             // non-ANTLR tasks
             var sequencesReader = new PgSequencesReader(this);
-            sequencesReader.read();
-            new PgFtsParsersReader(this).read();
-            new PgFtsTemplatesReader(this).read();
-            new PgFtsDictionariesReader(this).read();
-            new PgFtsConfigurationsReader(this).read();
-            new PgOperatorsReader(this).read();
-
-            new PgExtensionsReader(this, d).read();
-            new PgEventTriggersReader(this, d).read();
-            new PgCastsReader(this, d).read();
-            new PgForeignDataWrappersReader(this, d).read();
-            new PgServersReader(this, d).read();
-            try (ResultSet res = getRunner().runScript(statement, QUERY_CHECK_USER_PRIVILEGES)) {
-                if (res.next() && res.getBoolean("result")) {
-                    new PgUserMappingsReader(this, d).read();
+            readers.add(sequencesReader);
+            readers.add(new PgFtsParsersReader(this));
+            readers.add(new PgFtsTemplatesReader(this));
+            readers.add(new PgFtsDictionariesReader(this));
+            readers.add(new PgFtsConfigurationsReader(this));
+            readers.add(new PgOperatorsReader(this));
+
+            readers.add(new PgExtensionsReader(this, d));
+            readers.add(new PgEventTriggersReader(this, d));
+            readers.add(new PgCastsReader(this, d));
+            readers.add(new PgForeignDataWrappersReader(this, d));
+            readers.add(new PgServersReader(this, d));
+            if (readUserMappings) {
+                readers.add(new PgUserMappingsReader(this, d));
+            }
+            readers.add(new PgCollationsReader(this));
+
+            try {
+                openSnapshotQueryRunner();
+                readers.forEach(IJdbcReader::prefetch);
+                for (IJdbcReader reader : readers) {
+                    reader.read();
                 }
+            } finally {
+                closeQueryRunner();
             }
-            new PgCollationsReader(this).read();
 
             if (!PgSupportedVersion.GP_VERSION_7.isLE(getVersion())) {
                 sequencesReader.querySequencesData(d);
             }
             IMonitor.checkCancelled(getMonitor());
+            finishLoaders(d);
+            readStaleFunctions(d);
             connection.commit();
-            finishLoaders();
 
             d.sortColumns();
 
+            if (snapshot != null && previousSnapshot != null) {
+                info(Messages.JdbcLoaderBase_log_reused_objects, reusedObjects, snapshot.size());
+            }
             info(Messages.JdbcLoader_log_succes_queried);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -222,6 +256,180 @@ public class PgJdbcLoader extends AbstractJdbcLoader<PgDatabase> {
         return d;
     }
 
+    /**
+     * Opens worker connections that import the snapshot of the main transaction,
+     * so that concurrent reader queries see exactly the same catalog state.
+     * Greenplum cannot import snapshots, its readers always use the main connection.
+     */
+    private void openSnapshotQueryRunner() throws IOException, SQLException, InterruptedException {
+        if (getSettings().getJdbcReadThreads() < 1 || isGreenplumDb) {
+            return;
+        }
+        setCurrentOperation(Messages.JdbcLoaderBase_log_export_snapshot);
+        try (ResultSet res = runner.runScript(statement, QUERY_EXPORT_SNAPSHOT)) {
+            res.next();
+            snapshotId = res.getString(1);
+        }
+        openQueryRunner();
+    }
+
+    @Override
+    protected void initWorkerConnection(Connection workerConnection, Statement workerStatement)
+            throws SQLException, InterruptedException {
+        workerConnection.setAutoCommit(false);
+        getRunner().run(workerStatement, "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+        getRunner().run(workerStatement, "SET TRANSACTION SNAPSHOT " + Utils.quoteString(snapshotId));
+        getRunner().run(workerStatement, "SET search_path TO pg_catalog;");
+        getRunner().run(workerStatement, "SET timezone = " + Utils.quoteString(timezone));
+    }
+
+    /**
+     * Sets the snapshot of a previous load of the same database.
+     * If the pg_dbo_timestamp extension is available, objects that have not been modified
+     * since that load are reused from the snapshot instead of being parsed again.
+     *
+     * @param previousSnapshot snapshot returned by {@link #getSnapshot()} of a previous load
+     */
+    public void setPreviousSnapshot(PgJdbcSnapshot previousSnapshot) {
+        this.previousSnapshot = previousSnapshot;
+    }
+
+    /**
+     * Returns the snapshot of the last load, to be persisted and passed to the next load
+     * with {@link #setPreviousSnapshot(PgJdbcSnapshot)}.
+     * <p>
+     * Functions reused from a snapshot are not analyzed again, so the snapshot is available only after
+     * the loaded database has been analyzed and its functions have the dependencies of their bodies.
+     *
+     * @return snapshot of the last load, or null if the pg_dbo_timestamp extension is not available
+     *         or the loaded database has not been analyzed yet
+     */
+    public PgJdbcSnapshot getSnapshot() {
+        PgDatabase db = getDatabase();
+        if (snapshot == null || db == null || !db.getAnalysisLaunchers().isEmpty()) {
+            return null;
+        }
+        Map<AbstractStatement, String> states = new IdentityHashMap<>();
+        return snapshot.detach(e -> getDepsState(db, e.function(), states, getSettings()));
+    }
+
+    /**
+     * Reads again the functions reused from the previous snapshot whose dependencies
+     * are not in the same state as when the snapshot was taken. Their bodies may resolve
+     * to other objects now, which is only found by analysis.
+     */
+    private void readStaleFunctions(PgDatabase db)
+            throws SQLException, InterruptedException, XmlReaderException, IOException {
+        if (reusedFunctions.isEmpty()) {
+            return;
+        }
+        Map<AbstractStatement, String> states = new IdentityHashMap<>();
+        List<Long> stale = new ArrayList<>();
+        reusedFunctions.forEach((oid, f) -> {
+            if (!previousSnapshot.getDepsState(oid).equals(getDepsState(db, f, states, getSettings()))) {
+                stale.add(oid);
+            }
+        });
+        reusedFunctions.clear();
+        if (stale.isEmpty()) {
+            return;
+        }
+        reusedObjects -= stale.size();
+        new PgFunctionsReader(this, stale).read();
+        finishLoaders(db);
+    }
+
+    /**
+     * Returns the hash of the definitions of the objects the function depends on.
+     *
+     * @param db       database of the function
+     * @param f        function
+     * @param states   cache of the definitions
+     * @param settings settings of the definitions
+     * @return hash of the dependency definitions, or null if some of them cannot be built
+     */
+    static String getDepsState(PgDatabase db, PgAbstractFunction f, Map<AbstractStatement, String> states,
+                               ISettings settings) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            for (ObjectReference dep : f.getDependencies()) {
+                AbstractStatement st = db.getStatement(dep);
+                if (st == f) {
+                    continue;
+                }
+                String state = st == null ? "-" : states.computeIfAbsent(st, k -> k.getSQL(false, settings));
+                sb.append(dep).append('=').append(state).append('\0');
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return Utils.sha(sb.toString());
+    }
+
+    /**
+     * @return true if functions of this load are stored in its snapshot
+     */
+    public boolean isSnapshotEnabled() {
+        return snapshot != null;
+    }
+
+    private void initSnapshot() {
+        if (extensionSchema == null) {
+            snapshot = null;
+            return;
+        }
+        // settings that change the result of parsing
+        String stamp = getVersion() + ":" + getSettings().isKeepNewlines()
+                + ":" + getSettings().isEnableFunctionBodiesDependencies();
+        snapshot = new PgJdbcSnapshot(stamp);
+        if (previousSnapshot != null && !previousSnapshot.isCompatible(stamp)) {
+            previousSnapshot = null;
+        }
+        reusedObjects = 0;
+        reusedFunctions.clear();
+    }
+
+    /**
+     * Returns an unchanged function from the previous snapshot for the current result row.
+     *
+     * @param res        function row, which contains {@code oid} and {@code last_modified} columns
+     *                   if the pg_dbo_timestamp extension is available
+     * @param schemaName current schema of the function
+     * @param signature  hash of the function row with resolved type names
+     * @return copy of the unchanged function without owner, comment and privileges, or null
+     * @throws SQLException if columns cannot be read
+     */
+    public PgAbstractFunction getUnchangedFunction(ResultSet res, String schemaName, String signature)
+            throws SQLException {
+        if (snapshot == null || previousSnapshot == null) {
+            return null;
+        }
+        PgAbstractFunction f = previousSnapshot.getUnchangedFunction(res.getLong("oid"), schemaName,
+                res.getString("last_modified"), signature);
+        if (f != null) {
+            ++reusedObjects;
+            reusedFunctions.put(res.getLong("oid"), f);
+        }
+        return f;
+    }
+
+    /**
+     * Stores a function read from the current result row in the snapshot of this load.
+     *
+     * @param res        function row
+     * @param schemaName schema of the function
+     * @param signature  hash of the function row with resolved type names
+     * @param function   read function
+     * @throws SQLException if columns cannot be read
+     */
+    public void addSnapshotFunction(ResultSet res, String schemaName, String signature, PgAbstractFunction function)
+            throws SQLException {
+        if (snapshot != null) {
+            snapshot.addFunction(res.getLong("oid"), schemaName, res.getString("last_modified"), signature,
+                    function);
+        }
+    }
+
     protected void queryCheckGreenplumDb(Statement statement) throws SQLException, InterruptedException {
         setCurrentOperation(Messages.JdbcLoaderBase_log_check_gp_db);
         try (ResultSet res = getRunner().runScript(statement, QUERY_CHECK_GREENPLUM)) {
@@ -451,7 +659,7 @@ public class PgJdbcLoader extends AbstractJdbcLoader<PgDatabase> {
                 : PgDiffUtils.getQuotedName(schemaName) + '.' + stSignature;
         String column = columnId != null ? "(" + columnId + ")" : "";
 
-        List<PgJdbcPrivilege> grants = PgJdbcPrivilege.parse(aclItemsArrayAsString, order, owner);
+        List<PgJdbcPrivilege> grants = cachedPrivileges.parse(aclItemsArrayAsString, order, owner);
 
         boolean metPublicRoleGrants = false;
         boolean metDefaultOwnersGrants = false;
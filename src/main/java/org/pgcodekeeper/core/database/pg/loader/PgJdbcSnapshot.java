@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.loader;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.pgcodekeeper.core.database.pg.schema.PgAbstractFunction;
+
+/**
+ * Objects of a JDBC load together with their pg_dbo_timestamp modification times.
+ * <p>
+ * A snapshot of the previous load passed to {@link PgJdbcLoader#setPreviousSnapshot(PgJdbcSnapshot)}
+ * lets the loader reuse objects whose modification time has not changed instead of
+ * parsing them again. Objects are matched by OID, so a snapshot is only meaningful
+ * for the database it was loaded from. Besides the modification time, the catalog row of an object
+ * with its type OIDs resolved to names must be the same: renaming a type used by a function
+ * changes its signature but not its pg_proc row.
+ * <p>
+ * Currently functions, procedures and aggregates are stored: their bodies are the bulk
+ * of JDBC parsing work, and unlike views their analysis does not feed column metadata
+ * to other objects. Reused objects are not analyzed again, so the loader returns the snapshot
+ * only after the loaded database has been analyzed and the stored objects have their analysis dependencies.
+ * <p>
+ * The state of the objects a function depends on is stored with it: a function body refers to tables,
+ * views and types by name and does not change when they do. The loader compares the stored state
+ * with the loaded objects and reads functions with stale dependencies again.
+ */
+public final class PgJdbcSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int FORMAT_VERSION = 3;
+
+    private static final ObjectInputFilter DESERIALIZATION_FILTER = ObjectInputFilter.Config.createFilter(
+            "org.pgcodekeeper.core.**;java.util.**;java.lang.**;!*");
+
+    private final String stamp;
+    private final Map<Long, Entry> functions;
+
+    PgJdbcSnapshot(String stamp) {
+        this(stamp, new HashMap<>());
+    }
+
+    private PgJdbcSnapshot(String stamp, Map<Long, Entry> functions) {
+        this.stamp = stamp;
+        this.functions = functions;
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(Path)}.
+     *
+     * @param path snapshot file
+     * @return read snapshot
+     * @throws IOException if the file cannot be read or has an unsupported format
+     */
+    public static PgJdbcSnapshot read(Path path) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            in.setObjectInputFilter(DESERIALIZATION_FILTER);
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new InvalidClassException(PgJdbcSnapshot.class.getName(), "unsupported format");
+            }
+            return (PgJdbcSnapshot) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the snapshot. Stored objects are detached from their database.
+     *
+     * @param path snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeObject(detach());
+        }
+    }
+
+    /**
+     * @return snapshot with copies of the stored objects, detached from their database
+     */
+    PgJdbcSnapshot detach() {
+        return detach(Entry::depsState);
+    }
+
+    /**
+     * @param depsState computes the state of the dependencies of a stored function
+     *                  while it is still attached to its database
+     * @return snapshot with copies of the stored objects, detached from their database
+     */
+    PgJdbcSnapshot detach(Function<Entry, String> depsState) {
+        Map<Long, Entry> detached = new HashMap<>();
+        functions.forEach((oid, e) -> detached.put(oid, new Entry(e.schemaName(), e.lastModified(),
+                e.signature(), depsState.apply(e), (PgAbstractFunction) e.function().shallowCopy())));
+        return new PgJdbcSnapshot(stamp, detached);
+    }
+
+    /**
+     * @return number of stored objects
+     */
+    public int size() {
+        return functions.size();
+    }
+
+    boolean isCompatible(String stamp) {
+        return this.stamp.equals(stamp);
+    }
+
+    void addFunction(long oid, String schemaName, String lastModified, String signature,
+                     PgAbstractFunction function) {
+        functions.put(oid, new Entry(schemaName, lastModified, signature, null, function));
+    }
+
+    /**
+     * Returns a copy of the stored function if it has not been modified since this snapshot.
+     * Functions without the state of their dependencies are not reused. The copy has no owner, comment and privileges: they may change without a modification time change
+     * and are read from the catalog again.
+     *
+     * @param oid          function OID
+     * @param schemaName   current schema of the function
+     * @param lastModified current modification time of the function
+     * @param signature    hash of the current catalog row of the function with resolved type names
+     * @return copy of the unchanged function, or null if it must be read again
+     */
+    PgAbstractFunction getUnchangedFunction(long oid, String schemaName, String lastModified, String signature) {
+        Entry e = functions.get(oid);
+        if (e == null || lastModified == null || !lastModified.equals(e.lastModified())
+                || !schemaName.equals(e.schemaName()) || !signature.equals(e.signature())
+                || e.depsState() == null) {
+            return null;
+        }
+        var copy = (PgAbstractFunction) e.function().shallowCopy();
+        copy.setOwner(null);
+        copy.setComment(null);
+        copy.clearPrivileges();
+        return copy;
+    }
+
+    /**
+     * @param oid function OID
+     * @return stored state of the dependencies of the function, or null
+     */
+    String getDepsState(long oid) {
+        Entry e = functions.get(oid);
+        return e == null ? null : e.depsState();
+    }
+
+    record Entry(String schemaName, String lastModified, String signature, String depsState,
+                 PgAbstractFunction function) implements Serializable {
+    }
+}
@@ -16,7 +16,7 @@
 package org.pgcodekeeper.core.database.pg.loader;
 
 import java.io.IOException;
-import java.io.Serializable;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -348,7 +348,8 @@ final class PgJdbcSystemLoader extends PgJdbcLoader {
     }
 
     /**
-     * Serializes system objects from a database connection to a file.
+     * Writes system objects from a database connection to a resource file.
+     * The file should be named {@link MetaStorage#FILE_NAME} + version + {@link MetaStorage#FILE_EXTENSION}.
      *
      * @param path the output file path
      * @param url  the database connection URL
@@ -357,7 +358,6 @@ final class PgJdbcSystemLoader extends PgJdbcLoader {
      */
     public static void serialize(String path, String url) throws IOException, InterruptedException {
         var jdbcConnector = new PgJdbcConnector(url);
-        Serializable storage = new PgJdbcSystemLoader(jdbcConnector).getStorageFromJdbc();
-        Utils.serialize(path, storage);
+        new PgJdbcSystemLoader(jdbcConnector).getStorageFromJdbc().write(Path.of(path));
     }
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import org.pgcodekeeper.core.database.base.loader.AbstractDumpLoader;
 import org.pgcodekeeper.core.database.base.loader.AbstractLibraryLoader;
 import org.pgcodekeeper.core.database.base.loader.AbstractProjectLoader;
 import org.pgcodekeeper.core.database.base.project.AbstractWorkDirs;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLLexer;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser;
 import org.pgcodekeeper.core.database.pg.project.PgWorkDirs;
 import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
 import org.pgcodekeeper.core.settings.ISettings;
@@ -56,4 +58,9 @@ public class PgProjectLoader extends AbstractProjectLoader<PgDatabase> {
     protected AbstractLibraryLoader<PgDatabase> createLibraryLoader(PgDatabase db) {
         return new PgLibraryLoader(db, metaPath, new HashSet<>(), settings);
     }
+
+    @Override
+    protected String getGrammarVersion() {
+        return SQLLexer._serializedATN + SQLParser._serializedATN;
+    }
 }
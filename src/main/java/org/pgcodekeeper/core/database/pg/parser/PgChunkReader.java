@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.antlr.v4.runtime.Token;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLLexer;
+
+/**
+ * Splits PostgreSQL SQL into chunks at semicolons ending top-level statements.
+ * <p>
+ * Semicolons inside parentheses (rule actions) and inside {@code BEGIN ATOMIC ... END}
+ * function bodies do not end a statement. Data of {@code COPY ... FROM STDIN} statements
+ * up to the {@code \.} line is skipped.
+ */
+public final class PgChunkReader extends AbstractChunkReader {
+
+    private static final String END_OF_DATA = "\\.";
+
+    private int previous = SQLLexer.SEMI_COLON;
+    private int parens;
+    private int blocks;
+    private boolean copy;
+    private boolean copyFromStdin;
+    private boolean data;
+
+    /**
+     * @param in      input stream, closed by this reader
+     * @param charset input charset
+     */
+    public PgChunkReader(InputStream in, Charset charset) {
+        this(in, charset, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param in        input stream, closed by this reader
+     * @param charset   input charset
+     * @param chunkSize number of characters after which the input is split at the next statement end
+     */
+    public PgChunkReader(InputStream in, Charset charset, int chunkSize) {
+        super(in, charset, chunkSize, SQLLexer::new);
+    }
+
+    @Override
+    protected boolean isBoundary(Token token) {
+        int type = token.getType();
+        int prev = previous;
+        previous = type;
+
+        switch (type) {
+        case SQLLexer.SEMI_COLON:
+            if (parens == 0 && blocks == 0) {
+                data = copyFromStdin;
+                copy = false;
+                copyFromStdin = false;
+                return true;
+            }
+            break;
+        case SQLLexer.LEFT_PAREN:
+            parens++;
+            break;
+        case SQLLexer.RIGHT_PAREN:
+            if (parens > 0) {
+                parens--;
+            }
+            break;
+        case SQLLexer.ATOMIC:
+            if (prev == SQLLexer.BEGIN) {
+                blocks++;
+            }
+            break;
+        case SQLLexer.CASE:
+            if (blocks > 0) {
+                blocks++;
+            }
+            break;
+        case SQLLexer.END:
+            if (blocks > 0) {
+                blocks--;
+            }
+            break;
+        case SQLLexer.COPY:
+            copy = prev == SQLLexer.SEMI_COLON;
+            break;
+        case SQLLexer.STDIN:
+            copyFromStdin = copy && prev == SQLLexer.FROM;
+            break;
+        default:
+            break;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean isDataFollowing() {
+        return data;
+    }
+
+    @Override
+    protected void skipData() throws IOException {
+        data = false;
+        // rest of the COPY statement line
+        readLine();
+        String line;
+        while ((line = readLine()) != null && !END_OF_DATA.equals(line)) {
+            // skip data rows
+        }
+    }
+}
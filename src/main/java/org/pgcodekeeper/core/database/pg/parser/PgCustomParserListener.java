@@ -99,6 +99,7 @@ public final class PgCustomParserListener extends CustomParserListener<PgDatabas
     private String accessMethod;
     private String oids;
     private final Queue<AntlrTask<?>> antlrTasks;
+    private final List<Object> stagedErrors;
 
     /**
      * Creates a new PostgreSQL SQL parser listener.
@@ -113,6 +114,48 @@ public final class PgCustomParserListener extends CustomParserListener<PgDatabas
                                    ISettings settings, Queue<AntlrTask<?>> antlrTasks) {
         super(database, filename, mode, settings);
         this.antlrTasks = antlrTasks;
+        this.stagedErrors = null;
+    }
+
+    private PgCustomParserListener(PgCustomParserListener listener, PgDatabase stagingDb,
+                                   List<Object> stagedErrors, Queue<AntlrTask<?>> stagedTasks) {
+        super(stagingDb, listener.filename, listener.mode, listener.settings);
+        this.antlrTasks = stagedTasks;
+        this.stagedErrors = stagedErrors;
+        this.tablespace = listener.tablespace;
+        this.accessMethod = listener.accessMethod;
+        this.oids = listener.oids;
+        setWorkDirs(listener.workDirs);
+    }
+
+    /**
+     * Creates a stage for building statements of this listener's file in a parser thread.
+     *
+     * @param parsedObjectName name of the parsed file used in errors
+     * @param errors           list of load errors
+     * @param antlrTasks       queue of load tasks
+     * @return the stage, or null if statements must be built into the database directly
+     */
+    PgModelStage createStage(String parsedObjectName, List<Object> errors, Queue<AntlrTask<?>> antlrTasks) {
+        return ParserListenerMode.NORMAL == mode
+                ? new PgModelStage(this, parsedObjectName, db, errors, antlrTasks) : null;
+    }
+
+    /**
+     * Creates a listener building statements of the same file into the staging database.
+     */
+    PgCustomParserListener createStagedListener(PgDatabase stagingDb, List<Object> stagedErrors,
+                                                Queue<AntlrTask<?>> stagedTasks) {
+        return new PgCustomParserListener(this, stagingDb, stagedErrors, stagedTasks);
+    }
+
+    @Override
+    protected void addError(Object error) {
+        if (stagedErrors != null) {
+            stagedErrors.add(error);
+        } else {
+            super.addError(error);
+        }
     }
 
     /**
@@ -190,7 +233,8 @@ public final class PgCustomParserListener extends CustomParserListener<PgDatabas
         } else if (ctx.create_collation_statement() != null) {
             p = new PgCreateCollation(ctx.create_collation_statement(), db, getSettings());
         } else if (ctx.create_function_statement() != null) {
-            p = new PgCreateFunction(ctx.create_function_statement(), db, settings.getErrors(), antlrTasks, getSettings());
+            p = new PgCreateFunction(ctx.create_function_statement(), db,
+                    stagedErrors != null ? stagedErrors : settings.getErrors(), antlrTasks, getSettings());
         } else if (ctx.create_aggregate_statement() != null) {
             p = new PgCreateAggregate(ctx.create_aggregate_statement(), db, getSettings());
         } else if (ctx.create_operator_statement() != null) {
@@ -0,0 +1,468 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.parser;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.pgcodekeeper.core.database.api.launcher.IAnalysisLauncher;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IFunction;
+import org.pgcodekeeper.core.database.api.schema.IOperator;
+import org.pgcodekeeper.core.database.api.schema.IRelation;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
+import org.pgcodekeeper.core.database.base.parser.AntlrTask;
+import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
+import org.pgcodekeeper.core.database.base.parser.CustomParserListener;
+import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser.SqlContext;
+import org.pgcodekeeper.core.database.pg.schema.PgAbstractStatementContainer;
+import org.pgcodekeeper.core.database.pg.schema.PgAbstractTable;
+import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
+import org.pgcodekeeper.core.database.pg.schema.PgIndex;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
+import org.pgcodekeeper.core.database.pg.schema.PgSequence;
+import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
+import org.pgcodekeeper.core.exception.UnresolvedReferenceException;
+
+/**
+ * Staging area for building statements of one PostgreSQL file in a parser thread.
+ * <p>
+ * Statements are built into a separate database object. Schemas which the file does not create
+ * are represented by empty shadow schemas, and every name looked up and not found in the staging
+ * objects is recorded. Errors, references, analysis launchers and subtasks are kept in the stage.
+ * <p>
+ * The stage is merged into the shared database in file order, after all previous files.
+ * Merging checks that the file would have seen the same objects if it was built directly:
+ * all shadow schemas exist and were not modified, no recorded name and no staged object name
+ * exists in the shared database, and the file did not list any container contents.
+ * Otherwise the stage is discarded and the file must be built directly, so the resulting model,
+ * errors and their order are always the same as in sequential building.
+ */
+final class PgModelStage {
+
+    private final StagingDatabase stagingDb = new StagingDatabase();
+    private final Map<String, ShadowSchema> shadows = new LinkedHashMap<>();
+    private final StagedErrors stagedErrors = new StagedErrors();
+    private final StagedTasks stagedTasks = new StagedTasks();
+
+    private final PgCustomParserListener listener;
+    private final String filename;
+    private final PgDatabase db;
+    private final List<Object> errors;
+    private final Queue<AntlrTask<?>> antlrTasks;
+    private final boolean hasDefaultSchema;
+
+    private boolean tainted;
+    private boolean merged;
+
+    /**
+     * Creates a stage for the file of the listener. Must be called in the loading thread.
+     *
+     * @param listener   listener of the file
+     * @param filename   name of the file used in errors
+     * @param db         the shared database
+     * @param errors     list of load errors
+     * @param antlrTasks queue of load tasks
+     */
+    PgModelStage(PgCustomParserListener listener, String filename, PgDatabase db,
+                 List<Object> errors, Queue<AntlrTask<?>> antlrTasks) {
+        this.listener = listener.createStagedListener(stagingDb, stagedErrors, stagedTasks);
+        this.filename = filename;
+        this.db = db;
+        this.errors = errors;
+        this.antlrTasks = antlrTasks;
+        this.hasDefaultSchema = db.getDefaultSchema() != null;
+    }
+
+    /**
+     * Builds statements of the file into the stage. Called in a parser thread.
+     *
+     * @param rootCtx the root file context
+     * @param stream  the token stream associated with the context
+     */
+    void build(SqlContext rootCtx, CommonTokenStream stream) {
+        try {
+            listener.process(rootCtx, stream);
+        } catch (UnresolvedReferenceException ex) {
+            stagedErrors.add(CustomParserListener.handleUnresolvedReference(ex, filename));
+        } catch (MonitorCancelledRuntimeException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            // reproduced by direct building
+            tainted = true;
+        }
+    }
+
+    /**
+     * Merges the stage into the shared database. Called in the loading thread in file order.
+     * Subtasks of a discarded stage are cancelled, direct building submits them again.
+     *
+     * @return false if the stage was discarded and the file must be built directly
+     */
+    boolean merge() {
+        if (!isValid()) {
+            AntlrTaskManager.discard(stagedTasks.staged);
+            return false;
+        }
+
+        for (AbstractStatement st : stagingDb.getOwnChildren()) {
+            st.setParent(null);
+            db.addChild(st);
+        }
+        for (ShadowSchema shadow : shadows.values()) {
+            PgSchema schema = db.getSchema(shadow.getName());
+            for (AbstractStatement st : shadow.getOwnChildren()) {
+                st.setParent(null);
+                schema.addChild(st);
+            }
+        }
+
+        stagingDb.getObjReferences().forEach((file, locs) -> locs.forEach(loc -> db.addReference(file, loc)));
+        stagingDb.getAnalysisLaunchers().forEach(db::addAnalysisLauncher);
+        errors.addAll(stagedErrors.staged);
+        antlrTasks.addAll(stagedTasks.staged);
+        merged = true;
+
+        db.sortColumns();
+        return true;
+    }
+
+    private boolean isValid() {
+        if (tainted || !isPristine(stagingDb, new PgDatabase()) || !stagingDb.getOverrides().isEmpty()) {
+            return false;
+        }
+        for (String name : stagingDb.misses) {
+            if (hasChild(db, name)) {
+                return false;
+            }
+        }
+        for (AbstractStatement st : stagingDb.getOwnChildren()) {
+            if (hasChild(db, st.getName())) {
+                return false;
+            }
+        }
+
+        for (ShadowSchema shadow : shadows.values()) {
+            String schemaName = shadow.getName();
+            PgSchema schema = db.getSchema(schemaName);
+            if (schema == null || !isPristine(shadow, new PgSchema(schemaName))) {
+                return false;
+            }
+            for (String name : shadow.misses) {
+                if (hasChild(schema, name)) {
+                    return false;
+                }
+            }
+            for (AbstractStatement st : shadow.getOwnChildren()) {
+                if (hasChild(schema, st.getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPristine(AbstractStatement st, AbstractStatement pristine) {
+        return st.compare(pristine) && st.getDependencies().isEmpty() && st.getLocation() == null;
+    }
+
+    private static boolean hasChild(PgDatabase db, String name) {
+        return db.getSchema(name) != null
+                || db.getExtension(name) != null
+                || db.getEventTrigger(name) != null
+                || db.getForeignDW(name) != null
+                || db.getServer(name) != null
+                || db.getChild(name, DbObjType.USER_MAPPING) != null
+                || db.getCast(name) != null;
+    }
+
+    private static boolean hasChild(PgSchema schema, String name) {
+        return schema.getFunction(name) != null
+                || schema.getRelation(name) != null
+                || schema.getType(name) != null
+                || schema.getDomain(name) != null
+                || schema.getFtsParser(name) != null
+                || schema.getFtsTemplate(name) != null
+                || schema.getFtsDictionary(name) != null
+                || schema.getFtsConfiguration(name) != null
+                || schema.getOperator(name) != null
+                || schema.getCollation(name) != null
+                || schema.getStatistics(name) != null;
+    }
+
+    private static List<AbstractStatement> flatten(List<Collection<? extends AbstractStatement>> l) {
+        List<AbstractStatement> children = new ArrayList<>();
+        l.forEach(children::addAll);
+        return children;
+    }
+
+    /**
+     * Database of the stage. Unknown schemas are resolved to shadow schemas.
+     */
+    private final class StagingDatabase extends PgDatabase {
+
+        private final Map<String, PgSchema> createdSchemas = new HashMap<>();
+        private final Set<String> misses = new HashSet<>();
+
+        @Override
+        public PgSchema getSchema(String name) {
+            if (name == null) {
+                return getDefaultSchema();
+            }
+            PgSchema schema = createdSchemas.get(name);
+            return schema != null ? schema : shadows.computeIfAbsent(name, ShadowSchema::new);
+        }
+
+        @Override
+        public PgSchema getDefaultSchema() {
+            if (hasDefaultSchema) {
+                tainted = true;
+            }
+            return null;
+        }
+
+        @Override
+        public void addChild(IStatement st) {
+            super.addChild(st);
+            if (st instanceof PgSchema schema) {
+                createdSchemas.put(schema.getName(), schema);
+            }
+        }
+
+        @Override
+        protected <T extends AbstractStatement> T getChildByName(Map<String, T> map, String name) {
+            T st = super.getChildByName(map, name);
+            if (st == null) {
+                misses.add(name);
+            }
+            return st;
+        }
+
+        @Override
+        public Collection<PgSchema> getSchemas() {
+            tainted = true;
+            return super.getSchemas();
+        }
+
+        @Override
+        public Collection<IStatement> getChildrenByType(DbObjType type) {
+            tainted = true;
+            return super.getChildrenByType(type);
+        }
+
+        @Override
+        public void fillChildrenList(List<Collection<? extends AbstractStatement>> l) {
+            tainted = true;
+            super.fillChildrenList(l);
+        }
+
+        @Override
+        public void fillDescendantsList(List<Collection<? extends AbstractStatement>> l) {
+            tainted = true;
+            super.fillDescendantsList(l);
+        }
+
+        @Override
+        public void sortColumns() {
+            // columns are sorted in the shared database after merge
+        }
+
+        @Override
+        public void addReference(String fileName, ObjectLocation loc) {
+            if (merged) {
+                db.addReference(fileName, loc);
+            } else {
+                super.addReference(fileName, loc);
+            }
+        }
+
+        @Override
+        public void addAnalysisLauncher(IAnalysisLauncher launcher) {
+            if (merged) {
+                db.addAnalysisLauncher(launcher);
+            } else {
+                super.addAnalysisLauncher(launcher);
+            }
+        }
+
+        private List<AbstractStatement> getOwnChildren() {
+            List<Collection<? extends AbstractStatement>> l = new ArrayList<>();
+            super.fillChildrenList(l);
+            return flatten(l);
+        }
+    }
+
+    /**
+     * Empty stand-in for a schema of the shared database.
+     */
+    private final class ShadowSchema extends PgSchema {
+
+        private final Set<String> misses = new HashSet<>();
+
+        ShadowSchema(String name) {
+            super(name);
+            setParent(stagingDb);
+        }
+
+        @Override
+        protected <T extends AbstractStatement> T getChildByName(Map<String, T> map, String name) {
+            T st = super.getChildByName(map, name);
+            if (st == null) {
+                misses.add(name);
+            }
+            return st;
+        }
+
+        @Override
+        public Collection<IOperator> getOperators() {
+            tainted = true;
+            return super.getOperators();
+        }
+
+        @Override
+        public List<IOperator> getOperatorsByBareName(String bareName) {
+            tainted = true;
+            return super.getOperatorsByBareName(bareName);
+        }
+
+        @Override
+        public PgIndex getIndexByName(String indexName) {
+            tainted = true;
+            return super.getIndexByName(indexName);
+        }
+
+        @Override
+        public Collection<PgAbstractTable> getTables() {
+            tainted = true;
+            return super.getTables();
+        }
+
+        @Override
+        public Collection<IFunction> getFunctions() {
+            tainted = true;
+            return super.getFunctions();
+        }
+
+        @Override
+        public Collection<PgSequence> getSequences() {
+            tainted = true;
+            return super.getSequences();
+        }
+
+        @Override
+        public Stream<IRelation> getRelations() {
+            tainted = true;
+            return super.getRelations();
+        }
+
+        @Override
+        public Stream<PgAbstractStatementContainer> getStatementContainers() {
+            tainted = true;
+            return super.getStatementContainers();
+        }
+
+        @Override
+        public Collection<IStatement> getChildrenByType(DbObjType type) {
+            tainted = true;
+            return super.getChildrenByType(type);
+        }
+
+        @Override
+        public void fillChildrenList(List<Collection<? extends AbstractStatement>> l) {
+            tainted = true;
+            super.fillChildrenList(l);
+        }
+
+        @Override
+        public void fillDescendantsList(List<Collection<? extends AbstractStatement>> l) {
+            tainted = true;
+            super.fillDescendantsList(l);
+        }
+
+        private List<AbstractStatement> getOwnChildren() {
+            List<Collection<? extends AbstractStatement>> l = new ArrayList<>();
+            super.fillChildrenList(l);
+            return flatten(l);
+        }
+    }
+
+    /**
+     * Errors of the stage, passed to the load errors after merge.
+     */
+    private final class StagedErrors extends AbstractList<Object> {
+
+        private final List<Object> staged = new ArrayList<>();
+
+        @Override
+        public Object get(int index) {
+            return getList().get(index);
+        }
+
+        @Override
+        public int size() {
+            return getList().size();
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            getList().add(index, element);
+        }
+
+        private List<Object> getList() {
+            return merged ? errors : staged;
+        }
+    }
+
+    /**
+     * Subtasks of the stage, passed to the load tasks after merge.
+     */
+    private final class StagedTasks extends AbstractQueue<AntlrTask<?>> {
+
+        private final Queue<AntlrTask<?>> staged = new ArrayDeque<>();
+
+        @Override
+        public boolean offer(AntlrTask<?> task) {
+            return getQueue().offer(task);
+        }
+
+        @Override
+        public AntlrTask<?> poll() {
+            return getQueue().poll();
+        }
+
+        @Override
+        public AntlrTask<?> peek() {
+            return getQueue().peek();
+        }
+
+        @Override
+        public Iterator<AntlrTask<?>> iterator() {
+            return getQueue().iterator();
+        }
+
+        @Override
+        public int size() {
+            return getQueue().size();
+        }
+
+        private Queue<AntlrTask<?>> getQueue() {
+            return merged ? antlrTasks : staged;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.*;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.misc.Interval;
 import org.pgcodekeeper.core.database.base.parser.*;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
 import org.pgcodekeeper.core.database.pg.parser.generated.*;
 import org.pgcodekeeper.core.database.pg.parser.statement.PgParserAbstract;
 import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
@@ -44,6 +45,14 @@ public final class PgParserUtils {
 
     private static volatile long pgParserLastStart;
 
+    private static final QNameSplitter QNAME_SPLITTER = new QNameSplitter(SQLLexer::new, SQLLexer.Identifier, "\"",
+            name -> new QNameParserWrapper(parseQName(name)));
+
+    private static final Set<Integer> OPERATOR_TOKENS = Set.of(SQLLexer.OP_CHARS, SQLLexer.LESS_LESS,
+            SQLLexer.GREATER_GREATER, SQLLexer.HASH_SIGN, SQLLexer.EQUAL, SQLLexer.NOT_EQUAL, SQLLexer.LTH,
+            SQLLexer.LEQ, SQLLexer.GTH, SQLLexer.GEQ, SQLLexer.PLUS, SQLLexer.MINUS, SQLLexer.MULTIPLY,
+            SQLLexer.DIVIDE, SQLLexer.MODULAR, SQLLexer.EXP);
+
     /**
      * Creates a parser for PostgreSQL privilege strings.
      *
@@ -107,7 +116,56 @@ public final class PgParserUtils {
 
     private static SQLParser createSqlParser(CharStream stream, String parsedObjectName, List<Object> errors,
                                              int offset, int lineOffset, int inLineOffset) {
-        SQLLexer lexer = new SQLLexer(stream);
+        return createSqlParser(new SQLLexer(stream), parsedObjectName, errors, offset, lineOffset, inLineOffset);
+    }
+
+    private static SQLParser createSqlParser(Chunk chunk, String parsedObjectName, List<Object> errors) {
+        SQLLexer lexer = new SQLLexer(CharStreams.fromString(chunk.text()));
+        chunk.applyTo(lexer);
+        // tokens already have positions in the whole input
+        return createSqlParser(lexer, parsedObjectName, errors, 0, 0, 0);
+    }
+
+    /**
+     * Parses the source text of a context released by an analysis launcher.
+     *
+     * @param fragment         source text of the context and its position in the source
+     * @param type             type of the released context
+     * @param parsedObjectName name of the object being parsed (for error reporting)
+     * @param errors           list to collect parsing errors
+     * @return context of the given type
+     * @throws IllegalArgumentException if contexts of the given type are not analyzed
+     */
+    public static ParserRuleContext parseFragment(Chunk fragment, Class<? extends ParserRuleContext> type,
+                                                  String parsedObjectName, List<Object> errors) {
+        SQLParser parser = createSqlParser(fragment, parsedObjectName, errors);
+        if (type == SQLParser.VexContext.class) {
+            return parser.vex();
+        }
+        if (type == SQLParser.Select_stmtContext.class) {
+            return parser.select_stmt();
+        }
+        if (type == SQLParser.Index_restContext.class) {
+            return parser.index_rest();
+        }
+        if (type == SQLParser.Create_rewrite_statementContext.class) {
+            return parser.create_rewrite_statement();
+        }
+        if (type == SQLParser.Function_bodyContext.class) {
+            return parser.function_body();
+        }
+        if (type == SQLParser.SqlContext.class) {
+            return parser.sql();
+        }
+        if (type == SQLParser.Plpgsql_functionContext.class) {
+            removeIntoStatements(parser);
+            return parser.plpgsql_function();
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+    private static SQLParser createSqlParser(SQLLexer lexer, String parsedObjectName, List<Object> errors,
+                                             int offset, int lineOffset, int inLineOffset) {
         SQLParser parser = new SQLParser(new CommonTokenStream(lexer));
         ParserUtils.addErrorListener(lexer, parser, parsedObjectName, errors, offset, lineOffset, inLineOffset);
         parser.setErrorHandler(new PgCustomAntlrErrorStrategy());
@@ -131,17 +189,57 @@ public final class PgParserUtils {
         List<Object> errors = settings.getErrors();
         IMonitor mon = settings.getMonitor();
         String charsetName = settings.getInCharsetName();
+        if (settings.isChunkedDumpParsing()) {
+            parseSqlStreamChunks(inputStream, parsedObjectName, settings, monitoringLevel, listener, antlrTasks);
+            return;
+        }
+        PgModelStage stage = settings.isConcurrentModelBuilding() && listener instanceof PgCustomParserListener l
+                ? l.createStage(parsedObjectName, errors, antlrTasks) : null;
         AntlrTaskManager.submit(antlrTasks, () -> {
             IMonitor.checkCancelled(mon);
             try (InputStream stream = inputStream.getStream()) {
                 var parser = createSqlParser(stream, charsetName, parsedObjectName, errors);
                 parser.addParseListener(new CustomParseTreeListener(
                         monitoringLevel, mon == null ? new NullMonitor() : mon));
-                return new Pair<>(parser.sql(), (CommonTokenStream) parser.getTokenStream());
+                var ctx = settings.isTwoStageParsing()
+                        ? ParserUtils.parseTwoStage(parser, SQLParser::sql, parsedObjectName) : parser.sql();
+                var tokens = (CommonTokenStream) parser.getTokenStream();
+                if (stage != null) {
+                    stage.build(ctx, tokens);
+                }
+                return new Pair<>(ctx, tokens);
             } catch (MonitorCancelledRuntimeException mcre) {
                 throw new InterruptedException();
             }
-        }, pair -> {
+        }, inputStream.getSize(), pair -> {
+            if (stage != null && stage.merge()) {
+                return;
+            }
+            try {
+                listener.process(pair.getFirst(), pair.getSecond());
+            } catch (UnresolvedReferenceException ex) {
+                errors.add(CustomParserListener.handleUnresolvedReference(ex, parsedObjectName));
+            }
+        });
+    }
+
+    private static void parseSqlStreamChunks(InputStreamProvider inputStream, String parsedObjectName,
+                                             ISettings settings, int monitoringLevel,
+                                             IPgContextProcessor listener, Queue<AntlrTask<?>> antlrTasks) {
+        List<Object> errors = settings.getErrors();
+        IMonitor mon = settings.getMonitor();
+        String charsetName = settings.getInCharsetName();
+        AntlrTaskManager.submitChunks(antlrTasks, () -> {
+            IMonitor.checkCancelled(mon);
+            return new PgChunkReader(inputStream.getStream(), Charset.forName(charsetName));
+        }, inputStream.getSize(), (chunk, chunkErrors) -> {
+            var parser = createSqlParser(chunk, parsedObjectName, chunkErrors);
+            parser.addParseListener(new CustomParseTreeListener(
+                    monitoringLevel, mon == null ? new NullMonitor() : mon));
+            var ctx = settings.isTwoStageParsing()
+                    ? ParserUtils.parseTwoStage(parser, SQLParser::sql, parsedObjectName) : parser.sql();
+            return new Pair<>(ctx, (CommonTokenStream) parser.getTokenStream());
+        }, errors, pair -> {
             try {
                 listener.process(pair.getFirst(), pair.getSecond());
             } catch (UnresolvedReferenceException ex) {
@@ -358,7 +456,7 @@ public final class PgParserUtils {
      * @return wrapper containing parsed name components
      */
     public static QNameParserWrapper wrapParsedQName(String fullName) {
-        return new QNameParserWrapper(parseQName(fullName));
+        return QNAME_SPLITTER.parse(fullName);
     }
 
     /**
@@ -368,7 +466,42 @@ public final class PgParserUtils {
      * @return wrapper containing parsed name components
      */
     public static QNameParserWrapper wrapParsedPgOperator(String fullName) {
-        return new QNameParserWrapper(parsePgOperator(fullName));
+        List<String> names = splitPgOperator(fullName);
+        return names != null ? new QNameParserWrapper(names) : new QNameParserWrapper(parsePgOperator(fullName));
+    }
+
+    /**
+     * Reads a plain operator name, optionally qualified by a non-keyword schema, with the lexer alone.
+     *
+     * @return schema (null if not qualified) and operator, or null if the name must be read by the parser
+     */
+    private static List<String> splitPgOperator(String fullName) {
+        SQLLexer lexer = new SQLLexer(CharStreams.fromString(fullName));
+        lexer.removeErrorListeners();
+        List<? extends Token> tokens = lexer.getAllTokens();
+        String schema = null;
+        int i = 0;
+        if (tokens.size() == 3) {
+            Token schemaToken = tokens.get(0);
+            int type = schemaToken.getType();
+            if ((type != SQLLexer.Identifier && type != SQLLexer.QuotedIdentifier)
+                    || tokens.get(1).getType() != SQLLexer.DOT) {
+                return null;
+            }
+            schema = schemaToken.getText();
+            i = 2;
+        } else if (tokens.size() != 1) {
+            return null;
+        }
+
+        Token operator = tokens.get(i);
+        if (!OPERATOR_TOKENS.contains(operator.getType())) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(2);
+        names.add(schema);
+        names.add(operator.getText());
+        return names;
     }
 
     private PgParserUtils() {
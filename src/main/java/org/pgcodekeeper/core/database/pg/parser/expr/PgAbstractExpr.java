@@ -327,14 +327,12 @@ public abstract class PgAbstractExpr extends AbstractExpr {
         ParserRuleContext nameCtx = QNameParser.getFirstNameCtx(ids);
         String name = nameCtx.getText();
 
-        Collection<? extends IStatement> availableStatements =
-                type == DbObjType.OPERATOR ? availableOperators(schemaName) : availableFunctions(schemaName);
+        Collection<? extends IStatement> availableStatements = type == DbObjType.OPERATOR
+                ? availableOperators(schemaName, name) : availableFunctions(schemaName, name);
 
-        for (IStatement statement : availableStatements) {
-            if (statement.getBareName().equals(name)) {
-                addDepcy(new ObjectReference(schemaName, statement.getName(), type), nameCtx, start);
-                break;
-            }
+        if (!availableStatements.isEmpty()) {
+            IStatement statement = availableStatements.iterator().next();
+            addDepcy(new ObjectReference(schemaName, statement.getName(), type), nameCtx, start);
         }
     }
 
@@ -375,12 +373,12 @@ public abstract class PgAbstractExpr extends AbstractExpr {
         addDepcy(new ObjectReference(ctx.getText(), DbObjType.SCHEMA), ctx, start);
     }
 
-    protected Collection<IFunction> availableFunctions(String schemaName) {
-        return meta.availableFunctions(getSchemaName(schemaName));
+    protected Collection<IFunction> availableFunctions(String schemaName, String functionName) {
+        return meta.availableFunctions(getSchemaName(schemaName), functionName);
     }
 
-    protected Collection<IOperator> availableOperators(String schemaName) {
-        return meta.availableOperators(getSchemaName(schemaName));
+    protected Collection<IOperator> availableOperators(String schemaName, String operatorName) {
+        return meta.availableOperators(getSchemaName(schemaName), operatorName);
     }
 
     protected ICompositeType findType(String schemaName, String typeName) {
@@ -656,7 +656,7 @@ public final class PgSelect extends PgAbstractExprWithNmspc<Select_stmtContext>
 
     private List<Pair<String, String>> setOfFunction(String funcAlias, String returns) {
         var typeQualifiedName = returns.replace("SETOF ", "");
-        var parsedName = PgParserUtils.parseQName(typeQualifiedName);
+        var parsedName = PgParserUtils.wrapParsedQName(typeQualifiedName);
 
         var schemaName = parsedName.getSchemaName();
         var objectName = parsedName.getFirstName();
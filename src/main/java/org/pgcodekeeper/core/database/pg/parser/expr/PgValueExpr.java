@@ -213,8 +213,7 @@ public final class PgValueExpr extends PgAbstractExpr {
         } else {
             larg = operandsList.get(0).getSecond();
         }
-        IOperator resultOperFunction = resolveOperatorsCall(operator, larg, rarg,
-                availableOperators(schema));
+        IOperator resultOperFunction = resolveOperatorsCall(larg, rarg, availableOperators(schema, operator));
 
         if (resultOperFunction != null) {
             addDependency(new ObjectReference(resultOperFunction.getSchemaName(),
@@ -507,7 +506,7 @@ public final class PgValueExpr extends PgAbstractExpr {
             }
         }
 
-        Collection<IFunction> functions = availableFunctions(schemaName);
+        Collection<IFunction> functions = availableFunctions(schemaName, functionName);
 
         if (args.size() == 1 && argsType.size() == 1
                 && PgTypesSetManually.QUALIFIED_ASTERISK.equals(argsType.get(0))) {
@@ -515,8 +514,7 @@ public final class PgValueExpr extends PgAbstractExpr {
             IFunction func = null;
             for (IFunction f : functions) {
                 if (f.getArguments().size() == 1
-                        && f.getArguments().get(0).getMode().isIn()
-                        && f.getBareName().equals(functionName)) {
+                        && f.getArguments().get(0).getMode().isIn()) {
                     if (func != null) {
                         // ambiguous call
                         func = null;
@@ -530,7 +528,7 @@ public final class PgValueExpr extends PgAbstractExpr {
                     getFunctionReturns(func) : PgTypesSetManually.FUNCTION_COLUMN);
         }
 
-        IFunction resultFunction = resolveCall(functionName, argsType, argsName, functions);
+        IFunction resultFunction = resolveCall(argsType, argsName, functions);
         if (resultFunction != null) {
             addFunctionDepcy(resultFunction, QNameParser.getFirstNameCtx(ids));
             return new ModPair<>(functionName, getFunctionReturns(resultFunction));
@@ -749,24 +747,19 @@ public final class PgValueExpr extends PgAbstractExpr {
     }
 
     /**
-     * @param functionName       called function bare name
      * @param sourceTypes        call sequential argument types
      * @param sourceNames        call named argument types (Name => Type map)
-     * @param availableFunctions functions from applicable schemas
+     * @param availableFunctions overloads of the called function from applicable schemas
      * @return most suitable function to call or null,
      * if none were found or an ambiguity was detected
      */
-    private IFunction resolveCall(String functionName, List<String> sourceTypes,
-                                  Map<String, String> sourceNames, Collection<? extends IFunction> availableFunctions) {
+    private IFunction resolveCall(List<String> sourceTypes, Map<String, String> sourceNames,
+                                  Collection<? extends IFunction> availableFunctions) {
         // save each applicable function with the number of exact type matches
         // between input args and function parameters
         // function that has more exact matches (less casts) wins
         List<Pair<IFunction, Integer>> matches = new ArrayList<>();
         for (IFunction f : availableFunctions) {
-            if (!f.getBareName().equals(functionName)) {
-                continue;
-            }
-
             int argN = 0;
             int namedArgN = 0;
             int exactMatches = 0;
@@ -830,8 +823,7 @@ public final class PgValueExpr extends PgAbstractExpr {
                 .getFirst();
     }
 
-    private IOperator resolveOperatorsCall(String operatorName, String left, String right,
-                                           Collection<IOperator> availableOperators) {
+    private IOperator resolveOperatorsCall(String left, String right, Collection<IOperator> availableOperators) {
         // save each applicable operators with the number of exact type matches
         // between input args and operator parameters
         // function that has more exact matches (less casts) wins
@@ -841,9 +833,6 @@ public final class PgValueExpr extends PgAbstractExpr {
 
         List<Pair<IOperator, Integer>> matches = new ArrayList<>();
         for (IOperator oper : availableOperators) {
-            if (!oper.getBareName().equals(operatorName)) {
-                continue;
-            }
             int exactMatches = 0;
             String leftArg = oper.getLeftArg();
             String rightArg = oper.getRightArg();
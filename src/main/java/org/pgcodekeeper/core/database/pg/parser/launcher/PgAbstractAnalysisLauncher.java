@@ -22,6 +22,7 @@ import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
+import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
 import org.pgcodekeeper.core.database.pg.parser.expr.*;
 import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser.VexContext;
 
@@ -35,6 +36,11 @@ public abstract class PgAbstractAnalysisLauncher extends AbstractAnalysisLaunche
         super(stmt, ctx, location);
     }
 
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return PgParserUtils::parseFragment;
+    }
+
     /**
      * Sets up namespace for Constraint/Index expr analysis
      *
@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
+import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
 import org.pgcodekeeper.core.database.pg.parser.expr.PgValueExprWithNmspc;
 import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser.VexContext;
 import org.pgcodekeeper.core.database.pg.parser.rulectx.PgVex;
@@ -55,4 +56,9 @@ public class PgStatisticsAnalysisLauncher extends AbstractAnalysisLauncher {
         expr.analyze(new PgVex((VexContext) ctx));
         return expr.getDependencies();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return PgParserUtils::parseFragment;
+    }
 }
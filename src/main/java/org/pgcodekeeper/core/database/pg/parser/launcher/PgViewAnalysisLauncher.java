@@ -15,17 +15,23 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.parser.launcher;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.pgcodekeeper.core.database.api.schema.ObjectLocation;
 import org.pgcodekeeper.core.database.api.schema.meta.IMetaContainer;
 import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
 import org.pgcodekeeper.core.database.base.schema.meta.*;
+import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
 import org.pgcodekeeper.core.database.pg.parser.expr.PgSelect;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser.Schema_qualified_nameContext;
 import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser.Select_stmtContext;
+import org.pgcodekeeper.core.database.pg.parser.statement.PgParserAbstract;
 import org.pgcodekeeper.core.database.pg.schema.PgAbstractView;
 import org.pgcodekeeper.core.database.base.parser.FullAnalyze;
+import org.pgcodekeeper.core.database.base.parser.QNameParser;
 
 /**
  * Launcher for analyzing PostgreSQL view definitions.
@@ -33,6 +39,8 @@ import org.pgcodekeeper.core.database.base.parser.FullAnalyze;
  */
 public class PgViewAnalysisLauncher extends AbstractAnalysisLauncher {
 
+    private final Set<String> relationNames = new HashSet<>();
+
     private FullAnalyze fullAnalyze;
 
     /**
@@ -44,6 +52,27 @@ public class PgViewAnalysisLauncher extends AbstractAnalysisLauncher {
      */
     public PgViewAnalysisLauncher(PgAbstractView stmt, Select_stmtContext ctx, String location) {
         super(stmt, ctx, location);
+        collectRelationNames(ctx);
+    }
+
+    /**
+     * Returns names of all objects referenced by qualified names in the view query.
+     * Schemas are not resolved, so the names are a superset of the relations the view selects from.
+     *
+     * @return referenced object names
+     */
+    public Set<String> getRelationNames() {
+        return relationNames;
+    }
+
+    private void collectRelationNames(ParseTree tree) {
+        if (tree instanceof Schema_qualified_nameContext qname) {
+            relationNames.add(QNameParser.getFirstName(PgParserAbstract.getIdentifiers(qname)));
+            return;
+        }
+        for (int i = 0; i < tree.getChildCount(); ++i) {
+            collectRelationNames(tree.getChild(i));
+        }
     }
 
     public void setFullAnalyze(FullAnalyze fullAnalyze) {
@@ -58,4 +87,9 @@ public class PgViewAnalysisLauncher extends AbstractAnalysisLauncher {
                 select.analyze((Select_stmtContext) ctx));
         return select.getDependencies();
     }
+
+    @Override
+    protected FragmentParser getFragmentParser() {
+        return PgParserUtils::parseFragment;
+    }
 }
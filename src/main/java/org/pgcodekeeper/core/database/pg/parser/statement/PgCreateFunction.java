@@ -276,7 +276,7 @@ public final class PgCreateFunction extends PgParserAbstract {
 
         if ("SQL".equalsIgnoreCase(language)) {
             AntlrTaskManager.submit(antlrTasks,
-                    () -> PgParserUtils.createSqlParser(def, name, err, start).sql(),
+                    () -> PgParserUtils.createSqlParser(def, name, err, start).sql(), def.length(),
                     funcCtx -> {
                         errors.addAll(err);
                         PgFuncProcAnalysisLauncher launcher = new PgFuncProcAnalysisLauncher(
@@ -290,7 +290,7 @@ public final class PgCreateFunction extends PgParserAbstract {
                         var parser = PgParserUtils.createSqlParser(def, name, err, start);
                         PgParserUtils.removeIntoStatements(parser);
                         return parser.plpgsql_function();
-                    },
+                    }, def.length(),
                     funcCtx -> {
                         errors.addAll(err);
                         PgFuncProcAnalysisLauncher launcher = new PgFuncProcAnalysisLauncher(
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +34,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class GpExternalTable extends PgAbstractTable implements IForeignTable, PgForeignOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -5230478922680387555L;
+
     private final List<String> urlLocation = new ArrayList<>();
 
     private boolean isWritable;
@@ -16,6 +16,7 @@
 
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.hasher.Hasher;
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class GpPartitionTable extends PgAbstractRegularTable {
 
+    @Serial
+    private static final long serialVersionUID = 8829693831667300586L;
+
     private final Map<String, GpPartitionTemplateContainer> templates = new HashMap<>();
 
     private String partitionGpBounds;
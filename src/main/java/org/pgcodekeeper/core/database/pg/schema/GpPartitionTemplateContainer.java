@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.*;
 
 import org.pgcodekeeper.core.hasher.*;
@@ -24,7 +26,10 @@ import org.pgcodekeeper.core.utils.Utils;
  * Container for Greenplum partition template information.
  * Manages subpartition template definitions for Greenplum partitioned tables.
  */
-public final class GpPartitionTemplateContainer implements IHashable {
+public final class GpPartitionTemplateContainer implements IHashable, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 8575022345811344289L;
 
     private static final String SET_SUBPARTITION = "\nSET SUBPARTITION TEMPLATE (";
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
@@ -27,7 +28,7 @@ import org.pgcodekeeper.core.hasher.*;
  * @param key   the inherits key
  * @param value the inherits value
  */
-public record Inherits(String key, String value) implements IHashable {
+public record Inherits(String key, String value) implements IHashable, Serializable {
 
     /**
      * Gets the qualified name of the inherited table.
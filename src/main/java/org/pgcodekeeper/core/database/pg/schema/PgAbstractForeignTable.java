@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -32,6 +33,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public abstract class PgAbstractForeignTable extends PgAbstractTable implements IForeignTable, PgForeignOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -4845102559248751106L;
+
     protected final String serverName;
 
     protected PgAbstractForeignTable(String name, String serverName) {
@@ -30,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public abstract class PgAbstractFunction extends PgAbstractStatement implements IFunction {
 
+    @Serial
+    private static final long serialVersionUID = 4368222763772052174L;
+
     /**
      * Constant representing "FROM CURRENT" configuration value for function parameters
      */
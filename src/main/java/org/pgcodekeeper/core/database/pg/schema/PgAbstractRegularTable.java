@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -34,6 +35,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public abstract class PgAbstractRegularTable extends PgAbstractTable implements ISimpleOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -1503197404192090830L;
+
     private boolean isLogged = true;
     private String tablespace;
     private boolean isRowSecurity;
@@ -25,11 +25,15 @@ import org.pgcodekeeper.core.database.pg.utils.PgConsts;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.function.UnaryOperator;
 
 public abstract class PgAbstractStatement extends AbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = -4833290665223835025L;
+
     // If table (maybe with sequence) exists we get this error code.
     protected static final String DUPLICATE_RELATION = "'42P07'";
     protected static final String PG_DEFAULT = "pg_default";
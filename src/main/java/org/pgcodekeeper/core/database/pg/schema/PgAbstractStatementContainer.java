@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -39,6 +40,9 @@ import org.pgcodekeeper.core.localizations.Messages;
 public abstract class PgAbstractStatementContainer extends PgAbstractStatement
         implements IRelation, IStatementContainer, ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -7967668599153236048L;
+
     protected static final String HEAP = "heap";
 
     private final Map<String, PgIndex> indexes = new LinkedHashMap<>();
@@ -190,6 +194,9 @@ public abstract class PgAbstractStatementContainer extends PgAbstractStatement
      */
     private void addIndex(final PgIndex index) {
         addUnique(indexes, index);
+        if (getParent() instanceof PgSchema schema) {
+            schema.addIndexByName(index);
+        }
     }
 
     /**
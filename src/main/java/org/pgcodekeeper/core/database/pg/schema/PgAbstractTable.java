@@ -28,6 +28,7 @@ import org.pgcodekeeper.core.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -43,6 +44,9 @@ import java.util.stream.Stream;
  */
 public abstract class PgAbstractTable extends PgAbstractStatementContainer implements ITable, IOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -2001066251808009866L;
+
     protected static final String ALTER_COLUMN = " ALTER COLUMN ";
 
     /**
@@ -72,8 +76,17 @@ public abstract class PgAbstractTable extends PgAbstractStatementContainer imple
     private static final String CHANGE_TRIGGER_STATE =
             "ALTER TABLE %1$s %2$s TRIGGER %3$s";
 
+    /**
+     * Number of columns starting from which they are looked up through {@link #columnsByName}.
+     */
+    private static final int COLUMN_INDEX_THRESHOLD = 16;
+
     protected final List<Inherits> inherits = new ArrayList<>();
     protected final List<PgColumn> columns = new ArrayList<>();
+    /**
+     * Columns by name, built when the table gets enough columns.
+     */
+    private Map<String, PgColumn> columnsByName;
     protected final Map<String, String> options = new LinkedHashMap<>();
 
     protected boolean hasOids;
@@ -704,6 +717,9 @@ public abstract class PgAbstractTable extends PgAbstractStatementContainer imple
      */
     @Override
     public PgColumn getColumn(final String name) {
+        if (columnsByName != null) {
+            return columnsByName.get(name);
+        }
         for (PgColumn column : columns) {
             if (column.getName().equals(name)) {
                 return column;
@@ -719,6 +735,14 @@ public abstract class PgAbstractTable extends PgAbstractStatementContainer imple
     public void addColumn(final PgColumn column) {
         assertUnique(getColumn(column.getName()), column);
         columns.add(column);
+        if (columnsByName != null) {
+            columnsByName.put(column.getName(), column);
+        } else if (columns.size() >= COLUMN_INDEX_THRESHOLD) {
+            columnsByName = new HashMap<>();
+            for (PgColumn col : columns) {
+                columnsByName.put(col.getName(), col);
+            }
+        }
         column.setParent(this);
         resetHash();
     }
@@ -18,6 +18,7 @@ package org.pgcodekeeper.core.database.pg.schema;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -27,6 +28,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public abstract class PgAbstractType extends PgAbstractStatement implements IType {
 
+    @Serial
+    private static final long serialVersionUID = 7870756159549690304L;
+
     protected PgAbstractType(String name) {
         super(name);
     }
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
@@ -38,6 +39,9 @@ import org.pgcodekeeper.core.utils.Pair;
  */
 public abstract class PgAbstractView extends PgAbstractStatementContainer implements IView, ISimpleOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -5647125487359088283L;
+
     public static final String CHECK_OPTION = "check_option";
 
     protected static final String ALTER_COLUMN = " ALTER COLUMN ";
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -30,6 +31,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgAggregate extends PgAbstractFunction {
 
+    @Serial
+    private static final long serialVersionUID = 6260701806933824153L;
+
     /**
      * Enumeration of aggregate function kinds
      */
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgBaseType extends PgAbstractType implements ICompressOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = 2791330019451247449L;
+
     private String inputFunction;
     private String outputFunction;
     private String receiveFunction;
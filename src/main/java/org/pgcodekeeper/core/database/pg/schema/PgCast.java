@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -27,6 +28,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgCast extends PgAbstractStatement implements ICast {
 
+    @Serial
+    private static final long serialVersionUID = 6029978299667407823L;
+
     /**
      * Enumeration of cast methods
      */
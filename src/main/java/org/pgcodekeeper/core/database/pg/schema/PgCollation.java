@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgCollation extends PgAbstractStatement implements ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = 2339061412404810872L;
+
     private String lcCollate;
     private String lcCtype;
     private String provider;
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -37,6 +38,7 @@ import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.script.SQLScript;
 import org.pgcodekeeper.core.settings.ISettings;
+import org.pgcodekeeper.core.utils.Interner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +50,9 @@ import org.slf4j.LoggerFactory;
 public class PgColumn extends PgAbstractStatement
         implements ISimpleOptionContainer, ICompressOptionContainer, IColumn {
 
+    @Serial
+    private static final long serialVersionUID = 10770516775929694L;
+
     private static final Logger LOG = LoggerFactory.getLogger(PgColumn.class);
 
     private static final String ALTER_FOREIGN_OPTION = "%s OPTIONS (%s %s %s)";
@@ -779,7 +784,7 @@ public class PgColumn extends PgAbstractStatement
     }
 
     public void setType(String type) {
-        this.type = type;
+        this.type = Interner.internString(type);
         resetHash();
     }
 
@@ -789,7 +794,7 @@ public class PgColumn extends PgAbstractStatement
     }
 
     public void setCollation(String collation) {
-        this.collation = collation;
+        this.collation = Interner.internString(collation);
         resetHash();
     }
 
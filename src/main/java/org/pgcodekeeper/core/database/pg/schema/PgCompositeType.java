@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -31,6 +32,9 @@ import org.pgcodekeeper.core.utils.Pair;
  */
 public class PgCompositeType extends PgAbstractType implements ICompositeType {
 
+    @Serial
+    private static final long serialVersionUID = -4395249576486917954L;
+
     private static final String COLLATE = " COLLATE ";
 
     private final List<PgColumn> attrs = new ArrayList<>();
@@ -24,6 +24,7 @@ import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 import org.pgcodekeeper.core.settings.ISettings;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -34,6 +35,9 @@ import java.util.Collections;
  */
 public abstract class PgConstraint extends PgAbstractStatement implements IConstraint, ISubElement {
 
+    @Serial
+    private static final long serialVersionUID = -4559736457543042844L;
+
     //If PK exists we get this error code.
     protected static final String INVALID_DEFINITION = "'42P16'";
     //If object exists we get this error code.
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -26,6 +27,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgConstraintCheck extends PgConstraint {
 
+    @Serial
+    private static final long serialVersionUID = -7887830249364813281L;
+
     private boolean isInherit = true;
     private String expression;
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgConstraintExclude extends PgConstraint implements PgIndexParamContainer, ISimpleColumnContainer {
 
+    @Serial
+    private static final long serialVersionUID = -7920074635606886541L;
+
     private final Map<String, String> params = new HashMap<>();
     private final Set<String> columnNames = new HashSet<>();
     private final List<SimpleColumn> columns = new ArrayList<>();
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgConstraintFk extends PgConstraint implements IConstraintFk {
 
+    @Serial
+    private static final long serialVersionUID = -2372214203961309421L;
+
     private final List<String> columns = new ArrayList<>();
     private final List<String> delActCols = new ArrayList<>();
     private final List<String> refs = new ArrayList<>();
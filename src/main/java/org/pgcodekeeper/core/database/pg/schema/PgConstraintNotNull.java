@@ -19,6 +19,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.database.base.schema.*;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
@@ -32,6 +34,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgConstraintNotNull extends PgConstraint {
 
+    @Serial
+    private static final long serialVersionUID = 6635791134680717442L;
+
     public static final String NO_INHERIT = " NO INHERIT";
 
     private static final String NOT_NULL = "NOT NULL";
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -30,6 +31,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class PgConstraintPk extends PgConstraint implements IConstraintPk, PgIndexParamContainer {
 
+    @Serial
+    private static final long serialVersionUID = -5524828047622736735L;
+
     private final boolean isPrimaryKey;
     private final List<String> columns = new ArrayList<>();
     private final List<String> includes = new ArrayList<>();
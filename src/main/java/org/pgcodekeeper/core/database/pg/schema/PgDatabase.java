@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -53,6 +54,9 @@ import org.pgcodekeeper.core.localizations.Messages;
  */
 public class PgDatabase extends PgAbstractStatement implements IDatabase {
 
+    @Serial
+    private static final long serialVersionUID = 4001589276300833373L;
+
     private final List<ObjectOverride> overrides = new ArrayList<>();
     // Contains object references
     private final Map<String, Set<ObjectLocation>> objReferences = new HashMap<>();
@@ -159,14 +163,8 @@ public class PgDatabase extends PgAbstractStatement implements IDatabase {
             return oper;
         }
 
-        int found = 0;
-        for (IOperator o : schema.getOperators()) {
-            if (o.getBareName().equals(table)) {
-                ++found;
-                oper = o;
-            }
-        }
-        return found == 1 ? oper : null;
+        List<IOperator> opers = schema.getOperatorsByBareName(table);
+        return opers.size() == 1 ? opers.get(0) : null;
     }
 
     @Override
@@ -336,7 +334,7 @@ public class PgDatabase extends PgAbstractStatement implements IDatabase {
      * @return found cast or null
      */
     public PgCast getCast(final String name) {
-        return casts.get(name);
+        return getChildByName(casts, name);
     }
 
     private void addCast(final PgCast cast) {
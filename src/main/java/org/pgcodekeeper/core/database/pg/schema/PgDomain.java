@@ -15,11 +15,13 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
+import org.pgcodekeeper.core.utils.Interner;
 import org.pgcodekeeper.core.utils.Utils;
 
 /**
@@ -29,6 +31,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class PgDomain extends PgAbstractStatement implements ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -6839680750676943852L;
+
     private final List<PgConstraint> constraints = new ArrayList<>();
 
     private String dataType;
@@ -152,7 +157,7 @@ public class PgDomain extends PgAbstractStatement implements ISearchPath {
     }
 
     public void setDataType(String dataType) {
-        this.dataType = dataType;
+        this.dataType = Interner.internString(dataType);
         resetHash();
     }
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgEnumType extends PgAbstractType {
 
+    @Serial
+    private static final long serialVersionUID = -1561787984854010674L;
+
     private final List<String> enums = new ArrayList<>();
 
     /**
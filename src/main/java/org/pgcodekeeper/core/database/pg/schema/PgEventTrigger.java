@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgEventTrigger extends PgAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 402199868150534598L;
+
     private final List<String> tags = new ArrayList<>();
 
     private String executable;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -30,6 +31,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgExtension extends PgAbstractStatement {
 
+    @Serial
+    private static final long serialVersionUID = 1940012579837724115L;
+
     private String schema;
     private boolean relocatable;
 
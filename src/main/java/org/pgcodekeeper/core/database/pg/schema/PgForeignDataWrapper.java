@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -30,6 +31,9 @@ import org.pgcodekeeper.core.script.SQLScript;
 public class PgForeignDataWrapper extends PgAbstractStatement
         implements PgForeignOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = -7462380714837235366L;
+
     private final Map<String, String> options = new LinkedHashMap<>();
 
     private String handler;
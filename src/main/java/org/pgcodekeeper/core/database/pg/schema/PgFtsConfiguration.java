@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgFtsConfiguration extends PgAbstractStatement implements ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -8147924743039989907L;
+
     private static final String ALTER_CONFIGURATION = "ALTER TEXT SEARCH CONFIGURATION ";
     private static final String WITH = "\n\tWITH ";
 
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
 public class PgFtsDictionary extends PgAbstractStatement
         implements ISimpleOptionContainer, ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = 1403125571148519914L;
+
     private final Map<String, String> options = new LinkedHashMap<>();
 
     private String template;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgFtsParser extends PgAbstractStatement implements ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -8082456126077966214L;
+
     private static final String NEW_LINE = ",\n\t";
 
     private String startFunction;
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgFtsTemplate extends PgAbstractStatement implements ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -6031489074864584731L;
+
     private String initFunction;
     private String lexizeFunction;
 
@@ -24,6 +24,7 @@ import org.pgcodekeeper.core.database.api.schema.IFunction;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.hasher.Hasher;
 
+import java.io.Serial;
 import java.util.Objects;
 
 /**
@@ -33,6 +34,9 @@ import java.util.Objects;
  */
 public class PgFunction extends PgAbstractFunction {
 
+    @Serial
+    private static final long serialVersionUID = 1276778819990414987L;
+
     private static final String TRIGGER_RETURN_TYPE = "trigger";
     private String returns;
 
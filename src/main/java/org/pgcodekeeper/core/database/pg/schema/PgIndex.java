@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -35,6 +36,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class PgIndex extends PgAbstractStatement implements IIndex {
 
+    @Serial
+    private static final long serialVersionUID = 3114922606470412160L;
+
     private static final String ALTER_INDEX = "ALTER INDEX ";
 
     private final List<SimpleColumn> columns = new ArrayList<>();
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -32,6 +33,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgMaterializedView extends PgAbstractView {
 
+    @Serial
+    private static final long serialVersionUID = -3950753069100452623L;
+
     private String distribution;
     private String method = HEAP;
     private String tablespace;
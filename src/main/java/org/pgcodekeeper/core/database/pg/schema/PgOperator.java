@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgOperator extends PgAbstractStatement implements IOperator, ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = 417406287168748147L;
+
     private String procedure;
     private String leftArg;
     private String rightArg;
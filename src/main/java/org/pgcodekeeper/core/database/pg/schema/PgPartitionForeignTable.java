@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IPartitionTable;
@@ -33,6 +34,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class PgPartitionForeignTable extends PgAbstractForeignTable implements IPartitionTable {
 
+    @Serial
+    private static final long serialVersionUID = -7309196445110685094L;
+
     private final String partitionBounds;
 
     /**
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -31,6 +32,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgPartitionTable extends PgAbstractRegularTable implements IPartitionTable {
 
+    @Serial
+    private static final long serialVersionUID = 7172985906053726655L;
+
     private final String partitionBounds;
 
     /**
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -28,6 +29,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgPolicy extends PgAbstractStatement implements ISubElement, IPolicy {
 
+    @Serial
+    private static final long serialVersionUID = 1717295084675137075L;
+
     private final Set<String> roles = new LinkedHashSet<>();
 
     private String check;
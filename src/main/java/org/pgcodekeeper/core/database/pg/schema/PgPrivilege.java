@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.base.schema.AbstractPrivilege;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
@@ -26,6 +28,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgPrivilege extends AbstractPrivilege {
 
+    @Serial
+    private static final long serialVersionUID = 4501937457004499307L;
+
     /**
      * Creates a new privilege instance.
      *
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -32,6 +33,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgProcedure extends PgAbstractFunction {
 
+    @Serial
+    private static final long serialVersionUID = -981979343822671735L;
+
     private String returns;
 
     /**
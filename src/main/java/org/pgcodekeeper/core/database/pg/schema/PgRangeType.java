@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -27,6 +28,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgRangeType extends PgAbstractType {
 
+    @Serial
+    private static final long serialVersionUID = -8252589167303131465L;
+
     private String subtype;
     private String subtypeOpClass;
     private String collation;
@@ -19,6 +19,7 @@ import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.hasher.Hasher;
 import org.pgcodekeeper.core.script.SQLScript;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,9 @@ import java.util.Objects;
  */
 public class PgRule extends PgAbstractStatement implements IRule {
 
+    @Serial
+    private static final long serialVersionUID = -3942501871006799135L;
+
     private final List<String> commands = new ArrayList<>();
 
     private EventType event;
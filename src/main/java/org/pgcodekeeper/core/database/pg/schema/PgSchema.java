@@ -19,8 +19,11 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +49,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgSchema extends PgAbstractStatement implements ISchema {
 
+    @Serial
+    private static final long serialVersionUID = 2813848874831453519L;
+
     private final Map<String, PgAbstractFunction> functions = new LinkedHashMap<>();
     private final Map<String, PgSequence> sequences = new LinkedHashMap<>();
     private final Map<String, PgAbstractTable> tables = new LinkedHashMap<>();
@@ -60,6 +66,15 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
     private final Map<String, PgCollation> collations = new LinkedHashMap<>();
     private final Map<String, PgStatistics> statistics = new LinkedHashMap<>();
 
+    /**
+     * Indexes of the schema tables and views by name.
+     */
+    private final Map<String, PgIndex> indexesByName = new HashMap<>();
+    /**
+     * Operators by their name without arguments.
+     */
+    private final Map<String, List<IOperator>> operatorsByBareName = new HashMap<>();
+
     /**
      * Creates a new PostgreSQL schema.
      *
@@ -140,6 +155,17 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
         return Collections.unmodifiableCollection(operators.values());
     }
 
+    /**
+     * Gets operators with the given name and any arguments.
+     *
+     * @param bareName operator name without arguments
+     * @return unmodifiable list of operators
+     */
+    public List<IOperator> getOperatorsByBareName(String bareName) {
+        List<IOperator> opers = operatorsByBareName.get(bareName);
+        return opers == null ? List.of() : Collections.unmodifiableList(opers);
+    }
+
     private void addCollation(final PgCollation collation) {
         addUnique(collations, collation);
     }
@@ -166,6 +192,7 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
 
     private void addOperator(final PgOperator oper) {
         addUnique(operators, oper);
+        operatorsByBareName.computeIfAbsent(oper.getBareName(), k -> new ArrayList<>(1)).add(oper);
     }
 
     private void addStatistics(final PgStatistics rule) {
@@ -362,10 +389,21 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
 
     private void addView(PgAbstractView st) {
         addUnique(views, st);
+        st.getIndexes().forEach(this::addIndexByName);
     }
 
     private void addTable(PgAbstractTable st) {
         addUnique(tables, st);
+        st.getIndexes().forEach(this::addIndexByName);
+    }
+
+    /**
+     * Registers an index of a schema table or view for {@link #getIndexByName(String)}.
+     *
+     * @param index index added to a container of this schema
+     */
+    void addIndexByName(PgIndex index) {
+        indexesByName.putIfAbsent(index.getName(), index);
     }
 
     private void addSequence(PgSequence st) {
@@ -376,6 +414,21 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
         addUnique(functions, st);
     }
 
+    /**
+     * Replaces the function with the same signature, keeping its position among the functions of this schema.
+     * The function is added if there is no such function.
+     *
+     * @param function the function to add instead of the existing one
+     */
+    public void replaceFunction(PgAbstractFunction function) {
+        PgAbstractFunction old = functions.put(getNameInCorrectCase(function.getName()), function);
+        if (old != null) {
+            old.setParent(null);
+        }
+        function.setParent(this);
+        resetHash();
+    }
+
     /**
      * @return found relation or null if no such relation has been found
      */
@@ -438,10 +491,7 @@ public class PgSchema extends PgAbstractStatement implements ISchema {
      * @return the index with the given name, or null if not found
      */
     public PgIndex getIndexByName(String indexName) {
-        return getStatementContainers()
-                .map(c -> c.getIndex(indexName))
-                .filter(Objects::nonNull)
-                .findAny().orElse(null);
+        return indexesByName.get(indexName);
     }
 
     /**
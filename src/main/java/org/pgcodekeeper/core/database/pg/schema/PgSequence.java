@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -44,6 +45,9 @@ import org.slf4j.LoggerFactory;
  */
 public class PgSequence extends PgAbstractStatement implements ISequence {
 
+    @Serial
+    private static final long serialVersionUID = 8744983540200726711L;
+
     private static final Logger LOG = LoggerFactory.getLogger(PgSequence.class);
 
     private static final String ALTER_SEQUENCE = "ALTER SEQUENCE ";
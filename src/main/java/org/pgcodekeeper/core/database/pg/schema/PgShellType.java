@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.hasher.Hasher;
 
@@ -25,6 +27,9 @@ import org.pgcodekeeper.core.hasher.Hasher;
  */
 public class PgShellType extends PgAbstractType {
 
+    @Serial
+    private static final long serialVersionUID = -858742625578324769L;
+
     /**
      * Creates a new PostgreSQL shell type.
      *
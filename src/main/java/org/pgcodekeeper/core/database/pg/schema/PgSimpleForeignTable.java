@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.script.SQLScript;
 
@@ -28,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgSimpleForeignTable extends PgAbstractForeignTable {
 
+    @Serial
+    private static final long serialVersionUID = -4492968216816988806L;
+
     /**
      * Creates a new PostgreSQL simple foreign table.
      *
@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
+
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.script.SQLScript;
 
@@ -28,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgSimpleTable extends PgAbstractRegularTable {
 
+    @Serial
+    private static final long serialVersionUID = -818478800380657895L;
+
     /**
      * Creates a new PostgreSQL simple table.
      *
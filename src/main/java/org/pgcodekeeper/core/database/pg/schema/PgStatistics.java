@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -34,6 +35,9 @@ import org.pgcodekeeper.core.utils.Utils;
  */
 public class PgStatistics extends PgAbstractStatement implements IStatistics, ISearchPath {
 
+    @Serial
+    private static final long serialVersionUID = -4530830460431765620L;
+
     private final List<String> kinds = new ArrayList<>();
     private final List<String> expressions = new ArrayList<>();
 
@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -32,6 +33,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgTrigger extends PgAbstractStatement implements ITrigger {
 
+    @Serial
+    private static final long serialVersionUID = -7211221398491285679L;
+
     public enum TgTypes {
         BEFORE, AFTER, INSTEAD_OF
     }
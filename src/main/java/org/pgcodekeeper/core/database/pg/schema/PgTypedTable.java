@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -32,6 +33,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class PgTypedTable extends PgAbstractRegularTable {
 
+    @Serial
+    private static final long serialVersionUID = -2179794648587029446L;
+
     private final String ofType;
 
     /**
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 
 import org.pgcodekeeper.core.database.api.schema.*;
@@ -29,6 +30,9 @@ import org.pgcodekeeper.core.script.SQLScript;
  */
 public class PgUserMapping extends PgAbstractStatement implements PgForeignOptionContainer {
 
+    @Serial
+    private static final long serialVersionUID = 928965267844826716L;
+
     private final String user;
     private final String server;
     private final Map<String, String> options = new LinkedHashMap<>();
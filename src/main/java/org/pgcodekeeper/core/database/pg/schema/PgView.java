@@ -19,6 +19,7 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.schema;
 
+import java.io.Serial;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -34,6 +35,9 @@ import org.pgcodekeeper.core.settings.ISettings;
  */
 public class PgView extends PgAbstractView {
 
+    @Serial
+    private static final long serialVersionUID = 110443050672551885L;
+
     private final Map<String, String> defaultValues = new LinkedHashMap<>();
 
     /**
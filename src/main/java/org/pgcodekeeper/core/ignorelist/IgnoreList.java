@@ -17,7 +17,9 @@ package org.pgcodekeeper.core.ignorelist;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of ignore list for managing database object filtering rules.
@@ -27,6 +29,8 @@ import java.util.List;
 public class IgnoreList implements IIgnoreList {
 
     private final List<IgnoredObject> rules = new ArrayList<>();
+    private final Map<List<Object>, IgnoredObject> rulesByCondition = new HashMap<>();
+    private volatile IgnoreMatcher matcher;
 
     // black list (show all, hide some) by default
     private boolean isShow = true;
@@ -49,11 +53,13 @@ public class IgnoreList implements IIgnoreList {
     @Override
     public void clearList() {
         rules.clear();
+        rulesByCondition.clear();
+        matcher = null;
     }
 
     @Override
     public void add(IgnoredObject rule) {
-        IgnoredObject existing = findSameMatchingRule(rule);
+        IgnoredObject existing = rulesByCondition.putIfAbsent(rule.getMatchingCondition(), rule);
         if (existing != null) {
             if (existing.isIgnoreContent() != rule.isIgnoreContent()) {
                 if (!existing.isIgnoreContent()) {
@@ -68,16 +74,22 @@ public class IgnoreList implements IIgnoreList {
         } else {
             // add new
             rules.add(rule);
+            matcher = null;
         }
     }
 
-    private IgnoredObject findSameMatchingRule(IgnoredObject rule) {
-        for (IgnoredObject match : rules) {
-            if (match.hasSameMatchingCondition(rule)) {
-                return match;
-            }
+    /**
+     * Returns the rules compiled for matching, see {@link IgnoreMatcher#compile(List)}.
+     *
+     * @return matcher of the current rules
+     */
+    public IgnoreMatcher getMatcher() {
+        IgnoreMatcher compiled = matcher;
+        if (compiled == null) {
+            compiled = IgnoreMatcher.compile(rules);
+            matcher = compiled;
         }
-        return null;
+        return compiled;
     }
 
     /**
@@ -0,0 +1,446 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.ignorelist;
+
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+
+import java.util.*;
+
+/**
+ * Finds ignore rules matching object names without testing every rule.
+ * <p>
+ * Rules are grouped by object type and by the name they are matched against (simple or qualified).
+ * In a group, plain names are looked up in a hash map, regular expressions anchored at the name start
+ * are kept in a prefix tree by their literal prefix, and other regular expressions are found
+ * by a literal they require, with one Aho-Corasick automaton over all such literals.
+ * Only the found regular expressions are tested. Expressions without a known literal are tested always.
+ * Matching rules are returned in the rules order, so the callers apply the same precedence
+ * as with the plain rules list.
+ * <p>
+ * The matcher is a snapshot of the rules name, type and regex conditions,
+ * show and content flags are read from the rules when they are applied.
+ */
+public final class IgnoreMatcher {
+
+    private static final String META_CHARS = "\\^$.|?*+()[]{}";
+    private static final String SIMPLE_ESCAPES = "dDsSwWbBhHvVRXAzZG";
+
+    private final Group untyped = new Group();
+    private final Map<DbObjType, Group> typed = new EnumMap<>(DbObjType.class);
+
+    /**
+     * Compiles rules for matching by object name and type.
+     *
+     * @param rules ignore rules in precedence order
+     * @return matcher of the rules
+     */
+    public static IgnoreMatcher compile(List<IgnoredObject> rules) {
+        return new IgnoreMatcher(rules, true);
+    }
+
+    /**
+     * Compiles rules for matching by name only, ignoring their object types and qualified flags.
+     *
+     * @param rules ignore rules in precedence order
+     * @return matcher of the rules
+     */
+    public static IgnoreMatcher compileNames(List<IgnoredObject> rules) {
+        return new IgnoreMatcher(rules, false);
+    }
+
+    private IgnoreMatcher(List<IgnoredObject> rules, boolean useTypes) {
+        for (int i = 0; i < rules.size(); i++) {
+            IgnoredObject rule = rules.get(i);
+            Rule indexed = new Rule(i, rule);
+            boolean qualified = useTypes && rule.isQualified();
+            if (!useTypes || rule.getObjTypes().isEmpty()) {
+                untyped.add(indexed, qualified);
+            } else {
+                for (DbObjType type : rule.getObjTypes()) {
+                    typed.computeIfAbsent(type, t -> new Group()).add(indexed, qualified);
+                }
+            }
+        }
+        untyped.compile();
+        typed.values().forEach(Group::compile);
+    }
+
+    /**
+     * Finds rules with matching name and type. Database conditions of the rules are not checked.
+     *
+     * @param name          simple name of the object
+     * @param qualifiedName qualified name of the object, used by qualified rules
+     * @param type          object type, or null to match only rules without types
+     * @return matching rules in the rules order
+     */
+    public List<IgnoredObject> getMatching(String name, String qualifiedName, DbObjType type) {
+        List<Rule> found = new ArrayList<>();
+        untyped.collect(name, qualifiedName, found);
+        Group group = type == null ? null : typed.get(type);
+        if (group != null) {
+            group.collect(name, qualifiedName, found);
+        }
+        if (found.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        found.sort(Comparator.comparingInt(Rule::index));
+        List<IgnoredObject> result = new ArrayList<>(found.size());
+        for (Rule rule : found) {
+            result.add(rule.rule());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the literal text a regular expression requires at the input start, for example
+     * {@code public.t} for {@code ^public\.t.*}.
+     *
+     * @param regex regular expression
+     * @return required prefix, possibly empty, or null if the expression is not anchored
+     * at the input start or may have alternatives
+     */
+    static String getAnchoredPrefix(String regex) {
+        if (!regex.startsWith("^") || regex.indexOf('|') != -1) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int lastAtom = 0;
+        int i = 1;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // character class or other escaped construct
+                    break;
+                }
+                lastAtom = sb.length();
+                sb.append(regex.charAt(i + 1));
+                i += 2;
+            } else if (META_CHARS.indexOf(c) == -1) {
+                lastAtom = sb.length();
+                int cp = regex.codePointAt(i);
+                sb.appendCodePoint(cp);
+                i += Character.charCount(cp);
+            } else {
+                if (c == '?' || c == '*' || c == '{') {
+                    // the last character is optional
+                    sb.setLength(lastAtom);
+                }
+                break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the longest literal text contained in every match of a regular expression, for example
+     * {@code _tmp} for {@code [a-z]+_tmp\d*$}.
+     *
+     * @param regex regular expression
+     * @return required literal, possibly empty, or null if the expression has constructs
+     * which are not analyzed: alternatives, flags, quotations and most escapes
+     */
+    static String getRequiredLiteral(String regex) {
+        if (regex.indexOf('|') != -1 || regex.contains("(?") || regex.contains("\\Q")) {
+            return null;
+        }
+
+        String longest = "";
+        StringBuilder run = new StringBuilder();
+        int lastAtom = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    return null;
+                }
+                char next = regex.charAt(i + 1);
+                if (!Character.isLetterOrDigit(next)) {
+                    lastAtom = run.length();
+                    run.append(next);
+                } else if (SIMPLE_ESCAPES.indexOf(next) != -1) {
+                    longest = getLonger(longest, run);
+                    run.setLength(0);
+                    lastAtom = 0;
+                } else {
+                    return null;
+                }
+                i += 2;
+            } else if (META_CHARS.indexOf(c) == -1) {
+                lastAtom = run.length();
+                int cp = regex.codePointAt(i);
+                run.appendCodePoint(cp);
+                i += Character.charCount(cp);
+            } else {
+                if (c == '?' || c == '*' || c == '{') {
+                    // the last character is optional
+                    run.setLength(lastAtom);
+                }
+                longest = getLonger(longest, run);
+                run.setLength(0);
+                lastAtom = 0;
+                i = switch (c) {
+                    case '(' -> skipGroup(regex, i);
+                    case '[' -> skipClass(regex, i);
+                    case '{' -> regex.indexOf('}', i);
+                    case ')', ']', '}' -> -1;
+                    default -> i;
+                };
+                if (i == -1) {
+                    return null;
+                }
+                i++;
+            }
+        }
+        return getLonger(longest, run);
+    }
+
+    private static String getLonger(String longest, CharSequence run) {
+        return run.length() > longest.length() ? run.toString() : longest;
+    }
+
+    /**
+     * @return index of the group end, or -1 if it is not found
+     */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        for (int i = start; i < regex.length(); i++) {
+            switch (regex.charAt(i)) {
+                case '\\' -> i++;
+                case '[' -> {
+                    i = skipClass(regex, i);
+                    if (i == -1) {
+                        return -1;
+                    }
+                }
+                case '(' -> depth++;
+                case ')' -> {
+                    if (--depth == 0) {
+                        return i;
+                    }
+                }
+                default -> {
+                    // group content
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return index of the character class end, or -1 if it is not found or starts with a bracket
+     */
+    private static int skipClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            return -1;
+        }
+
+        int depth = 1;
+        for (; i < regex.length(); i++) {
+            switch (regex.charAt(i)) {
+                case '\\' -> i++;
+                case '[' -> depth++;
+                case ']' -> {
+                    if (--depth == 0) {
+                        return i;
+                    }
+                }
+                default -> {
+                    // class content
+                }
+            }
+        }
+        return -1;
+    }
+
+    private record Rule(int index, IgnoredObject rule) {
+    }
+
+    /**
+     * Rules applicable to one object type.
+     */
+    private static final class Group {
+
+        private final NameIndex names = new NameIndex();
+        private final NameIndex qualifiedNames = new NameIndex();
+
+        void add(Rule rule, boolean qualified) {
+            (qualified ? qualifiedNames : names).add(rule);
+        }
+
+        void compile() {
+            names.compile();
+            qualifiedNames.compile();
+        }
+
+        void collect(String name, String qualifiedName, List<Rule> found) {
+            names.collect(name, found);
+            if (qualifiedName != null) {
+                qualifiedNames.collect(qualifiedName, found);
+            }
+        }
+    }
+
+    /**
+     * Rules matched against one kind of names.
+     */
+    private static final class NameIndex {
+
+        private final Map<String, List<Rule>> exact = new HashMap<>();
+        private final TextNode prefixes = new TextNode();
+        private final TextNode literals = new TextNode();
+        private final List<Rule> separate = new ArrayList<>();
+
+        void add(Rule rule) {
+            IgnoredObject ignored = rule.rule();
+            String name = ignored.getName();
+            if (!ignored.isRegular()) {
+                exact.computeIfAbsent(name, n -> new ArrayList<>(1)).add(rule);
+                return;
+            }
+
+            String prefix = getAnchoredPrefix(name);
+            if (prefix != null && !prefix.isEmpty()) {
+                prefixes.add(prefix).rules.add(rule);
+                return;
+            }
+
+            String literal = getRequiredLiteral(name);
+            if (literal != null && !literal.isEmpty()) {
+                literals.add(literal).rules.add(rule);
+            } else {
+                separate.add(rule);
+            }
+        }
+
+        void compile() {
+            literals.linkSuffixes();
+        }
+
+        void collect(String name, List<Rule> found) {
+            List<Rule> named = exact.get(name);
+            if (named != null) {
+                found.addAll(named);
+            }
+
+            TextNode node = prefixes;
+            for (int i = 0; node != null; i++) {
+                addMatching(node.rules, name, found);
+                node = i < name.length() ? node.get(name.charAt(i)) : null;
+            }
+
+            Set<TextNode> occurred = null;
+            node = literals;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.next(literals, name.charAt(i));
+                for (TextNode out = node.rules.isEmpty() ? node.output : node; out != null; out = out.output) {
+                    if (occurred == null) {
+                        occurred = Collections.newSetFromMap(new IdentityHashMap<>());
+                    }
+                    if (occurred.add(out)) {
+                        addMatching(out.rules, name, found);
+                    }
+                }
+            }
+
+            addMatching(separate, name, found);
+        }
+
+        private static void addMatching(List<Rule> rules, String name, List<Rule> found) {
+            for (Rule rule : rules) {
+                if (rule.rule().match(name)) {
+                    found.add(rule);
+                }
+            }
+        }
+    }
+
+    /**
+     * Node of a prefix tree, holds rules requiring the text formed by the path to the node.
+     * Nodes of the literals tree are linked to their longest proper suffixes to find all literals
+     * in one pass over the name.
+     */
+    private static final class TextNode {
+
+        private final List<Rule> rules = new ArrayList<>(1);
+        private Map<Character, TextNode> children;
+        private TextNode suffix;
+        /**
+         * Nearest node with rules among the suffixes
+         */
+        private TextNode output;
+
+        TextNode add(String text) {
+            TextNode node = this;
+            for (int i = 0; i < text.length(); i++) {
+                if (node.children == null) {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(text.charAt(i), c -> new TextNode());
+            }
+            return node;
+        }
+
+        TextNode get(char c) {
+            return children == null ? null : children.get(c);
+        }
+
+        /**
+         * @return node of the longest suffix of this node text followed by the character
+         */
+        TextNode next(TextNode root, char c) {
+            TextNode node = this;
+            while (true) {
+                TextNode child = node.get(c);
+                if (child != null) {
+                    return child;
+                }
+                if (node == root) {
+                    return root;
+                }
+                node = node.suffix;
+            }
+        }
+
+        /**
+         * Links nodes of this root to their suffixes, breadth first.
+         */
+        void linkSuffixes() {
+            Deque<TextNode> queue = new ArrayDeque<>();
+            suffix = this;
+            queue.add(this);
+            while (!queue.isEmpty()) {
+                TextNode node = queue.poll();
+                if (node.children == null) {
+                    continue;
+                }
+                for (Map.Entry<Character, TextNode> entry : node.children.entrySet()) {
+                    TextNode child = entry.getValue();
+                    child.suffix = node == this ? this : node.suffix.next(this, entry.getKey());
+                    child.output = child.suffix.rules.isEmpty() ? child.suffix.output : child.suffix;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+}
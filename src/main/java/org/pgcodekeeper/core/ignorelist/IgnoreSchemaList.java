@@ -34,6 +34,7 @@ public class IgnoreSchemaList implements IIgnoreList {
     private static final Logger LOG = LoggerFactory.getLogger(IgnoreSchemaList.class);
 
     private final List<IgnoredObject> rules = new ArrayList<>();
+    private volatile IgnoreMatcher matcher;
 
     // black list (show all, hide some) by default
     private boolean isShow = true;
@@ -56,11 +57,13 @@ public class IgnoreSchemaList implements IIgnoreList {
     @Override
     public void clearList() {
         rules.clear();
+        matcher = null;
     }
 
     @Override
     public void add(IgnoredObject rule) {
         rules.add(rule);
+        matcher = null;
     }
 
     /**
@@ -70,20 +73,26 @@ public class IgnoreSchemaList implements IIgnoreList {
      * @return true if schema should be shown, false if it should be hidden
      */
     public boolean getNameStatus(String schema) {
-        for (IgnoredObject rule : rules) {
-            if (rule.match(schema)) {
-                AddStatus newStatus = rule.getAddStatus();
-                return switch (newStatus) {
-                    case ADD, ADD_SUBTREE -> true;
-                    case SKIP, SKIP_SUBTREE -> {
-                        var msg = Messages.IgnoreSchemaList_log_ignored_schema.formatted(schema);
-                        LOG.debug(msg);
-                        yield false;
-                    }
-                };
-            }
+        IgnoreMatcher compiled = matcher;
+        if (compiled == null) {
+            compiled = IgnoreMatcher.compileNames(rules);
+            matcher = compiled;
         }
-        return isShow;
+
+        List<IgnoredObject> matching = compiled.getMatching(schema, null, null);
+        if (matching.isEmpty()) {
+            return isShow;
+        }
+
+        // first matching rule wins
+        return switch (matching.get(0).getAddStatus()) {
+            case ADD, ADD_SUBTREE -> true;
+            case SKIP, SKIP_SUBTREE -> {
+                var msg = Messages.IgnoreSchemaList_log_ignored_schema.formatted(schema);
+                LOG.debug(msg);
+                yield false;
+            }
+        };
     }
 
     /**
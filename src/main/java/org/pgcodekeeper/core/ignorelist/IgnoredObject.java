@@ -19,7 +19,9 @@ import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.pg.utils.PgDiffUtils;
 import org.pgcodekeeper.core.utils.Utils;
 
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -157,10 +159,11 @@ public class IgnoredObject {
         return name.equals(objName);
     }
 
-    boolean hasSameMatchingCondition(IgnoredObject rule) {
-        return Objects.equals(name, rule.name)
-                && Objects.equals(dbRegexStr, rule.dbRegexStr)
-                && Objects.equals(objTypes, rule.objTypes);
+    /**
+     * @return key equal for rules with the same name, database and type conditions
+     */
+    List<Object> getMatchingCondition() {
+        return Arrays.asList(name, dbRegexStr, objTypes);
     }
 
     /**
@@ -37,6 +37,8 @@ public final class Messages {
 
     public static String AbstractAnalysisLauncher_error_prefix;
 
+    public static String AbstractAnalysisLauncher_fragment_parse_error;
+
     public static String AbstractExprWithNmspc_log_ambiguos_ref;
 
     public static String AbstractExprWithNmspc_log_cte_contains_cols;
@@ -53,6 +55,8 @@ public final class Messages {
 
     public static String AbstractPgTable_log_schemas_not_found;
 
+    public static String AbstractLoader_log_retained_source;
+
     public static String AbstractProjectLoader_failed_to_read_ignore_lists;
 
     public static String AbstractSearchPathJdbcReader_no_schema_found;
@@ -80,7 +84,6 @@ public final class Messages {
 
     public static String Utils_log_err_deserialize;
 
-    public static String Utils_log_err_serialize;
 
     // pgdiff.loader
     public static String CompareTree_missing_compare;
@@ -99,6 +102,8 @@ public final class Messages {
 
     public static String ProjectUpdater_error_update;
 
+    public static String ProjectUpdater_log_hard_links_unsupported;
+
     public static String ProjectUpdater_log_restoring_err;
 
     public static String ProjectUpdater_log_start_full_update;
@@ -115,6 +120,14 @@ public final class Messages {
 
     public static String ObjectCreationException_without_parent;
 
+    public static String ParseCache_log_read_error;
+
+    public static String ParseCache_log_unattributed_objects;
+
+    public static String ParseCache_log_write_error;
+
+    public static String ParseCache_stats;
+
     public static String ParserAbstract_location_error;
 
     public static String ParserAbstract_schema_error;
@@ -213,6 +226,8 @@ public final class Messages {
 
     public static String JdbcLoaderBase_log_event_trigger_disabled;
 
+    public static String JdbcLoaderBase_log_export_snapshot;
+
     public static String JdbcLoaderBase_log_get_last_oid;
 
     public static String JdbcLoaderBase_log_get_last_system_obj_oid;
@@ -229,10 +244,14 @@ public final class Messages {
 
     public static String JdbcLoaderBase_log_old_version_used;
 
+    public static String JdbcLoaderBase_log_open_worker_connections;
+
     public static String JdbcLoaderBase_log_reading_ms_version;
 
     public static String JdbcLoaderBase_log_reading_pg_version;
 
+    public static String JdbcLoaderBase_log_reused_objects;
+
     public static String JdbcLoaderBase_unsupported_pg_version;
 
     public static String JdbcLoaderBase_unsupported_gp_version;
@@ -249,6 +268,8 @@ public final class Messages {
 
     public static String ModelExporter_log_output_dir_no_exist_err;
 
+    public static String ModelExporter_log_rewrite_file;
+
     public static String Table_TypeParameterChange;
 
     public static String TreeElement_already_has_a_parent;
@@ -15,12 +15,17 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.model.difftree;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.api.schema.IColumn;
@@ -29,6 +34,7 @@ import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.database.api.schema.IStatementContainer;
 import org.pgcodekeeper.core.database.api.schema.ITable;
 import org.pgcodekeeper.core.diff.Comparison;
+import org.pgcodekeeper.core.exception.MonitorCancelledRuntimeException;
 import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.model.difftree.TreeElement.DiffSide;
 import org.pgcodekeeper.core.monitor.IMonitor;
@@ -37,9 +43,19 @@ import org.pgcodekeeper.core.settings.ISettings;
 /**
  * Utility class for creating and managing diff trees that represent
  * differences between database schemas.
+ * <p>
+ * The tree is built in the common fork-join pool: containers with children are compared
+ * as separate subtasks, and children of large containers are compared in chunks.
+ * Every subtask fills only its own tree element, so the children order is the same
+ * as in a sequential walk.
  */
 public final class DiffTree {
 
+    /**
+     * Number of child statements compared by one subtask.
+     */
+    private static final int CHUNK_SIZE = 256;
+
     /**
      * Creates a diff tree comparing two database schemas.
      *
@@ -79,10 +95,15 @@ public final class DiffTree {
      */
     public static void addColumns(Collection<IColumn> left, Collection<IColumn> right,
                                   TreeElement parent, List<TreeElement> list) {
+        Map<String, IColumn> rightByName = new HashMap<>();
+        for (IColumn sRight : right) {
+            rightByName.putIfAbsent(sRight.getName(), sRight);
+        }
+
+        Set<String> leftNames = new HashSet<>();
         for (IColumn sLeft : left) {
-            IColumn foundRight = right.stream().filter(
-                            sRight -> sLeft.getName().equals(sRight.getName()))
-                    .findAny().orElse(null);
+            leftNames.add(sLeft.getName());
+            IColumn foundRight = rightByName.get(sLeft.getName());
 
             if (!sLeft.equals(foundRight)) {
                 TreeElement col = new TreeElement(sLeft, foundRight != null ? DiffSide.BOTH : DiffSide.LEFT);
@@ -92,7 +113,7 @@ public final class DiffTree {
         }
 
         for (IColumn sRight : right) {
-            if (left.stream().noneMatch(sLeft -> sRight.getName().equals(sLeft.getName()))) {
+            if (!leftNames.contains(sRight.getName())) {
                 TreeElement col = new TreeElement(sRight, DiffSide.RIGHT);
                 col.setParent(parent);
                 list.add(col);
@@ -166,21 +187,94 @@ public final class DiffTree {
     public TreeElement createTree(IDatabase left, IDatabase right) throws InterruptedException {
         IMonitor.checkCancelled(monitor);
         TreeElement db = new TreeElement("Database", DbObjType.DATABASE, DiffSide.BOTH);
-        addChildren(left, right, db);
+        try {
+            ForkJoinPool.commonPool().invoke(new ChildrenTask(left, right, db));
+        } catch (MonitorCancelledRuntimeException e) {
+            throw new InterruptedException();
+        }
 
         return db;
     }
 
-    private void addChildren(IStatementContainer left, IStatementContainer right, TreeElement parent)
-            throws InterruptedException {
-        for (CompareResult res : compareStatements(left, right)) {
-            IMonitor.checkCancelled(monitor);
-            TreeElement child = new TreeElement(res.getStatement(), res.getSide());
-            parent.addChild(child);
+    /**
+     * Compares children of two containers and adds the differences to the parent element,
+     * then processes changed child containers as subtasks.
+     */
+    private final class ChildrenTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
 
-            if (res.hasChildren()) {
-                addChildren((IStatementContainer) res.left(), (IStatementContainer) res.right(), child);
+        private final transient IStatementContainer left;
+        private final transient IStatementContainer right;
+        private final transient TreeElement parent;
+
+        ChildrenTask(IStatementContainer left, IStatementContainer right, TreeElement parent) {
+            this.left = left;
+            this.right = right;
+            this.parent = parent;
+        }
+
+        @Override
+        protected void compute() {
+            List<ChildrenTask> subtasks = new ArrayList<>();
+            for (CompareResult res : compareStatements(left, right)) {
+                checkCancelled();
+                TreeElement child = new TreeElement(res.getStatement(), res.getSide());
+                parent.addChild(child);
+
+                if (res.hasChildren()) {
+                    subtasks.add(new ChildrenTask((IStatementContainer) res.left(),
+                            (IStatementContainer) res.right(), child));
+                }
             }
+            invokeAll(subtasks);
+        }
+    }
+
+    /**
+     * Compares a range of left statements with their right counterparts.
+     * Results are written to the array positions of the statements to keep their order.
+     */
+    private final class CompareTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<? extends IStatement> leftChildren;
+        private final transient IStatementContainer right;
+        private final transient CompareResult[] results;
+        private final int from;
+        private final int to;
+
+        CompareTask(List<? extends IStatement> leftChildren, IStatementContainer right,
+                    CompareResult[] results, int from, int to) {
+            this.leftChildren = leftChildren;
+            this.right = right;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CompareTask(leftChildren, right, results, from, middle),
+                        new CompareTask(leftChildren, right, results, middle, to));
+                return;
+            }
+
+            checkCancelled();
+            for (int i = from; i < to; i++) {
+                results[i] = compareLeft(leftChildren.get(i), right);
+            }
+        }
+    }
+
+    private void checkCancelled() {
+        if (monitor != null && monitor.isCancelled()) {
+            throw new MonitorCancelledRuntimeException();
         }
     }
 
@@ -193,18 +287,14 @@ public final class DiffTree {
         // add LEFT and BOTH here
         // and RIGHT in a separate pass
         if (left != null) {
-            left.getChildren().forEach(sLeft -> {
-                IStatement foundRight = null;
-                if (right != null) {
-                    foundRight = right.getChild(sLeft.getName(), sLeft.getStatementType());
+            List<? extends IStatement> leftChildren = left.getChildren().toList();
+            CompareResult[] results = new CompareResult[leftChildren.size()];
+            new CompareTask(leftChildren, right, results, 0, results.length).invoke();
+            for (CompareResult res : results) {
+                if (res != null) {
+                    rv.add(res);
                 }
-
-                if (foundRight == null) {
-                    rv.add(new CompareResult(sLeft, null));
-                } else if (!Comparison.compare(settings, sLeft, foundRight)) {
-                    rv.add(new CompareResult(sLeft, foundRight));
-                }
-            });
+            }
         }
 
         if (right != null) {
@@ -217,6 +307,24 @@ public final class DiffTree {
 
         return rv;
     }
+
+    /**
+     * @return comparison result of the left statement, or null if it is equal to its right counterpart
+     */
+    private CompareResult compareLeft(IStatement sLeft, IStatementContainer right) {
+        IStatement foundRight = null;
+        if (right != null) {
+            foundRight = right.getChild(sLeft.getName(), sLeft.getStatementType());
+        }
+
+        if (foundRight == null) {
+            return new CompareResult(sLeft, null);
+        }
+        if (!Comparison.compare(settings, sLeft, foundRight)) {
+            return new CompareResult(sLeft, foundRight);
+        }
+        return null;
+    }
 }
 
 /**
@@ -15,9 +15,12 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.model.difftree;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
@@ -31,6 +34,11 @@ import org.pgcodekeeper.core.localizations.Messages;
  * Wrapper for database objects representing the state between old and new database schemas.
  * Provides hierarchical tree structure for organizing database objects and their relationships
  * during schema comparison operations.
+ * <p>
+ * Children of large elements are looked up through a name index built on the first lookup,
+ * and statements resolved by {@link #getStatement(IDatabase)} are remembered
+ * for the last two databases, so walking the whole tree does not go quadratic.
+ * The remembered databases and statements are weakly reachable and are not kept in memory by the tree.
  */
 public final class TreeElement {
 
@@ -41,6 +49,11 @@ public final class TreeElement {
         LEFT, RIGHT, BOTH
     }
 
+    /**
+     * Number of children starting from which they are looked up through the index.
+     */
+    private static final int INDEX_THRESHOLD = 16;
+
     private int hashcode;
     private final String name;
     private final DbObjType type;
@@ -48,6 +61,15 @@ public final class TreeElement {
     private boolean selected;
     private TreeElement parent;
     private final List<TreeElement> children = new ArrayList<>();
+    /**
+     * First child for each name, null until the number of children reaches {@link #INDEX_THRESHOLD}.
+     * Built and updated only by {@link #addChild(TreeElement)}, so lookups never write it.
+     */
+    private Map<String, TreeElement> childIndex;
+    /**
+     * Statements resolved for the last two databases, replaced as a whole.
+     */
+    private volatile ResolvedStatements resolved = ResolvedStatements.EMPTY;
 
     /**
      * Gets the name of this tree element.
@@ -161,6 +183,15 @@ public final class TreeElement {
         child.parent = this;
         child.hashcode = 0;
         children.add(child);
+        if (childIndex != null) {
+            childIndex.putIfAbsent(child.name, child);
+        } else if (children.size() >= INDEX_THRESHOLD) {
+            Map<String, TreeElement> index = new HashMap<>();
+            for (TreeElement el : children) {
+                index.putIfAbsent(el.name, el);
+            }
+            childIndex = index;
+        }
     }
 
     /**
@@ -171,6 +202,14 @@ public final class TreeElement {
      * @return the matching child element, or null if not found
      */
     public TreeElement getChild(String name, DbObjType type) {
+        if (childIndex != null) {
+            TreeElement first = childIndex.get(name);
+            if (first == null || type == null || first.type == type) {
+                return first;
+            }
+            // another child with the same name but different type is rare, scan for it
+        }
+
         for (TreeElement el : children) {
             if ((type == null || el.type == type) && el.name.equals(name)) {
                 return el;
@@ -235,6 +274,21 @@ public final class TreeElement {
         if (type == DbObjType.DATABASE) {
             return db;
         }
+
+        ResolvedStatements cache = resolved;
+        IStatement st = cache.get(db);
+        if (st != null) {
+            return st;
+        }
+
+        st = resolveStatement(db);
+        if (st != null) {
+            resolved = cache.add(db, st);
+        }
+        return st;
+    }
+
+    private IStatement resolveStatement(IDatabase db) {
         IStatement stParent = parent.getStatement(db);
         if (stParent == null) {
             throw new IllegalArgumentException(Messages.TreeElement_no_statement_found.formatted(parent));
@@ -439,5 +493,43 @@ public final class TreeElement {
             throw new IllegalStateException("The setParent method cannot be called on an object of type " + type);
         }
         this.parent = el;
+        this.resolved = ResolvedStatements.EMPTY;
+    }
+
+    /**
+     * Statement of this element found in the database, both are held weakly.
+     */
+    private record ResolvedStatement(WeakReference<IDatabase> db, WeakReference<IStatement> statement) {
+
+        ResolvedStatement(IDatabase db, IStatement statement) {
+            this(new WeakReference<>(db), new WeakReference<>(statement));
+        }
+
+        /**
+         * @return the statement if it was found in the same database instance and is still reachable, or null
+         */
+        IStatement get(IDatabase db) {
+            return this.db.get() == db ? statement.get() : null;
+        }
+    }
+
+    /**
+     * Immutable cache of statements of this element found in the last two databases.
+     */
+    private record ResolvedStatements(ResolvedStatement last, ResolvedStatement prev) {
+
+        static final ResolvedStatements EMPTY = new ResolvedStatements(null, null);
+
+        IStatement get(IDatabase db) {
+            IStatement st = last == null ? null : last.get(db);
+            if (st == null && prev != null) {
+                st = prev.get(db);
+            }
+            return st;
+        }
+
+        ResolvedStatements add(IDatabase db, IStatement st) {
+            return new ResolvedStatements(new ResolvedStatement(db, st), last);
+        }
     }
 }
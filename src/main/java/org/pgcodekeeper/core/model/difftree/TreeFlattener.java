@@ -18,6 +18,7 @@ package org.pgcodekeeper.core.model.difftree;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.ignorelist.IgnoreList;
+import org.pgcodekeeper.core.ignorelist.IgnoreMatcher;
 import org.pgcodekeeper.core.ignorelist.IgnoredObject;
 import org.pgcodekeeper.core.localizations.Messages;
 import org.pgcodekeeper.core.ignorelist.IgnoredObject.AddStatus;
@@ -41,6 +42,7 @@ public final class TreeFlattener {
     private IDatabase dbSource;
     private IDatabase dbTarget;
     private IgnoreList ignoreList;
+    private IgnoreMatcher ignoreMatcher;
     private String[] dbNames;
     private Collection<DbObjType> onlyTypes;
 
@@ -125,6 +127,7 @@ public final class TreeFlattener {
     public List<TreeElement> flatten(TreeElement root) {
         result.clear();
         addSubtreeRoots.clear();
+        ignoreMatcher = ignoreList != null ? ignoreList.getMatcher() : null;
         LOG.info(Messages.TreeFlattener_log_filter_obj);
         recurse(root);
         return result;
@@ -171,15 +174,15 @@ public final class TreeFlattener {
 
     /**
      * Determines the add status for a tree element based on ignore rules.
-     * Evaluates all matching rules and applies precedence logic.
+     * Evaluates all matching rules found by the compiled ignore list and applies precedence logic.
      *
      * @param el           the tree element to evaluate
      * @return the final add status for the element
      */
     private AddStatus getNameStatus(TreeElement el) {
         AddStatus status = null;
-        for (IgnoredObject rule : ignoreList.getList()) {
-            if (match(rule, el)) {
+        for (IgnoredObject rule : ignoreMatcher.getMatching(el.getName(), el.getQualifiedName(), el.getType())) {
+            if (matchDb(rule)) {
                 AddStatus newStatus = rule.getAddStatus();
                 if (status == null) {
                     status = newStatus;
@@ -203,36 +206,24 @@ public final class TreeFlattener {
     }
 
     /**
-     * Checks if this ignore rule matches the given tree element and database names.
+     * Checks if the database condition of the ignore rule matches the database names.
      *
-     * @param rule    rule
-     * @param el      the tree element to match against
-     * @return true if the rule matches the element
+     * @param rule rule with matching name and type
+     * @return true if the rule has no database condition or it matches one of the database names
      */
-    private boolean match(IgnoredObject rule, TreeElement el) {
-        boolean matches = rule.match(rule.isQualified() ? el.getQualifiedName() : el.getName());
-
-        var objTypes = rule.getObjTypes();
-        if (!objTypes.isEmpty()) {
-            matches = matches && objTypes.contains(el.getType());
-        }
-
+    private boolean matchDb(IgnoredObject rule) {
         var pattern = rule.getDbRegex();
-        if (matches && pattern != null) {
-            if (dbNames != null && dbNames.length != 0) {
-                boolean foundDbMatch = false;
-                for (String dbName : dbNames) {
-                    if (dbName != null && pattern.matcher(dbName).find()) {
-                        foundDbMatch = true;
-                        break;
-                    }
+        if (pattern == null) {
+            return true;
+        }
+        if (dbNames != null) {
+            for (String dbName : dbNames) {
+                if (dbName != null && pattern.matcher(dbName).find()) {
+                    return true;
                 }
-                matches = foundDbMatch;
-            } else {
-                matches = false;
             }
         }
-        return matches;
+        return false;
     }
 
     private void writeChildrenInLog(TreeElement el) {
@@ -15,8 +15,6 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.model.graph;
 
-import org.jgrapht.Graph;
-import org.jgrapht.graph.DefaultEdge;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
@@ -32,25 +30,57 @@ import java.util.regex.Pattern;
  * Database dependency finder for analyzing object dependencies.
  * Provides methods to find dependencies by patterns or specific statements
  * with support for filtering by object types and depth control.
+ * <p>
+ * The result is a tree of all dependency paths, a path ends at the depth limit or at an object
+ * already on it. The tree is walked over vertex numbers of the graph with one set of the path vertices.
+ * Output of an expanded subtree depends only on its start vertex, level and hidden objects count,
+ * unless the subtree reaches an object on the current path, which is only possible inside a cycle.
+ * So subtrees are memoized by these values together with the cycle vertices they reached,
+ * and are copied from the output when met again with none of those vertices on the path.
  */
 public class DepcyFinder {
 
     private static final int START_LEVEL = 0;
 
     private final IDatabase db;
-    private final Graph<IStatement, DefaultEdge> graph;
+    private final StatementGraph graph;
+    private final boolean isReverse;
     private final int depth;
     private final EnumSet<DbObjType> filterObjTypes;
     private final boolean isInvertFilter;
+    private final boolean isMemoized;
     private final List<PrintObj> printObjects = new ArrayList<>();
 
+    /**
+     * Adjacent vertices in the search direction sorted by statement type, filled on first use
+     */
+    private final int[][] next;
+    /**
+     * Cycle component of every vertex, -1 for vertices not in cycles
+     */
+    private final int[] components;
+    private final BitSet path;
+    private final BitSet marks;
+    /**
+     * Cycle vertices met by the subtrees being walked
+     */
+    private int[] visited = new int[16];
+    private int visitedSize;
+    private final Map<SubtreeKey, Subtree> subtrees = new HashMap<>();
+
     private DepcyFinder(IDatabase db, int depth, boolean isReverse,
                         Collection<DbObjType> filterObjTypes, boolean isInvertFilter,
-                        Collection<Dependency> additionalDependencies) {
+                        Collection<Dependency> additionalDependencies, boolean isMemoized) {
         this.db = db;
-        DepcyGraph dg = new DepcyGraph(db);
+        DepcyGraph dg = new DepcyGraph(db, false, false);
         dg.addCustomDepcies(additionalDependencies);
-        this.graph = isReverse ? dg.getGraph() : dg.getReversedGraph();
+        this.graph = dg.getStatementGraph();
+        int size = graph.getVertexCount();
+        this.next = new int[size][];
+        this.components = graph.findCycleComponents();
+        this.path = new BitSet(size);
+        this.marks = new BitSet(size);
+        this.isReverse = isReverse;
         this.depth = depth;
         if (filterObjTypes.isEmpty()) {
             this.filterObjTypes = EnumSet.noneOf(DbObjType.class);
@@ -58,6 +88,7 @@ public class DepcyFinder {
             this.filterObjTypes = EnumSet.copyOf(filterObjTypes);
         }
         this.isInvertFilter = isInvertFilter;
+        this.isMemoized = isMemoized;
     }
 
     /**
@@ -91,7 +122,21 @@ public class DepcyFinder {
     public static List<String> byPatterns(int depth, boolean isReverse, Collection<DbObjType> filterObjTypes,
                                           boolean isInvertFilter, IDatabase db, Collection<String> names,
                                           Collection<Dependency> additionalDependencies) {
-        var depcyFinder = new DepcyFinder(db, depth, isReverse, filterObjTypes, isInvertFilter, additionalDependencies);
+        return byPatterns(depth, isReverse, filterObjTypes, isInvertFilter, db, names, additionalDependencies, true);
+    }
+
+    /**
+     * Finds dependencies by matching object name patterns, optionally expanding every subtree
+     * instead of copying memoized ones. The result is the same either way.
+     *
+     * @param isMemoized whether to reuse output of already expanded subtrees
+     * @see #byPatterns(int, boolean, Collection, boolean, IDatabase, Collection, Collection)
+     */
+    static List<String> byPatterns(int depth, boolean isReverse, Collection<DbObjType> filterObjTypes,
+                                   boolean isInvertFilter, IDatabase db, Collection<String> names,
+                                   Collection<Dependency> additionalDependencies, boolean isMemoized) {
+        var depcyFinder = new DepcyFinder(db, depth, isReverse, filterObjTypes, isInvertFilter,
+                additionalDependencies, isMemoized);
         depcyFinder.searchDeps(names);
         return depcyFinder.getResult();
     }
@@ -123,8 +168,8 @@ public class DepcyFinder {
     public static List<String> byStatement(int depth, boolean isReverse, Collection<DbObjType> filterObjTypes,
                                            IStatement st, Collection<Dependency> additionalDependencies) {
         var depcyFinder = new DepcyFinder(st.getDatabase(), depth, isReverse, filterObjTypes, false,
-                additionalDependencies);
-        depcyFinder.fillTree(st, START_LEVEL, new HashSet<>(), null, 0);
+                additionalDependencies, true);
+        depcyFinder.fillTree(st, START_LEVEL, null, 0);
         return depcyFinder.getResult();
     }
 
@@ -141,9 +186,9 @@ public class DepcyFinder {
 
             db.getDescendants().flatMap(ITable::columnAdder)
                     .filter(st -> find(patterns, st))
-                    .forEach(st -> fillTree(st, START_LEVEL, new HashSet<>(), null, 0));
+                    .forEach(st -> fillTree(st, START_LEVEL, null, 0));
         } else {
-            fillTree(db, START_LEVEL, new HashSet<>(), null, 0);
+            fillTree(db, START_LEVEL, null, 0);
         }
     }
 
@@ -165,7 +210,11 @@ public class DepcyFinder {
         return false;
     }
 
-    private void fillTree(IStatement st, int level, Set<IStatement> added, IStatement parentSt, int hiddenObj) {
+    private void fillTree(IStatement st, int level, IStatement parentSt, int hiddenObj) {
+        fillTree(st, graph.indexOf(st), level, parentSt, hiddenObj);
+    }
+
+    private void fillTree(IStatement st, int v, int level, IStatement parentSt, int hiddenObj) {
         DbObjType type = st.getStatementType();
 
         if (DbObjType.DATABASE == type && START_LEVEL != level) {
@@ -173,25 +222,136 @@ public class DepcyFinder {
             return;
         }
 
-        boolean isCyclic = !added.add(st);
+        if (v < 0) {
+            // not in the graph, has no dependencies
+            if (isPrintObj(st)) {
+                printObjects.add(new PrintObj(st, parentSt, level, hiddenObj, false));
+            }
+            return;
+        }
 
-        final IStatement finalParentSt;
+        boolean isCyclic = path.get(v);
+        if (components[v] >= 0) {
+            addVisited(v);
+        }
+
+        SubtreeKey key = new SubtreeKey(v, level, hiddenObj);
+        if (isMemoized && !isCyclic) {
+            Subtree subtree = subtrees.get(key);
+            if (subtree != null && isOffPath(subtree.visited())) {
+                copySubtree(subtree, parentSt);
+                return;
+            }
+        }
+
+        int start = printObjects.size();
+        IStatement nextParentSt = parentSt;
+        int nextLevel = level;
+        int nextHiddenObj = hiddenObj;
         if (isPrintObj(st)) {
             printObjects.add(new PrintObj(st, parentSt, level, hiddenObj, isCyclic));
-            finalParentSt = st;
-            hiddenObj = 0;
-            level++;
+            nextParentSt = st;
+            nextHiddenObj = 0;
+            nextLevel++;
         } else {
-            hiddenObj++;
-            finalParentSt = parentSt;
+            nextHiddenObj++;
         }
-        if (depth > level && !isCyclic) {
-            final int finalLevel = level;
-            final int finalHiddenObj = hiddenObj;
 
-            graph.outgoingEdgesOf(st).stream().map(graph::getEdgeTarget)
-                    .sorted(Comparator.comparing(IStatement::getStatementType))
-                    .forEach(pgSt -> fillTree(pgSt, finalLevel, new HashSet<>(added), finalParentSt, finalHiddenObj));
+        if (depth > nextLevel && !isCyclic) {
+            int visitedStart = visitedSize;
+            path.set(v);
+            for (int u : getNext(v)) {
+                fillTree(graph.getVertex(u), u, nextLevel, nextParentSt, nextHiddenObj);
+            }
+            path.clear(v);
+
+            int[] subtreeVisited = compactVisited(v, visitedStart);
+            if (isMemoized && isOffPath(subtreeVisited)) {
+                subtrees.put(key, new Subtree(start, printObjects.size(), parentSt, subtreeVisited));
+            }
+        }
+    }
+
+    /**
+     * @return adjacent vertices in the search direction, stably sorted by statement type
+     */
+    private int[] getNext(int v) {
+        int[] adjacent = next[v];
+        if (adjacent != null) {
+            return adjacent;
+        }
+
+        int[] unsorted = graph.getAdjacentIndexes(v, !isReverse);
+        int[] counts = new int[DbObjType.values().length + 1];
+        for (int u : unsorted) {
+            counts[graph.getVertex(u).getStatementType().ordinal() + 1]++;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        adjacent = new int[unsorted.length];
+        for (int u : unsorted) {
+            adjacent[counts[graph.getVertex(u).getStatementType().ordinal()]++] = u;
+        }
+        next[v] = adjacent;
+        return adjacent;
+    }
+
+    private void addVisited(int v) {
+        if (visitedSize == visited.length) {
+            visited = Arrays.copyOf(visited, visitedSize * 2);
+        }
+        visited[visitedSize++] = v;
+    }
+
+    /**
+     * Leaves only distinct vertices of the cycle of the given vertex among those visited by its subtree.
+     * Other vertices cannot be on the path of this subtree or of its callers.
+     *
+     * @return vertices of the cycle visited by the subtree, except the start vertex
+     */
+    private int[] compactVisited(int v, int from) {
+        int component = components[v];
+        if (component < 0) {
+            visitedSize = from;
+            return EMPTY;
+        }
+
+        int size = from;
+        for (int i = from; i < visitedSize; i++) {
+            int u = visited[i];
+            if (components[u] == component && u != v && !marks.get(u)) {
+                marks.set(u);
+                visited[size++] = u;
+            }
+        }
+        visitedSize = size;
+        int[] result = Arrays.copyOfRange(visited, from, size);
+        for (int u : result) {
+            marks.clear(u);
+        }
+        return result;
+    }
+
+    private boolean isOffPath(int[] vertices) {
+        for (int u : vertices) {
+            if (path.get(u)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void copySubtree(Subtree subtree, IStatement parentSt) {
+        for (int i = subtree.start(); i < subtree.end(); i++) {
+            PrintObj obj = printObjects.get(i);
+            if (obj.getParentSt() == subtree.parentSt() && parentSt != subtree.parentSt()) {
+                obj = new PrintObj(obj.getStatement(), parentSt, obj.getIndent(), obj.getHiddenObj(), obj.isCyclic());
+            }
+            printObjects.add(obj);
+        }
+        for (int u : subtree.visited()) {
+            addVisited(u);
         }
     }
 
@@ -208,10 +368,27 @@ public class DepcyFinder {
     }
 
     private List<String> getResult() {
-        List<String> result = new ArrayList<>();
+        List<String> result = new ArrayList<>(printObjects.size());
         for (PrintObj prObj : printObjects) {
             result.add(prObj.toString());
         }
         return result;
     }
+
+    private static final int[] EMPTY = new int[0];
+
+    private record SubtreeKey(int vertex, int level, int hiddenObj) {
+    }
+
+    /**
+     * Output of an expanded subtree.
+     *
+     * @param start    index of the first output object
+     * @param end      index after the last output object
+     * @param parentSt parent statement of the subtree top objects
+     * @param visited  cycle vertices visited by the subtree, the subtree output is the same
+     *                 while none of them is on the path
+     */
+    private record Subtree(int start, int end, IStatement parentSt, int[] visited) {
+    }
 }
@@ -16,7 +16,6 @@
 package org.pgcodekeeper.core.model.graph;
 
 import org.jgrapht.Graph;
-import org.jgrapht.alg.cycle.CycleDetector;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.EdgeReversedGraph;
 import org.jgrapht.graph.SimpleDirectedGraph;
@@ -35,6 +34,10 @@ import java.util.*;
  * Database dependency graph for managing object relationships and dependencies.
  * Builds directed graph of database objects with support for cycle detection and resolution.
  * Handles foreign key relationships, inheritance, and partitioning dependencies.
+ * <p>
+ * Graph direction: dependent object → dependency (source → target).
+ * Vertices are numbered densely and adjacency is stored in int arrays,
+ * traversals use bit sets instead of hash-based visited marks.
  */
 public final class DepcyGraph {
 
@@ -42,30 +45,115 @@ public final class DepcyGraph {
 
     private static final String REMOVE_DEP = Messages.DepcyGraph_log_remove_deps;
 
-    private final Graph<IStatement, DefaultEdge> graph =
-            new SimpleDirectedGraph<>(DefaultEdge.class);
+    /**
+     * Mutable graph used while the dependencies are collected, null after that.
+     */
+    private StatementGraph.Builder builder = new StatementGraph.Builder();
 
-    private final EdgeReversedGraph<IStatement, DefaultEdge> reversedGraph =
-            new EdgeReversedGraph<>(graph);
+    private StatementGraph graph;
 
     /**
-     * Gets the dependency graph.
+     * Gets a copy of the dependency graph as a JGraphT graph.
      * Graph direction: dependent object → dependency (source → target)
      *
-     * @return the dependency graph
+     * @return new graph containing the vertices and edges of this dependency graph
+     * @deprecated creates the whole graph on every call, use {@link #getDependencies(IStatement)},
+     * {@link #getDependents(IStatement)} and {@link GraphUtils} instead
      */
+    @Deprecated
     public Graph<IStatement, DefaultEdge> getGraph() {
-        return graph;
+        Graph<IStatement, DefaultEdge> copy = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (IStatement st : graph.getVertices()) {
+            copy.addVertex(st);
+        }
+        for (IStatement st : graph.getVertices()) {
+            for (IStatement dep : getDependencies(st)) {
+                copy.addEdge(st, dep);
+            }
+        }
+        return copy;
     }
 
+    /**
+     * @return reversed copy of the dependency graph
+     * @deprecated creates the whole graph on every call, see {@link #getGraph()}
+     */
+    @Deprecated
     public EdgeReversedGraph<IStatement, DefaultEdge> getReversedGraph() {
-        return reversedGraph;
+        return new EdgeReversedGraph<>(getGraph());
+    }
+
+    /**
+     * @param st statement
+     * @return true if the statement is a vertex of this graph
+     */
+    public boolean containsVertex(IStatement st) {
+        return graph.indexOf(st) >= 0;
+    }
+
+    /**
+     * @return unmodifiable list of the graph vertices
+     */
+    public List<IStatement> getVertices() {
+        return graph.getVertices();
+    }
+
+    /**
+     * @return number of the graph edges
+     */
+    public int getEdgeCount() {
+        return graph.getEdgeCount();
+    }
+
+    /**
+     * Returns statements the given statement directly depends on, in the order dependencies were added.
+     *
+     * @param st statement
+     * @return direct dependencies, empty if the statement is not in the graph
+     */
+    public List<IStatement> getDependencies(IStatement st) {
+        return getAdjacent(st, false);
+    }
+
+    /**
+     * Returns statements directly depending on the given statement, in the order dependencies were added.
+     *
+     * @param st statement
+     * @return direct dependents, empty if the statement is not in the graph
+     */
+    public List<IStatement> getDependents(IStatement st) {
+        return getAdjacent(st, true);
+    }
+
+    private List<IStatement> getAdjacent(IStatement st, boolean reverse) {
+        int index = graph.indexOf(st);
+        return index < 0 ? Collections.emptyList() : graph.getAdjacent(index, reverse);
+    }
+
+    /**
+     * Traverses the graph depth-first from the statement.
+     *
+     * @param st      start statement
+     * @param reverse if true, traverses dependents instead of dependencies
+     * @return reachable statements except the start one and the database, in depth-first finishing order
+     */
+    List<IStatement> depthFirst(IStatement st, boolean reverse) {
+        int index = graph.indexOf(st);
+        return index < 0 ? Collections.emptyList() : graph.depthFirst(index, reverse);
+    }
+
+    /**
+     * @return compact form of the graph for traversals by vertex numbers
+     */
+    StatementGraph getStatementGraph() {
+        return graph;
     }
 
     private final IDatabase db;
 
     /**
-     * Copied database, graph source.<br>
+     * Graph source: a copy of the database, or the database itself if the graph
+     * was created without copying.<br>
      * <b>Do not modify</b> any elements in this as it will break
      * HashSets/HashMaps and with them the generated graph.
      */
@@ -89,22 +177,39 @@ public final class DepcyGraph {
      * @param reduceGraph if true, merge column nodes into table nodes
      */
     public DepcyGraph(IDatabase graphSrc, boolean reduceGraph) {
-        db = (IDatabase) graphSrc.deepCopy();
+        this(graphSrc, reduceGraph, true);
+    }
+
+    /**
+     * Creates a dependency graph with optional graph reduction and copying.
+     * <br>
+     * Without copying, vertices of the graph are the statements of the source database itself.
+     * This avoids cloning the whole model but requires the source database not to be modified
+     * while the graph is in use. Copy the database only if it is going to be changed.
+     *
+     * @param graphSrc    the source database to build graph from
+     * @param reduceGraph if true, merge column nodes into table nodes
+     * @param copy        if true, build the graph over a deep copy of the source database
+     */
+    public DepcyGraph(IDatabase graphSrc, boolean reduceGraph, boolean copy) {
+        db = copy ? (IDatabase) graphSrc.deepCopy() : graphSrc;
         create();
         removeCycles();
 
         if (reduceGraph) {
             reduce();
         }
+        graph = builder.build();
+        builder = null;
     }
 
     private void create() {
-        graph.addVertex(db);
+        builder.addVertex(db);
 
         // first pass: object tree
         db.getDescendants().flatMap(ITable::columnAdder).forEach(st -> {
-            graph.addVertex(st);
-            graph.addEdge(st, st.getParent());
+            builder.addVertex(st);
+            builder.addEdge(st, st.getParent());
         });
 
 
@@ -123,7 +228,7 @@ public final class DepcyGraph {
 
                     IColumn parentTblCol = col.getParentCol((PgAbstractTable) tbl);
                     if (parentTblCol != null) {
-                        graph.addEdge(col, parentTblCol);
+                        builder.addEdge(col, parentTblCol);
                     }
                 }
             }
@@ -132,9 +237,9 @@ public final class DepcyGraph {
 
     private void reduce() {
         List<Pair<IStatement, IStatement>> newEdges = new ArrayList<>();
-        for (DefaultEdge edge : graph.edgeSet()) {
-            var source = graph.getEdgeSource(edge);
-            var target = graph.getEdgeTarget(edge);
+        for (IStatement[] edge : builder.getEdges()) {
+            var source = edge[0];
+            var target = edge[1];
             boolean changeEdge = false;
             if (source.getStatementType() == DbObjType.COLUMN) {
                 changeEdge = true;
@@ -149,34 +254,30 @@ public final class DepcyGraph {
             }
         }
         for (var edge : newEdges) {
-            graph.addEdge(edge.getFirst(), edge.getSecond());
+            builder.addEdge(edge.getFirst(), edge.getSecond());
         }
 
-        List<IStatement> toRemove = new ArrayList<>();
-        for (var st : graph.vertexSet()) {
+        for (var st : builder.getVertices()) {
             if (st.getStatementType() == DbObjType.COLUMN) {
-                toRemove.add(st);
+                builder.removeVertex(st);
             }
         }
-        graph.removeAllVertices(toRemove);
     }
 
     private void removeCycles() {
-        CycleDetector<IStatement, DefaultEdge> detector = new CycleDetector<>(graph);
-
-        for (var st : detector.findCycles()) {
+        for (var st : builder.findCycles()) {
             if (!(st instanceof PgAbstractFunction)) {
                 continue;
             }
 
-            for (var vertex : detector.findCyclesContainingVertex(st)) {
+            for (var vertex : builder.findCyclesContainingVertex(st)) {
                 if (vertex.getStatementType() == DbObjType.COLUMN) {
-                    graph.removeEdge(st, vertex);
+                    builder.removeEdge(st, vertex);
                     var msg = REMOVE_DEP.formatted(st.getQualifiedName(), vertex.getQualifiedName());
                     LOG.info(msg);
 
                     var table = vertex.getParent();
-                    if (graph.removeEdge(st, table) != null) {
+                    if (builder.removeEdge(st, table)) {
                         msg = REMOVE_DEP.formatted(st.getQualifiedName(), table.getQualifiedName());
                         LOG.info(msg);
                     }
@@ -189,7 +290,7 @@ public final class DepcyGraph {
         for (ObjectReference dep : st.getDependencies()) {
             IStatement depSt = db.getStatement(dep);
             if (depSt != null && !st.equals(depSt)) {
-                graph.addEdge(st, depSt);
+                builder.addEdge(st, depSt);
             }
         }
     }
@@ -212,13 +313,13 @@ public final class DepcyGraph {
         if (cont instanceof IStatementContainer c) {
             for (IStatement refCon : c.getChildrenByType(DbObjType.CONSTRAINT)) {
                 if (refCon instanceof IConstraintPk fkCon && refs.equals(fkCon.getColumns())) {
-                    graph.addEdge(con, refCon);
+                    builder.addEdge(con, refCon);
                 }
             }
             for (IStatement ref : c.getChildrenByType(DbObjType.INDEX)) {
                 var refInd = (IIndex) ref;
                 if (refInd.isUnique() && refInd.compareColumns(refs)) {
-                    graph.addEdge(con, refInd);
+                    builder.addEdge(con, refInd);
                 }
             }
         }
@@ -245,7 +346,7 @@ public final class DepcyGraph {
                 String colName = col.getName();
                 IColumn parentCol = ((ITable) parentTbl).getColumn(colName);
                 if (parentCol != null) {
-                    graph.addEdge(col, parentCol);
+                    builder.addEdge(col, parentCol);
                 } else {
                     var msg = Messages.DepcyGraph_log_col_is_missed.formatted(
                             in.getQualifiedName(), colName, col.getSchemaName(), col.getParent().getName(), colName
@@ -262,16 +363,18 @@ public final class DepcyGraph {
      * @param dependencies list of custom dependency pairs to add
      */
     public void addCustomDepcies(Collection<Dependency> dependencies) {
-        if (dependencies == null) {
+        if (dependencies == null || dependencies.isEmpty()) {
             return;
         }
+        var custom = graph.toBuilder();
         for (var dep : dependencies) {
             IStatement source = db.getStatement(dep.source());
             IStatement target = db.getStatement(dep.target());
 
             if (source != null && target != null) {
-                graph.addEdge(source, target);
+                custom.addEdge(source, target);
             }
         }
+        graph = custom.build();
     }
 }
@@ -27,7 +27,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
-import org.jgrapht.graph.DefaultEdge;
 import org.pgcodekeeper.core.database.api.schema.*;
 import org.pgcodekeeper.core.database.base.schema.AbstractStatement;
 import org.pgcodekeeper.core.database.ms.schema.MsAbstractFunction;
@@ -96,8 +95,8 @@ public final class DepcyResolver {
     public DepcyResolver(IDatabase oldDatabase, IDatabase newDatabase, ISettings settings, Set<IStatement> toRefresh) {
         this.oldDb = oldDatabase;
         this.newDb = newDatabase;
-        this.oldDepcyGraph = new DepcyGraph(oldDatabase);
-        this.newDepcyGraph = new DepcyGraph(newDatabase);
+        this.oldDepcyGraph = new DepcyGraph(oldDatabase, false, false);
+        this.newDepcyGraph = new DepcyGraph(newDatabase, false, false);
         this.toRefresh = toRefresh;
         this.settings = settings;
     }
@@ -280,14 +279,9 @@ public final class DepcyResolver {
 
     // check if obj dependence of ms Type
     private boolean isMsTypeDep(IStatement newSt) {
-        var graph = newDepcyGraph.getGraph();
-        for (DefaultEdge edge : graph.edgeSet()) {
-            var source = graph.getEdgeSource(edge);
-            if (newSt.equals(source)) {
-                var target = graph.getEdgeTarget(edge);
-                if (target instanceof MsType && inDropsList(target)) {
-                    return true;
-                }
+        for (var target : newDepcyGraph.getDependencies(newSt)) {
+            if (target instanceof MsType && inDropsList(target)) {
+                return true;
             }
         }
         return false;
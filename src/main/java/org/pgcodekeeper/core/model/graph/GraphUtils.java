@@ -15,12 +15,8 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.model.graph;
 
-import org.jgrapht.event.TraversalListenerAdapter;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.traverse.DepthFirstIterator;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,13 +37,7 @@ public final class GraphUtils {
      * @return list of all statements that directly or indirectly depend on the given statement
      */
     public static List<IStatement> reverse(DepcyGraph depcyGraph, IStatement statement) {
-        if (!depcyGraph.getReversedGraph().containsVertex(statement)) {
-            return Collections.emptyList();
-        }
-        var adapter = new CollectingTraversalAdapter(statement);
-        var dfi = new DepthFirstIterator<>(depcyGraph.getReversedGraph(), statement);
-        iterate(dfi, adapter);
-        return adapter.getStatements();
+        return depcyGraph.depthFirst(statement, true);
     }
 
     /**
@@ -61,27 +51,7 @@ public final class GraphUtils {
      * @return list of all statements that the given statement directly or indirectly depends on
      */
     public static List<IStatement> forward(DepcyGraph depcyGraph, IStatement statement) {
-        if (!depcyGraph.getGraph().containsVertex(statement)) {
-            return Collections.emptyList();
-        }
-        var adapter = new CollectingTraversalAdapter(statement);
-        var dfi = new DepthFirstIterator<>(depcyGraph.getGraph(), statement);
-        iterate(dfi, adapter);
-        return adapter.getStatements();
-    }
-
-    /**
-     * Iterates through the graph using depth-first iterator and collects objects.
-     *
-     * @param dfi the depth-first iterator for traversal
-     * @param adapter the adapter for collecting traversed objects
-     */
-    private static void iterate(DepthFirstIterator<IStatement, DefaultEdge> dfi,
-                                TraversalListenerAdapter<IStatement, DefaultEdge> adapter) {
-        dfi.addTraversalListener(adapter);
-        while (dfi.hasNext()) {
-            dfi.next();
-        }
+        return depcyGraph.depthFirst(statement, false);
     }
 
     private GraphUtils() {
@@ -20,8 +20,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.jgrapht.Graph;
-import org.jgrapht.graph.DefaultEdge;
 import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.dependencieslist.Dependency;
@@ -51,12 +49,12 @@ public class SimpleDepcyResolver {
             List<Dependency> additionalDependencies) {
         this.oldDb = oldDatabase;
         this.newDb = newDatabase;
-        this.oldDepcyGraph = new DepcyGraph(oldDatabase, !isShowColumns);
+        this.oldDepcyGraph = new DepcyGraph(oldDatabase, !isShowColumns, false);
         oldDepcyGraph.addCustomDepcies(additionalDependencies);
         if (newDatabase == null) {
             this.newDepcyGraph = null;
         } else {
-            this.newDepcyGraph = new DepcyGraph(newDatabase, !isShowColumns);
+            this.newDepcyGraph = new DepcyGraph(newDatabase, !isShowColumns, false);
             newDepcyGraph.addCustomDepcies(additionalDependencies);
         }
     }
@@ -102,12 +100,6 @@ public class SimpleDepcyResolver {
      * @return set of statements that the entity depends on
      */
     public Set<IStatement> getConnectedTo(IStatement entity) {
-        Set<IStatement> connected = new HashSet<>();
-        Graph<IStatement, DefaultEdge> currentGraph = oldDepcyGraph.getGraph();
-        for (DefaultEdge e : currentGraph.outgoingEdgesOf(entity)) {
-            connected.add(currentGraph.getEdgeTarget(e));
-        }
-
-        return connected;
+        return new HashSet<>(oldDepcyGraph.getDependencies(entity));
     }
 }
@@ -0,0 +1,615 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.model.graph;
+
+import java.util.*;
+
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+
+/**
+ * Immutable directed graph of statements without parallel edges and loops.
+ * <p>
+ * Vertices are numbered densely in insertion order. Forward and reverse adjacency
+ * are stored in int arrays in compressed sparse row layout: neighbors of vertex {@code v}
+ * are {@code targets[offsets[v]]..targets[offsets[v + 1] - 1]} in edge insertion order.
+ * The graph is created by {@link Builder}.
+ */
+final class StatementGraph {
+
+    private static final int SENTINEL = -1;
+
+    private final IStatement[] vertices;
+    private final Map<IStatement, Integer> indexes;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inSources;
+
+    private StatementGraph(IStatement[] vertices, Map<IStatement, Integer> indexes,
+            int[] outOffsets, int[] outTargets, int[] inOffsets, int[] inSources) {
+        this.vertices = vertices;
+        this.indexes = indexes;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+    }
+
+    /**
+     * @param st statement
+     * @return vertex number of the statement, or -1 if it is not in the graph
+     */
+    int indexOf(IStatement st) {
+        Integer index = indexes.get(st);
+        return index == null ? -1 : index;
+    }
+
+    List<IStatement> getVertices() {
+        return Collections.unmodifiableList(Arrays.asList(vertices));
+    }
+
+    int getEdgeCount() {
+        return outTargets.length;
+    }
+
+    /**
+     * @param v       vertex number
+     * @param reverse if true, returns sources of incoming edges instead of targets of outgoing ones
+     * @return adjacent vertices in edge insertion order
+     */
+    List<IStatement> getAdjacent(int v, boolean reverse) {
+        int[] offsets = reverse ? inOffsets : outOffsets;
+        int[] adjacency = reverse ? inSources : outTargets;
+        int from = offsets[v];
+        int to = offsets[v + 1];
+        List<IStatement> adjacent = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            adjacent.add(vertices[adjacency[i]]);
+        }
+        return adjacent;
+    }
+
+    int getVertexCount() {
+        return vertices.length;
+    }
+
+    IStatement getVertex(int v) {
+        return vertices[v];
+    }
+
+    /**
+     * @param v       vertex number
+     * @param reverse if true, returns sources of incoming edges instead of targets of outgoing ones
+     * @return numbers of adjacent vertices in edge insertion order
+     */
+    int[] getAdjacentIndexes(int v, boolean reverse) {
+        int[] offsets = reverse ? inOffsets : outOffsets;
+        int[] adjacency = reverse ? inSources : outTargets;
+        return Arrays.copyOfRange(adjacency, offsets[v], offsets[v + 1]);
+    }
+
+    /**
+     * Finds strongly connected components of the graph using Tarjan's algorithm.
+     *
+     * @return component number of every vertex; vertices of the same cycle share a number,
+     * vertices not in any cycle get -1
+     */
+    int[] findCycleComponents() {
+        int n = vertices.length;
+        int[] components = new int[n];
+        Arrays.fill(components, -1);
+        int[] order = new int[n];
+        int[] lowLink = new int[n];
+        Arrays.fill(order, -1);
+        int[] componentStack = new int[n];
+        int componentSize = 0;
+        BitSet onStack = new BitSet(n);
+        // pairs of vertex and position in its edge list
+        int[] callStack = new int[n * 2];
+        int counter = 0;
+        int component = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (order[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            callStack[1] = outOffsets[root];
+            order[root] = lowLink[root] = counter++;
+            componentStack[componentSize++] = root;
+            onStack.set(root);
+
+            while (depth >= 0) {
+                int v = callStack[depth * 2];
+                int pos = callStack[depth * 2 + 1];
+                if (pos < outOffsets[v + 1]) {
+                    callStack[depth * 2 + 1] = pos + 1;
+                    int u = outTargets[pos];
+                    if (order[u] < 0) {
+                        order[u] = lowLink[u] = counter++;
+                        componentStack[componentSize++] = u;
+                        onStack.set(u);
+                        depth++;
+                        callStack[depth * 2] = u;
+                        callStack[depth * 2 + 1] = outOffsets[u];
+                    } else if (onStack.get(u)) {
+                        lowLink[v] = Math.min(lowLink[v], order[u]);
+                    }
+                    continue;
+                }
+
+                if (lowLink[v] == order[v]) {
+                    int first = componentSize;
+                    do {
+                        first--;
+                        onStack.clear(componentStack[first]);
+                    } while (componentStack[first] != v);
+                    if (componentSize - first > 1) {
+                        for (int i = first; i < componentSize; i++) {
+                            components[componentStack[i]] = component;
+                        }
+                        component++;
+                    }
+                    componentSize = first;
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callStack[depth * 2];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Traverses the graph depth-first from the start vertex and returns reachable vertices
+     * in the order they are finished, excluding the start vertex and the database.
+     * <p>
+     * The visiting order matches the one of {@code org.jgrapht.traverse.DepthFirstIterator}:
+     * neighbors are pushed in edge order, the last pushed one is visited first,
+     * and a not yet visited neighbor encountered again is moved to the top of the stack.
+     *
+     * @param start   start vertex number
+     * @param reverse if true, traverses incoming edges
+     * @return vertices in finishing order
+     */
+    List<IStatement> depthFirst(int start, boolean reverse) {
+        int[] offsets = reverse ? inOffsets : outOffsets;
+        int[] adjacency = reverse ? inSources : outTargets;
+
+        List<IStatement> finished = new ArrayList<>();
+        // seen: pushed to the stack at least once; started: popped and being or already finished
+        BitSet seen = new BitSet(vertices.length);
+        BitSet started = new BitSet(vertices.length);
+        int[] stack = new int[16];
+        int size = 0;
+
+        seen.set(start);
+        stack[size++] = start;
+        while (size > 0) {
+            int v = stack[--size];
+            if (v == SENTINEL) {
+                finish(stack[--size], start, finished);
+                continue;
+            }
+
+            started.set(v);
+            int from = offsets[v];
+            int to = offsets[v + 1];
+            if (size + 2 + to - from > stack.length) {
+                stack = Arrays.copyOf(stack, Math.max(stack.length * 2, size + 2 + to - from));
+            }
+            stack[size++] = v;
+            stack[size++] = SENTINEL;
+            for (int i = from; i < to; i++) {
+                int u = adjacency[i];
+                if (!seen.get(u)) {
+                    seen.set(u);
+                    stack[size++] = u;
+                } else if (!started.get(u)) {
+                    // still waiting in the stack, move it to the top
+                    int pos = size - 1;
+                    while (stack[pos] != u) {
+                        pos--;
+                    }
+                    System.arraycopy(stack, pos + 1, stack, pos, size - pos - 1);
+                    stack[size - 1] = u;
+                }
+            }
+        }
+        return finished;
+    }
+
+    private void finish(int v, int start, List<IStatement> finished) {
+        IStatement st = vertices[v];
+        if (v != start && st.getStatementType() != DbObjType.DATABASE) {
+            finished.add(st);
+        }
+    }
+
+    /**
+     * @return a builder containing vertices and edges of this graph
+     */
+    Builder toBuilder() {
+        Builder builder = new Builder();
+        for (IStatement st : vertices) {
+            builder.addVertex(st);
+        }
+        for (int v = 0; v < vertices.length; v++) {
+            for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                builder.addEdge(v, outTargets[i]);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Mutable graph used to build {@link StatementGraph}.
+     * Keeps vertex and edge insertion order, removed vertices and edges are only marked.
+     */
+    static final class Builder {
+
+        private final List<IStatement> vertices = new ArrayList<>();
+        private final Map<IStatement, Integer> indexes = new HashMap<>();
+        private final BitSet removedVertices = new BitSet();
+
+        private int[] edgeSources = new int[64];
+        private int[] edgeTargets = new int[64];
+        private int edgeCount;
+        private final BitSet removedEdges = new BitSet();
+
+        /**
+         * Edge numbers by vertex number
+         */
+        private final List<IntList> outEdges = new ArrayList<>();
+        private final List<IntList> inEdges = new ArrayList<>();
+
+        /**
+         * @param st statement
+         * @return false if the statement is already in the graph
+         */
+        boolean addVertex(IStatement st) {
+            Integer existing = indexes.putIfAbsent(st, vertices.size());
+            if (existing != null) {
+                return false;
+            }
+            vertices.add(st);
+            outEdges.add(new IntList());
+            inEdges.add(new IntList());
+            return true;
+        }
+
+        /**
+         * Removes the vertex and all its edges.
+         *
+         * @param st statement
+         */
+        void removeVertex(IStatement st) {
+            int v = getIndex(st);
+            if (v < 0) {
+                return;
+            }
+            IntList out = outEdges.get(v);
+            while (out.size() > 0) {
+                removeEdge(out.get(out.size() - 1));
+            }
+            IntList in = inEdges.get(v);
+            while (in.size() > 0) {
+                removeEdge(in.get(in.size() - 1));
+            }
+            indexes.remove(st);
+            removedVertices.set(v);
+        }
+
+        /**
+         * Adds an edge if there is no such edge yet.
+         *
+         * @param source dependent statement
+         * @param target dependency statement
+         * @return false if the edge already exists
+         * @throws IllegalArgumentException if any statement is not in the graph or the edge is a loop
+         */
+        boolean addEdge(IStatement source, IStatement target) {
+            int s = getIndex(source);
+            int t = getIndex(target);
+            if (s < 0 || t < 0) {
+                throw new IllegalArgumentException("no such vertex in graph: " + (s < 0 ? source : target));
+            }
+            if (s == t) {
+                throw new IllegalArgumentException("loops not allowed");
+            }
+            return addEdge(s, t);
+        }
+
+        private boolean addEdge(int s, int t) {
+            if (findEdge(s, t) >= 0) {
+                return false;
+            }
+            if (edgeCount == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+            }
+            int e = edgeCount++;
+            edgeSources[e] = s;
+            edgeTargets[e] = t;
+            outEdges.get(s).add(e);
+            inEdges.get(t).add(e);
+            return true;
+        }
+
+        /**
+         * @param source dependent statement
+         * @param target dependency statement
+         * @return true if the edge existed
+         */
+        boolean removeEdge(IStatement source, IStatement target) {
+            int s = getIndex(source);
+            int t = getIndex(target);
+            if (s < 0 || t < 0) {
+                return false;
+            }
+            int e = findEdge(s, t);
+            if (e < 0) {
+                return false;
+            }
+            removeEdge(e);
+            return true;
+        }
+
+        private void removeEdge(int e) {
+            outEdges.get(edgeSources[e]).removeValue(e);
+            inEdges.get(edgeTargets[e]).removeValue(e);
+            removedEdges.set(e);
+        }
+
+        private int findEdge(int s, int t) {
+            IntList out = outEdges.get(s);
+            for (int i = 0; i < out.size(); i++) {
+                int e = out.get(i);
+                if (edgeTargets[e] == t) {
+                    return e;
+                }
+            }
+            return -1;
+        }
+
+        private int getIndex(IStatement st) {
+            Integer index = indexes.get(st);
+            return index == null ? -1 : index;
+        }
+
+        /**
+         * @return existing edges as source and target pairs in insertion order
+         */
+        List<IStatement[]> getEdges() {
+            List<IStatement[]> edges = new ArrayList<>(edgeCount - removedEdges.cardinality());
+            for (int e = removedEdges.nextClearBit(0); e < edgeCount; e = removedEdges.nextClearBit(e + 1)) {
+                edges.add(new IStatement[] {vertices.get(edgeSources[e]), vertices.get(edgeTargets[e])});
+            }
+            return edges;
+        }
+
+        /**
+         * @return existing vertices in insertion order
+         */
+        List<IStatement> getVertices() {
+            List<IStatement> list = new ArrayList<>(vertices.size() - removedVertices.cardinality());
+            for (int v = removedVertices.nextClearBit(0); v < vertices.size(); v = removedVertices.nextClearBit(v + 1)) {
+                list.add(vertices.get(v));
+            }
+            return list;
+        }
+
+        /**
+         * Finds vertices which belong to cycles, using Tarjan's strongly connected components algorithm.
+         *
+         * @return vertices of all cycles in insertion order
+         */
+        List<IStatement> findCycles() {
+            int n = vertices.size();
+            int[] order = new int[n];
+            int[] lowLink = new int[n];
+            Arrays.fill(order, -1);
+            int[] componentStack = new int[n];
+            int componentSize = 0;
+            BitSet onStack = new BitSet(n);
+            BitSet cyclic = new BitSet(n);
+            // pairs of vertex and position in its edge list
+            int[] callStack = new int[n * 2];
+            int counter = 0;
+
+            for (int root = removedVertices.nextClearBit(0); root < n; root = removedVertices.nextClearBit(root + 1)) {
+                if (order[root] >= 0) {
+                    continue;
+                }
+                int depth = 0;
+                callStack[0] = root;
+                callStack[1] = 0;
+                order[root] = lowLink[root] = counter++;
+                componentStack[componentSize++] = root;
+                onStack.set(root);
+
+                while (depth >= 0) {
+                    int v = callStack[depth * 2];
+                    int pos = callStack[depth * 2 + 1];
+                    IntList out = outEdges.get(v);
+                    if (pos < out.size()) {
+                        callStack[depth * 2 + 1] = pos + 1;
+                        int u = edgeTargets[out.get(pos)];
+                        if (order[u] < 0) {
+                            order[u] = lowLink[u] = counter++;
+                            componentStack[componentSize++] = u;
+                            onStack.set(u);
+                            depth++;
+                            callStack[depth * 2] = u;
+                            callStack[depth * 2 + 1] = 0;
+                        } else if (onStack.get(u)) {
+                            lowLink[v] = Math.min(lowLink[v], order[u]);
+                        }
+                        continue;
+                    }
+
+                    if (lowLink[v] == order[v]) {
+                        int first = componentSize;
+                        do {
+                            first--;
+                            onStack.clear(componentStack[first]);
+                        } while (componentStack[first] != v);
+                        if (componentSize - first > 1) {
+                            for (int i = first; i < componentSize; i++) {
+                                cyclic.set(componentStack[i]);
+                            }
+                        }
+                        componentSize = first;
+                    }
+                    depth--;
+                    if (depth >= 0) {
+                        int parent = callStack[depth * 2];
+                        lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                    }
+                }
+            }
+
+            List<IStatement> result = new ArrayList<>(cyclic.cardinality());
+            cyclic.stream().forEach(v -> result.add(vertices.get(v)));
+            return result;
+        }
+
+        /**
+         * @param st statement
+         * @return vertices of cycles containing the statement in insertion order,
+         * empty if the statement is not in a cycle
+         */
+        List<IStatement> findCyclesContainingVertex(IStatement st) {
+            int v = getIndex(st);
+            if (v < 0) {
+                return Collections.emptyList();
+            }
+            BitSet component = reachable(v, false);
+            component.and(reachable(v, true));
+            if (component.cardinality() < 2) {
+                return Collections.emptyList();
+            }
+            List<IStatement> result = new ArrayList<>(component.cardinality());
+            component.stream().forEach(u -> result.add(vertices.get(u)));
+            return result;
+        }
+
+        private BitSet reachable(int start, boolean reverse) {
+            BitSet visited = new BitSet(vertices.size());
+            IntList queue = new IntList();
+            visited.set(start);
+            queue.add(start);
+            for (int i = 0; i < queue.size(); i++) {
+                IntList edges = (reverse ? inEdges : outEdges).get(queue.get(i));
+                for (int j = 0; j < edges.size(); j++) {
+                    int e = edges.get(j);
+                    int u = reverse ? edgeSources[e] : edgeTargets[e];
+                    if (!visited.get(u)) {
+                        visited.set(u);
+                        queue.add(u);
+                    }
+                }
+            }
+            return visited;
+        }
+
+        /**
+         * Numbers the existing vertices densely and creates the immutable graph.
+         *
+         * @return built graph
+         */
+        StatementGraph build() {
+            int[] numbers = new int[vertices.size()];
+            List<IStatement> existing = getVertices();
+            IStatement[] newVertices = existing.toArray(new IStatement[0]);
+            Map<IStatement, Integer> newIndexes = new HashMap<>(newVertices.length * 4 / 3 + 1);
+            for (int i = 0, v = 0; v < vertices.size(); v++) {
+                if (!removedVertices.get(v)) {
+                    numbers[v] = i;
+                    newIndexes.put(vertices.get(v), i);
+                    i++;
+                }
+            }
+
+            int liveEdges = edgeCount - removedEdges.cardinality();
+            int[] outOffsets = new int[newVertices.length + 1];
+            int[] outTargets = new int[liveEdges];
+            int[] inOffsets = new int[newVertices.length + 1];
+            int[] inSources = new int[liveEdges];
+            int outPos = 0;
+            int inPos = 0;
+            for (int v = 0; v < vertices.size(); v++) {
+                if (removedVertices.get(v)) {
+                    continue;
+                }
+                int i = numbers[v];
+                outOffsets[i] = outPos;
+                IntList out = outEdges.get(v);
+                for (int j = 0; j < out.size(); j++) {
+                    outTargets[outPos++] = numbers[edgeTargets[out.get(j)]];
+                }
+                inOffsets[i] = inPos;
+                IntList in = inEdges.get(v);
+                for (int j = 0; j < in.size(); j++) {
+                    inSources[inPos++] = numbers[edgeSources[in.get(j)]];
+                }
+            }
+            outOffsets[newVertices.length] = outPos;
+            inOffsets[newVertices.length] = inPos;
+
+            return new StatementGraph(newVertices, newIndexes, outOffsets, outTargets, inOffsets, inSources);
+        }
+    }
+
+    /**
+     * Growable list of ints.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    System.arraycopy(values, i + 1, values, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+    }
+}
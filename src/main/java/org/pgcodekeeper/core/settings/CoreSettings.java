@@ -19,6 +19,7 @@ import org.pgcodekeeper.core.Consts;
 import org.pgcodekeeper.core.database.api.formatter.IFormatConfiguration;
 import org.pgcodekeeper.core.database.api.schema.DbObjType;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +53,13 @@ public class CoreSettings extends AbstractSettings {
     private boolean ignoreConcurrentModification;
     private boolean parallelLoad;
     private boolean disableAutoLoad;
+    private Path parseCacheDir;
+    private boolean twoStageParsing;
+    private boolean chunkedDumpParsing;
+    private boolean concurrentModelBuilding;
+    private boolean lowMemoryAnalysis;
+    private int jdbcReadThreads;
+    private int jdbcFetchSize;
     private IFormatConfiguration formatConfiguration;
     private boolean isAutoFormatObjectCode;
     private boolean isUseActualVersionSyntax;
@@ -335,6 +343,69 @@ public class CoreSettings extends AbstractSettings {
         this.disableAutoLoad = disableAutoLoad;
     }
 
+    @Override
+    public Path getParseCacheDir() {
+        return parseCacheDir;
+    }
+
+    public void setParseCacheDir(Path parseCacheDir) {
+        this.parseCacheDir = parseCacheDir;
+    }
+
+    @Override
+    public boolean isTwoStageParsing() {
+        return twoStageParsing;
+    }
+
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    @Override
+    public boolean isChunkedDumpParsing() {
+        return chunkedDumpParsing;
+    }
+
+    public void setChunkedDumpParsing(boolean chunkedDumpParsing) {
+        this.chunkedDumpParsing = chunkedDumpParsing;
+    }
+
+    @Override
+    public boolean isConcurrentModelBuilding() {
+        return concurrentModelBuilding;
+    }
+
+    public void setConcurrentModelBuilding(boolean concurrentModelBuilding) {
+        this.concurrentModelBuilding = concurrentModelBuilding;
+    }
+
+    @Override
+    public boolean isLowMemoryAnalysis() {
+        return lowMemoryAnalysis;
+    }
+
+    public void setLowMemoryAnalysis(boolean lowMemoryAnalysis) {
+        this.lowMemoryAnalysis = lowMemoryAnalysis;
+    }
+
+    @Override
+    public int getJdbcReadThreads() {
+        return jdbcReadThreads;
+    }
+
+    public void setJdbcReadThreads(int jdbcReadThreads) {
+        this.jdbcReadThreads = jdbcReadThreads;
+    }
+
+    @Override
+    public int getJdbcFetchSize() {
+        return jdbcFetchSize;
+    }
+
+    public void setJdbcFetchSize(int jdbcFetchSize) {
+        this.jdbcFetchSize = jdbcFetchSize;
+    }
+
     @Override
     public CoreSettings shallowCopy() {
         var settings = new CoreSettings();
@@ -365,6 +436,13 @@ public class CoreSettings extends AbstractSettings {
         settings.clusterName = clusterName;
         settings.parallelLoad = parallelLoad;
         settings.disableAutoLoad = disableAutoLoad;
+        settings.parseCacheDir = parseCacheDir;
+        settings.twoStageParsing = twoStageParsing;
+        settings.chunkedDumpParsing = chunkedDumpParsing;
+        settings.concurrentModelBuilding = concurrentModelBuilding;
+        settings.lowMemoryAnalysis = lowMemoryAnalysis;
+        settings.jdbcReadThreads = jdbcReadThreads;
+        settings.jdbcFetchSize = jdbcFetchSize;
         settings.formatConfiguration = formatConfiguration;
         settings.isAutoFormatObjectCode = isAutoFormatObjectCode;
         settings.isUseActualVersionSyntax = isUseActualVersionSyntax;
@@ -189,6 +189,64 @@ public interface ISettings {
      */
     boolean isDisableAutoLoad();
 
+    /**
+     * Gets the directory of the persistent project parse cache.
+     *
+     * @return cache directory, or null if project files must always be parsed
+     */
+    Path getParseCacheDir();
+
+    /**
+     * Checks whether SQL files should be parsed in two stages: fast SLL prediction first,
+     * full LL prediction with error recovery only when the SLL stage fails.
+     *
+     * @return true if two-stage parsing is enabled
+     */
+    boolean isTwoStageParsing();
+
+    /**
+     * Checks whether dump files should be parsed in chunks of whole statements,
+     * so that the parse tree of the whole file is never held in memory at once.
+     *
+     * @return true if dump files are parsed in chunks
+     */
+    boolean isChunkedDumpParsing();
+
+    /**
+     * Checks whether statements of PostgreSQL project files should be built into the model
+     * in parser threads. Each file is built into its own staging area which is merged
+     * into the database in file order.
+     *
+     * @return true if the model is built concurrently
+     */
+    boolean isConcurrentModelBuilding();
+
+    /**
+     * Checks whether analysis launchers should release their parse trees once the statements
+     * are loaded. Only the source text of a released tree is kept, it is parsed again
+     * when the analysis is launched.
+     *
+     * @return true if parse trees are released before the analysis
+     */
+    boolean isLowMemoryAnalysis();
+
+    /**
+     * Gets the number of worker connections used to run JDBC catalog queries concurrently.
+     * Worker connections share the snapshot of the main loader transaction where the database allows it.
+     *
+     * @return number of worker connections, 0 if all queries run on the main connection
+     */
+    int getJdbcReadThreads();
+
+    /**
+     * Gets the number of rows fetched at once by JDBC catalog queries.
+     * A positive value makes readers stream their results through a server cursor
+     * instead of loading the whole result into memory before processing it.
+     *
+     * @return number of rows fetched at once, 0 to use the driver default
+     */
+    int getJdbcFetchSize();
+
     /**
      * Gets the input character encoding name.
      *
@@ -17,6 +17,8 @@ package org.pgcodekeeper.core.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Functional interface for providing input streams.
@@ -32,4 +34,38 @@ public interface InputStreamProvider {
      * @throws IOException if stream creation fails
      */
     InputStream getStream() throws IOException;
+
+    /**
+     * Estimates the size of the input, used to schedule its parsing.
+     *
+     * @return size of the input in bytes, 0 if unknown
+     */
+    default long getSize() {
+        return 0;
+    }
+
+    /**
+     * Creates a provider of the file input which knows its size.
+     *
+     * @param file file to read
+     * @return provider of the file input
+     */
+    static InputStreamProvider of(Path file) {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getStream() throws IOException {
+                return Files.newInputStream(file);
+            }
+
+            @Override
+            public long getSize() {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return 0;
+                }
+            }
+        };
+    }
 }
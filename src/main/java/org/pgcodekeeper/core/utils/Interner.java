@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Weak canonicalizing pool. Equal values interned by the pool are replaced with a single instance,
+ * so models loaded in the same JVM share their names, types and references.
+ * Values are kept only while something else references them.
+ * <p>
+ * The pool is split into stripes guarded by their own locks, so parser threads rarely wait
+ * for each other. Interning is disabled by the {@code pgcodekeeper.interning=false} system property.
+ *
+ * @param <T> type of the pooled values
+ */
+public final class Interner<T> {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("pgcodekeeper.interning", "true"));
+
+    private static final int STRIPES = 32;
+
+    private static final Interner<String> STRINGS = new Interner<>();
+
+    private final Map<T, WeakReference<T>>[] pools;
+
+    /**
+     * Interns a string in the shared pool of names.
+     *
+     * @param value string to intern, may be null
+     * @return canonical instance equal to the value
+     */
+    public static String internString(String value) {
+        return STRINGS.intern(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Interner() {
+        pools = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; ++i) {
+            pools[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * @param value value to intern, may be null
+     * @return canonical instance equal to the value
+     */
+    public T intern(T value) {
+        return intern(value, UnaryOperator.identity());
+    }
+
+    /**
+     * @param value     value to intern, may be null
+     * @param canonizer makes the value stored by the pool when no equal value is pooled yet
+     * @return canonical instance equal to the value
+     */
+    public T intern(T value, UnaryOperator<T> canonizer) {
+        if (value == null || !ENABLED) {
+            return value;
+        }
+
+        int h = value.hashCode();
+        Map<T, WeakReference<T>> pool = pools[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        synchronized (pool) {
+            WeakReference<T> ref = pool.get(value);
+            T canonical = ref == null ? null : ref.get();
+            if (canonical == null) {
+                canonical = canonizer.apply(value);
+                pool.put(canonical, new WeakReference<>(canonical));
+            }
+            return canonical;
+        }
+    }
+}
@@ -16,13 +16,9 @@
 package org.pgcodekeeper.core.utils;
 
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.Reader;
-import java.io.Serializable;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -61,7 +57,7 @@ import org.xml.sax.SAXException;
 
 /**
  * Utility class providing common helper methods for various operations including
- * serialization, XML parsing, schema validation, and string manipulation.
+ * XML parsing, schema validation, and string manipulation.
  */
 public final class Utils {
 
@@ -73,36 +69,6 @@ public final class Utils {
     private static final Random RANDOM = new SecureRandom();
     private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
 
-    /**
-     * Serializes an object to a file at the specified path.
-     *
-     * @param path   the string path to the output file
-     * @param object the serializable object to write
-     */
-    public static void serialize(String path, Serializable object) {
-        serialize(Path.of(path), object);
-    }
-
-    /**
-     * Serializes an object to a file at the specified path.
-     *
-     * @param path   - full path to file where the serialized object will be
-     * @param object - the object that you want to serialize
-     */
-    public static void serialize(Path path, Serializable object) {
-        try {
-            if (Files.notExists(path)) {
-                Files.createDirectories(path.getParent());
-            }
-            try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(path))) {
-                oos.writeObject(object);
-                oos.flush();
-            }
-        } catch (IOException e) {
-            LOG.debug(Messages.Utils_log_err_serialize, e);
-        }
-    }
-
     /**
      * Parses XML content from a Reader with secure configuration.
      *
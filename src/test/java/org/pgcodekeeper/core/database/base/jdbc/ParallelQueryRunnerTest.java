@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.jdbc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParallelQueryRunnerTest {
+
+    @Test
+    void testStatementClosedOnFailedParams() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        JdbcRunner jdbcRunner = mock(JdbcRunner.class);
+        try (var runner = new ParallelQueryRunner(List.of(mockConnection(statement)), jdbcRunner, 0)) {
+            var result = runner.submit("query", st -> {
+                throw new SQLException("bad parameter");
+            });
+            var ex = Assertions.assertThrows(SQLException.class, () -> runner.get(result));
+            Assertions.assertEquals("bad parameter", ex.getMessage());
+        }
+        verify(statement).close();
+    }
+
+    @Test
+    void testStatementClosedOnFailedQuery() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        JdbcRunner jdbcRunner = mock(JdbcRunner.class);
+        when(jdbcRunner.runScript(statement)).thenThrow(new SQLException("query failed"));
+        try (var runner = new ParallelQueryRunner(List.of(mockConnection(statement)), jdbcRunner, 0)) {
+            var result = runner.submit("query", st -> {});
+            Assertions.assertThrows(SQLException.class, () -> runner.get(result));
+        }
+        verify(statement).close();
+    }
+
+    @Test
+    void testOutstandingResultsLimit() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        JdbcRunner jdbcRunner = mock(JdbcRunner.class);
+        when(jdbcRunner.runScript(any(PreparedStatement.class))).thenAnswer(inv -> {
+            started.incrementAndGet();
+            return mockResult(inv.getArgument(0));
+        });
+        var connections = List.of(mockConnection(mock(PreparedStatement.class)),
+                mockConnection(mock(PreparedStatement.class)));
+
+        try (var runner = new ParallelQueryRunner(connections, jdbcRunner, 0)) {
+            List<Future<ResultSet>> results = new ArrayList<>();
+            for (int i = 0; i < 5; ++i) {
+                results.add(runner.submit("query " + i, st -> {}));
+            }
+
+            awaitStarted(started, 2);
+            TimeUnit.MILLISECONDS.sleep(200);
+            Assertions.assertEquals(2, started.get());
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < results.size(); ++i) {
+                    runner.release(runner.get(results.get(i)));
+                    awaitStarted(started, Math.min(i + 3, results.size()));
+                    Assertions.assertTrue(started.get() <= i + 3);
+                }
+            });
+        }
+        Assertions.assertEquals(5, started.get());
+    }
+
+    @Test
+    void testConnectionCheckedOutUntilRelease() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        JdbcRunner jdbcRunner = mock(JdbcRunner.class);
+        when(jdbcRunner.runScript(statement)).thenAnswer(inv -> {
+            started.incrementAndGet();
+            return mockResult(statement);
+        });
+
+        try (var runner = new ParallelQueryRunner(List.of(mockConnection(statement)), jdbcRunner, 100)) {
+            var first = runner.submit("query 1", st -> {});
+            var second = runner.submit("query 2", st -> {});
+
+            // the first result may still be fetched from its cursor, its connection is not reused
+            ResultSet result = runner.get(first);
+            TimeUnit.MILLISECONDS.sleep(200);
+            Assertions.assertEquals(1, started.get());
+
+            runner.release(result);
+            verify(statement).close();
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> runner.release(runner.get(second)));
+        }
+        Assertions.assertEquals(2, started.get());
+    }
+
+    private static ResultSet mockResult(PreparedStatement statement) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.getStatement()).thenReturn(statement);
+        return result;
+    }
+
+    private static Connection mockConnection(PreparedStatement statement) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        return connection;
+    }
+
+    private static void awaitStarted(AtomicInteger started, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (started.get() < expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertEquals(expected, started.get());
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.loader;
+
+import java.io.ObjectStreamClass;
+import java.io.Serial;
+import java.io.Serializable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParseCacheTest {
+
+    @Test
+    void testSameFields() {
+        Assertions.assertTrue(ParseCache.isSameFields(lookup(Model.class), lookup(SameModel.class)));
+        Assertions.assertTrue(ParseCache.isSameFields(lookup(Model.class), lookup(Model.class)));
+    }
+
+    @Test
+    void testChangedFields() {
+        var model = lookup(Model.class);
+        Assertions.assertFalse(ParseCache.isSameFields(model, lookup(RemovedField.class)));
+        Assertions.assertFalse(ParseCache.isSameFields(model, lookup(AddedField.class)));
+        Assertions.assertFalse(ParseCache.isSameFields(model, lookup(PrimitiveTypeChanged.class)));
+        Assertions.assertFalse(ParseCache.isSameFields(model, lookup(ObjectTypeChanged.class)));
+        Assertions.assertFalse(ParseCache.isSameFields(model, null));
+    }
+
+    private static ObjectStreamClass lookup(Class<?> cl) {
+        return ObjectStreamClass.lookup(cl);
+    }
+
+    private static class Model implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        int id;
+        String name;
+        transient Object cached;
+    }
+
+    private static class SameModel implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        int id;
+        String name;
+    }
+
+    private static class RemovedField implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        int id;
+    }
+
+    private static class AddedField implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        int id;
+        String name;
+        boolean flag;
+    }
+
+    private static class PrimitiveTypeChanged implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        long id;
+        String name;
+    }
+
+    private static class ObjectTypeChanged implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        int id;
+        StringBuilder name;
+    }
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.parser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+/**
+ * Runs isolated: the tests block and count threads and result slots of the shared ANTLR pool.
+ */
+@Isolated
+final class AntlrTaskManagerTest {
+
+    @Test
+    void testFinishInSubmissionOrder() throws InterruptedException, IOException {
+        Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+        List<Integer> finalized = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            int n = i;
+            AntlrTaskManager.submit(antlrTasks, () -> n, n % 7, finalized::add);
+        }
+        AntlrTaskManager.finish(antlrTasks);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+        }
+        Assertions.assertEquals(expected, finalized);
+    }
+
+    @Test
+    void testFinishUnordered() throws InterruptedException, IOException {
+        Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+        List<String> finalized = new ArrayList<>();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch fastFinalized = new CountDownLatch(1);
+
+        AntlrTaskManager.submit(antlrTasks, () -> {
+            slowStarted.countDown();
+            return fastFinalized.await(10, TimeUnit.SECONDS) ? "slow" : "timeout";
+        }, finalized::add);
+        AntlrTaskManager.submit(antlrTasks, () -> "fast", result -> {
+            finalized.add(result);
+            fastFinalized.countDown();
+            AntlrTaskManager.submit(antlrTasks, () -> "nested", finalized::add);
+        });
+
+        Assertions.assertTrue(slowStarted.await(10, TimeUnit.SECONDS));
+        AntlrTaskManager.finishUnordered(antlrTasks);
+
+        Assertions.assertEquals(3, finalized.size());
+        Assertions.assertEquals("fast", finalized.get(0));
+        Assertions.assertTrue(finalized.contains("slow"));
+        Assertions.assertTrue(finalized.contains("nested"));
+        Assertions.assertTrue(antlrTasks.isEmpty());
+    }
+
+    @Test
+    void testFailedTask() {
+        Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+        List<Integer> finalized = new ArrayList<>();
+        AntlrTaskManager.submit(antlrTasks, () -> {
+            throw new IOException("failed");
+        }, r -> finalized.add(0));
+        AntlrTaskManager.submit(antlrTasks, () -> 1, finalized::add);
+
+        var ex = Assertions.assertThrows(IOException.class, () -> AntlrTaskManager.finish(antlrTasks));
+        Assertions.assertEquals("failed", ex.getMessage());
+        Assertions.assertTrue(finalized.isEmpty());
+        Assertions.assertTrue(antlrTasks.isEmpty());
+    }
+
+    @Test
+    void testStatistics() throws InterruptedException, IOException {
+        long before = Arrays.stream(AntlrTaskManager.getStatistics().runTimes()).sum();
+        Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+        for (int i = 0; i < 10; ++i) {
+            AntlrTaskManager.submit(antlrTasks, () -> null, r -> {});
+        }
+        AntlrTaskManager.finish(antlrTasks);
+
+        var statistics = AntlrTaskManager.getStatistics();
+        Assertions.assertTrue(Arrays.stream(statistics.runTimes()).sum() >= before + 10);
+        Assertions.assertEquals(statistics.runTimes().length, statistics.waitTimes().length);
+    }
+
+    @Test
+    void testLargerTasksStartFirst() throws Exception {
+        // all pool threads are blocked, then one of them is released to take queued tasks one by one
+        int blocked = AntlrTaskManager.getPoolSize();
+        CountDownLatch blockersStarted = new CountDownLatch(blocked);
+        CountDownLatch releaseOne = new CountDownLatch(1);
+        CountDownLatch releaseAll = new CountDownLatch(1);
+        List<Future<?>> blockers = new ArrayList<>();
+        for (int i = 0; i < blocked; ++i) {
+            CountDownLatch release = i == 0 ? releaseOne : releaseAll;
+            blockers.add(AntlrTaskManager.submit(() -> {
+                blockersStarted.countDown();
+                return release.await(10, TimeUnit.SECONDS);
+            }, Long.MAX_VALUE - 1));
+        }
+
+        try {
+            Assertions.assertTrue(blockersStarted.await(10, TimeUnit.SECONDS));
+            List<Long> started = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> tasks = new ArrayList<>();
+            for (long cost : new long[] {1, 50, 10, 100, 10, 5}) {
+                tasks.add(AntlrTaskManager.submit(() -> started.add(cost), cost));
+            }
+            releaseOne.countDown();
+            for (Future<?> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+
+            Assertions.assertEquals(List.of(100L, 50L, 10L, 10L, 5L, 1L), started);
+        } finally {
+            releaseOne.countDown();
+            releaseAll.countDown();
+        }
+        for (Future<?> blocker : blockers) {
+            Assertions.assertEquals(true, blocker.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testResultsLimit() throws Exception {
+        int oldLimit = AntlrTaskManager.getResultsLimit();
+        int pending = AntlrTaskManager.getStatistics().pendingResults();
+        AntlrTaskManager.setResultsLimit(pending + 2);
+        try {
+            Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+            List<Integer> finalized = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                int n = i;
+                AntlrTaskManager.submit(antlrTasks, () -> n, n, finalized::add);
+            }
+
+            // two tasks hold results, the others are put aside until results are finalized
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            var statistics = AntlrTaskManager.getStatistics();
+            while ((statistics.queued() > 0 || statistics.deferred() < 8) && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+                statistics = AntlrTaskManager.getStatistics();
+            }
+            Assertions.assertEquals(8, statistics.deferred(), statistics.toString());
+            Assertions.assertEquals(pending + 2, statistics.pendingResults(), statistics.toString());
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> AntlrTaskManager.finish(antlrTasks));
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                expected.add(i);
+            }
+            Assertions.assertEquals(expected, finalized);
+            statistics = AntlrTaskManager.getStatistics();
+            Assertions.assertEquals(0, statistics.deferred(), statistics.toString());
+            Assertions.assertEquals(pending, statistics.pendingResults(), statistics.toString());
+        } finally {
+            AntlrTaskManager.setResultsLimit(oldLimit);
+        }
+    }
+
+    @Test
+    void testResultsLimitKeepsPoolBusy() throws Exception {
+        int oldLimit = AntlrTaskManager.getResultsLimit();
+        int pending = AntlrTaskManager.getStatistics().pendingResults();
+        int limit = 4;
+        AntlrTaskManager.setResultsLimit(limit);
+        try {
+            // later tasks are larger and start first, without the window their results would fill the limit
+            Thread loader = Thread.currentThread();
+            AtomicInteger onLoader = new AtomicInteger();
+            AtomicInteger maxPending = new AtomicInteger();
+            Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+            List<Integer> finalized = new ArrayList<>();
+            int count = 60;
+            for (int i = 0; i < count; ++i) {
+                int n = i;
+                AntlrTaskManager.submit(antlrTasks, () -> {
+                    if (Thread.currentThread() == loader) {
+                        onLoader.incrementAndGet();
+                    }
+                    maxPending.accumulateAndGet(AntlrTaskManager.getStatistics().pendingResults(), Math::max);
+                    TimeUnit.MILLISECONDS.sleep(5);
+                    return n;
+                }, n, finalized::add);
+            }
+            AntlrTaskManager.finish(antlrTasks);
+
+            Assertions.assertEquals(count, finalized.size());
+            Assertions.assertTrue(maxPending.get() <= pending + limit, "max pending results: " + maxPending);
+            Assertions.assertTrue(count - onLoader.get() >= count / 4,
+                    "tasks run on the pool: " + (count - onLoader.get()));
+        } finally {
+            AntlrTaskManager.setResultsLimit(oldLimit);
+        }
+    }
+
+    @Test
+    void testResultsLimitUnordered() throws Exception {
+        int oldLimit = AntlrTaskManager.getResultsLimit();
+        int pending = AntlrTaskManager.getStatistics().pendingResults();
+        AntlrTaskManager.setResultsLimit(pending + 1);
+        try {
+            Queue<AntlrTask<?>> antlrTasks = new ArrayDeque<>();
+            Set<Integer> finalized = new HashSet<>();
+            for (int i = 0; i < 10; ++i) {
+                int n = i;
+                AntlrTaskManager.submit(antlrTasks, () -> n, n, finalized::add);
+            }
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> AntlrTaskManager.finishUnordered(antlrTasks));
+
+            Assertions.assertEquals(10, finalized.size());
+            Assertions.assertEquals(pending, AntlrTaskManager.getStatistics().pendingResults());
+        } finally {
+            AntlrTaskManager.setResultsLimit(oldLimit);
+        }
+    }
+}
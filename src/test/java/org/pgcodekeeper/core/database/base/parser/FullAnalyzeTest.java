@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.parser;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.base.schema.meta.MetaContainer;
+import org.pgcodekeeper.core.database.pg.parser.launcher.PgViewAnalysisLauncher;
+import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
+import org.pgcodekeeper.core.database.pg.schema.PgView;
+
+class FullAnalyzeTest {
+
+    @Test
+    void testViewErrorsInLauncherOrder() throws IOException, InterruptedException {
+        PgDatabase db = new PgDatabase();
+        PgSchema schema = new PgSchema("public");
+        db.addChild(schema);
+        // v1 selects from v2 and v4, so it is analyzed after them
+        addView(db, schema, "v1", "v2", "v4");
+        addView(db, schema, "v2");
+        addView(db, schema, "v3", "v2");
+        addView(db, schema, "v4");
+
+        List<Object> errors = new ArrayList<>();
+        FullAnalyze.fullAnalyze(db, new MetaContainer(), errors);
+
+        Assertions.assertEquals(List.of("v1", "v2", "v3", "v4"), errors);
+    }
+
+    private static void addView(PgDatabase db, PgSchema schema, String name, String... relations) {
+        PgView view = new PgView(name);
+        schema.addChild(view);
+        PgViewAnalysisLauncher launcher = mock(PgViewAnalysisLauncher.class);
+        when(launcher.getStmt()).thenReturn(view);
+        when(launcher.getRelationNames()).thenReturn(Set.of(relations));
+        when(launcher.launchAnalyze(any(), any())).thenAnswer(invocation -> {
+            invocation.<List<Object>>getArgument(0).add(name);
+            return Set.of();
+        });
+        db.addAnalysisLauncher(launcher);
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.parser;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Lexer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pgcodekeeper.core.database.ch.parser.ChParserUtils;
+import org.pgcodekeeper.core.database.ch.parser.generated.CHLexer;
+import org.pgcodekeeper.core.database.pg.parser.PgParserUtils;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLLexer;
+
+final class QNameSplitterTest {
+
+    private static final String[] NAMES = {
+            "t", "tab", "Tab", "TAB", "public.tab", "Public.Tab", "s.t.c", "a.b.c.d", "t1", "_t", "t$1", "$t",
+            "1t", "\"Tab\"", "\"public\".\"Tab\"", "\"a\"\"b\".c", "\"a.b\".\"c d\"", "\"\"", "\"\".t", "\"t",
+            "t.", ".t", "t..c", "", " t", "t ", "s . t", "s.t--c", "s./*c*/t", "select", "public.select",
+            "select.t", "int4", "pg_catalog.int4", "text", "varchar", "integer", "s.\"select\"", "`tab`",
+            "db.`Tab`", "`a``b`", "U&\"t\"", "s.t(int)", "s.t[]", "таблица", "s.таблица", "té", "t\u0000",
+            "\"t\u0000\"", "a-b", "s.t uuid '123'", "Int8", "UInt64", "String", "Enum8", "Nullable", "Decimal32",
+            "asc", "ascending", "db.IntervalDay", "default.t", "system.tables"};
+
+    private static final String[] OPERATORS = {
+            "+", "-", "*", "/", "<", ">", "=", "<>", "!=", "<=", ">=", "%", "^", "#", "<<", ">>", "@>", "<@",
+            "&&", "||", "~", "!~", "~~*", "+-", "-+", "*-", "@-", "--", "/*", "::", ":=", "=>", "public.+",
+            "public.@>", "\"Public\".=", "Public.=", "s.t.+", "select.+", "s .+", "s.+ ", "s.", "+(int, int)",
+            "public.+(integer, integer)", "s.abc", "abc", ".+", "s..+"};
+
+    @Test
+    void testPgQNames() {
+        for (String name : NAMES) {
+            assertEquals(name, new QNameParserWrapper(PgParserUtils.parseQName(name)),
+                    PgParserUtils.wrapParsedQName(name));
+        }
+    }
+
+    @Test
+    void testPgOperators() {
+        for (String name : OPERATORS) {
+            assertEquals(name, new QNameParserWrapper(PgParserUtils.parsePgOperator(name)),
+                    PgParserUtils.wrapParsedPgOperator(name));
+        }
+    }
+
+    @Test
+    void testChQNames() {
+        for (String name : NAMES) {
+            assertEquals(name, new QNameParserWrapper(ChParserUtils.parseQName(name)),
+                    ChParserUtils.wrapParsedQName(name));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tab", "Public.Tab", "s.t.c", "\"a\"\"b\".c", "t$1", "s.\"select\""})
+    void testPgSplit(String name) {
+        Assertions.assertNotNull(createSplitter(SQLLexer::new, SQLLexer.Identifier, "\"").split(name));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"select", "public.select", "s . t", "a.b.c.d", "\"\"", "таблица", "U&\"t\"", "1t"})
+    void testPgNotSplit(String name) {
+        Assertions.assertNull(createSplitter(SQLLexer::new, SQLLexer.Identifier, "\"").split(name));
+    }
+
+    @Test
+    void testChSplit() {
+        var splitter = createSplitter(CHLexer::new, CHLexer.IDENTIFIER, "\"`");
+        Assertions.assertEquals(List.of("db", "Tab"), splitter.split("db.`Tab`"));
+        Assertions.assertEquals(List.of("Db", "a\"b"), splitter.split("Db.\"a\"\"b\""));
+        Assertions.assertNull(splitter.split("UInt64"));
+        Assertions.assertNull(splitter.split("t$1"));
+    }
+
+    private static QNameSplitter createSplitter(Function<CharStream, Lexer> lexer, int type, String quotes) {
+        return new QNameSplitter(lexer, type, quotes, name -> {
+            throw new IllegalStateException(name);
+        });
+    }
+
+    private static void assertEquals(String name, QNameParserWrapper expected, QNameParserWrapper actual) {
+        Assertions.assertEquals(expected.hasErrors(), actual.hasErrors(), name);
+        if (!expected.hasErrors()) {
+            Assertions.assertEquals(expected.getFirstName(), actual.getFirstName(), name);
+            Assertions.assertEquals(expected.getSecondName(), actual.getSecondName(), name);
+            Assertions.assertEquals(expected.getThirdName(), actual.getThirdName(), name);
+            Assertions.assertEquals(expected.getSchemaName(), actual.getSchemaName(), name);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.base.project;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class FileJournalTest {
+
+    private static final int FILES = 10;
+
+    @Test
+    void testRestore(@TempDir Path root, @TempDir Path backupDir) throws IOException {
+        FileJournal journal = new FileJournal(root, backupDir);
+        Path created = update(root, journal);
+
+        journal.restore();
+
+        for (int i = 0; i < FILES; i++) {
+            Assertions.assertEquals("original " + i, Files.readString(file(root, i)));
+        }
+        Assertions.assertTrue(Files.notExists(created.getParent()));
+        Assertions.assertThrows(IllegalStateException.class, () -> journal.backup(file(root, 0)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 6, 9})
+    void testFailedRestoreIsUndone(int lost, @TempDir Path root, @TempDir Path backupDir) throws IOException {
+        FileJournal journal = new FileJournal(root, backupDir);
+        Path created = update(root, journal);
+        // the original of one file is lost, the others are restored before or after it
+        Files.delete(backupDir.resolve(root.relativize(file(root, lost))));
+
+        Assertions.assertThrows(IOException.class, journal::restore);
+
+        for (int i = 0; i < FILES; i++) {
+            Assertions.assertEquals("updated " + i, Files.readString(file(root, i)));
+        }
+        Assertions.assertEquals("created", Files.readString(created));
+    }
+
+    /**
+     * Writes the original files, then journals and updates them and creates a file in a new directory
+     *
+     * @return created file
+     */
+    private static Path update(Path root, FileJournal journal) throws IOException {
+        for (int i = 0; i < FILES; i++) {
+            Path file = file(root, i);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "original " + i);
+        }
+        for (int i = 0; i < FILES; i++) {
+            Path file = file(root, i);
+            journal.backup(file);
+            Files.writeString(file, "updated " + i);
+        }
+        Path created = root.resolve("NEW").resolve("created.sql");
+        journal.backup(created);
+        Files.createDirectories(created.getParent());
+        Files.writeString(created, "created");
+        return created;
+    }
+
+    private static Path file(Path root, int i) {
+        return root.resolve("SCHEMA").resolve("f" + i + ".sql");
+    }
+}
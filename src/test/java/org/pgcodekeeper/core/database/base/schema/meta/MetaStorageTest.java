@@ -15,11 +15,25 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.base.schema.meta;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.pgcodekeeper.core.database.api.schema.ArgMode;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.ICast.CastContext;
+import org.pgcodekeeper.core.database.base.schema.Argument;
 import org.pgcodekeeper.core.database.pg.jdbc.PgSupportedVersion;
+import org.pgcodekeeper.core.utils.Pair;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MetaStorageTest {
 
@@ -28,6 +42,129 @@ class MetaStorageTest {
     void testGetSystemObjectsNotEmpty(PgSupportedVersion version) {
         var systemObjects = MetaStorage.getSystemObjects(version);
 
-        assertFalse(systemObjects.isEmpty());
+        assertFalse(systemObjects.getCasts().isEmpty());
+        assertFalse(systemObjects.getFunctions("pg_catalog").isEmpty());
+        assertFalse(systemObjects.getRelations("pg_catalog").isEmpty());
+        assertFalse(systemObjects.getOperators("pg_catalog").isEmpty());
+    }
+
+    @Test
+    void testWriteAndRead(@TempDir Path dir) throws IOException {
+        MetaFunction function = new MetaFunction("pg_catalog", "f(integer, text)", "f");
+        function.addArgument(new Argument(ArgMode.IN, "a", "integer"));
+        Argument arg = new Argument(ArgMode.VARIADIC, null, "text");
+        arg.setDefaultExpression("'x'");
+        function.addArgument(arg);
+        function.addReturnsColumn("col", "bigint");
+        function.setSetof(true);
+
+        MetaRelation relation = new MetaRelation("information_schema", "tables", DbObjType.VIEW);
+        relation.addColumns(List.of(new Pair<>("table_name", "name")));
+
+        MetaOperator operator = new MetaOperator("pg_catalog", "+");
+        operator.setRightArg("integer");
+        operator.setReturns("integer");
+
+        MetaStorage storage = new MetaStorage();
+        storage.addMetaChild(function);
+        storage.addMetaChild(relation);
+        storage.addMetaChild(operator);
+        storage.addMetaChild(new MetaCast("integer", "bigint", CastContext.IMPLICIT));
+
+        Path file = dir.resolve(MetaStorage.FILE_NAME + "TEST" + MetaStorage.FILE_EXTENSION);
+        storage.write(file);
+        SystemMetaObjects system;
+        try (InputStream in = Files.newInputStream(file)) {
+            system = SystemMetaObjects.read(in);
+        }
+
+        assertEquals(List.of("pg_catalog", "information_schema"), List.copyOf(system.getSchemaNames()));
+        assertTrue(system.getRelations("pg_catalog").isEmpty());
+        assertTrue(system.getRelations("public").isEmpty());
+
+        MetaFunction readFunction = system.getFunctions("pg_catalog").get("f(integer, text)");
+        assertEquals(function.getObject(), readFunction.getObject());
+        assertEquals("f", readFunction.getBareName());
+        assertEquals(function.getArguments(), readFunction.getArguments());
+        assertEquals(Map.of("col", "bigint"), readFunction.getReturnsColumns());
+        assertTrue(readFunction.isSetof());
+        assertNull(readFunction.getReturns());
+
+        MetaRelation readRelation = system.getRelations("information_schema").get("tables");
+        assertEquals(relation.getObject(), readRelation.getObject());
+        assertEquals(List.of(new Pair<>("table_name", "name")), readRelation.getRelationColumns().toList());
+
+        MetaOperator readOperator = system.getOperators("pg_catalog").get("+(NONE, integer)");
+        assertEquals("integer", readOperator.getReturns());
+
+        MetaCast cast = system.getCasts().get(0);
+        assertEquals("integer", cast.getSource());
+        assertEquals("bigint", cast.getTarget());
+        assertEquals(CastContext.IMPLICIT, cast.getContext());
+
+        assertTrue(system.containsCastImplicit("integer", "bigint"));
+        assertFalse(system.containsCastImplicit("bigint", "integer"));
+        assertEquals(List.of(readFunction), system.getFunctionsByName("pg_catalog").get("f"));
+        assertSame(system.getFunctions("pg_catalog"), system.getFunctions("pg_catalog"));
+    }
+
+    @Test
+    void testWriteAndReadLongString(@TempDir Path dir) throws IOException {
+        // longer than 65535 bytes in UTF-8
+        String expression = "'" + "\u0436".repeat(40_000) + "'";
+        MetaFunction function = new MetaFunction("pg_catalog", "f(text)", "f");
+        Argument arg = new Argument(ArgMode.IN, "a", "text");
+        arg.setDefaultExpression(expression);
+        function.addArgument(arg);
+
+        MetaStorage storage = new MetaStorage();
+        storage.addMetaChild(function);
+
+        Path file = dir.resolve(MetaStorage.FILE_NAME + "TEST" + MetaStorage.FILE_EXTENSION);
+        storage.write(file);
+        SystemMetaObjects system;
+        try (InputStream in = Files.newInputStream(file)) {
+            system = SystemMetaObjects.read(in);
+        }
+
+        MetaFunction readFunction = system.getFunctions("pg_catalog").get("f(text)");
+        assertEquals(expression, readFunction.getArguments().get(0).getDefaultExpression());
+    }
+
+    @Test
+    void testSystemObjectsOverrideUserObjects() {
+        MetaContainer container = new MetaContainer();
+        MetaRelation userRelation = new MetaRelation("pg_catalog", "pg_class", DbObjType.TABLE);
+        container.addStatement(userRelation);
+        container.addSystemObjects(MetaStorage.getSystemObjects(PgSupportedVersion.VERSION_17));
+
+        var relation = container.findRelation("pg_catalog", "pg_class");
+        assertNotNull(relation);
+        assertNotSame(userRelation, relation);
+        assertNotNull(container.findFunction("pg_catalog", "now()"));
+        assertTrue(container.containsCastImplicit("integer", "bigint"));
+    }
+
+    @Test
+    void testOverloadsLookup() {
+        MetaContainer container = new MetaContainer();
+        MetaFunction userFunction = new MetaFunction("pg_catalog", "lower(my_type)", "lower");
+        userFunction.addArgument(new Argument(null, "my_type"));
+        container.addStatement(userFunction);
+        MetaFunction otherFunction = new MetaFunction("public", "f()", "f");
+        container.addStatement(otherFunction);
+        container.addSystemObjects(MetaStorage.getSystemObjects(PgSupportedVersion.VERSION_17));
+
+        var overloads = container.availableFunctions("pg_catalog", "lower");
+        assertTrue(overloads.size() > 1);
+        assertTrue(overloads.contains(userFunction));
+        for (var f : overloads) {
+            assertEquals("lower", f.getBareName());
+            assertSame(f, container.findFunction("pg_catalog", f.getName()));
+        }
+        assertEquals(List.of(otherFunction), List.copyOf(container.availableFunctions("public", "f")));
+        assertTrue(container.availableFunctions("public", "g").isEmpty());
+        assertTrue(container.availableFunctions("no_schema", "f").isEmpty());
+        assertFalse(container.availableOperators("pg_catalog", "+").isEmpty());
     }
-}
\ No newline at end of file
+}
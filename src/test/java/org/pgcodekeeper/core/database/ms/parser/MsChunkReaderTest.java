@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.ms.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
+import org.pgcodekeeper.core.database.base.parser.CodeUnitToken;
+import org.pgcodekeeper.core.database.ms.MsDatabaseProvider;
+import org.pgcodekeeper.core.database.ms.parser.generated.TSQLLexer;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+class MsChunkReaderTest {
+
+    private static final String SQL = """
+            CREATE SCHEMA [тест😀]
+            GO
+            -- comment with GO
+            CREATE TABLE [dbo].[t] (
+                [c] [nvarchar](10) DEFAULT ('GO') NULL
+            )
+            GO
+            CREATE PROCEDURE [dbo].[p]
+            AS
+            SELECT 1;
+            SELECT 2;
+            GO
+            /* GO */ CREATE VIEW [dbo].[v] AS SELECT [c] FROM [dbo].[t]
+            GO
+            """;
+
+    @Test
+    void testStatements() throws IOException {
+        Assertions.assertEquals(List.of(
+                "CREATE SCHEMA [тест😀]\nGO",
+                "\n-- comment with GO\nCREATE TABLE [dbo].[t] (\n    [c] [nvarchar](10) DEFAULT ('GO') NULL\n)\nGO",
+                "\nCREATE PROCEDURE [dbo].[p]\nAS\nSELECT 1;\nSELECT 2;\nGO",
+                "\n/* GO */ CREATE VIEW [dbo].[v] AS SELECT [c] FROM [dbo].[t]\nGO"),
+                readChunks(SQL, 1).stream().map(Chunk::text).toList());
+    }
+
+    @Test
+    void testSingleChunk() throws IOException {
+        List<Chunk> chunks = readChunks(SQL, AbstractChunkReader.DEFAULT_CHUNK_SIZE);
+        Assertions.assertEquals(1, chunks.size());
+        Assertions.assertEquals(SQL, chunks.get(0).text());
+    }
+
+    @Test
+    void testTokenPositions() throws IOException {
+        // trailing whitespace is not returned as a separate chunk
+        String sql = SQL.stripTrailing();
+        List<String> expected = getTokens(new TSQLLexer(CharStreams.fromString(sql)));
+
+        List<String> actual = new ArrayList<>();
+        for (Chunk chunk : readChunks(sql, 1)) {
+            var lexer = new TSQLLexer(CharStreams.fromString(chunk.text()));
+            chunk.applyTo(lexer);
+            actual.addAll(getTokens(lexer));
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void testChunkedLoad() throws IOException, InterruptedException {
+        StringBuilder sb = new StringBuilder(SQL);
+        String comment = "-- " + "таблица ".repeat(100) + '\n';
+        for (int i = 2; sb.length() < AbstractChunkReader.DEFAULT_CHUNK_SIZE * 5 / 4; i++) {
+            sb.append(comment)
+                    .append("CREATE TABLE [dbo].[t").append(i).append("] ([c] [int] NULL, [d] [nvarchar](5) NULL)\n")
+                    .append("GO\n");
+        }
+        sb.append("CREATE TABLE [dbo].[error] (\nGO\n");
+        byte[] dump = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        var settings = new CoreSettings();
+        IDatabase expected = load(dump, settings);
+        var chunkedSettings = new CoreSettings();
+        chunkedSettings.setChunkedDumpParsing(true);
+        IDatabase actual = load(dump, chunkedSettings);
+
+        Assertions.assertNotNull(actual.getStatement(new ObjectReference("dbo", "t2", DbObjType.TABLE)));
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(getLocations(expected), getLocations(actual));
+        Assertions.assertEquals(settings.getErrors().toString(), chunkedSettings.getErrors().toString());
+        Assertions.assertFalse(chunkedSettings.getErrors().isEmpty());
+    }
+
+    private static IDatabase load(byte[] dump, CoreSettings settings) throws IOException, InterruptedException {
+        return new MsDatabaseProvider()
+                .getDumpLoader(() -> new ByteArrayInputStream(dump), "dump.sql", settings)
+                .load();
+    }
+
+    private static Map<String, String> getLocations(IDatabase db) {
+        return db.getDescendants().collect(Collectors.toMap(IStatement::getQualifiedName, st -> {
+            var loc = st.getLocation();
+            return loc.getOffset() + ":" + loc.getLineNumber() + ':' + loc.getCharPositionInLine();
+        }, (a, b) -> a + ',' + b));
+    }
+
+    private static List<Chunk> readChunks(String sql, int chunkSize) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (var reader = new MsChunkReader(new ByteArrayInputStream(sql.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, chunkSize)) {
+            Chunk chunk;
+            while ((chunk = reader.next()) != null) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    private static List<String> getTokens(TSQLLexer lexer) {
+        List<String> tokens = new ArrayList<>();
+        for (Token t = lexer.nextToken(); t.getType() != Token.EOF; t = lexer.nextToken()) {
+            var token = (CodeUnitToken) t;
+            tokens.add(token.getType() + " " + token.getCodeUnitStart() + '-' + token.getCodeUnitStop()
+                    + ' ' + token.getLine() + ':' + token.getCharPositionInLine()
+                    + ' ' + token.getCodeUnitPositionInLine());
+        }
+        return tokens;
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -86,4 +88,74 @@ class PgJdbcPrivilegeTest {
         assertFalse(priv.isGrantAllToPublic());
         assertFalse(priv.isGO());
     }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{main=UC/main,user=U*/main,guest=C/main,=UC/main}",
+        "{\"\\\"my role\\\"=arw*/postgres\"}",
+        "{\"=r/\\\"a \\\"\\\"b\\\\\\\"\",x=m/y}",
+        "{\"\\\"\\\"=r/a\"}",
+    })
+    void testReaderMatchesAntlr(String acl) {
+        assertEquals(PgJdbcPrivilege.parseWithAntlr(acl), PgJdbcPrivilege.AclReader.read(acl));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{a=Z/b}",
+        "{a=r/}",
+        "{a=r/b",
+        "{a=r/b,}",
+        "{\"a=r/b}",
+        "{a b=r/c}",
+    })
+    void testNotRead(String acl) {
+        // left to the ANTLR parser
+        assertNull(PgJdbcPrivilege.AclReader.read(acl));
+    }
+
+    @Test
+    void testRandomNames() {
+        Random random = new Random(1);
+        String chars = "aZ_9 \"\\-ж=/,{}*";
+        for (int n = 0; n < 1000; n++) {
+            List<String> items = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(3); i++) {
+                String grantee = random.nextInt(4) == 0 ? "" : randomName(random, chars);
+                String item = quoteId(grantee) + "=r*wU/" + quoteId(randomName(random, chars));
+                boolean safe = item.chars().allMatch(c -> Character.isLetterOrDigit(c) && c < 128
+                        || "_=/*".indexOf(c) != -1);
+                items.add(safe ? item : '"' + item.replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+            }
+            String acl = '{' + String.join(",", items) + '}';
+            assertEquals(PgJdbcPrivilege.parseWithAntlr(acl), PgJdbcPrivilege.AclReader.read(acl), acl);
+        }
+    }
+
+    @Test
+    void testCache() {
+        var cache = new PgJdbcPrivilege.Cache(1);
+        String acl = "{main=UC/main,=U/main}";
+        List<PgJdbcPrivilege> privs = cache.parse(acl, "CU", "main");
+        assertSame(privs, cache.parse(acl, "CU", "main"));
+        assertNotSame(privs, cache.parse(acl, "CU", "other"));
+        assertNotSame(privs, cache.parse(acl, "CU", "main"));
+        assertEquals(2, privs.size());
+    }
+
+    private static String randomName(Random random, String chars) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1 + random.nextInt(4); i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Quotes the name like putid() in acl.c
+     */
+    private static String quoteId(String name) {
+        boolean safe = name.chars().allMatch(c -> c == '_' || c < 128 && Character.isLetterOrDigit(c));
+        return safe ? name : '"' + name.replace("\"", "\"\"") + '"';
+    }
 }
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.loader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
+import org.pgcodekeeper.core.database.pg.schema.PgColumn;
+import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
+import org.pgcodekeeper.core.database.pg.schema.PgFunction;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
+import org.pgcodekeeper.core.database.pg.schema.PgSimpleTable;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+class PgJdbcSnapshotTest {
+
+    private static final String STAMP = "160000:false:true";
+    private static final String MODIFIED = "2026-01-01 00:00:00+00";
+    private static final String SIGNATURE = "signature";
+    private static final String DEPS_STATE = "deps";
+
+    @Test
+    void testUnchangedFunctionAfterReadWrite(@TempDir Path tempDir) throws IOException {
+        PgJdbcSnapshot snapshot = new PgJdbcSnapshot(STAMP);
+        PgFunction f = createFunction();
+        snapshot.addFunction(42, "public", MODIFIED, SIGNATURE, f);
+
+        Path file = tempDir.resolve("snapshot.bin");
+        snapshot.detach(e -> DEPS_STATE).write(file);
+        PgJdbcSnapshot read = PgJdbcSnapshot.read(file);
+
+        Assertions.assertTrue(read.isCompatible(STAMP));
+        Assertions.assertFalse(read.isCompatible("170000:false:true"));
+        Assertions.assertEquals(1, read.size());
+
+        var copy = read.getUnchangedFunction(42, "public", MODIFIED, SIGNATURE);
+        Assertions.assertNotNull(copy);
+        Assertions.assertNull(copy.getParent());
+        Assertions.assertEquals(f.getDependencies(), copy.getDependencies());
+        Assertions.assertNull(copy.getOwner());
+        Assertions.assertNull(copy.getComment());
+        Assertions.assertTrue(copy.getPrivileges().isEmpty());
+
+        copy.setOwner(f.getOwner());
+        copy.setComment(f.getComment());
+        Assertions.assertTrue(f.compare(copy));
+    }
+
+    @Test
+    void testChangedFunction() {
+        PgJdbcSnapshot loaded = new PgJdbcSnapshot(STAMP);
+        loaded.addFunction(42, "public", MODIFIED, SIGNATURE, createFunction());
+        // the state of the dependencies is unknown until the database is analyzed
+        Assertions.assertNull(loaded.getUnchangedFunction(42, "public", MODIFIED, SIGNATURE));
+
+        PgJdbcSnapshot snapshot = loaded.detach(e -> DEPS_STATE);
+        Assertions.assertEquals(DEPS_STATE, snapshot.getDepsState(42));
+
+        Assertions.assertNotNull(snapshot.getUnchangedFunction(42, "public", MODIFIED, SIGNATURE));
+        Assertions.assertNull(snapshot.getUnchangedFunction(42, "public", "2026-01-02 00:00:00+00", SIGNATURE));
+        Assertions.assertNull(snapshot.getUnchangedFunction(42, "public", null, SIGNATURE));
+        Assertions.assertNull(snapshot.getUnchangedFunction(42, "other", MODIFIED, SIGNATURE));
+        Assertions.assertNull(snapshot.getUnchangedFunction(43, "public", MODIFIED, SIGNATURE));
+        // a type of the function is renamed, its pg_proc row and modification time are the same
+        Assertions.assertNull(snapshot.getUnchangedFunction(42, "public", MODIFIED, "renamed type"));
+    }
+
+    @Test
+    void testDetachKeepsAnalysisDependencies() {
+        PgJdbcSnapshot snapshot = new PgJdbcSnapshot(STAMP);
+        PgFunction f = createFunction();
+        snapshot.addFunction(42, "public", MODIFIED, SIGNATURE, f);
+        // dependency found by the analysis of the body after the function was read
+        var dep = new ObjectReference("public", "t2", DbObjType.TABLE);
+        f.addDependency(dep);
+
+        var detached = snapshot.detach(e -> DEPS_STATE);
+        f.addDependency(new ObjectReference("public", "t3", DbObjType.TABLE));
+
+        var copy = detached.getUnchangedFunction(42, "public", MODIFIED, SIGNATURE);
+        Assertions.assertNull(copy.getParent());
+        Assertions.assertTrue(copy.getDependencies().contains(dep));
+        Assertions.assertEquals(2, copy.getDependencies().size());
+    }
+
+    @Test
+    void testDepsStateFollowsDependencies() {
+        PgFunction f = createFunction();
+        PgSchema schema = (PgSchema) f.getParent();
+        PgDatabase db = (PgDatabase) schema.getParent();
+        var settings = new CoreSettings();
+        // self reference is skipped, the definition of the function is not a part of the state
+        f.addDependency(new ObjectReference("public", f.getName(), DbObjType.FUNCTION));
+
+        String missing = PgJdbcLoader.getDepsState(db, f, new IdentityHashMap<>(), settings);
+        Assertions.assertNotNull(missing);
+
+        PgSimpleTable t = new PgSimpleTable("t");
+        t.addColumn(new PgColumn("c1"));
+        schema.addChild(t);
+        String created = PgJdbcLoader.getDepsState(db, f, new IdentityHashMap<>(), settings);
+        Assertions.assertNotEquals(missing, created);
+
+        f.setBody("AS $$SELECT 2$$");
+        Assertions.assertEquals(created, PgJdbcLoader.getDepsState(db, f, new IdentityHashMap<>(), settings));
+
+        // a column renamed in the table the body refers to
+        PgSimpleTable changed = new PgSimpleTable("t");
+        changed.addColumn(new PgColumn("c2"));
+        PgSchema newSchema = new PgSchema("public");
+        PgDatabase newDb = new PgDatabase();
+        newDb.addChild(newSchema);
+        newSchema.addChild(changed);
+        PgFunction reused = (PgFunction) f.shallowCopy();
+        newSchema.addChild(reused);
+        Assertions.assertNotEquals(created,
+                PgJdbcLoader.getDepsState(newDb, reused, new IdentityHashMap<>(), settings));
+    }
+
+    @Test
+    void testReplaceFunction() {
+        PgFunction f = createFunction();
+        PgSchema schema = (PgSchema) f.getParent();
+        PgFunction other = new PgFunction("g");
+        other.setBody("AS $$SELECT 1$$");
+        schema.addChild(other);
+
+        PgFunction reread = (PgFunction) f.shallowCopy();
+        reread.setBody("AS $$SELECT 2$$");
+        schema.replaceFunction(reread);
+
+        Assertions.assertNull(f.getParent());
+        Assertions.assertSame(schema, reread.getParent());
+        Assertions.assertSame(reread, schema.getFunction(f.getName()));
+        Assertions.assertEquals(List.of(reread, other), List.copyOf(schema.getFunctions()));
+    }
+
+    private PgFunction createFunction() {
+        PgDatabase db = new PgDatabase();
+        PgSchema schema = new PgSchema("public");
+        db.addChild(schema);
+        PgFunction f = new PgFunction("f");
+        f.setBody("AS $$SELECT 1$$");
+        f.setOwner("owner");
+        f.setComment("'comment'");
+        f.addDependency(new ObjectReference("public", "t", DbObjType.TABLE));
+        schema.addChild(f);
+        return f;
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader;
+import org.pgcodekeeper.core.database.base.parser.AbstractChunkReader.Chunk;
+import org.pgcodekeeper.core.database.base.parser.CodeUnitToken;
+import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLLexer;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+class PgChunkReaderTest {
+
+    private static final String SQL = """
+            CREATE SCHEMA "тест😀";
+            -- comment with ;
+            CREATE FUNCTION public.f() RETURNS integer
+                LANGUAGE plpgsql
+                AS $$BEGIN RETURN 1; END;$$;
+            CREATE TABLE public.t (c text DEFAULT 'a;b');
+            CREATE RULE r AS ON INSERT TO public.t DO (INSERT INTO public.t VALUES (1); DELETE FROM public.t;);
+            CREATE FUNCTION public.g() RETURNS integer
+                LANGUAGE sql
+                BEGIN ATOMIC
+                  SELECT CASE WHEN true THEN 1 END;
+                  SELECT 2;
+                END;
+            COPY public.t (c) FROM stdin;
+            1;2
+            'x' $$ "y
+            \\.
+            COPY public.t TO stdout;
+            CREATE TABLE public.t1 (c integer);
+            """;
+
+    @Test
+    void testStatements() throws IOException {
+        Assertions.assertEquals(List.of(
+                "CREATE SCHEMA \"тест😀\";",
+                "\n-- comment with ;\nCREATE FUNCTION public.f() RETURNS integer\n"
+                        + "    LANGUAGE plpgsql\n    AS $$BEGIN RETURN 1; END;$$;",
+                "\nCREATE TABLE public.t (c text DEFAULT 'a;b');",
+                "\nCREATE RULE r AS ON INSERT TO public.t DO (INSERT INTO public.t VALUES (1); DELETE FROM public.t;);",
+                "\nCREATE FUNCTION public.g() RETURNS integer\n    LANGUAGE sql\n    BEGIN ATOMIC\n"
+                        + "      SELECT CASE WHEN true THEN 1 END;\n      SELECT 2;\n    END;",
+                "\nCOPY public.t (c) FROM stdin;",
+                "COPY public.t TO stdout;",
+                "\nCREATE TABLE public.t1 (c integer);"), readChunks(SQL, 1).stream().map(Chunk::text).toList());
+    }
+
+    @Test
+    void testSingleChunk() throws IOException {
+        List<Chunk> chunks = readChunks(SQL, AbstractChunkReader.DEFAULT_CHUNK_SIZE);
+        Assertions.assertEquals(2, chunks.size());
+        Assertions.assertTrue(chunks.get(0).text().endsWith("FROM stdin;"));
+        Assertions.assertTrue(chunks.get(1).text().startsWith("COPY public.t TO stdout;"));
+    }
+
+    @Test
+    void testTokenPositions() throws IOException {
+        // trailing whitespace is not returned as a separate chunk
+        String sql = getSqlWithoutData().stripTrailing();
+        List<String> expected = getTokens(new SQLLexer(CharStreams.fromString(sql)));
+
+        List<String> actual = new ArrayList<>();
+        for (Chunk chunk : readChunks(sql, 1)) {
+            var lexer = new SQLLexer(CharStreams.fromString(chunk.text()));
+            chunk.applyTo(lexer);
+            actual.addAll(getTokens(lexer));
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void testChunkedLoad() throws IOException, InterruptedException {
+        StringBuilder sb = new StringBuilder(getSqlWithoutData());
+        for (int i = 2; sb.length() < AbstractChunkReader.DEFAULT_CHUNK_SIZE * 5 / 4; i++) {
+            sb.append("-- таблица ").append(i).append('\n')
+                    .append("CREATE TABLE public.t").append(i).append(" (c integer, d text DEFAULT ';');\n");
+        }
+        sb.append("CREATE TABLE public.error (;\n");
+        byte[] dump = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        var settings = new CoreSettings();
+        IDatabase expected = load(dump, settings);
+        var chunkedSettings = new CoreSettings();
+        chunkedSettings.setChunkedDumpParsing(true);
+        IDatabase actual = load(dump, chunkedSettings);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(getLocations(expected), getLocations(actual));
+        Assertions.assertEquals(settings.getErrors().toString(), chunkedSettings.getErrors().toString());
+        Assertions.assertFalse(chunkedSettings.getErrors().isEmpty());
+    }
+
+    /**
+     * Whole file parsing does not skip COPY data
+     */
+    private static String getSqlWithoutData() {
+        return SQL.replace("COPY public.t (c) FROM stdin;", "COPY public.t (c) FROM stdout;")
+                .replace("1;2\n'x' $$ \"y\n\\.\n", "");
+    }
+
+    private static IDatabase load(byte[] dump, CoreSettings settings) throws IOException, InterruptedException {
+        return new PgDatabaseProvider()
+                .getDumpLoader(() -> new ByteArrayInputStream(dump), "dump.sql", settings)
+                .load();
+    }
+
+    private static Map<String, String> getLocations(IDatabase db) {
+        return db.getDescendants().collect(Collectors.toMap(IStatement::getQualifiedName, st -> {
+            var loc = st.getLocation();
+            return loc.getOffset() + ":" + loc.getLineNumber() + ':' + loc.getCharPositionInLine();
+        }, (a, b) -> a + ',' + b));
+    }
+
+    private static List<Chunk> readChunks(String sql, int chunkSize) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (var reader = new PgChunkReader(new ByteArrayInputStream(sql.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, chunkSize)) {
+            Chunk chunk;
+            while ((chunk = reader.next()) != null) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    private static List<String> getTokens(SQLLexer lexer) {
+        List<String> tokens = new ArrayList<>();
+        for (Token t = lexer.nextToken(); t.getType() != Token.EOF; t = lexer.nextToken()) {
+            var token = (CodeUnitToken) t;
+            tokens.add(token.getType() + " " + token.getCodeUnitStart() + '-' + token.getCodeUnitStop()
+                    + ' ' + token.getLine() + ':' + token.getCharPositionInLine()
+                    + ' ' + token.getCodeUnitPositionInLine());
+        }
+        return tokens;
+    }
+}
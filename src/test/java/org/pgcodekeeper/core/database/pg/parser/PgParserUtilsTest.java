@@ -15,8 +15,15 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.database.pg.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.base.parser.CustomParseTreeListener;
+import org.pgcodekeeper.core.database.base.parser.ParserUtils;
+import org.pgcodekeeper.core.database.pg.parser.generated.SQLParser;
+import org.pgcodekeeper.core.monitor.NullMonitor;
 
 /**
  * parseQName method test
@@ -75,4 +82,66 @@ class PgParserUtilsTest {
     void testParseObjectThreeQuoted() {
         Assertions.assertEquals(COLUMN, PgParserUtils.parseQName("\"schema\".\"table\".\"column\"").getFirstName());
     }
+
+    @Test
+    void testTwoStageParseValid() {
+        String sql = "CREATE TABLE s.t (c integer DEFAULT 1, d text);\nSELECT c + 1 FROM s.t WHERE d = 'x';";
+        List<Object> errors = new ArrayList<>();
+        var llParser = PgParserUtils.createSqlParser(sql, "ll", errors);
+        String expected = llParser.sql().toStringTree(llParser);
+
+        long fallbacks = ParserUtils.getLlFallbackCount();
+        var parser = PgParserUtils.createSqlParser(sql, "two-stage", errors);
+        String actual = ParserUtils.parseTwoStage(parser, SQLParser::sql, "two-stage").toStringTree(parser);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(fallbacks, ParserUtils.getLlFallbackCount());
+        Assertions.assertTrue(errors.isEmpty(), errors.toString());
+    }
+
+    @Test
+    void testTwoStageParseFallback() {
+        String sql = "CREATE TABLE s.t (c integer,, d text);\nSELECT 1;";
+        List<Object> expectedErrors = new ArrayList<>();
+        PgParserUtils.createSqlParser(sql, "ll", expectedErrors).sql();
+
+        long fallbacks = ParserUtils.getLlFallbackCount();
+        List<Object> errors = new ArrayList<>();
+        var parser = PgParserUtils.createSqlParser(sql, "ll", errors);
+        ParserUtils.parseTwoStage(parser, SQLParser::sql, "ll");
+
+        Assertions.assertEquals(fallbacks + 1, ParserUtils.getLlFallbackCount());
+        Assertions.assertFalse(errors.isEmpty());
+        Assertions.assertEquals(expectedErrors.toString(), errors.toString());
+    }
+
+    @Test
+    void testTwoStageParseProgress() {
+        String valid = "CREATE TABLE s.t (c integer, d text);\nSELECT 1;\nSELECT 2;";
+        String invalid = "CREATE TABLE s.t (c integer,, d text);\nSELECT 1;\nSELECT 2;";
+        for (String sql : List.of(valid, invalid)) {
+            var llParser = PgParserUtils.createSqlParser(sql, "ll", new ArrayList<>());
+            var expected = new CountingMonitor();
+            llParser.addParseListener(new CustomParseTreeListener(2, expected));
+            llParser.sql();
+
+            var parser = PgParserUtils.createSqlParser(sql, "two-stage", new ArrayList<>());
+            var actual = new CountingMonitor();
+            parser.addParseListener(new CustomParseTreeListener(2, actual));
+            ParserUtils.parseTwoStage(parser, SQLParser::sql, "two-stage");
+
+            Assertions.assertTrue(expected.worked > 0);
+            Assertions.assertEquals(expected.worked, actual.worked, sql);
+        }
+    }
+
+    private static final class CountingMonitor extends NullMonitor {
+
+        private int worked;
+
+        @Override
+        public void worked(int i) {
+            worked += i;
+        }
+    }
 }
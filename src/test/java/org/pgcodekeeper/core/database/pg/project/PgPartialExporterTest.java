@@ -17,6 +17,7 @@ package org.pgcodekeeper.core.database.pg.project;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,11 +30,15 @@ import org.pgcodekeeper.core.model.difftree.DiffTree;
 import org.pgcodekeeper.core.model.difftree.TreeElement;
 import org.pgcodekeeper.core.model.difftree.TreeFlattener;
 import org.pgcodekeeper.core.settings.CoreSettings;
+import org.pgcodekeeper.core.utils.InputStreamProvider;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -137,6 +142,76 @@ class PgPartialExporterTest {
         walkAndCompare(exportDirFull, exportDirPartial, info);
     }
 
+    @Test
+    void testUnchangedFilesNotRewritten(@TempDir Path exportDir) throws Exception {
+        var settings = new CoreSettings();
+        TreeElement tree = DiffTree.create(settings, dbSource, dbTarget);
+        new PgModelExporter(exportDir, dbSource, Consts.UTF_8, settings).exportFull();
+
+        FileTime time = FileTime.fromMillis(0);
+        Map<Path, byte[]> contents = new HashMap<>();
+        try (Stream<Path> files = Files.walk(exportDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.setLastModifiedTime(file, time);
+                contents.put(file, Files.readAllBytes(file));
+            }
+        }
+
+        // export modified objects of the source over the source export
+        tree.setAllChecked();
+        Collection<TreeElement> list = new TreeFlattener().onlySelected().flatten(tree).stream()
+                .filter(el -> el.getSide() == TreeElement.DiffSide.BOTH)
+                .toList();
+        Assertions.assertFalse(list.isEmpty());
+        new PgModelExporter(exportDir, dbSource, dbSource, list, Consts.UTF_8, settings).exportPartial();
+
+        for (var file : contents.entrySet()) {
+            Assertions.assertArrayEquals(file.getValue(), Files.readAllBytes(file.getKey()));
+            if (!file.getKey().endsWith(Consts.FILENAME_WORKING_DIR_MARKER)) {
+                Assertions.assertEquals(time, Files.getLastModifiedTime(file.getKey()), file.getKey().toString());
+            }
+        }
+    }
+
+    @Test
+    void testOverridesWithoutSql(@TempDir Path projectDir) throws Exception {
+        var settings = new CoreSettings();
+        IDatabase dbOld = loadDump("""
+                CREATE COLLATION public.c1 (locale = 'C');
+                ALTER COLLATION public.c1 OWNER TO u1;
+                CREATE COLLATION public.c2 (locale = 'C');
+                """, settings);
+        IDatabase dbNew = loadDump("""
+                CREATE COLLATION public.c1 (locale = 'POSIX');
+                CREATE COLLATION public.c2 (locale = 'POSIX');
+                """, settings);
+
+        TreeElement tree = DiffTree.create(settings, dbOld, dbNew);
+        tree.setAllChecked();
+        Collection<TreeElement> list = new TreeFlattener().onlySelected().onlyEdits(dbOld, dbNew).flatten(tree);
+
+        Path outDir = projectDir.resolve("OVERRIDES");
+        var exporter = new PgOverridesModelExporter(outDir, projectDir, dbNew, dbOld, list, Consts.UTF_8, settings);
+        Assertions.assertEquals(2, list.size());
+        Path c1 = outDir.resolve(exporter.getRelativeFilePath(dbOld.getDescendants()
+                .filter(st -> "c1".equals(st.getName())).findAny().orElseThrow()));
+        Path c2 = outDir.resolve(exporter.getRelativeFilePath(dbOld.getDescendants()
+                .filter(st -> "c2".equals(st.getName())).findAny().orElseThrow()));
+        Files.createDirectories(c1.getParent());
+        Files.writeString(c1, "ALTER COLLATION public.c1 OWNER TO u1;\n");
+
+        exporter.exportPartial();
+
+        // collations have no overrides now, the stale file is deleted and no empty file is created
+        Assertions.assertFalse(Files.exists(c1));
+        Assertions.assertFalse(Files.exists(c2));
+    }
+
+    private static IDatabase loadDump(String sql, CoreSettings settings) throws IOException, InterruptedException {
+        InputStreamProvider input = () -> new ByteArrayInputStream(sql.getBytes(StandardCharsets.UTF_8));
+        return new PgDatabaseProvider().getDumpLoader(input, "dump.sql", settings).load();
+    }
+
     private static Stream<Arguments> generator() {
         return Stream.of(
                 Arguments.of(new PartialExportInfoImpl1()),
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.project;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.pgcodekeeper.core.Consts;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.base.project.AbstractModelExporter;
+import org.pgcodekeeper.core.database.base.project.AbstractProjectUpdater.BackupMode;
+import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
+import org.pgcodekeeper.core.model.difftree.DiffTree;
+import org.pgcodekeeper.core.model.difftree.TreeElement;
+import org.pgcodekeeper.core.model.difftree.TreeFlattener;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.pgcodekeeper.core.it.IntegrationTestUtils.loadTestDump;
+
+class PgProjectUpdaterTest {
+
+    @ParameterizedTest
+    @EnumSource(BackupMode.class)
+    void testUpdatePartial(BackupMode mode, @TempDir Path dir) throws Exception {
+        var settings = new CoreSettings();
+        settings.setInCharsetName(Consts.UTF_8);
+        var provider = new PgDatabaseProvider();
+        IDatabase dbSource = loadTestDump(provider, "TestPartialExportSource.sql",
+                PgPartialExporterTest.class, settings, false);
+        IDatabase dbTarget = loadTestDump(provider, "TestPartialExportTarget.sql",
+                PgPartialExporterTest.class, settings, false);
+
+        TreeElement tree = DiffTree.create(settings, dbSource, dbTarget);
+        tree.setAllChecked();
+        Collection<TreeElement> list = new TreeFlattener().onlySelected().onlyEdits(dbSource, dbTarget).flatten(tree);
+
+        new PgModelExporter(dir, dbSource, Consts.UTF_8, settings).exportFull();
+        Map<Path, String> before = readFiles(dir);
+
+        var failing = new PgProjectUpdater(dbTarget, dbSource, list, Consts.UTF_8, dir, false, settings) {
+            @Override
+            protected AbstractModelExporter createModelExporter(Path outDir, IDatabase newDb, IDatabase oldDb,
+                                                                Collection<TreeElement> changedObjects,
+                                                                String sqlEncoding) {
+                return new PgModelExporter(outDir, newDb, oldDb, changedObjects, sqlEncoding, settings) {
+                    @Override
+                    public String getDumpSql(IStatement statement) {
+                        if ("t5".equals(statement.getName())) {
+                            throw new IllegalStateException("export failure");
+                        }
+                        return super.getDumpSql(statement);
+                    }
+                };
+            }
+        };
+        failing.setBackupMode(mode);
+        Assertions.assertThrows(IOException.class, failing::updatePartial);
+        Assertions.assertEquals(before, readFiles(dir));
+
+        var updater = new PgProjectUpdater(dbTarget, dbSource, list, Consts.UTF_8, dir, false, settings);
+        updater.setBackupMode(mode);
+        updater.updatePartial();
+        Map<Path, String> after = readFiles(dir);
+        Assertions.assertNotEquals(before, after);
+        Assertions.assertTrue(after.keySet().stream().noneMatch(p -> p.startsWith("tmp-export")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BackupMode.class)
+    void testRestoreWithFilesInFlight(BackupMode mode, @TempDir Path dir) throws Exception {
+        var settings = new CoreSettings();
+        settings.setInCharsetName(Consts.UTF_8);
+        var provider = new PgDatabaseProvider();
+        IDatabase dbSource = loadTestDump(provider, "TestPartialExportSource.sql",
+                PgPartialExporterTest.class, settings, false);
+        IDatabase dbTarget = loadTestDump(provider, "TestPartialExportTarget.sql",
+                PgPartialExporterTest.class, settings, false);
+
+        TreeElement tree = DiffTree.create(settings, dbSource, dbTarget);
+        tree.setAllChecked();
+        Collection<TreeElement> list = new TreeFlattener().onlySelected().onlyEdits(dbSource, dbTarget).flatten(tree);
+
+        new PgModelExporter(dir, dbSource, Consts.UTF_8, settings).exportFull();
+        Map<Path, String> before = readFiles(dir);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        var failing = new PgProjectUpdater(dbTarget, dbSource, list, Consts.UTF_8, dir, false, settings) {
+            @Override
+            protected AbstractModelExporter createModelExporter(Path outDir, IDatabase newDb, IDatabase oldDb,
+                                                                Collection<TreeElement> changedObjects,
+                                                                String sqlEncoding) {
+                return new PgModelExporter(outDir, newDb, oldDb, changedObjects, sqlEncoding, settings) {
+                    @Override
+                    public String getDumpSql(IStatement statement) {
+                        try {
+                            if ("t5".equals(statement.getName())) {
+                                // fail while the file of t1 is being generated
+                                started.await(2, TimeUnit.SECONDS);
+                                failed.countDown();
+                                throw new IllegalStateException("export failure");
+                            }
+                            if ("t1".equals(statement.getName())) {
+                                started.countDown();
+                                failed.await(2, TimeUnit.SECONDS);
+                                Thread.sleep(100);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return super.getDumpSql(statement);
+                    }
+                };
+            }
+        };
+        failing.setBackupMode(mode);
+        // files are written in the pool of the caller, run with enough threads to write them concurrently
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            IOException ex = pool.submit(() -> {
+                try {
+                    failing.updatePartial();
+                    return null;
+                } catch (IOException e) {
+                    return e;
+                }
+            }).get();
+            Assertions.assertNotNull(ex);
+        } finally {
+            pool.shutdown();
+        }
+        // writers left running after the restore would change the files here
+        Assertions.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(before, readFiles(dir));
+    }
+
+    private static Map<Path, String> readFiles(Path dir) throws IOException {
+        Map<Path, String> files = new HashMap<>();
+        try (Stream<Path> stream = Files.walk(dir)) {
+            for (Path file : stream.filter(Files::isRegularFile).toList()) {
+                files.put(dir.relativize(file), Files.readString(file));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.database.pg.schema;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pgcodekeeper.core.database.api.schema.IOperator;
+
+/**
+ * Tests for name lookups of indexes, operators and columns in PostgreSQL schemas and tables
+ */
+class PgSchemaLookupTest {
+
+    @Test
+    void testIndexAddedBeforeAndAfterTable() {
+        PgSchema schema = new PgSchema("public");
+        PgSimpleTable t1 = new PgSimpleTable("t1");
+        t1.addChild(new PgIndex("t1_idx"));
+        schema.addChild(t1);
+
+        PgMaterializedView view = new PgMaterializedView("v1");
+        schema.addChild(view);
+        view.addChild(new PgIndex("v1_idx"));
+
+        Assertions.assertSame(t1.getIndex("t1_idx"), schema.getIndexByName("t1_idx"));
+        Assertions.assertSame(view.getIndex("v1_idx"), schema.getIndexByName("v1_idx"));
+        Assertions.assertNull(schema.getIndexByName("missing_idx"));
+    }
+
+    @Test
+    void testIndexLookupAfterDeepCopy() {
+        PgDatabase db = new PgDatabase();
+        PgSchema schema = new PgSchema("public");
+        db.addChild(schema);
+        PgSimpleTable table = new PgSimpleTable("t1");
+        schema.addChild(table);
+        table.addChild(new PgIndex("t1_idx"));
+
+        PgDatabase copy = (PgDatabase) db.deepCopy();
+        PgSchema schemaCopy = copy.getSchema("public");
+        PgIndex indexCopy = schemaCopy.getIndexByName("t1_idx");
+
+        Assertions.assertNotNull(indexCopy);
+        Assertions.assertNotSame(schema.getIndexByName("t1_idx"), indexCopy);
+        Assertions.assertSame(schemaCopy.getTable("t1"), indexCopy.getParent());
+    }
+
+    @Test
+    void testOperatorsByBareName() {
+        PgDatabase db = new PgDatabase();
+        PgSchema schema = new PgSchema("public");
+        db.addChild(schema);
+        schema.addChild(createOperator("+", "integer", "integer"));
+        schema.addChild(createOperator("+", "text", "text"));
+        schema.addChild(createOperator("-", "integer", "integer"));
+
+        assertOperators(schema);
+
+        PgSchema schemaCopy = ((PgDatabase) db.deepCopy()).getSchema("public");
+        assertOperators(schemaCopy);
+        for (IOperator oper : schemaCopy.getOperatorsByBareName("+")) {
+            Assertions.assertSame(schemaCopy, oper.getParent());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 15, 16, 40})
+    void testColumnLookup(int count) {
+        PgSimpleTable table = new PgSimpleTable("t1");
+        for (int i = 0; i < count; ++i) {
+            table.addColumn(new PgColumn("c" + i));
+        }
+
+        PgSimpleTable copy = (PgSimpleTable) table.deepCopy();
+        for (int i = 0; i < count; ++i) {
+            String name = "c" + i;
+            Assertions.assertSame(table.getColumns().get(i), table.getColumn(name));
+            Assertions.assertSame(copy.getColumns().get(i), copy.getColumn(name));
+            Assertions.assertNotSame(table.getColumn(name), copy.getColumn(name));
+        }
+        Assertions.assertNull(table.getColumn("c" + count));
+        Assertions.assertNull(copy.getColumn("c" + count));
+
+        // the copy gets its own lookup and is not affected by the original
+        table.addColumn(new PgColumn("extra"));
+        Assertions.assertNotNull(table.getColumn("extra"));
+        Assertions.assertNull(copy.getColumn("extra"));
+    }
+
+    private static void assertOperators(PgSchema schema) {
+        List<IOperator> plus = schema.getOperatorsByBareName("+");
+        Assertions.assertEquals(2, plus.size());
+        Assertions.assertSame(schema.getOperator("+(integer, integer)"), plus.get(0));
+        Assertions.assertSame(schema.getOperator("+(text, text)"), plus.get(1));
+        Assertions.assertEquals(1, schema.getOperatorsByBareName("-").size());
+        Assertions.assertTrue(schema.getOperatorsByBareName("*").isEmpty());
+    }
+
+    private static PgOperator createOperator(String name, String left, String right) {
+        PgOperator oper = new PgOperator(name);
+        oper.setLeftArg(left);
+        oper.setRightArg(right);
+        return oper;
+    }
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.ignorelist;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+final class IgnoreMatcherTest {
+
+    private static final String[] NAMES = {"t1", "t10", "t2", "tab", "Tab", "v1", "public", "public.t1",
+            "public.t10", "public.tab", "other.t1", "other.v1", "a|b", "a.b", "f(integer)"};
+
+    private static final String[] REGEXES = {"^t1", "^t1$", "^t", "^public\\.t", "^public\\.t1?", "^tab*",
+            "^(?i)tab", "t1", "1$", ".*", "^a\\|b", "a|b", "v", "(?i)TAB", "(t)\\1", "^\\Qa.b\\E", "^other\\.",
+            "\\(integer\\)", "^$", "b$", "^[tv]1", "^public\\.t.{2}", "[a-z]+1$", "lic\\.t", "(ab)+", "t[0-9]+",
+            "\\w+\\.v1", "ta?b"};
+
+    private static final DbObjType[] TYPES = {DbObjType.TABLE, DbObjType.VIEW, DbObjType.SCHEMA,
+            DbObjType.FUNCTION};
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ' ', value = {
+            "^abc abc",
+            "^public\\.t.* public.t",
+            "^abc? ab",
+            "^abc* ab",
+            "^abc{2} ab",
+            "^ab+ ab",
+            "^a\\.b\\d a.b",
+            "^\\Qab\\E ''",
+            "^(?i)ab ''",
+            "^[ab]c ''",
+    })
+    void testAnchoredPrefix(String regex, String prefix) {
+        Assertions.assertEquals(prefix, IgnoreMatcher.getAnchoredPrefix(regex));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ' ', value = {
+            "abc abc",
+            "[a-z]+_tmp\\d*$ _tmp",
+            "ab?cd cd",
+            "(abc)+de de",
+            "x{2,3}yz yz",
+            "a\\.b\\d+ a.b",
+            "[]ab]cd NULL",
+            "a\\x41 NULL",
+            "(?i)abc NULL",
+            "ab|cd NULL",
+    }, nullValues = "NULL")
+    void testRequiredLiteral(String regex, String literal) {
+        Assertions.assertEquals(literal, IgnoreMatcher.getRequiredLiteral(regex));
+    }
+
+    @Test
+    void testNotAnchored() {
+        Assertions.assertNull(IgnoreMatcher.getAnchoredPrefix("abc"));
+        Assertions.assertNull(IgnoreMatcher.getAnchoredPrefix("^abc|def"));
+    }
+
+    @Test
+    void testMatchingOrder() {
+        Random random = new Random(1);
+        for (int n = 0; n < 200; n++) {
+            List<IgnoredObject> rules = new ArrayList<>();
+            int count = 1 + random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                boolean isRegular = random.nextBoolean();
+                String name = isRegular ? REGEXES[random.nextInt(REGEXES.length)]
+                        : NAMES[random.nextInt(NAMES.length)];
+                Set<DbObjType> types = switch (random.nextInt(3)) {
+                    case 0 -> Set.of();
+                    case 1 -> Set.of(TYPES[random.nextInt(TYPES.length)]);
+                    default -> Set.of(DbObjType.TABLE, DbObjType.VIEW);
+                };
+                rules.add(new IgnoredObject(name, null, random.nextBoolean(), isRegular, random.nextBoolean(),
+                        random.nextBoolean(), types));
+            }
+
+            IgnoreMatcher matcher = IgnoreMatcher.compile(rules);
+            IgnoreMatcher nameMatcher = IgnoreMatcher.compileNames(rules);
+            for (String name : NAMES) {
+                for (String qualifiedName : NAMES) {
+                    for (DbObjType type : TYPES) {
+                        Assertions.assertEquals(getMatching(rules, name, qualifiedName, type),
+                                matcher.getMatching(name, qualifiedName, type), rules.toString());
+                    }
+                }
+                Assertions.assertEquals(rules.stream().filter(rule -> rule.match(name)).toList(),
+                        nameMatcher.getMatching(name, null, null), rules.toString());
+            }
+        }
+    }
+
+    @Test
+    void testSchemaList() {
+        var list = new IgnoreSchemaList();
+        list.setShow(false);
+        list.add(new IgnoredObject("^pg_", null, false, true, false, false, Set.of()));
+        list.add(new IgnoredObject("pg_temp", null, true, false, false, false, Set.of()));
+        list.add(new IgnoredObject("^p", null, true, true, false, false, Set.of()));
+
+        Assertions.assertFalse(list.getNameStatus("pg_temp"));
+        Assertions.assertTrue(list.getNameStatus("public"));
+        Assertions.assertFalse(list.getNameStatus("other"));
+
+        list.clearList();
+        list.add(new IgnoredObject("pg_temp", null, true, false, false, false, Set.of()));
+        Assertions.assertTrue(list.getNameStatus("pg_temp"));
+    }
+
+    private static List<IgnoredObject> getMatching(List<IgnoredObject> rules, String name, String qualifiedName,
+                                                   DbObjType type) {
+        return rules.stream()
+                .filter(rule -> rule.match(rule.isQualified() ? qualifiedName : name))
+                .filter(rule -> rule.getObjTypes().isEmpty() || rule.getObjTypes().contains(type))
+                .toList();
+    }
+}
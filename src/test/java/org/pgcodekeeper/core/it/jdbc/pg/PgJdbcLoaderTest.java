@@ -46,4 +46,30 @@ class PgJdbcLoaderTest extends AbstractPgGpJdbcLoaderTest {
         settings.setSimplifyView(true);
         jdbcLoaderTest(true, fileName, contTypeName, settings);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+            "dump_test, PG_16",
+            "view, PG_16",
+    })
+    void jdbcLoaderParallelReadTest(String fileName, String contTypeName) throws Exception {
+        var settings = new CoreSettings();
+        settings.setEnableFunctionBodiesDependencies(true);
+        settings.setJdbcReadThreads(4);
+        jdbcLoaderTest(false, fileName, contTypeName, settings);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "dump_test, PG_16",
+            "view, PG_16",
+    })
+    void jdbcLoaderFetchSizeTest(String fileName, String contTypeName) throws Exception {
+        var settings = new CoreSettings();
+        settings.setEnableFunctionBodiesDependencies(true);
+        settings.setJdbcFetchSize(2);
+        jdbcLoaderTest(false, fileName, contTypeName, settings);
+        settings.setJdbcReadThreads(4);
+        jdbcLoaderTest(false, fileName, contTypeName, settings);
+    }
 }
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.it.loader.ch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pgcodekeeper.core.Consts;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.ch.ChDatabaseProvider;
+import org.pgcodekeeper.core.database.ch.project.ChModelExporter;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Tests for ClickHouse ProjectLoader functionality
+ */
+class ChProjectLoaderTest {
+
+    private static final String DUMP = """
+            CREATE DATABASE shop ENGINE = Atomic;
+
+            CREATE TABLE shop.orders (id UInt64, amount Float64) ENGINE = MergeTree ORDER BY id;
+
+            CREATE ROLE manager;
+
+            CREATE FUNCTION plusthreemonths AS (a) -> a + INTERVAL 3 MONTH;
+            """;
+
+    private final ChDatabaseProvider databaseProvider = new ChDatabaseProvider();
+
+    @Test
+    void testProjectLoaderWithParseCache(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        Path cacheDir = dir.resolve("cache");
+        IDatabase dump = databaseProvider.getDumpLoader(
+                () -> new ByteArrayInputStream(DUMP.getBytes(StandardCharsets.UTF_8)), "dump.sql",
+                new CoreSettings()).load();
+        new ChModelExporter(projectDir, dump, Consts.UTF_8, new CoreSettings()).exportFull();
+
+        var settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        var loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase parsed = loader.load();
+        Assertions.assertEquals(0, loader.getParseCache().getHits());
+
+        settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase cached = loader.load();
+        Assertions.assertTrue(loader.getParseCache().getHits() > 0);
+        Assertions.assertTrue(settings.getErrors().isEmpty(), settings.getErrors().toString());
+        Assertions.assertEquals(parsed, cached);
+        Assertions.assertEquals(parsed.getObjReferences().keySet(), cached.getObjReferences().keySet());
+    }
+}
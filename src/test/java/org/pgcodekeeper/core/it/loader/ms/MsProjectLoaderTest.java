@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.pgcodekeeper.core.Consts;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.ms.MsDatabaseProvider;
 import org.pgcodekeeper.core.database.ms.project.MsModelExporter;
 import org.pgcodekeeper.core.it.IntegrationTestUtils;
@@ -55,4 +56,29 @@ class MsProjectLoaderTest {
             }
         }
     }
+
+    @Test
+    void testProjectLoaderWithParseCache(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        Path cacheDir = dir.resolve("cache");
+        MsDatabaseProvider databaseProvider = new MsDatabaseProvider();
+        var msDbDump = loadTestDump(databaseProvider, RESOURCE_MS_DUMP, IntegrationTestUtils.class,
+                new CoreSettings());
+        new MsModelExporter(projectDir, msDbDump, Consts.UTF_8, new CoreSettings()).exportFull();
+
+        var settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        var loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase parsed = loader.load();
+        Assertions.assertEquals(0, loader.getParseCache().getHits());
+
+        settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase cached = loader.load();
+        Assertions.assertTrue(loader.getParseCache().getHits() > 0);
+        Assertions.assertTrue(settings.getErrors().isEmpty(), settings.getErrors().toString());
+        Assertions.assertEquals(parsed, cached);
+        Assertions.assertEquals(parsed.getObjReferences().keySet(), cached.getObjReferences().keySet());
+    }
 }
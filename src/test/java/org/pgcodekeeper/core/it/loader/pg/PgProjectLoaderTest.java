@@ -26,6 +26,7 @@ import org.pgcodekeeper.core.database.api.schema.IDatabase;
 import org.pgcodekeeper.core.database.api.schema.IStatement;
 import org.pgcodekeeper.core.database.api.schema.ObjectReference;
 import org.pgcodekeeper.core.database.base.loader.AbstractProjectLoader;
+import org.pgcodekeeper.core.database.base.parser.AntlrTaskManager;
 import org.pgcodekeeper.core.database.base.project.AbstractWorkDirs;
 import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
 import org.pgcodekeeper.core.database.pg.project.PgModelExporter;
@@ -39,12 +40,14 @@ import org.pgcodekeeper.core.model.difftree.TreeElement;
 import org.pgcodekeeper.core.model.difftree.TreeFlattener;
 import org.pgcodekeeper.core.settings.CoreSettings;
 import org.pgcodekeeper.core.settings.ISettings;
+import org.pgcodekeeper.core.utils.Interner;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -327,6 +330,145 @@ class PgProjectLoaderTest {
         assertNull(db.getStatement(ref));
     }
 
+    @Test
+    void testProjectLoaderWithParseCache(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        Path cacheDir = dir.resolve("cache");
+        createProject(projectDir, new CoreSettings());
+
+        var settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        var loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase parsed = loader.load();
+        Assertions.assertEquals(0, loader.getParseCache().getHits());
+        assertTrue(loader.getParseCache().getMisses() > 0);
+        try (var entries = Files.list(cacheDir)) {
+            assertTrue(entries.findAny().isPresent(), "Parse cache entries are not written");
+        }
+
+        settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase cached = loader.load();
+        assertTrue(loader.getParseCache().getHits() > 0);
+        assertTrue(settings.getErrors().isEmpty(), settings.getErrors().toString());
+        Assertions.assertEquals(parsed, cached);
+        Assertions.assertEquals(parsed.getObjReferences().keySet(), cached.getObjReferences().keySet());
+        // restored names are shared with the parsed model
+        IStatement city = cached.getStatement(new ObjectReference("country", "city", DbObjType.TABLE));
+        Assertions.assertSame(Interner.internString("city"), city.getName());
+
+        Path tableFile = projectDir.resolve("SCHEMA/country/TABLE/city.sql");
+        Files.writeString(tableFile, Files.readString(tableFile).replace("city", "town"));
+
+        settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase changed = loader.load();
+        assertTrue(loader.getParseCache().getMisses() > 0);
+        assertNull(changed.getStatement(new ObjectReference("country", "city", DbObjType.TABLE)));
+    }
+
+    @Test
+    void testProjectLoaderWithParseCacheFallback(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        Path cacheDir = dir.resolve("cache");
+        createProject(projectDir, new CoreSettings());
+
+        var settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        databaseProvider.getProjectLoader(projectDir, settings).load();
+
+        // the cached city table is created by a preceding file, so its entry cannot be restored
+        Path tableDir = projectDir.resolve("SCHEMA/country/TABLE");
+        Files.copy(tableDir.resolve("city.sql"), tableDir.resolve("a_city.sql"));
+        Files.writeString(tableDir.resolve("town.sql"), "COMMENT ON TABLE country.town IS 'town';\n");
+
+        settings = new CoreSettings();
+        IDatabase parsed = databaseProvider.getProjectLoader(projectDir, settings).load();
+        List<Object> parsedErrors = settings.getErrors();
+
+        settings = new CoreSettings();
+        settings.setParseCacheDir(cacheDir);
+        var loader = databaseProvider.getProjectLoader(projectDir, settings);
+        IDatabase cached = loader.load();
+
+        assertTrue(loader.getParseCache().getHits() > 0);
+        assertFalse(parsedErrors.isEmpty());
+        Assertions.assertEquals(parsedErrors.toString(), settings.getErrors().toString());
+        Assertions.assertEquals(parsed, cached);
+        Assertions.assertEquals(getDescendantsAsString(parsed), getDescendantsAsString(cached));
+    }
+
+    @Test
+    void testProjectLoaderWithConcurrentModelBuilding(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        createProject(projectDir, new CoreSettings());
+
+        // duplicated object and a change of an object from another file
+        Path tableDir = projectDir.resolve("SCHEMA/country/TABLE");
+        Files.writeString(tableDir.resolve("town.sql"), Files.readString(tableDir.resolve("city.sql"))
+                + "\nCOMMENT ON TABLE country.city IS 'city';\n");
+
+        var settings = new CoreSettings();
+        IDatabase serial = databaseProvider.getProjectLoader(projectDir, settings).load();
+        List<Object> serialErrors = settings.getErrors();
+
+        settings = new CoreSettings();
+        settings.setConcurrentModelBuilding(true);
+        IDatabase concurrent = databaseProvider.getProjectLoader(projectDir, settings).load();
+
+        assertFalse(serialErrors.isEmpty());
+        Assertions.assertEquals(serialErrors.toString(), settings.getErrors().toString());
+        Assertions.assertEquals(serial, concurrent);
+        Assertions.assertEquals(getDescendantsAsString(serial), getDescendantsAsString(concurrent));
+        Assertions.assertEquals(getRefsAsString(new TreeMap<>(serial.getObjReferences())),
+                getRefsAsString(new TreeMap<>(concurrent.getObjReferences())));
+    }
+
+    @Test
+    void testConcurrentModelBuildingDiscardedStage(@TempDir Path dir) throws IOException, InterruptedException {
+        Path projectDir = dir.resolve("project");
+        createProject(projectDir, new CoreSettings());
+
+        // the file changes a table of another file, its stage is discarded after the body is submitted for parsing
+        Path tableDir = projectDir.resolve("SCHEMA/country/TABLE");
+        Files.writeString(tableDir.resolve("town.sql"), """
+                CREATE FUNCTION country.f_city() RETURNS integer
+                    LANGUAGE plpgsql
+                    AS $$
+                BEGIN
+                    RETURN (SELECT count(*) FROM country.city);
+                END;
+                $$;
+
+                COMMENT ON TABLE country.city IS 'city';
+                """);
+
+        var settings = new CoreSettings();
+        IDatabase serial = databaseProvider.getProjectLoader(projectDir, settings).load();
+
+        settings = new CoreSettings();
+        settings.setConcurrentModelBuilding(true);
+        int pendingResults = AntlrTaskManager.getStatistics().pendingResults();
+        IDatabase concurrent = databaseProvider.getProjectLoader(projectDir, settings).load();
+
+        // tasks of the discarded stage do not hold results
+        Assertions.assertEquals(pendingResults, AntlrTaskManager.getStatistics().pendingResults());
+        Assertions.assertEquals(serial, concurrent);
+        Assertions.assertEquals(getDescendantsAsString(serial), getDescendantsAsString(concurrent));
+        Assertions.assertEquals(serial.getAnalysisLaunchers().size(), concurrent.getAnalysisLaunchers().size());
+    }
+
+    private List<String> getDescendantsAsString(IDatabase db) {
+        return db.getDescendants().map(st -> {
+            var loc = st.getLocation();
+            return st.getQualifiedName() + ' ' + st.getStatementType()
+                    + (loc == null ? "" : " " + loc.getFilePath() + ':' + loc.getOffset())
+                    + ' ' + st.getDependencies();
+        }).toList();
+    }
+
     private void assertNotLoaded(IDatabase db, String tableName) {
         var libTableRef = new ObjectReference("public", tableName, DbObjType.TABLE);
         var libTable = db.getStatement(libTableRef);
@@ -65,6 +65,8 @@ class PgExprTypeTest {
             "check_anytype_resolution",
             // Check by named notation type
             "check_named_notation",
+            // Check types in columns of views selecting from other views declared later.
+            "check_types_view_chain",
     })
     void runCheck(String fileNameTemplate) throws IOException, InterruptedException {
         var settings = new CoreSettings();
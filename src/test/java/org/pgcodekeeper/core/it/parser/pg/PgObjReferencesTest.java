@@ -15,16 +15,20 @@
  *******************************************************************************/
 package org.pgcodekeeper.core.it.parser.pg;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.pgcodekeeper.core.FILES_POSTFIX;
 import org.pgcodekeeper.core.TestUtils;
 import org.pgcodekeeper.core.database.api.parser.ParserListenerMode;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.base.parser.launcher.AbstractAnalysisLauncher;
 import org.pgcodekeeper.core.database.pg.loader.PgDumpLoader;
 import org.pgcodekeeper.core.it.IntegrationTestUtils;
 import org.pgcodekeeper.core.settings.CoreSettings;
 
 import java.io.IOException;
+import java.util.List;
 
 
 class PgObjReferencesTest {
@@ -164,4 +168,43 @@ class PgObjReferencesTest {
         TestUtils.assertErrors(settings.getErrors());
         TestUtils.assertIgnoreNewLines(expected, actual);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "alter_table",
+            "create_function",
+            "create_procedure",
+            "create_table",
+            "domain",
+            "index",
+            "lateral",
+            "rules",
+            "triggers",
+            "view"
+    })
+    void compareLowMemoryAnalysis(final String fileNameTemplate) throws IOException, InterruptedException {
+        String resource = fileNameTemplate + FILES_POSTFIX.SQL;
+        var settings = new CoreSettings();
+        var loader = new PgDumpLoader(() -> getClass().getResourceAsStream(resource), resource, settings);
+        long retained = AbstractAnalysisLauncher.getRetainedSourceLength(loader.load().getAnalysisLaunchers());
+        var db = loader.loadAndAnalyze();
+
+        var lowMemorySettings = new CoreSettings();
+        lowMemorySettings.setLowMemoryAnalysis(true);
+        var lowMemoryLoader = new PgDumpLoader(() -> getClass().getResourceAsStream(resource), resource,
+                lowMemorySettings);
+        long lowMemoryRetained = AbstractAnalysisLauncher
+                .getRetainedSourceLength(lowMemoryLoader.load().getAnalysisLaunchers());
+        var lowMemoryDb = lowMemoryLoader.loadAndAnalyze();
+
+        Assertions.assertTrue(lowMemoryRetained < retained, lowMemoryRetained + " >= " + retained);
+        Assertions.assertEquals(settings.getErrors().toString(), lowMemorySettings.getErrors().toString());
+        Assertions.assertEquals(getDependencies(db), getDependencies(lowMemoryDb));
+        Assertions.assertEquals(IntegrationTestUtils.getRefsAsString(db.getObjReferences()),
+                IntegrationTestUtils.getRefsAsString(lowMemoryDb.getObjReferences()));
+    }
+
+    private List<String> getDependencies(IDatabase db) {
+        return db.getDescendants().map(st -> st.getQualifiedName() + ' ' + st.getDependencies()).toList();
+    }
 }
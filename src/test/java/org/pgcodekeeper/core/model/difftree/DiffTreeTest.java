@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.model.difftree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IColumn;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.pg.schema.PgColumn;
+import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
+import org.pgcodekeeper.core.database.pg.schema.PgSimpleTable;
+import org.pgcodekeeper.core.model.difftree.TreeElement.DiffSide;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+class DiffTreeTest {
+
+    private static final int TABLES = 2000;
+
+    @Test
+    void testChildrenOrder() throws InterruptedException {
+        var oldSchema = new PgSchema("public");
+        var newSchema = new PgSchema("public");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < TABLES; i++) {
+            String name = "t" + i;
+            oldSchema.addChild(createTable(name, "integer"));
+            if (i % 5 == 0) {
+                expected.add(name + ' ' + DiffSide.LEFT);
+            } else if (i % 3 == 0) {
+                newSchema.addChild(createTable(name, "text"));
+                expected.add(name + ' ' + DiffSide.BOTH);
+            } else {
+                newSchema.addChild(createTable(name, "integer"));
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            newSchema.addChild(createTable("n" + i, "integer"));
+            expected.add("n" + i + ' ' + DiffSide.RIGHT);
+        }
+
+        var oldDb = new PgDatabase();
+        oldDb.addChild(oldSchema);
+        var newDb = new PgDatabase();
+        newDb.addChild(newSchema);
+
+        TreeElement root = DiffTree.create(new CoreSettings(), oldDb, newDb);
+
+        Assertions.assertEquals(1, root.getChildren().size());
+        TreeElement schema = root.getChildren().get(0);
+        Assertions.assertEquals(DiffSide.BOTH, schema.getSide());
+        Assertions.assertEquals(expected, schema.getChildren().stream()
+                .map(el -> el.getName() + ' ' + el.getSide())
+                .toList());
+    }
+
+    @Test
+    void testChildLookup() throws InterruptedException {
+        var oldSchema = new PgSchema("public");
+        var newSchema = new PgSchema("public");
+        for (int i = 0; i < TABLES; i++) {
+            oldSchema.addChild(createTable("t" + i, "integer"));
+            newSchema.addChild(createTable("t" + i, "text"));
+        }
+        var oldDb = new PgDatabase();
+        oldDb.addChild(oldSchema);
+        var newDb = new PgDatabase();
+        newDb.addChild(newSchema);
+
+        TreeElement root = DiffTree.create(new CoreSettings(), oldDb, newDb);
+        TreeElement schema = root.getChild("public", DbObjType.SCHEMA);
+        Assertions.assertNotNull(schema);
+        Assertions.assertNull(schema.getChild("t1", DbObjType.VIEW));
+        Assertions.assertNull(schema.getChild("missing"));
+
+        for (int i = 0; i < TABLES; i++) {
+            var oldTable = oldSchema.getChild("t" + i, DbObjType.TABLE);
+            var newTable = newSchema.getChild("t" + i, DbObjType.TABLE);
+            TreeElement el = root.findElement(oldTable);
+            Assertions.assertSame(schema.getChild(i), el);
+            Assertions.assertSame(el, schema.getChild("t" + i));
+            Assertions.assertSame(oldTable, el.getStatement(oldDb));
+            Assertions.assertSame(newTable, el.getStatement(newDb));
+            Assertions.assertSame(oldTable, el.getStatement(oldDb));
+        }
+
+        schema.addChild(new TreeElement("added", DbObjType.VIEW, DiffSide.RIGHT));
+        Assertions.assertEquals(DbObjType.VIEW, schema.getChild("added").getType());
+    }
+
+    @Test
+    void testResolvedStatementsByDatabaseInstance() throws InterruptedException {
+        var newDb = createDatabase("integer");
+        var oldDb = createDatabase("text");
+        TreeElement root = DiffTree.create(new CoreSettings(), oldDb, newDb);
+        TreeElement table = root.getChild("public").getChild("t0");
+
+        // an equal database is another instance, its statements are not taken from the cache
+        var equalDb = createDatabase("text");
+        Assertions.assertEquals(oldDb, equalDb);
+        for (PgDatabase db : List.of(oldDb, equalDb, newDb, oldDb, equalDb)) {
+            Assertions.assertSame(db.getSchema("public").getChild("t0", DbObjType.TABLE), table.getStatement(db));
+        }
+    }
+
+    @Test
+    void testResolvedStatementsConcurrent() throws Exception {
+        List<PgDatabase> dbs = List.of(createDatabase("integer"), createDatabase("text"),
+                createDatabase("bigint"));
+        TreeElement root = DiffTree.create(new CoreSettings(), dbs.get(0), dbs.get(1));
+        List<TreeElement> tables = root.getChild("public").getChildren();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int shift = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 3000; i++) {
+                        PgDatabase db = dbs.get((i + shift) % dbs.size());
+                        TreeElement el = tables.get(i % tables.size());
+                        IStatement expected = db.getSchema("public").getChild(el.getName(), DbObjType.TABLE);
+                        Assertions.assertSame(expected, el.getStatement(db));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAddColumns() {
+        List<IColumn> left = List.of(createColumn("a", "integer"), createColumn("b", "integer"),
+                createColumn("c", "integer"));
+        List<IColumn> right = List.of(createColumn("d", "integer"), createColumn("c", "integer"),
+                createColumn("b", "text"));
+
+        List<TreeElement> list = new ArrayList<>();
+        DiffTree.addColumns(left, right, null, list);
+
+        Assertions.assertEquals(List.of("a LEFT", "b BOTH", "d RIGHT"), list.stream()
+                .map(el -> el.getName() + ' ' + el.getSide())
+                .toList());
+    }
+
+    private static PgDatabase createDatabase(String type) {
+        var schema = new PgSchema("public");
+        for (int i = 0; i < 20; i++) {
+            schema.addChild(createTable("t" + i, type));
+        }
+        var db = new PgDatabase();
+        db.addChild(schema);
+        return db;
+    }
+
+    private static PgSimpleTable createTable(String name, String type) {
+        var table = new PgSimpleTable(name);
+        table.addColumn(createColumn("c", type));
+        return table;
+    }
+
+    private static PgColumn createColumn(String name, String type) {
+        var column = new PgColumn(name);
+        column.setType(type);
+        return column;
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.model.graph;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pgcodekeeper.core.FILES_POSTFIX;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
+import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
+import org.pgcodekeeper.core.database.pg.schema.PgDatabase;
+import org.pgcodekeeper.core.database.pg.schema.PgSchema;
+import org.pgcodekeeper.core.database.pg.schema.PgSequence;
+import org.pgcodekeeper.core.database.pg.schema.PgSimpleTable;
+import org.pgcodekeeper.core.database.pg.schema.PgView;
+import org.pgcodekeeper.core.dependencieslist.Dependency;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.pgcodekeeper.core.it.IntegrationTestUtils.loadTestDump;
+
+/**
+ * Tests that memoized subtrees of {@link DepcyFinder} give the same result as expanding every subtree
+ */
+class DepcyFinderMemoizationTest {
+
+    private static final int RELATIONS = 12;
+    private static final int RANDOM_EDGES = 14;
+    private static final int DEPTH = 7;
+    private static final String PG_DUMPS = "/org/pgcodekeeper/core/model/graph/pg/";
+
+    /**
+     * Filters by object types, empty filter shows every object, others hide some objects on the paths
+     */
+    private static Stream<Arguments> filters() {
+        return Stream.of(
+                Arguments.of(List.of(), false),
+                Arguments.of(List.of(DbObjType.TABLE), false),
+                Arguments.of(List.of(DbObjType.VIEW, DbObjType.SCHEMA), true),
+                Arguments.of(List.of(DbObjType.SEQUENCE, DbObjType.VIEW), false));
+    }
+
+    private static Stream<Arguments> randomGraphs() {
+        return IntStream.range(0, 10).boxed()
+                .flatMap(seed -> filters().map(f -> Arguments.of(seed, f.get()[0], f.get()[1])));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void testRandomCyclicGraph(int seed, Collection<DbObjType> filterObjTypes, boolean isInvertFilter) {
+        IDatabase db = createDatabase();
+        List<Dependency> deps = createDependencies(seed);
+
+        compare(db, filterObjTypes, isInvertFilter, List.of(".*"), deps);
+        compare(db, filterObjTypes, isInvertFilter, List.of("public\\.r0", "public\\.r7"), deps);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"function_circle", "function_circle_quotes", "table_constraint", "view"})
+    void testDump(String fileName) throws IOException, InterruptedException {
+        var settings = new CoreSettings();
+        settings.setEnableFunctionBodiesDependencies(true);
+        IDatabase db = loadTestDump(new PgDatabaseProvider(), PG_DUMPS + fileName + FILES_POSTFIX.SQL,
+                getClass(), settings);
+
+        compare(db, List.of(), false, List.of(".*"), List.of());
+        compare(db, List.of(DbObjType.TABLE, DbObjType.FUNCTION), false, List.of(".*"), List.of());
+        compare(db, List.of(DbObjType.COLUMN, DbObjType.SCHEMA), true, List.of(".*"), List.of());
+    }
+
+    private void compare(IDatabase db, Collection<DbObjType> filterObjTypes, boolean isInvertFilter,
+                         List<String> names, List<Dependency> deps) {
+        for (boolean isReverse : new boolean[] {false, true}) {
+            List<String> expected = DepcyFinder.byPatterns(DEPTH, isReverse, filterObjTypes, isInvertFilter,
+                    db, names, deps, false);
+            List<String> actual = DepcyFinder.byPatterns(DEPTH, isReverse, filterObjTypes, isInvertFilter,
+                    db, names, deps, true);
+
+            Assertions.assertFalse(expected.isEmpty());
+            Assertions.assertEquals(expected, actual, "reverse: " + isReverse);
+        }
+    }
+
+    /**
+     * Creates relations r0..r11 of mixed types, so type filters hide some of them
+     */
+    private static IDatabase createDatabase() {
+        PgDatabase db = new PgDatabase();
+        PgSchema schema = new PgSchema("public");
+        db.addChild(schema);
+        for (int i = 0; i < RELATIONS; i++) {
+            String name = "r" + i;
+            switch (i % 3) {
+                case 0 -> schema.addChild(new PgSimpleTable(name));
+                case 1 -> schema.addChild(new PgView(name));
+                default -> schema.addChild(new PgSequence(name));
+            }
+        }
+        return db;
+    }
+
+    /**
+     * Creates a ring through half of the relations with a chord, so paths meet the same cycle
+     * from different entry points, and random edges that add more cycles and shared subtrees.
+     */
+    private static List<Dependency> createDependencies(int seed) {
+        List<Dependency> deps = new ArrayList<>();
+        int ring = RELATIONS / 2;
+        for (int i = 0; i < ring; i++) {
+            deps.add(dependency(i, (i + 1) % ring));
+        }
+        deps.add(dependency(3, 1));
+
+        Random random = new Random(seed);
+        for (int i = 0; i < RANDOM_EDGES; i++) {
+            int source = random.nextInt(RELATIONS);
+            int target = random.nextInt(RELATIONS);
+            if (source != target) {
+                deps.add(dependency(source, target));
+            }
+        }
+        return deps;
+    }
+
+    private static Dependency dependency(int source, int target) {
+        return new Dependency(new ObjectReference("public", "r" + source, DbObjType.TABLE),
+                new ObjectReference("public", "r" + target, DbObjType.TABLE));
+    }
+}
@@ -0,0 +1,91 @@
+package org.pgcodekeeper.core.model.graph.pg;
+
+import org.jgrapht.Graph;
+import org.jgrapht.event.TraversalListenerAdapter;
+import org.jgrapht.event.VertexTraversalEvent;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.EdgeReversedGraph;
+import org.jgrapht.traverse.DepthFirstIterator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pgcodekeeper.core.FILES_POSTFIX;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.IDatabase;
+import org.pgcodekeeper.core.database.api.schema.IStatement;
+import org.pgcodekeeper.core.database.api.schema.ITable;
+import org.pgcodekeeper.core.database.pg.PgDatabaseProvider;
+import org.pgcodekeeper.core.it.IntegrationTestUtils;
+import org.pgcodekeeper.core.model.graph.DepcyGraph;
+import org.pgcodekeeper.core.model.graph.GraphUtils;
+import org.pgcodekeeper.core.settings.CoreSettings;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PgDepcyGraphTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"table", "table_constraint", "view", "function_circle"})
+    void graphWithoutCopy(String fileName) throws IOException, InterruptedException {
+        var settings = new CoreSettings();
+        settings.setEnableFunctionBodiesDependencies(true);
+        IDatabase db = IntegrationTestUtils.loadTestDump(new PgDatabaseProvider(), fileName + FILES_POSTFIX.SQL,
+                getClass(), settings);
+
+        var copied = new DepcyGraph(db);
+        var original = new DepcyGraph(db, false, false);
+
+        assertNotSame(db, copied.getDb());
+        assertSame(db, original.getDb());
+        assertEquals(new HashSet<>(copied.getVertices()), new HashSet<>(original.getVertices()));
+        assertEquals(copied.getEdgeCount(), original.getEdgeCount());
+
+        Set<IStatement> statements = Collections.newSetFromMap(new IdentityHashMap<>());
+        statements.add(db);
+        db.getDescendants().flatMap(ITable::columnAdder).forEach(statements::add);
+        for (IStatement vertex : original.getVertices()) {
+            assertTrue(statements.contains(vertex), vertex.getQualifiedName());
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @ParameterizedTest
+    @ValueSource(strings = {"table", "table_constraint", "view", "function_circle"})
+    void traversalOrder(String fileName) throws IOException, InterruptedException {
+        var settings = new CoreSettings();
+        settings.setEnableFunctionBodiesDependencies(true);
+        IDatabase db = IntegrationTestUtils.loadTestDump(new PgDatabaseProvider(), fileName + FILES_POSTFIX.SQL,
+                getClass(), settings);
+
+        for (boolean reduce : new boolean[] {false, true}) {
+            var dg = new DepcyGraph(db, reduce, false);
+            Graph<IStatement, DefaultEdge> graph = dg.getGraph();
+            var reversed = new EdgeReversedGraph<>(graph);
+            for (IStatement st : dg.getVertices()) {
+                assertEquals(collect(graph, st), GraphUtils.forward(dg, st), st.getQualifiedName());
+                assertEquals(collect(reversed, st), GraphUtils.reverse(dg, st), st.getQualifiedName());
+                assertEquals(graph.outgoingEdgesOf(st).stream().map(graph::getEdgeTarget).toList(),
+                        dg.getDependencies(st));
+            }
+        }
+    }
+
+    private static List<IStatement> collect(Graph<IStatement, DefaultEdge> graph, IStatement start) {
+        List<IStatement> statements = new ArrayList<>();
+        var dfi = new DepthFirstIterator<>(graph, start);
+        dfi.addTraversalListener(new TraversalListenerAdapter<>() {
+
+            @Override
+            public void vertexFinished(VertexTraversalEvent<IStatement> e) {
+                IStatement st = e.getVertex();
+                if (st.getStatementType() != DbObjType.DATABASE && st != start) {
+                    statements.add(st);
+                }
+            }
+        });
+        dfi.forEachRemaining(st -> {});
+        return statements;
+    }
+}
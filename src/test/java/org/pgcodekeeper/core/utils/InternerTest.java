@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2017-2026 TAXTELECOM, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.pgcodekeeper.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.pgcodekeeper.core.database.api.schema.DbObjType;
+import org.pgcodekeeper.core.database.api.schema.ObjectReference;
+
+class InternerTest {
+
+    @Test
+    void internStringTest() {
+        String first = new String("public");
+        String second = new String("public");
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(Interner.internString(first), Interner.internString(second));
+        Assertions.assertNull(Interner.internString(null));
+    }
+
+    @Test
+    void internReferenceTest() {
+        var first = new ObjectReference(new String("s"), new String("t"), DbObjType.TABLE).intern();
+        var second = new ObjectReference(new String("s"), new String("t"), DbObjType.TABLE).intern();
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(Interner.internString(new String("s")), first.schema());
+        Assertions.assertNotSame(first, new ObjectReference("s", "t", DbObjType.VIEW).intern());
+    }
+}
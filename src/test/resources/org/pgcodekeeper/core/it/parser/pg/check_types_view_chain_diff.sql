@@ -0,0 +1,48 @@
+
+
+Schema: public
+
+  View: v_top
+    RelationColumns : 
+     id - integer
+     name - text
+     created - timestamp without time zone
+     total - numeric
+     cnt - bigint
+
+  View: v_diamond
+    RelationColumns : 
+     id - integer
+     name - text
+     created - timestamp without time zone
+     total - numeric
+
+  View: v_left
+    RelationColumns : 
+     id - integer
+     name - text
+     price - numeric(10,2)
+
+  View: v_base
+    RelationColumns : 
+     id - integer
+     name - text
+     price - numeric(10,2)
+
+Schema: s1
+
+  View: v_stat
+    RelationColumns : 
+     cnt - bigint
+     max_total - numeric
+
+  View: v_right
+    RelationColumns : 
+     id - bigint
+     created - timestamp without time zone
+     total - numeric
+
+  View: v_base
+    RelationColumns : 
+     id - integer
+     price - numeric
\ No newline at end of file
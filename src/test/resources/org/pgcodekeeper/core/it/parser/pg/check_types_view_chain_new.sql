@@ -0,0 +1,37 @@
+CREATE SCHEMA s1;
+
+CREATE TABLE public.t1 (
+    id integer,
+    name text,
+    price numeric(10,2)
+);
+
+CREATE TABLE s1.t2 (
+    id bigint,
+    created timestamp without time zone
+);
+
+-- views are declared before the views they select from
+
+CREATE VIEW public.v_top AS
+    SELECT d.*, s.cnt FROM public.v_diamond d, s1.v_stat s;
+
+CREATE VIEW public.v_diamond AS
+    SELECT l.id, l.name, r.created, r.total FROM public.v_left l JOIN s1.v_right r ON l.id = r.id;
+
+CREATE VIEW s1.v_stat AS
+    SELECT count(*) AS cnt, max(x.total) AS max_total FROM s1.v_right x;
+
+CREATE VIEW public.v_left AS
+    SELECT * FROM public.v_base;
+
+CREATE VIEW s1.v_right AS
+    SELECT t.id, t.created, b.price * 2 AS total FROM s1.t2 t JOIN s1.v_base b ON t.id = b.id;
+
+CREATE VIEW public.v_base AS
+    SELECT t1.id, t1.name, t1.price FROM public.t1;
+
+-- same name in another schema with other columns
+
+CREATE VIEW s1.v_base AS
+    SELECT t2.id::integer AS id, 1.5::numeric AS price FROM s1.t2;